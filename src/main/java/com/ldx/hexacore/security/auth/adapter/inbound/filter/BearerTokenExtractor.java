@@ -0,0 +1,244 @@
+package com.ldx.hexacore.security.auth.adapter.inbound.filter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Authorization 헤더에서 Bearer 토큰을 추출하고 구조를 사전 검증합니다.
+ *
+ * <p>서명 검증이나 JSON 파싱 전에 다음을 확인하여, 형식이 잘못된 토큰은 암호 연산 없이 바로 거부합니다.</p>
+ * <ul>
+ *   <li>스킴은 대소문자를 구분하지 않고 {@code Bearer}만 처리합니다. 다른 스킴은 토큰이 없는 것으로 봅니다.</li>
+ *   <li>헤더 길이가 최대 길이를 넘지 않아야 합니다.</li>
+ *   <li>점으로 구분된 비어 있지 않은 세그먼트가 정확히 세 개여야 합니다.</li>
+ *   <li>모든 세그먼트가 base64url 문자로만 이루어져야 합니다.</li>
+ *   <li>헤더의 {@code alg}가 허용 목록에 있어야 하고, {@code typ}이 있다면 JWT 계열이어야 합니다.</li>
+ * </ul>
+ *
+ * <p>검사는 헤더 문자열을 직접 순회하며, JOSE 헤더 디코딩에는 스레드별 버퍼를 재사용합니다.
+ * 거부 시에는 미리 만들어 둔 스택 트레이스 없는 예외를 던집니다.</p>
+ */
+public final class BearerTokenExtractor {
+
+    /**
+     * 기본 최대 Authorization 헤더 길이
+     */
+    public static final int DEFAULT_MAX_HEADER_LENGTH = 8192;
+
+    static final MalformedTokenException TOO_LONG = new MalformedTokenException("Token exceeds maximum length");
+    static final MalformedTokenException BAD_SEGMENTS = new MalformedTokenException("Token must have three segments");
+    static final MalformedTokenException BAD_ENCODING = new MalformedTokenException("Token is not base64url encoded");
+    static final MalformedTokenException BAD_HEADER = new MalformedTokenException("Token header is malformed");
+    static final MalformedTokenException UNSUPPORTED_ALGORITHM =
+        new MalformedTokenException("Token algorithm is not allowed");
+    static final MalformedTokenException UNSUPPORTED_TYPE = new MalformedTokenException("Token type is not allowed");
+
+    private static final String BEARER_SCHEME = "Bearer ";
+    private static final int MAX_JOSE_HEADER_LENGTH = 1024;
+
+    private static final byte[] ALG_KEY = ascii("\"alg\"");
+    private static final byte[] TYP_KEY = ascii("\"typ\"");
+    private static final byte[][] ALLOWED_ALGORITHMS = {
+        ascii("HS256"), ascii("HS384"), ascii("HS512"),
+        ascii("RS256"), ascii("RS384"), ascii("RS512"),
+        ascii("PS256"), ascii("PS384"), ascii("PS512"),
+        ascii("ES256"), ascii("ES384"), ascii("ES512"),
+        ascii("EdDSA")
+    };
+    private static final byte[][] ALLOWED_TYPES = {
+        ascii("JWT"), ascii("at+jwt"), ascii("application/at+jwt")
+    };
+
+    private static final byte[] BASE64URL = new byte[128];
+
+    static {
+        Arrays.fill(BASE64URL, (byte) -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64URL[alphabet.charAt(i)] = (byte) i;
+        }
+    }
+
+    private static final ThreadLocal<byte[]> HEADER_BUFFER =
+        ThreadLocal.withInitial(() -> new byte[MAX_JOSE_HEADER_LENGTH * 3 / 4]);
+
+    private final int maxHeaderLength;
+
+    public BearerTokenExtractor() {
+        this(DEFAULT_MAX_HEADER_LENGTH);
+    }
+
+    /**
+     * @param maxHeaderLength 허용할 최대 Authorization 헤더 길이
+     */
+    public BearerTokenExtractor(int maxHeaderLength) {
+        this.maxHeaderLength = maxHeaderLength;
+    }
+
+    /**
+     * Authorization 헤더 값에서 토큰을 추출합니다.
+     *
+     * @param headerValue Authorization 헤더 값
+     * @return 사전 검증을 통과한 토큰, Bearer 토큰이 없으면 {@code null}
+     * @throws MalformedTokenException Bearer 토큰의 형식이 잘못된 경우
+     */
+    public String extract(String headerValue) {
+        if (headerValue == null
+                || !headerValue.regionMatches(true, 0, BEARER_SCHEME, 0, BEARER_SCHEME.length())) {
+            return null;
+        }
+        int start = BEARER_SCHEME.length();
+        int end = headerValue.length();
+        if (start == end) {
+            return null;
+        }
+        if (end > maxHeaderLength) {
+            throw TOO_LONG;
+        }
+
+        int firstDot = -1;
+        int secondDot = -1;
+        for (int i = start; i < end; i++) {
+            char c = headerValue.charAt(i);
+            if (c == '.') {
+                if (firstDot < 0) {
+                    firstDot = i;
+                } else if (secondDot < 0) {
+                    secondDot = i;
+                } else {
+                    throw BAD_SEGMENTS;
+                }
+            } else if (c >= 128 || BASE64URL[c] < 0) {
+                throw BAD_ENCODING;
+            }
+        }
+        if (secondDot < 0 || firstDot == start || secondDot == firstDot + 1 || secondDot == end - 1) {
+            throw BAD_SEGMENTS;
+        }
+
+        checkJoseHeader(headerValue, start, firstDot);
+        return headerValue.substring(start);
+    }
+
+    private static void checkJoseHeader(String token, int start, int end) {
+        if (end - start > MAX_JOSE_HEADER_LENGTH) {
+            throw BAD_HEADER;
+        }
+        byte[] json = HEADER_BUFFER.get();
+        int length = decode(token, start, end, json);
+
+        int algorithm = valueOf(json, length, ALG_KEY);
+        if (algorithm < 0 || !matchesAny(json, algorithm, length, ALLOWED_ALGORITHMS, false)) {
+            throw UNSUPPORTED_ALGORITHM;
+        }
+        int type = valueOf(json, length, TYP_KEY);
+        if (type >= 0 && !matchesAny(json, type, length, ALLOWED_TYPES, true)) {
+            throw UNSUPPORTED_TYPE;
+        }
+    }
+
+    /**
+     * base64url(패딩 없음)을 버퍼에 디코딩하고 디코딩된 길이를 반환합니다.
+     */
+    private static int decode(String source, int start, int end, byte[] target) {
+        int length = 0;
+        int bits = 0;
+        int bitCount = 0;
+        for (int i = start; i < end; i++) {
+            bits = (bits << 6) | BASE64URL[source.charAt(i)];
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                target[length++] = (byte) (bits >> bitCount);
+            }
+        }
+        if (bitCount >= 6) {
+            // 남은 문자가 한 개면 온전한 바이트를 만들 수 없음
+            throw BAD_ENCODING;
+        }
+        return length;
+    }
+
+    /**
+     * JSON 문자열 값의 시작 위치를 반환합니다. 키가 없거나 값이 문자열이 아니면 -1을 반환합니다.
+     */
+    private static int valueOf(byte[] json, int length, byte[] key) {
+        int keyAt = indexOf(json, length, key);
+        if (keyAt < 0) {
+            return -1;
+        }
+        int i = skipWhitespace(json, keyAt + key.length, length);
+        if (i >= length || json[i] != ':') {
+            return -1;
+        }
+        i = skipWhitespace(json, i + 1, length);
+        if (i >= length || json[i] != '"') {
+            throw BAD_HEADER;
+        }
+        return i + 1;
+    }
+
+    private static boolean matchesAny(byte[] json, int valueStart, int length, byte[][] candidates,
+                                      boolean ignoreCase) {
+        for (byte[] candidate : candidates) {
+            int valueEnd = valueStart + candidate.length;
+            if (valueEnd < length && json[valueEnd] == '"'
+                    && regionEquals(json, valueStart, candidate, ignoreCase)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean regionEquals(byte[] json, int offset, byte[] candidate, boolean ignoreCase) {
+        for (int i = 0; i < candidate.length; i++) {
+            byte b = json[offset + i];
+            byte expected = candidate[i];
+            if (b != expected && !(ignoreCase && toLowerCase(b) == toLowerCase(expected))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int indexOf(byte[] json, int length, byte[] key) {
+        outer:
+        for (int i = 0; i <= length - key.length; i++) {
+            for (int j = 0; j < key.length; j++) {
+                if (json[i + j] != key[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private static int skipWhitespace(byte[] json, int from, int length) {
+        int i = from;
+        while (i < length && (json[i] == ' ' || json[i] == '\t' || json[i] == '\r' || json[i] == '\n')) {
+            i++;
+        }
+        return i;
+    }
+
+    private static byte toLowerCase(byte b) {
+        return b >= 'A' && b <= 'Z' ? (byte) (b + ('a' - 'A')) : b;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * 구조 검증에 실패한 토큰
+     *
+     * <p>실패 사유별로 한 번만 생성해 재사용하므로 스택 트레이스를 기록하지 않습니다.</p>
+     */
+    public static final class MalformedTokenException extends JwtAuthenticationFilter.JwtAuthenticationException {
+
+        private MalformedTokenException(String message) {
+            super(message, false);
+        }
+    }
+}
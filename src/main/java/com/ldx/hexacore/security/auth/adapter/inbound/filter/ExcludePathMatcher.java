@@ -0,0 +1,348 @@
+package com.ldx.hexacore.security.auth.adapter.inbound.filter;
+
+import com.ldx.hexacore.security.config.properties.SecurityStarterProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 인증 제외 경로 매처
+ *
+ * <p>Ant 스타일 제외 패턴({@code /public/**}, {@code /users/{id}}, {@code *.css} 세그먼트 등)을
+ * 경로 세그먼트 트라이로 한 번만 컴파일합니다. 조회 비용은 패턴 수가 아니라 요청 경로의 세그먼트 수에 비례하며,
+ * 조회 중에는 부분 문자열 등 객체를 만들지 않습니다.</p>
+ *
+ * <ul>
+ *   <li>{@code **}는 0개 이상의 세그먼트, {@code *}와 {@code ?}는 한 세그먼트 안의 문자와 일치합니다.</li>
+ *   <li>URI 템플릿 변수({@code {id}})는 한 세그먼트 전체와 일치하며 변수의 정규식 제약은 적용하지 않습니다.</li>
+ *   <li>요청 경로는 context path를 제외하고 비교하며, 대소문자를 구분합니다.</li>
+ * </ul>
+ *
+ * <p>인증 필터, 서블릿 필터, SecurityFilterChain의 permitAll 규칙이 같은 인스턴스를 공유합니다.
+ * 생성 후에는 변경되지 않으므로 여러 스레드에서 동시에 사용해도 안전합니다.</p>
+ */
+public final class ExcludePathMatcher implements RequestMatcher {
+
+    /**
+     * 어떤 경로와도 일치하지 않는 매처
+     */
+    public static final ExcludePathMatcher EMPTY = new ExcludePathMatcher(List.of());
+
+    private static final String ANY_DEPTH = "**";
+
+    private final List<String> patterns;
+    private final Node root;
+
+    /**
+     * @param patterns 제외 경로 패턴 (null이거나 빈 패턴은 무시)
+     */
+    public ExcludePathMatcher(Collection<String> patterns) {
+        Set<String> distinct = new LinkedHashSet<>();
+        if (patterns != null) {
+            for (String pattern : patterns) {
+                if (StringUtils.hasText(pattern)) {
+                    distinct.add(pattern.trim());
+                }
+            }
+        }
+        this.patterns = List.copyOf(distinct);
+        this.root = new Node();
+        for (String pattern : this.patterns) {
+            root.insert(pattern);
+        }
+        root.freeze();
+    }
+
+    /**
+     * 설정의 모든 제외 경로 소스를 모아 매처를 생성합니다.
+     *
+     * <p>{@code security-starter.filter.exclude-paths}, {@code security-starter.token-provider.jwt.excluded-paths}와
+     * 추가로 전달된 패턴을 합칩니다.</p>
+     *
+     * @param properties 스타터 설정
+     * @param additionalPatterns 추가 제외 경로 패턴 (null 허용)
+     * @return 제외 경로 매처
+     */
+    public static ExcludePathMatcher of(SecurityStarterProperties properties, Collection<String> additionalPatterns) {
+        List<String> all = new ArrayList<>();
+        if (additionalPatterns != null) {
+            all.addAll(additionalPatterns);
+        }
+        if (properties != null) {
+            String[] excludePaths = properties.getFilter().getExcludePaths();
+            if (excludePaths != null) {
+                Collections.addAll(all, excludePaths);
+            }
+            List<String> jwtExcludedPaths = properties.getTokenProvider().getJwt().getExcludedPaths();
+            if (jwtExcludedPaths != null) {
+                all.addAll(jwtExcludedPaths);
+            }
+        }
+        return new ExcludePathMatcher(all);
+    }
+
+    /**
+     * 컴파일된 패턴 목록 (중복 제거, 입력 순서 유지)
+     */
+    public List<String> getPatterns() {
+        return patterns;
+    }
+
+    /**
+     * 등록된 패턴이 없는지 확인합니다.
+     */
+    public boolean isEmpty() {
+        return patterns.isEmpty();
+    }
+
+    /**
+     * 요청 경로(context path 제외)가 제외 경로인지 확인합니다.
+     */
+    @Override
+    public boolean matches(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        if (uri == null) {
+            return false;
+        }
+        String contextPath = request.getContextPath();
+        int start = StringUtils.hasLength(contextPath) && uri.startsWith(contextPath) ? contextPath.length() : 0;
+        return matches(uri, start);
+    }
+
+    /**
+     * 경로가 제외 경로인지 확인합니다.
+     *
+     * @param path 요청 경로
+     * @return 제외 경로이면 true
+     */
+    public boolean matches(String path) {
+        return path != null && matches(path, 0);
+    }
+
+    private boolean matches(String path, int start) {
+        if (patterns.isEmpty()) {
+            return false;
+        }
+        int end = path.length();
+        boolean trailingSlash = end > start && path.charAt(end - 1) == '/';
+        return root.match(path, skipSlashes(path, start, end), end, trailingSlash);
+    }
+
+    private static int skipSlashes(String path, int index, int end) {
+        while (index < end && path.charAt(index) == '/') {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * 세그먼트 트라이 노드
+     */
+    private static final class Node {
+
+        private Map<String, Node> literalChildren = new HashMap<>();
+        private final List<Glob> globChildren = new ArrayList<>();
+        private Node anyDepthChild;
+        private boolean terminal;
+        private boolean terminalWithSlash;
+
+        // freeze() 이후 조회용 개방 주소 해시 테이블 (String.hashCode와 같은 해시 사용)
+        private String[] literalKeys;
+        private Node[] literalNodes;
+        private int mask;
+
+        void insert(String pattern) {
+            Node node = this;
+            String lastSegment = null;
+            for (String segment : pattern.split("/")) {
+                if (segment.isEmpty()) {
+                    continue;
+                }
+                node = node.child(segment);
+                lastSegment = segment;
+            }
+            if (ANY_DEPTH.equals(lastSegment)) {
+                node.terminal = true;
+                node.terminalWithSlash = true;
+            } else if (pattern.endsWith("/")) {
+                node.terminalWithSlash = true;
+            } else {
+                node.terminal = true;
+            }
+        }
+
+        private Node child(String segment) {
+            if (ANY_DEPTH.equals(segment)) {
+                if (anyDepthChild == null) {
+                    anyDepthChild = new Node();
+                }
+                return anyDepthChild;
+            }
+            if (Glob.isGlob(segment)) {
+                String glob = Glob.compile(segment);
+                for (Glob existing : globChildren) {
+                    if (existing.pattern().equals(glob)) {
+                        return existing.next();
+                    }
+                }
+                Glob created = new Glob(glob, new Node());
+                globChildren.add(created);
+                return created.next();
+            }
+            return literalChildren.computeIfAbsent(segment, key -> new Node());
+        }
+
+        void freeze() {
+            int capacity = 2;
+            while (capacity < literalChildren.size() * 2) {
+                capacity <<= 1;
+            }
+            literalKeys = new String[capacity];
+            literalNodes = new Node[capacity];
+            mask = capacity - 1;
+            for (Map.Entry<String, Node> entry : literalChildren.entrySet()) {
+                int index = spread(entry.getKey().hashCode()) & mask;
+                while (literalKeys[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                literalKeys[index] = entry.getKey();
+                literalNodes[index] = entry.getValue();
+                entry.getValue().freeze();
+            }
+            literalChildren = null;
+            for (Glob glob : globChildren) {
+                glob.next().freeze();
+            }
+            if (anyDepthChild != null) {
+                anyDepthChild.freeze();
+            }
+        }
+
+        boolean match(String path, int start, int end, boolean trailingSlash) {
+            if (start >= end) {
+                if (trailingSlash ? terminalWithSlash : terminal) {
+                    return true;
+                }
+                return anyDepthChild != null && anyDepthChild.match(path, start, end, trailingSlash);
+            }
+
+            int segmentEnd = path.indexOf('/', start);
+            if (segmentEnd < 0) {
+                segmentEnd = end;
+            }
+            int next = skipSlashes(path, segmentEnd, end);
+
+            Node literal = literal(path, start, segmentEnd);
+            if (literal != null && literal.match(path, next, end, trailingSlash)) {
+                return true;
+            }
+            for (int i = 0; i < globChildren.size(); i++) {
+                Glob glob = globChildren.get(i);
+                if (glob.matches(path, start, segmentEnd) && glob.next().match(path, next, end, trailingSlash)) {
+                    return true;
+                }
+            }
+            if (anyDepthChild != null) {
+                if (anyDepthChild.terminal) {
+                    return true;
+                }
+                // **가 0개 이상의 세그먼트를 소비한 뒤 나머지 패턴과 비교
+                for (int index = start; index < end; ) {
+                    if (anyDepthChild.match(path, index, end, trailingSlash)) {
+                        return true;
+                    }
+                    int slash = path.indexOf('/', index);
+                    index = slash < 0 ? end : skipSlashes(path, slash, end);
+                }
+                return anyDepthChild.match(path, end, end, trailingSlash);
+            }
+            return false;
+        }
+
+        private Node literal(String path, int start, int end) {
+            int length = end - start;
+            int hash = 0;
+            for (int i = start; i < end; i++) {
+                hash = 31 * hash + path.charAt(i);
+            }
+            int index = spread(hash) & mask;
+            String key;
+            while ((key = literalKeys[index]) != null) {
+                if (key.length() == length && path.regionMatches(start, key, 0, length)) {
+                    return literalNodes[index];
+                }
+                index = (index + 1) & mask;
+            }
+            return null;
+        }
+
+        private static int spread(int hash) {
+            return hash ^ (hash >>> 16);
+        }
+    }
+
+    /**
+     * 와일드카드({@code *}, {@code ?})가 포함된 세그먼트 패턴
+     */
+    private record Glob(String pattern, Node next) {
+
+        static boolean isGlob(String segment) {
+            return segment.indexOf('*') >= 0 || segment.indexOf('?') >= 0 || segment.indexOf('{') >= 0;
+        }
+
+        /**
+         * URI 템플릿 변수를 {@code *}로 바꿉니다.
+         */
+        static String compile(String segment) {
+            StringBuilder glob = new StringBuilder(segment.length());
+            int depth = 0;
+            for (int i = 0; i < segment.length(); i++) {
+                char c = segment.charAt(i);
+                if (c == '{') {
+                    if (depth++ == 0) {
+                        glob.append('*');
+                    }
+                } else if (c == '}' && depth > 0) {
+                    depth--;
+                } else if (depth == 0) {
+                    glob.append(c);
+                }
+            }
+            return glob.toString();
+        }
+
+        boolean matches(String path, int start, int end) {
+            int p = 0;
+            int s = start;
+            int star = -1;
+            int mark = start;
+            while (s < end) {
+                if (p < pattern.length() && (pattern.charAt(p) == '?' || pattern.charAt(p) == path.charAt(s))) {
+                    p++;
+                    s++;
+                } else if (p < pattern.length() && pattern.charAt(p) == '*') {
+                    star = p++;
+                    mark = s;
+                } else if (star >= 0) {
+                    p = star + 1;
+                    s = ++mark;
+                } else {
+                    return false;
+                }
+            }
+            while (p < pattern.length() && pattern.charAt(p) == '*') {
+                p++;
+            }
+            return p == pattern.length();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.ldx.hexacore.security.auth.adapter.inbound.filter;
+
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 권한 이름을 {@link SimpleGrantedAuthority} 인스턴스로 변환하고 재사용하는 인터너
+ *
+ * <p>같은 역할/스코프 조합은 요청마다 반복되므로 권한 인스턴스와 권한 목록을 한 번만 만들어 공유합니다.
+ * 토큰에서 온 값이 무한히 늘어나지 않도록 캐시 크기에 상한을 두며, 상한을 넘으면 새 인스턴스를 만들어 반환합니다.</p>
+ *
+ * <p>기본 권한이 설정되어 있으면 모든 목록에 항상 포함합니다.</p>
+ */
+final class GrantedAuthorityInterner {
+
+    static final int MAX_AUTHORITIES = 4096;
+    static final int MAX_AUTHORITY_SETS = 1024;
+
+    private final Map<String, SimpleGrantedAuthority> authorities = new ConcurrentHashMap<>();
+    private final Map<Set<String>, List<SimpleGrantedAuthority>> authoritySets = new ConcurrentHashMap<>();
+    private final SimpleGrantedAuthority defaultAuthority;
+    private final List<SimpleGrantedAuthority> defaultAuthorities;
+
+    /**
+     * @param defaultAuthority 항상 부여할 기본 권한 (비어 있으면 부여하지 않음)
+     */
+    GrantedAuthorityInterner(String defaultAuthority) {
+        this.defaultAuthority = StringUtils.hasText(defaultAuthority)
+            ? new SimpleGrantedAuthority(defaultAuthority)
+            : null;
+        this.defaultAuthorities = this.defaultAuthority != null
+            ? List.of(this.defaultAuthority)
+            : Collections.emptyList();
+        if (this.defaultAuthority != null) {
+            authorities.put(defaultAuthority, this.defaultAuthority);
+        }
+    }
+
+    /**
+     * 권한 이름 집합에 해당하는 권한 목록을 반환합니다.
+     *
+     * @param names 권한 이름 집합 (null 허용)
+     * @return 기본 권한을 포함한 불변 권한 목록
+     */
+    List<SimpleGrantedAuthority> intern(Set<String> names) {
+        if (names == null || names.isEmpty()) {
+            return defaultAuthorities;
+        }
+        List<SimpleGrantedAuthority> cached = authoritySets.get(names);
+        if (cached != null) {
+            return cached;
+        }
+        List<SimpleGrantedAuthority> created = createList(names);
+        if (authoritySets.size() >= MAX_AUTHORITY_SETS) {
+            return created;
+        }
+        List<SimpleGrantedAuthority> previous = authoritySets.putIfAbsent(Set.copyOf(names), created);
+        return previous != null ? previous : created;
+    }
+
+    private List<SimpleGrantedAuthority> createList(Set<String> names) {
+        List<SimpleGrantedAuthority> list = new ArrayList<>(names.size() + 1);
+        if (defaultAuthority != null) {
+            list.add(defaultAuthority);
+        }
+        for (String name : names) {
+            if (StringUtils.hasText(name) && (defaultAuthority == null || !defaultAuthority.getAuthority().equals(name))) {
+                list.add(authority(name));
+            }
+        }
+        return List.copyOf(list);
+    }
+
+    private SimpleGrantedAuthority authority(String name) {
+        SimpleGrantedAuthority cached = authorities.get(name);
+        if (cached != null) {
+            return cached;
+        }
+        SimpleGrantedAuthority created = new SimpleGrantedAuthority(name);
+        if (authorities.size() >= MAX_AUTHORITIES) {
+            return created;
+        }
+        SimpleGrantedAuthority previous = authorities.putIfAbsent(name, created);
+        return previous != null ? previous : created;
+    }
+}
@@ -15,16 +15,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -37,15 +34,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
     private static final String AUTHORIZATION_HEADER = "Authorization";
-    private static final String BEARER_PREFIX = "Bearer ";
     
     private final TokenProvider tokenProvider;
     private final ObjectMapper objectMapper;
-    private final AntPathMatcher pathMatcher;
-    private final List<String> excludeUrlPatterns;
+    private final ExcludePathMatcher excludePathMatcher;
     private final SecurityStarterProperties securityProperties;
     private final SecurityRequestLogger requestLogger;
     private final SecurityEventLogger eventLogger;
+    private final BearerTokenExtractor tokenExtractor;
+    private final RejectedTokenCache rejectedTokenCache;
+    private final GrantedAuthorityInterner authorityInterner;
 
     public JwtAuthenticationFilter(
             TokenProvider tokenProvider,
@@ -54,14 +52,36 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             SecurityStarterProperties securityProperties,
             SecurityRequestLogger requestLogger,
             SecurityEventLogger eventLogger) {
+        this(tokenProvider, objectMapper, new ExcludePathMatcher(excludeUrlPatterns),
+            securityProperties, requestLogger, eventLogger, null);
+    }
+
+    /**
+     * @param excludePathMatcher 인증을 건너뛸 경로 매처 (null이면 모든 경로를 검사)
+     * @param rejectedTokenCache 최근 거부된 토큰 캐시 (null이면 사용하지 않음)
+     */
+    public JwtAuthenticationFilter(
+            TokenProvider tokenProvider,
+            ObjectMapper objectMapper,
+            ExcludePathMatcher excludePathMatcher,
+            SecurityStarterProperties securityProperties,
+            SecurityRequestLogger requestLogger,
+            SecurityEventLogger eventLogger,
+            RejectedTokenCache rejectedTokenCache) {
         this.tokenProvider = tokenProvider;
         this.objectMapper = objectMapper;
-        this.pathMatcher = new AntPathMatcher();
         // 기본 제외 경로는 설정에서 관리 - 하드코딩 제거
-        this.excludeUrlPatterns = excludeUrlPatterns != null ? excludeUrlPatterns : Collections.emptyList();
+        this.excludePathMatcher = excludePathMatcher != null ? excludePathMatcher : ExcludePathMatcher.EMPTY;
         this.securityProperties = securityProperties;
         this.requestLogger = requestLogger;
         this.eventLogger = eventLogger;
+        this.tokenExtractor = new BearerTokenExtractor(securityProperties != null
+            ? securityProperties.getFilter().getMaxHeaderLength()
+            : BearerTokenExtractor.DEFAULT_MAX_HEADER_LENGTH);
+        this.rejectedTokenCache = rejectedTokenCache;
+        this.authorityInterner = new GrantedAuthorityInterner(securityProperties != null
+            ? securityProperties.getFilter().getDefaultAuthority()
+            : "ROLE_USER");
     }
 
     @Override
@@ -112,30 +132,33 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
-        String path = request.getRequestURI();
-        return excludeUrlPatterns.stream()
-            .anyMatch(pattern -> pathMatcher.match(pattern, path));
+        return excludePathMatcher.matches(request);
     }
 
     /**
      * HTTP 요청에서 JWT 토큰을 추출합니다.
+     * 형식이 잘못된 토큰은 검증 전에 {@link BearerTokenExtractor.MalformedTokenException}으로 거부됩니다.
      */
     private String extractToken(HttpServletRequest request) {
-        String bearerToken = request.getHeader(AUTHORIZATION_HEADER);
-        
-        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(BEARER_PREFIX)) {
-            String token = bearerToken.substring(BEARER_PREFIX.length());
+        String token = tokenExtractor.extract(request.getHeader(AUTHORIZATION_HEADER));
+        if (token != null) {
             logger.debug("JWT token extracted from Authorization header");
-            return token;
         }
-        
-        return null;
+        return token;
     }
 
     /**
      * 토큰을 검증하고 인증 정보를 설정합니다.
      */
     private void processToken(String token, HttpServletRequest request) {
+        if (rejectedTokenCache != null) {
+            String rejectionReason = rejectedTokenCache.getRejectionReason(token);
+            if (rejectionReason != null) {
+                // 최근 거부된 토큰은 다시 검증하지 않음
+                throw new RejectedTokenCache.RejectedTokenException(rejectionReason);
+            }
+        }
+
         try {
             // 요청 컨텍스트 정보 수집
             TokenValidationContext context = buildValidationContext(request);
@@ -145,7 +168,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             
             // 컨텍스트와 함께 토큰 검증
             long validationStart = System.currentTimeMillis();
-            TokenValidationResult result = tokenProvider.validateTokenWithContext(token, context);
+            TokenValidationResult result = tokenProvider.verifyTokenWithContext(token, context);
             long validationDuration = System.currentTimeMillis() - validationStart;
             
             // 검증 결과 로깅
@@ -153,11 +176,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             
             if (result.valid()) {
                 // 인증 성공 - SecurityContext에 인증 정보 설정
-                String defaultRole = "ROLE_USER";
+                List<SimpleGrantedAuthority> authorities = authorityInterner.intern(result.authorities());
                 JwtAuthenticationToken authentication = new JwtAuthenticationToken(
                     token,
-                    null,
-                    Collections.singletonList(new SimpleGrantedAuthority(defaultRole))
+                    new JwtPrincipal(result, authorities, token),
+                    authorities
                 );
                 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -189,7 +212,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 
                 String reason = result.claims() != null ? 
                     (String) result.claims().get("error") : "Unknown reason";
-                throw new JwtAuthenticationException("Token validation failed: " + reason);
+                String message = "Token validation failed: " + reason;
+                // 리소스 권한 거부나 확정되지 않은 실패는 토큰 자체의 거부로 기록하지 않음
+                if (RejectedTokenCache.isDefinitiveRejection(result)) {
+                    recordRejection(token, message);
+                }
+                // 유효하지 않은 토큰은 빈번하므로 스택 트레이스 없이 거부
+                throw new JwtAuthenticationException(message, false);
             }
             
         } catch (JwtAuthenticationException e) {
@@ -198,7 +227,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         } catch (Exception e) {
             logger.error("Token validation error: {}", e.getMessage());
             // For unexpected errors, preserve the original error message
-            throw new JwtAuthenticationException(e.getMessage() != null ? e.getMessage() : "Invalid token format", e);
+            String message = e.getMessage() != null ? e.getMessage() : "Invalid token format";
+            if (RejectedTokenCache.isDefinitiveRejection(e)) {
+                recordRejection(token, message);
+            }
+            throw new JwtAuthenticationException(message, e);
+        }
+    }
+
+    private void recordRejection(String token, String message) {
+        if (rejectedTokenCache != null) {
+            rejectedTokenCache.recordRejection(token, message);
         }
     }
 
@@ -286,28 +325,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         public JwtAuthenticationException(String message, Throwable cause) {
             super(message, cause);
         }
-    }
-}
 
-/**
- * JWT 기반 인증 토큰
- */
-class JwtAuthenticationToken extends UsernamePasswordAuthenticationToken {
-    
-    private final String token;
-    
-    public JwtAuthenticationToken(String token, Object credentials, 
-            List<SimpleGrantedAuthority> authorities) {
-        super(token, credentials, authorities);
-        this.token = token;
-    }
-    
-    public String getToken() {
-        return token;
-    }
-    
-    @Override
-    public Object getPrincipal() {
-        return token;
+        protected JwtAuthenticationException(String message, boolean writableStackTrace) {
+            super(message, null, false, writableStackTrace);
+        }
     }
-}
\ No newline at end of file
+}
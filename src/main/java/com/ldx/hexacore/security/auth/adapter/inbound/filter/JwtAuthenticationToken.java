@@ -0,0 +1,36 @@
+package com.ldx.hexacore.security.auth.adapter.inbound.filter;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+/**
+ * JWT 기반 인증 토큰
+ * principal은 검증 결과로 만든 {@link JwtPrincipal}입니다.
+ * 토큰 원문은 세션 등에 직렬화되지 않도록 transient로 보관합니다.
+ */
+class JwtAuthenticationToken extends UsernamePasswordAuthenticationToken {
+    
+    private final transient String token;
+    
+    public JwtAuthenticationToken(String token, JwtPrincipal principal,
+            List<SimpleGrantedAuthority> authorities) {
+        super(principal, null, authorities);
+        this.token = token;
+    }
+    
+    /**
+     * 요청 처리 중 사용한 토큰 원문을 반환합니다.
+     *
+     * @return 토큰 원문, 역직렬화된 인스턴스에서는 null
+     */
+    public String getToken() {
+        return token;
+    }
+    
+    @Override
+    public JwtPrincipal getPrincipal() {
+        return (JwtPrincipal) super.getPrincipal();
+    }
+}
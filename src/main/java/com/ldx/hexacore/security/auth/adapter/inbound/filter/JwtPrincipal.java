@@ -0,0 +1,124 @@
+package com.ldx.hexacore.security.auth.adapter.inbound.filter;
+
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenValidationResult;
+import com.ldx.hexacore.security.util.JwtPayloadReader;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.security.Principal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JWT로 인증된 사용자 정보
+ *
+ * <p>{@link JwtAuthenticationFilter}가 토큰 검증 결과로부터 한 번만 만들어 {@code Authentication#getPrincipal()}로
+ * 제공합니다. 애플리케이션 코드는 토큰을 다시 파싱하지 않고 사용자 ID, 사용자명, 권한, 만료 시각을 바로 사용할 수 있습니다.</p>
+ *
+ * <p>불변 객체이므로 비동기 작업으로 SecurityContext를 전파할 때 복사 없이 그대로 공유해도 안전합니다.
+ * 클레임은 {@link #getClaims()}를 처음 호출할 때 만들어집니다.</p>
+ *
+ * <p>토큰 원문은 클레임을 읽을 때만 사용하며 직렬화(세션 저장 등)에는 포함하지 않습니다. 직렬화할 때는 클레임을
+ * 먼저 만들어 함께 저장합니다.</p>
+ */
+public final class JwtPrincipal implements Principal, Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final String userId;
+    private final String username;
+    private final List<SimpleGrantedAuthority> authorities;
+    private final Instant expiresAt;
+    private final transient String token;
+    private volatile Map<String, Object> claims;
+
+    JwtPrincipal(TokenValidationResult result, List<SimpleGrantedAuthority> authorities, String token) {
+        this.userId = result.userId();
+        this.username = result.username();
+        this.authorities = authorities != null ? authorities : List.of();
+        this.expiresAt = result.expiresAt();
+        this.claims = result.claims() != null && !result.claims().isEmpty() ? result.claims() : null;
+        this.token = token;
+    }
+
+    /**
+     * 사용자 ID (토큰의 subject)
+     */
+    public String getUserId() {
+        return userId;
+    }
+
+    /**
+     * 사용자명
+     */
+    public String getUsername() {
+        return username;
+    }
+
+    /**
+     * 부여된 권한 목록 (불변)
+     */
+    public List<SimpleGrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    /**
+     * 토큰 만료 시각 (토큰 제공자가 알려주지 않은 경우 null)
+     */
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    /**
+     * 토큰 클레임 (불변)
+     *
+     * <p>토큰 제공자가 검증 결과에 클레임을 담아 준 경우(introspection 응답, userinfo 응답 등) 그대로 사용하고,
+     * 그렇지 않으면 이미 검증된 토큰의 payload를 처음 호출할 때 한 번만 읽어 보관합니다.</p>
+     *
+     * @return 클레임 맵, 읽을 수 없으면 빈 맵
+     */
+    public Map<String, Object> getClaims() {
+        Map<String, Object> result = claims;
+        if (result == null) {
+            result = JwtPayloadReader.readClaims(token);
+            claims = result;
+        }
+        return result;
+    }
+
+    @Serial
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        // 역직렬화 후에는 토큰 원문이 없으므로 클레임을 먼저 만들어 저장
+        getClaims();
+        out.defaultWriteObject();
+    }
+
+    /**
+     * 클레임 값을 조회합니다.
+     *
+     * @param name 클레임 이름
+     * @return 클레임 값, 없으면 null
+     */
+    public Object getClaim(String name) {
+        return getClaims().get(name);
+    }
+
+    /**
+     * 사용자명, 없으면 사용자 ID를 반환합니다.
+     */
+    @Override
+    public String getName() {
+        return username != null ? username : userId;
+    }
+
+    @Override
+    public String toString() {
+        return "JwtPrincipal{userId='" + userId + "', username='" + username + "', authorities=" + authorities
+            + ", expiresAt=" + expiresAt + "}";
+    }
+}
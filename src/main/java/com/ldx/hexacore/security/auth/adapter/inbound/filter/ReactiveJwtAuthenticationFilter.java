@@ -0,0 +1,314 @@
+package com.ldx.hexacore.security.auth.adapter.inbound.filter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ldx.hexacore.security.auth.application.command.port.out.AsyncTokenProvider;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenProvider;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenProviderException;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenValidationContext;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenValidationResult;
+import com.ldx.hexacore.security.config.properties.SecurityStarterProperties;
+import com.ldx.hexacore.security.logging.SecurityEventLogger;
+import com.ldx.hexacore.security.logging.SecurityRequestLogger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 리액티브(WebFlux) JWT 인증 필터
+ *
+ * <p>{@link JwtAuthenticationFilter}와 같은 제외 경로, 로깅, 보안 이벤트, 네거티브 캐시 동작으로 토큰을 검증하고
+ * 인증 정보를 Reactor Context의 SecurityContext로 전달합니다.</p>
+ *
+ * <ul>
+ *   <li>{@link AsyncTokenProvider}를 구현한 제공자(Keycloak 원격 검증 등)는 이벤트 루프를 막지 않고 비동기로 검증합니다.
+ *       검증 캐시와 동시 검증 합치기 데코레이터로 감싼 경우에도 위임 대상이 비동기면 비동기로 검증합니다.</li>
+ *   <li>그 외 제공자는 로컬 검증(JWT 서명 검증 등)으로 보고 호출 스레드에서 바로 검증합니다.
+ *       원격 호출이 필요한 사용자 정의 제공자는 {@link AsyncTokenProvider}를 함께 구현해야 합니다.</li>
+ * </ul>
+ *
+ * <p>WebFlux는 모든 {@link WebFilter} Bean을 자동으로 등록하므로 SecurityWebFilterChain에 다시 추가하지 않습니다.
+ * {@link #DEFAULT_ORDER}로 Spring Security의 WebFilterChainProxy보다 먼저 실행되어, 사용자가 정의한
+ * SecurityWebFilterChain에서도 인증 정보를 사용할 수 있습니다.</p>
+ */
+public class ReactiveJwtAuthenticationFilter implements WebFilter, Ordered {
+
+    /**
+     * Spring Security WebFilterChainProxy(-100)보다 먼저 실행되는 순서
+     */
+    public static final int DEFAULT_ORDER = -200;
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveJwtAuthenticationFilter.class);
+
+    private final TokenProvider tokenProvider;
+    private final ObjectMapper objectMapper;
+    private final ExcludePathMatcher excludePathMatcher;
+    private final SecurityRequestLogger requestLogger;
+    private final SecurityEventLogger eventLogger;
+    private final BearerTokenExtractor tokenExtractor;
+    private final RejectedTokenCache rejectedTokenCache;
+    private final GrantedAuthorityInterner authorityInterner;
+
+    /**
+     * @param excludePathMatcher 인증을 건너뛸 경로 매처 (null이면 모든 경로를 검사)
+     * @param rejectedTokenCache 최근 거부된 토큰 캐시 (null이면 사용하지 않음)
+     */
+    public ReactiveJwtAuthenticationFilter(
+            TokenProvider tokenProvider,
+            ObjectMapper objectMapper,
+            ExcludePathMatcher excludePathMatcher,
+            SecurityStarterProperties securityProperties,
+            SecurityRequestLogger requestLogger,
+            SecurityEventLogger eventLogger,
+            RejectedTokenCache rejectedTokenCache) {
+        this.tokenProvider = tokenProvider;
+        this.objectMapper = objectMapper;
+        this.excludePathMatcher = excludePathMatcher != null ? excludePathMatcher : ExcludePathMatcher.EMPTY;
+        this.requestLogger = requestLogger;
+        this.eventLogger = eventLogger;
+        this.tokenExtractor = new BearerTokenExtractor(securityProperties != null
+            ? securityProperties.getFilter().getMaxHeaderLength()
+            : BearerTokenExtractor.DEFAULT_MAX_HEADER_LENGTH);
+        this.rejectedTokenCache = rejectedTokenCache;
+        this.authorityInterner = new GrantedAuthorityInterner(securityProperties != null
+            ? securityProperties.getFilter().getDefaultAuthority()
+            : "ROLE_USER");
+    }
+
+    @Override
+    public int getOrder() {
+        return DEFAULT_ORDER;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (excludePathMatcher.matches(request.getPath().pathWithinApplication().value())) {
+            return chain.filter(exchange);
+        }
+
+        long startTime = System.currentTimeMillis();
+        String requestId = requestLogger.logRequestStart(
+            request.getMethod().name(),
+            request.getPath().value(),
+            getClientIpAddress(request),
+            request.getHeaders().getFirst(HttpHeaders.USER_AGENT),
+            request.getHeaders().containsKey(HttpHeaders.AUTHORIZATION));
+
+        String token;
+        try {
+            token = tokenExtractor.extract(request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION));
+        } catch (BearerTokenExtractor.MalformedTokenException e) {
+            return handleAuthenticationFailure(exchange, requestId, startTime, e);
+        }
+
+        if (!StringUtils.hasText(token)) {
+            requestLogger.logTokenExtraction(null, false);
+            return proceed(exchange, chain, null, requestId, startTime);
+        }
+
+        requestLogger.logTokenExtraction(token, true);
+        return authenticate(token, request)
+            .onErrorResume(Exception.class, e -> handleAuthenticationFailure(exchange, requestId, startTime, e)
+                .then(Mono.empty()))
+            .flatMap(authentication -> proceed(exchange, chain, authentication, requestId, startTime));
+    }
+
+    /**
+     * 토큰을 검증해 인증 정보를 만듭니다. 검증에 실패하면 {@link JwtAuthenticationFilter.JwtAuthenticationException}으로
+     * 종료됩니다.
+     */
+    private Mono<JwtAuthenticationToken> authenticate(String token, ServerHttpRequest request) {
+        if (rejectedTokenCache != null) {
+            String rejectionReason = rejectedTokenCache.getRejectionReason(token);
+            if (rejectionReason != null) {
+                // 최근 거부된 토큰은 다시 검증하지 않음
+                return Mono.error(new RejectedTokenCache.RejectedTokenException(rejectionReason));
+            }
+        }
+
+        TokenValidationContext context = buildValidationContext(request);
+        requestLogger.logValidationContext(context);
+
+        long validationStart = System.currentTimeMillis();
+        return validate(token, context)
+            .map(result -> {
+                requestLogger.logValidationResult(result, System.currentTimeMillis() - validationStart);
+                return toAuthentication(token, result, request);
+            })
+            .onErrorMap(e -> !(e instanceof JwtAuthenticationFilter.JwtAuthenticationException), e -> {
+                logger.error("Token validation error: {}", e.getMessage());
+                String message = e.getMessage() != null ? e.getMessage() : "Invalid token format";
+                if (RejectedTokenCache.isDefinitiveRejection(e)) {
+                    recordRejection(token, message);
+                }
+                return new JwtAuthenticationFilter.JwtAuthenticationException(message, e);
+            });
+    }
+
+    /**
+     * 비동기 제공자는 이벤트 루프를 막지 않고, 그 외 제공자는 호출 스레드에서 검증합니다.
+     * 유효하지 않거나 만료된 토큰은 동기 필터와 같이 무효한 결과로 변환합니다.
+     */
+    private Mono<TokenValidationResult> validate(String token, TokenValidationContext context) {
+        if (tokenProvider instanceof AsyncTokenProvider asyncTokenProvider) {
+            return Mono.fromFuture(() -> asyncTokenProvider.validateTokenAsync(token))
+                .onErrorResume(TokenProviderException.class, e -> Mono.fromCallable(e::toInvalidResult));
+        }
+        return Mono.fromCallable(() -> tokenProvider.verifyTokenWithContext(token, context));
+    }
+
+    private JwtAuthenticationToken toAuthentication(String token, TokenValidationResult result,
+                                                    ServerHttpRequest request) {
+        String uri = request.getPath().value();
+        String method = request.getMethod().name();
+        String clientIp = getClientIpAddress(request);
+        String userAgent = request.getHeaders().getFirst(HttpHeaders.USER_AGENT);
+
+        if (result.valid()) {
+            List<SimpleGrantedAuthority> authorities = authorityInterner.intern(result.authorities());
+            JwtAuthenticationToken authentication = new JwtAuthenticationToken(
+                token,
+                new JwtPrincipal(result, authorities, token),
+                authorities
+            );
+
+            eventLogger.logAuthenticationSuccess(result.username(), clientIp, userAgent);
+            if (result.claims() != null && Boolean.TRUE.equals(result.claims().get("resource_permission_granted"))) {
+                eventLogger.logResourceAccessGranted(result.username(), uri, method);
+            }
+            return authentication;
+        }
+
+        boolean permissionDenied = result.claims() != null
+            && Boolean.TRUE.equals(result.claims().get("resource_permission_denied"));
+        if (permissionDenied) {
+            eventLogger.logResourceAccessDenied(
+                result.username() != null ? result.username() : "unknown", uri, method);
+        }
+
+        String reason = result.claims() != null ? (String) result.claims().get("error") : "Unknown reason";
+        String message = "Token validation failed: " + reason;
+        // 리소스 권한 거부나 확정되지 않은 실패는 토큰 자체의 거부로 기록하지 않음
+        if (RejectedTokenCache.isDefinitiveRejection(result)) {
+            recordRejection(token, message);
+        }
+        // 유효하지 않은 토큰은 빈번하므로 스택 트레이스 없이 거부
+        throw new JwtAuthenticationFilter.JwtAuthenticationException(message, false);
+    }
+
+    private Mono<Void> proceed(ServerWebExchange exchange, WebFilterChain chain,
+                               JwtAuthenticationToken authentication, String requestId, long startTime) {
+        Mono<Void> next = chain.filter(exchange);
+        if (authentication != null) {
+            next = next.contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication));
+        }
+        return next.doOnSuccess(ignored ->
+            requestLogger.logRequestComplete(requestId, true, System.currentTimeMillis() - startTime));
+    }
+
+    private void recordRejection(String token, String message) {
+        if (rejectedTokenCache != null) {
+            rejectedTokenCache.recordRejection(token, message);
+        }
+    }
+
+    /**
+     * 요청으로부터 검증 컨텍스트를 구성합니다.
+     */
+    private TokenValidationContext buildValidationContext(ServerHttpRequest request) {
+        TokenValidationContext.TokenValidationContextBuilder builder = TokenValidationContext.builder()
+                .requestUri(request.getPath().value())
+                .httpMethod(request.getMethod().name())
+                .checkResourcePermission(false);
+
+        String clientIp = getClientIpAddress(request);
+        if (clientIp != null) {
+            builder.clientIp(clientIp);
+        }
+
+        String userAgent = request.getHeaders().getFirst(HttpHeaders.USER_AGENT);
+        if (userAgent != null) {
+            builder.userAgent(userAgent);
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * 클라이언트 IP 주소를 추출합니다.
+     */
+    private String getClientIpAddress(ServerHttpRequest request) {
+        String xForwardedFor = request.getHeaders().getFirst("X-Forwarded-For");
+        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
+            return xForwardedFor.split(",")[0].trim();
+        }
+
+        String xRealIp = request.getHeaders().getFirst("X-Real-IP");
+        if (xRealIp != null && !xRealIp.isEmpty()) {
+            return xRealIp;
+        }
+
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        if (remoteAddress == null) {
+            return null;
+        }
+        return remoteAddress.getAddress() != null
+            ? remoteAddress.getAddress().getHostAddress()
+            : remoteAddress.getHostString();
+    }
+
+    /**
+     * 인증 실패를 기록하고 401 에러 응답을 씁니다. 필터 체인은 계속하지 않습니다.
+     */
+    private Mono<Void> handleAuthenticationFailure(ServerWebExchange exchange, String requestId, long startTime,
+                                                   Exception e) {
+        ServerHttpRequest request = exchange.getRequest();
+        requestLogger.logError("JWT authentication failed", e);
+        requestLogger.logRequestComplete(requestId, false, System.currentTimeMillis() - startTime);
+
+        eventLogger.logAuthenticationFailure(
+            e.getMessage(),
+            getClientIpAddress(request),
+            request.getHeaders().getFirst(HttpHeaders.USER_AGENT)
+        );
+
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("success", false);
+        errorResponse.put("message", e.getMessage() != null ? e.getMessage() : "Authentication failed");
+        errorResponse.put("timestamp", LocalDateTime.now().toString());
+        errorResponse.put("status", HttpStatus.UNAUTHORIZED.value());
+
+        return writeJson(exchange.getResponse(), HttpStatus.UNAUTHORIZED, errorResponse);
+    }
+
+    private Mono<Void> writeJson(ServerHttpResponse response, HttpStatus status, Map<String, Object> body) {
+        byte[] bytes;
+        try {
+            bytes = objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            return Mono.error(e);
+        }
+        response.setStatusCode(status);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(bytes)));
+    }
+}
@@ -0,0 +1,176 @@
+package com.ldx.hexacore.security.auth.adapter.inbound.filter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenProviderErrorCode;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenProviderException;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenValidationErrorCode;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenValidationResult;
+import com.ldx.hexacore.security.util.TokenFingerprint;
+import com.ldx.hexacore.security.util.TokenFingerprinter;
+import com.ldx.hexacore.security.util.ValidationMessages;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 최근 거부된 토큰의 네거티브 캐시
+ *
+ * <p>위조되거나 만료된 같은 토큰이 반복해서 제출되는 경우 서명 검증이나 원격 호출을 다시 하지 않도록
+ * 토큰 지문({@link TokenFingerprint})별 거부 사유를 짧은 시간 동안 보관합니다.</p>
+ *
+ * <ul>
+ *   <li>엔트리 수는 최대 크기로 제한되며, 거부 사유도 {@value #MAX_REASON_LENGTH}자로 잘라 저장하므로
+ *       메모리 사용량은 엔트리 수에 비례해 상한이 정해집니다.</li>
+ *   <li>토큰 원문은 저장하지 않습니다.</li>
+ *   <li>적중 횟수는 {@link #stats()}로 확인할 수 있으며 공격 트래픽 규모를 가늠하는 데 사용합니다.</li>
+ *   <li>토큰 자체에 대한 확정 판정({@link #isDefinitiveRejection(TokenValidationResult)})만 기록합니다.
+ *       제공자 장애, 요청 제한, 설정 오류처럼 다시 시도하면 결과가 달라질 수 있는 실패는 기록하지 않습니다.</li>
+ * </ul>
+ */
+public class RejectedTokenCache {
+
+    static final int MAX_REASON_LENGTH = 256;
+
+    private static final Set<TokenValidationErrorCode> DEFINITIVE_REJECTIONS = EnumSet.of(
+        TokenValidationErrorCode.MALFORMED,
+        TokenValidationErrorCode.UNSUPPORTED,
+        TokenValidationErrorCode.INVALID_SIGNATURE,
+        TokenValidationErrorCode.EXPIRED,
+        TokenValidationErrorCode.INVALID_CLAIMS,
+        TokenValidationErrorCode.INVALID_TOKEN
+    );
+
+    private final Cache<TokenFingerprint, String> cache;
+    private final TokenFingerprinter fingerprinter;
+
+    /**
+     * 네거티브 캐시를 생성합니다.
+     *
+     * @param maximumSize 최대 엔트리 수
+     * @param ttl 거부 결과 보관 시간
+     */
+    public RejectedTokenCache(long maximumSize, Duration ttl) {
+        this(maximumSize, ttl, Ticker.systemTicker());
+    }
+
+    RejectedTokenCache(long maximumSize, Duration ttl, Ticker ticker) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException(ValidationMessages.mustBePositive("Maximum size"));
+        }
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException(ValidationMessages.mustBePositive("TTL"));
+        }
+        this.fingerprinter = new TokenFingerprinter();
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl)
+            .ticker(ticker)
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * 최근 거부된 토큰이면 거부 사유를 반환합니다.
+     *
+     * @param token 토큰 원문
+     * @return 거부 사유, 캐시에 없으면 {@code null}
+     */
+    public String getRejectionReason(String token) {
+        return cache.getIfPresent(fingerprinter.fingerprint(token));
+    }
+
+    /**
+     * 토큰의 거부 사유를 기록합니다.
+     *
+     * @param token 토큰 원문
+     * @param reason 거부 사유
+     */
+    public void recordRejection(String token, String reason) {
+        String stored = reason == null ? "Authentication failed" : reason;
+        if (stored.length() > MAX_REASON_LENGTH) {
+            stored = stored.substring(0, MAX_REASON_LENGTH);
+        }
+        cache.put(fingerprinter.fingerprint(token), stored);
+    }
+
+    /**
+     * 캐시 적중/미적중 통계를 반환합니다.
+     *
+     * @return 캐시 통계
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * 현재 캐시된 엔트리 수의 추정치를 반환합니다.
+     *
+     * @return 엔트리 수 추정치
+     */
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * 캐시된 모든 거부 결과를 제거합니다.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * 메트릭 바인딩 등 외부 연동을 위해 내부 캐시를 노출합니다.
+     *
+     * @return 내부 Caffeine 캐시
+     */
+    public Cache<TokenFingerprint, String> getCache() {
+        return cache;
+    }
+
+    /**
+     * 토큰 자체에 대한 확정 판정으로 거부된 결과인지 확인합니다.
+     * 리소스 권한 거부는 요청 경로에 따라 달라지므로 토큰의 거부로 보지 않습니다.
+     *
+     * @param result 무효한 검증 결과
+     * @return 네거티브 캐시에 기록할 수 있으면 true
+     */
+    static boolean isDefinitiveRejection(TokenValidationResult result) {
+        if (result.valid() || !DEFINITIVE_REJECTIONS.contains(result.errorCode())) {
+            return false;
+        }
+        return result.claims() == null || !Boolean.TRUE.equals(result.claims().get("resource_permission_denied"));
+    }
+
+    /**
+     * 검증 중 발생한 예외가 토큰 자체에 대한 확정 판정인지 확인합니다.
+     * 제공자 장애나 설정 오류는 일시적일 수 있으므로 기록하지 않습니다.
+     *
+     * @param error 검증 중 발생한 예외
+     * @return 네거티브 캐시에 기록할 수 있으면 true
+     */
+    static boolean isDefinitiveRejection(Throwable error) {
+        if (!(error instanceof TokenProviderException providerException)) {
+            return false;
+        }
+        TokenProviderErrorCode errorCode = providerException.getErrorCode();
+        return (errorCode == TokenProviderErrorCode.TOKEN_VALIDATION_FAILED
+                || errorCode == TokenProviderErrorCode.TOKEN_EXPIRED)
+            && isDefinitiveRejection(providerException.toInvalidResult());
+    }
+
+    /**
+     * 네거티브 캐시 적중으로 거부된 토큰
+     *
+     * <p>검증을 다시 하지 않고 바로 거부하므로 스택 트레이스를 기록하지 않습니다.</p>
+     */
+    public static final class RejectedTokenException extends JwtAuthenticationFilter.JwtAuthenticationException {
+
+        RejectedTokenException(String message) {
+            super(message, false);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.ldx.hexacore.security.logging.SecurityEventLogger;
 import com.ldx.hexacore.security.logging.SecurityRequestLogger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -54,26 +55,42 @@ public class SecurityFilterConfig {
         return new JwtExcludeProperties();
     }
 
+    /**
+     * 모든 설정 소스의 제외 경로를 한 번만 컴파일한 매처
+     * 인증 필터, 서블릿 필터, SecurityFilterChain이 함께 사용합니다.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ExcludePathMatcher excludePathMatcher(
+            JwtExcludeProperties excludeProperties,
+            SecurityStarterProperties securityProperties) {
+        ExcludePathMatcher matcher = ExcludePathMatcher.of(securityProperties, excludeProperties.getPaths());
+        logger.debug("Compiled exclude paths: {}", matcher.getPatterns());
+        return matcher;
+    }
+
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter(
             TokenProvider tokenProvider,
             ObjectMapper objectMapper,
-            JwtExcludeProperties excludeProperties,
+            ExcludePathMatcher excludePathMatcher,
             SecurityStarterProperties securityProperties,
             SecurityRequestLogger requestLogger,
-            SecurityEventLogger eventLogger) {
+            SecurityEventLogger eventLogger,
+            ObjectProvider<RejectedTokenCache> rejectedTokenCache) {
         
         logger.info("🛡️ JwtAuthenticationFilter Bean 생성됨");
         logger.info("TokenProvider 타입: {}", tokenProvider.getClass().getSimpleName());
-        logger.info("제외 경로 수: {}", excludeProperties.getPaths().size());
+        logger.info("제외 경로 수: {}", excludePathMatcher.getPatterns().size());
         
         return new JwtAuthenticationFilter(
             tokenProvider,
             objectMapper,
-            excludeProperties.getPaths(),
+            excludePathMatcher,
             securityProperties,
             requestLogger,
-            eventLogger
+            eventLogger,
+            rejectedTokenCache.getIfAvailable()
         );
     }
 
@@ -90,8 +107,7 @@ public class SecurityFilterConfig {
             HttpSecurity http,
             JwtAuthenticationFilter jwtAuthenticationFilter,
             JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint,
-            JwtExcludeProperties excludeProperties,
-            SecurityStarterProperties hexacoreProperties) throws Exception {
+            ExcludePathMatcher excludePathMatcher) throws Exception {
         
         logger.info("⚙️ SecurityFilterChain 구성 시작");
         logger.info("JwtAuthenticationFilter: {}", jwtAuthenticationFilter.getClass().getSimpleName());
@@ -106,13 +122,10 @@ public class SecurityFilterConfig {
             
             // 인증 요구사항 설정
             .authorizeHttpRequests(auth -> {
-                // 모든 설정 소스에서 exclude 경로 수집 및 적용
-                List<String> allExcludePaths = collectAllExcludePaths(excludeProperties, hexacoreProperties);
-                
-                if (!allExcludePaths.isEmpty()) {
-                    String[] pathArray = allExcludePaths.toArray(new String[0]);
-                    auth.requestMatchers(pathArray).permitAll();
-                    logger.info("Applied all exclude paths: {}", allExcludePaths);
+                // 모든 설정 소스의 exclude 경로를 필터와 같은 매처로 적용
+                if (!excludePathMatcher.isEmpty()) {
+                    auth.requestMatchers(excludePathMatcher).permitAll();
+                    logger.info("Applied all exclude paths: {}", excludePathMatcher.getPatterns());
                 } else {
                     logger.warn("No exclude paths configured - all requests will require authentication");
                 }
@@ -144,40 +157,6 @@ public class SecurityFilterConfig {
         return filterChain;
     }
     
-    /**
-     * 모든 설정 소스에서 exclude 경로들을 수집합니다.
-     */
-    private List<String> collectAllExcludePaths(
-            JwtExcludeProperties excludeProperties, 
-            SecurityStarterProperties hexacoreProperties) {
-        
-        List<String> allPaths = new ArrayList<>();
-        
-        // JWT Exclude Properties에서 수집
-        if (excludeProperties.getPaths() != null) {
-            allPaths.addAll(excludeProperties.getPaths());
-            logger.debug("Added from security.auth.jwt.exclude.paths: {}", excludeProperties.getPaths());
-        }
-        
-        // Hexacore Security filter excludePaths에서 수집
-        var hexacoreExcludePaths = hexacoreProperties.getFilter().getExcludePaths();
-        if (hexacoreExcludePaths != null && hexacoreExcludePaths.length > 0) {
-            for (String path : hexacoreExcludePaths) {
-                allPaths.add(path);
-            }
-            logger.debug("Added from hexacore.security.filter.excludePaths: {}", (Object) hexacoreExcludePaths);
-        }
-        
-        // JWT Token Provider excludedPaths에서 수집
-        var jwtExcludedPaths = hexacoreProperties.getTokenProvider().getJwt().getExcludedPaths();
-        if (jwtExcludedPaths != null && !jwtExcludedPaths.isEmpty()) {
-            allPaths.addAll(jwtExcludedPaths);
-            logger.debug("Added from hexacore.security.tokenProvider.jwt.excludedPaths: {}", jwtExcludedPaths);
-        }
-        
-        return allPaths;
-    }
-    
     /**
      * JWT 제외 경로 설정 (설정 파일에서만 지정)
      */
@@ -0,0 +1,35 @@
+package com.ldx.hexacore.security.auth.adapter.outbound.external;
+
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * circuit이 열려 있거나 동시 호출 한도에 도달해 Keycloak 호출을 시작하지 않았을 때 발생합니다.
+ *
+ * <p>연결 오류와 같은 {@link ResourceAccessException}이므로 기존 오류 처리를 그대로 따르며,
+ * 호출자는 이 예외로 Keycloak 장애 상황(degraded mode)을 구분할 수 있습니다.</p>
+ */
+public class KeycloakCallNotPermittedException extends ResourceAccessException {
+
+    private final String endpoint;
+
+    public KeycloakCallNotPermittedException(String endpoint, String reason) {
+        super("Keycloak " + endpoint + " call not permitted: " + reason);
+        this.endpoint = endpoint;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * 예외의 원인 체인에 이 예외가 있는지 확인합니다.
+     */
+    public static boolean isCauseOf(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof KeycloakCallNotPermittedException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
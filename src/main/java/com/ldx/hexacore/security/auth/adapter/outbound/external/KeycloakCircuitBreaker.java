@@ -0,0 +1,261 @@
+package com.ldx.hexacore.security.auth.adapter.outbound.external;
+
+import com.ldx.hexacore.security.util.ValidationMessages;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Keycloak 엔드포인트 하나에 대한 circuit breaker와 동시 호출 제한(bulkhead)
+ *
+ * <p>최근 {@code slidingWindowSize}개 호출의 실패율이 임계값 이상이면 OPEN으로 전환해 {@code openDuration} 동안
+ * 호출을 바로 거부합니다. 이후 HALF_OPEN에서 {@code halfOpenCalls}개의 시험 호출이 모두 성공하면 CLOSED로,
+ * 하나라도 실패하면 다시 OPEN으로 전환합니다.</p>
+ *
+ * <ul>
+ *   <li>연결 오류, 타임아웃, 5xx 응답을 실패로 봅니다. 4xx는 Keycloak이 응답한 것이므로 성공으로 봅니다.</li>
+ *   <li>동시 호출이 {@code maxConcurrentCalls}를 넘으면 기다리지 않고 거부합니다.</li>
+ *   <li>거부된 호출은 {@link KeycloakCallNotPermittedException}으로 실패합니다.</li>
+ * </ul>
+ */
+@Slf4j
+public final class KeycloakCircuitBreaker {
+
+    /**
+     * circuit 상태
+     */
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final String name;
+    private final Settings settings;
+    private final LongSupplier nanoClock;
+    private final Semaphore bulkhead;
+    private final boolean[] window;
+    private final LongAdder notPermitted = new LongAdder();
+
+    private State state = State.CLOSED;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+    private long openedAtNanos;
+    private int halfOpenPermitted;
+    private int halfOpenSucceeded;
+
+    public KeycloakCircuitBreaker(String name, Settings settings) {
+        this(name, settings, System::nanoTime);
+    }
+
+    KeycloakCircuitBreaker(String name, Settings settings, LongSupplier nanoClock) {
+        this.name = name;
+        this.settings = settings;
+        this.nanoClock = nanoClock;
+        this.bulkhead = new Semaphore(settings.maxConcurrentCalls());
+        this.window = new boolean[settings.slidingWindowSize()];
+    }
+
+    /**
+     * 호출을 시작합니다. 호출이 끝나면 반드시 {@link #onSuccess()} 또는 {@link #onFailure()}를, 호출을 보내지 못했으면
+     * {@link #release()}를 호출해야 합니다.
+     *
+     * @throws KeycloakCallNotPermittedException circuit이 열려 있거나 동시 호출 한도에 도달한 경우
+     */
+    public void acquire() {
+        if (!tryEnter()) {
+            notPermitted.increment();
+            throw new KeycloakCallNotPermittedException(name, "circuit is open");
+        }
+        if (!bulkhead.tryAcquire()) {
+            releaseTrial();
+            notPermitted.increment();
+            throw new KeycloakCallNotPermittedException(name,
+                "concurrent call limit (" + settings.maxConcurrentCalls() + ") reached");
+        }
+    }
+
+    /**
+     * Keycloak이 응답한 호출을 기록합니다.
+     */
+    public void onSuccess() {
+        bulkhead.release();
+        record(true);
+    }
+
+    /**
+     * 연결 오류, 타임아웃, 5xx 응답으로 끝난 호출을 기록합니다.
+     */
+    public void onFailure() {
+        bulkhead.release();
+        record(false);
+    }
+
+    /**
+     * Keycloak에 보내지 못한 호출(로컬 연결 한도 초과 등)의 자리를 결과를 기록하지 않고 반환합니다.
+     */
+    public void release() {
+        bulkhead.release();
+        releaseTrial();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 현재 상태. OPEN 유지 시간이 지났으면 HALF_OPEN을 반환합니다.
+     */
+    public synchronized State getState() {
+        if (state == State.OPEN && openElapsed()) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    /**
+     * 슬라이딩 윈도우의 실패율 (%), 기록된 호출이 없으면 0
+     */
+    public synchronized float getFailureRate() {
+        return windowCount == 0 ? 0f : windowFailures * 100f / windowCount;
+    }
+
+    /**
+     * 거부한 호출 수
+     */
+    public long getNotPermittedCount() {
+        return notPermitted.sum();
+    }
+
+    /**
+     * 지금 바로 시작할 수 있는 호출 수
+     */
+    public int getAvailableConcurrentCalls() {
+        return bulkhead.availablePermits();
+    }
+
+    private synchronized boolean tryEnter() {
+        if (state == State.OPEN) {
+            if (!openElapsed()) {
+                return false;
+            }
+            transition(State.HALF_OPEN);
+            halfOpenPermitted = 0;
+            halfOpenSucceeded = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermitted >= settings.halfOpenCalls()) {
+                return false;
+            }
+            halfOpenPermitted++;
+        }
+        return true;
+    }
+
+    private synchronized void releaseTrial() {
+        if (state == State.HALF_OPEN && halfOpenPermitted > 0) {
+            halfOpenPermitted--;
+        }
+    }
+
+    private synchronized void record(boolean success) {
+        if (state == State.HALF_OPEN) {
+            if (!success) {
+                open();
+            } else if (++halfOpenSucceeded >= settings.halfOpenCalls()) {
+                resetWindow();
+                transition(State.CLOSED);
+            }
+            return;
+        }
+        if (state == State.OPEN) {
+            return;
+        }
+
+        if (windowCount == window.length) {
+            if (!window[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = success;
+        if (!success) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+
+        if (windowCount >= settings.minimumCalls()
+                && windowFailures * 100f / windowCount >= settings.failureRateThreshold()) {
+            open();
+        }
+    }
+
+    private void open() {
+        openedAtNanos = nanoClock.getAsLong();
+        resetWindow();
+        transition(State.OPEN);
+    }
+
+    private boolean openElapsed() {
+        return nanoClock.getAsLong() - openedAtNanos >= settings.openDuration().toNanos();
+    }
+
+    private void resetWindow() {
+        windowIndex = 0;
+        windowCount = 0;
+        windowFailures = 0;
+    }
+
+    private void transition(State next) {
+        if (state != next) {
+            if (next == State.OPEN) {
+                log.warn("Keycloak circuit '{}' opened for {}", name, settings.openDuration());
+            } else {
+                log.info("Keycloak circuit '{}' changed from {} to {}", name, state, next);
+            }
+            state = next;
+        }
+    }
+
+    /**
+     * circuit breaker 설정
+     *
+     * @param failureRateThreshold OPEN으로 전환할 실패율 (%)
+     * @param minimumCalls 실패율을 계산하기 위한 최소 호출 수
+     * @param slidingWindowSize 실패율을 계산할 최근 호출 수
+     * @param openDuration OPEN 유지 시간
+     * @param halfOpenCalls HALF_OPEN에서 허용할 시험 호출 수
+     * @param maxConcurrentCalls 엔드포인트별 최대 동시 호출 수
+     */
+    public record Settings(int failureRateThreshold, int minimumCalls, int slidingWindowSize,
+                           Duration openDuration, int halfOpenCalls, int maxConcurrentCalls) {
+
+        public Settings {
+            if (failureRateThreshold <= 0 || failureRateThreshold > 100) {
+                throw new IllegalArgumentException(
+                    ValidationMessages.invalidFormat("Failure rate threshold", failureRateThreshold));
+            }
+            if (minimumCalls <= 0) {
+                throw new IllegalArgumentException(ValidationMessages.mustBePositive("Minimum calls"));
+            }
+            if (slidingWindowSize < minimumCalls) {
+                throw new IllegalArgumentException(
+                    ValidationMessages.invalidFormat("Sliding window size", slidingWindowSize));
+            }
+            if (openDuration == null || openDuration.isNegative() || openDuration.isZero()) {
+                throw new IllegalArgumentException(ValidationMessages.mustBePositive("Open duration"));
+            }
+            if (halfOpenCalls <= 0) {
+                throw new IllegalArgumentException(ValidationMessages.mustBePositive("Half-open calls"));
+            }
+            if (maxConcurrentCalls <= 0) {
+                throw new IllegalArgumentException(ValidationMessages.mustBePositive("Max concurrent calls"));
+            }
+        }
+    }
+}
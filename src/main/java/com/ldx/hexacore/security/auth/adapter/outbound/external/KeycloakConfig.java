@@ -1,8 +1,8 @@
 package com.ldx.hexacore.security.auth.adapter.outbound.external;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
@@ -11,7 +11,7 @@ import java.time.Duration;
 
 /**
  * Keycloak 연동을 위한 설정 클래스.
- * RestTemplate 및 SSL 설정을 구성합니다.
+ * 토큰 제공자와 같은 {@link KeycloakHttpTransport}를 사용하는 RestTemplate을 구성합니다.
  * 
  * @since 1.0.0
  */
@@ -23,11 +23,12 @@ class KeycloakConfig {
     private final KeycloakProperties properties;
     
     @Bean(name = "keycloakRestTemplate")
-    public RestTemplate keycloakRestTemplate(RestTemplateBuilder builder) {
-        // Spring Boot 3.2에서는 setConnectTimeout과 setReadTimeout 사용
-        return builder
-                .setConnectTimeout(Duration.ofMillis(properties.getConnectTimeout()))
-                .setReadTimeout(Duration.ofMillis(properties.getReadTimeout()))
-                .build();
+    public RestTemplate keycloakRestTemplate(ObjectProvider<KeycloakHttpTransport> transport) {
+        // 공유 전송 계층이 없을 때만 같은 타임아웃으로 별도 생성
+        return transport.getIfAvailable(() -> new KeycloakHttpTransport(
+                Duration.ofMillis(properties.getConnectTimeout()),
+                Duration.ofMillis(properties.getReadTimeout()),
+                KeycloakHttpTransport.DEFAULT_MAX_CONNECTIONS))
+            .getRestTemplate();
     }
 }
\ No newline at end of file
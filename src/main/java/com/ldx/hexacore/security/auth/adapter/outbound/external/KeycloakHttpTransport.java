@@ -0,0 +1,545 @@
+package com.ldx.hexacore.security.auth.adapter.outbound.external;
+
+import com.ldx.hexacore.security.config.properties.SecurityStarterProperties;
+import com.ldx.hexacore.security.util.ValidationMessages;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Keycloak 호출용 공유 HTTP 전송 계층
+ *
+ * <p>JDK {@link HttpClient} 하나를 토큰 제공자와 인증 어댑터가 함께 사용합니다. HttpClient는 연결을 keep-alive로
+ * 재사용하고, TLS에서 ALPN으로 협상되면 HTTP/2로 다중화합니다.</p>
+ *
+ * <ul>
+ *   <li>동시에 열리는 요청 수는 {@code maxConnections}로 제한하며, 연결 타임아웃 안에 자리가 나지 않으면
+ *       {@link ResourceAccessException}으로 실패합니다.</li>
+ *   <li>연결 타임아웃과 응답 읽기 타임아웃을 적용합니다.</li>
+ *   <li>route({@code scheme://host:port})별 요청 수, 실패 수, 처리 중인 요청 수, 누적 처리 시간을 기록합니다.</li>
+ *   <li>circuit breaker 설정이 있으면 token, userinfo, introspection, authorization(UMA ticket) 엔드포인트마다
+ *       {@link KeycloakCircuitBreaker}를 적용합니다. 연결 자리를 얻지 못한 호출은 Keycloak에 보내지 않았으므로
+ *       실패로 기록하지 않습니다.</li>
+ * </ul>
+ *
+ * <p>{@link #getAsync(URI, String)}와 {@link #postFormAsync(URI, String)}는 같은 HttpClient로 스레드를 점유하지 않고
+ * 요청합니다. 동시 요청 수 제한, route 통계, circuit breaker도 동일하게 적용되며, 연결 자리가 없으면 대기열에서
+ * 연결 타임아웃까지 스레드 없이 기다립니다.</p>
+ */
+public final class KeycloakHttpTransport {
+
+    public static final int DEFAULT_MAX_CONNECTIONS = 50;
+
+    private final HttpClient httpClient;
+    private final RestTemplate restTemplate;
+    private final int maxConnections;
+    private final Semaphore permits;
+    private final Queue<CompletableFuture<Void>> pendingPermits = new ConcurrentLinkedQueue<>();
+    private final Duration acquireTimeout;
+    private final Duration readTimeout;
+    private final Map<String, RouteStats> routes = new ConcurrentHashMap<>();
+    private final List<BiConsumer<String, RouteStats>> routeListeners = new CopyOnWriteArrayList<>();
+    private final Map<Endpoint, KeycloakCircuitBreaker> circuitBreakers;
+
+    /**
+     * @param connectTimeout 연결 타임아웃
+     * @param readTimeout 응답 읽기 타임아웃
+     * @param maxConnections 최대 동시 요청 수
+     */
+    public KeycloakHttpTransport(Duration connectTimeout, Duration readTimeout, int maxConnections) {
+        this(connectTimeout, readTimeout, maxConnections, null);
+    }
+
+    /**
+     * @param connectTimeout 연결 타임아웃
+     * @param readTimeout 응답 읽기 타임아웃
+     * @param maxConnections 최대 동시 요청 수
+     * @param circuitBreaker 엔드포인트별 circuit breaker 설정 (null이면 적용하지 않음)
+     */
+    public KeycloakHttpTransport(Duration connectTimeout, Duration readTimeout, int maxConnections,
+                                 KeycloakCircuitBreaker.Settings circuitBreaker) {
+        if (connectTimeout == null || connectTimeout.isNegative() || connectTimeout.isZero()) {
+            throw new IllegalArgumentException(ValidationMessages.mustBePositive("Connect timeout"));
+        }
+        if (readTimeout == null || readTimeout.isNegative() || readTimeout.isZero()) {
+            throw new IllegalArgumentException(ValidationMessages.mustBePositive("Read timeout"));
+        }
+        if (maxConnections <= 0) {
+            throw new IllegalArgumentException(ValidationMessages.mustBePositive("Max connections"));
+        }
+        this.maxConnections = maxConnections;
+        this.permits = new Semaphore(maxConnections, true);
+        this.acquireTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .connectTimeout(connectTimeout)
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .build();
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout);
+        this.restTemplate = new RestTemplate(requestFactory);
+        this.circuitBreakers = new EnumMap<>(Endpoint.class);
+        if (circuitBreaker != null) {
+            for (Endpoint endpoint : Endpoint.values()) {
+                circuitBreakers.put(endpoint, new KeycloakCircuitBreaker(endpoint.getName(), circuitBreaker));
+            }
+            this.restTemplate.getInterceptors().add(new CircuitBreakerInterceptor());
+        }
+        this.restTemplate.getInterceptors().add(new RouteInterceptor());
+    }
+
+    /**
+     * Keycloak 설정으로 전송 계층을 생성합니다. 타임아웃, 최대 동시 요청 수, circuit breaker 설정을 적용하고,
+     * 메트릭이 첫 호출 전부터 노출되도록 서버 URL의 route를 미리 등록합니다.
+     *
+     * @param config Keycloak 설정
+     * @return 전송 계층
+     */
+    public static KeycloakHttpTransport fromProperties(SecurityStarterProperties.TokenProvider.KeycloakProperties config) {
+        if (config == null) {
+            throw new IllegalArgumentException(ValidationMessages.cannotBeNull("Keycloak properties"));
+        }
+        KeycloakHttpTransport transport = new KeycloakHttpTransport(
+            Duration.ofMillis(config.getConnectTimeout() != null ? config.getConnectTimeout() : 10000),
+            Duration.ofMillis(config.getReadTimeout() != null ? config.getReadTimeout() : 10000),
+            config.getMaxConnections() != null ? config.getMaxConnections() : DEFAULT_MAX_CONNECTIONS,
+            circuitBreakerSettings(config.getCircuitBreaker()));
+        if (config.getServerUrl() != null) {
+            transport.route(routeOf(URI.create(config.getServerUrl())));
+        }
+        return transport;
+    }
+
+    /**
+     * 설정값으로 엔드포인트별 circuit breaker 설정을 생성합니다. 비활성화되어 있으면 null을 반환합니다.
+     */
+    private static KeycloakCircuitBreaker.Settings circuitBreakerSettings(
+            SecurityStarterProperties.TokenProvider.CircuitBreakerProperties circuitBreaker) {
+        if (circuitBreaker == null || !circuitBreaker.isEnabled()) {
+            return null;
+        }
+        return new KeycloakCircuitBreaker.Settings(
+            circuitBreaker.getFailureRateThreshold(),
+            circuitBreaker.getMinimumCalls(),
+            circuitBreaker.getSlidingWindowSize(),
+            Duration.ofSeconds(circuitBreaker.getOpenDurationSeconds()),
+            circuitBreaker.getHalfOpenCalls(),
+            circuitBreaker.getMaxConcurrentCalls());
+    }
+
+    /**
+     * 공유 전송 계층을 사용하는 RestTemplate
+     */
+    public RestTemplate getRestTemplate() {
+        return restTemplate;
+    }
+
+    /**
+     * 최대 동시 요청 수
+     */
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    /**
+     * 지금 바로 시작할 수 있는 요청 수
+     */
+    public int getAvailableConnections() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * route별 통계를 반환합니다.
+     *
+     * @param route {@code scheme://host:port} 형식의 route
+     * @return route 통계 (처음 보는 route면 새로 등록)
+     */
+    public RouteStats route(String route) {
+        RouteStats stats = routes.get(route);
+        if (stats != null) {
+            return stats;
+        }
+        RouteStats created = new RouteStats();
+        stats = routes.putIfAbsent(route, created);
+        if (stats != null) {
+            return stats;
+        }
+        routeListeners.forEach(listener -> listener.accept(route, created));
+        return created;
+    }
+
+    /**
+     * route가 새로 등록될 때 호출될 리스너를 추가합니다. 이미 등록된 route에 대해서도 바로 호출합니다.
+     *
+     * <p>메트릭 등록처럼 같은 route로 여러 번 호출되어도 안전한 작업에 사용합니다. 리스너 추가와 동시에 route가
+     * 등록되면 해당 route로 두 번 호출될 수 있습니다.</p>
+     *
+     * @param listener (route, 통계)를 받는 리스너
+     */
+    public void addRouteListener(BiConsumer<String, RouteStats> listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException(ValidationMessages.cannotBeNull("Route listener"));
+        }
+        routeListeners.add(listener);
+        routes.forEach(listener);
+    }
+
+    /**
+     * 지금까지 호출한 route별 통계 (읽기 전용)
+     */
+    public Map<String, RouteStats> getRoutes() {
+        return Collections.unmodifiableMap(routes);
+    }
+
+    /**
+     * 엔드포인트의 circuit breaker를 반환합니다.
+     *
+     * @return circuit breaker, 설정되지 않았으면 null
+     */
+    public KeycloakCircuitBreaker circuitBreaker(Endpoint endpoint) {
+        return circuitBreakers.get(endpoint);
+    }
+
+    /**
+     * 엔드포인트별 circuit breaker (읽기 전용, 설정되지 않았으면 비어 있음)
+     */
+    public Map<Endpoint, KeycloakCircuitBreaker> getCircuitBreakers() {
+        return Collections.unmodifiableMap(circuitBreakers);
+    }
+
+    /**
+     * Bearer 토큰으로 GET 요청을 비동기로 보냅니다.
+     *
+     * @param uri 요청 URL
+     * @param bearerToken Authorization 헤더에 담을 토큰
+     * @return 응답 (연결 오류, 타임아웃, 거부된 호출은 예외로 완료)
+     */
+    public CompletableFuture<HttpResponse<String>> getAsync(URI uri, String bearerToken) {
+        java.net.http.HttpRequest request = java.net.http.HttpRequest.newBuilder(uri)
+            .timeout(readTimeout)
+            .header("Authorization", "Bearer " + bearerToken)
+            .header("Accept", "application/json")
+            .GET()
+            .build();
+        return sendAsync(request, null);
+    }
+
+    /**
+     * form 본문으로 POST 요청을 비동기로 보냅니다.
+     *
+     * @param uri 요청 URL
+     * @param form {@code application/x-www-form-urlencoded}로 인코딩된 본문
+     * @return 응답 (연결 오류, 타임아웃, 거부된 호출은 예외로 완료)
+     */
+    public CompletableFuture<HttpResponse<String>> postFormAsync(URI uri, String form) {
+        byte[] body = form.getBytes(StandardCharsets.UTF_8);
+        java.net.http.HttpRequest request = java.net.http.HttpRequest.newBuilder(uri)
+            .timeout(readTimeout)
+            .header("Content-Type", "application/x-www-form-urlencoded")
+            .header("Accept", "application/json")
+            .POST(java.net.http.HttpRequest.BodyPublishers.ofByteArray(body))
+            .build();
+        return sendAsync(request, body);
+    }
+
+    private CompletableFuture<HttpResponse<String>> sendAsync(java.net.http.HttpRequest request, byte[] body) {
+        Endpoint endpoint = Endpoint.of(request.uri(), body);
+        KeycloakCircuitBreaker circuitBreaker = endpoint != null ? circuitBreakers.get(endpoint) : null;
+        if (circuitBreaker != null) {
+            try {
+                circuitBreaker.acquire();
+            } catch (KeycloakCallNotPermittedException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        return acquirePermitAsync()
+            .handle((ignored, error) -> {
+                if (error != null) {
+                    // 로컬 연결 한도로 보내지 못한 호출은 Keycloak 장애가 아니므로 결과를 기록하지 않음
+                    if (circuitBreaker != null) {
+                        circuitBreaker.release();
+                    }
+                    return CompletableFuture.<HttpResponse<String>>failedFuture(
+                        new ConnectionLimitException(maxConnections, request.uri()));
+                }
+                return send(request, circuitBreaker);
+            })
+            .thenCompose(Function.identity());
+    }
+
+    private CompletableFuture<HttpResponse<String>> send(java.net.http.HttpRequest request,
+                                                         KeycloakCircuitBreaker circuitBreaker) {
+        RouteStats stats = route(routeOf(request.uri()));
+        stats.inFlight.incrementAndGet();
+        long start = System.nanoTime();
+        CompletableFuture<HttpResponse<String>> response;
+        try {
+            response = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+        } catch (RuntimeException e) {
+            response = CompletableFuture.failedFuture(e);
+        }
+        return response.whenComplete((result, error) -> {
+            boolean failed = error != null || result.statusCode() >= 500;
+            if (failed) {
+                stats.failures.increment();
+            }
+            stats.requests.increment();
+            stats.totalTimeNanos.add(System.nanoTime() - start);
+            stats.inFlight.decrementAndGet();
+            releasePermit();
+            if (circuitBreaker != null) {
+                if (failed) {
+                    circuitBreaker.onFailure();
+                } else {
+                    circuitBreaker.onSuccess();
+                }
+            }
+        });
+    }
+
+    /**
+     * 연결 자리를 비동기로 얻습니다. 자리가 없으면 대기열에 넣고, 연결 타임아웃 안에 자리가 나지 않으면 예외로 완료합니다.
+     */
+    private CompletableFuture<Void> acquirePermitAsync() {
+        if (permits.tryAcquire()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Void> waiter = new CompletableFuture<>();
+        pendingPermits.add(waiter);
+        // 대기열에 넣는 사이에 반환된 자리가 있으면 바로 넘겨줌
+        drainPendingPermits();
+        return waiter.orTimeout(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void releasePermit() {
+        permits.release();
+        drainPendingPermits();
+    }
+
+    /**
+     * 남은 자리를 대기 중인 비동기 요청에 넘겨줍니다. 이미 타임아웃된 요청의 자리는 바로 반환합니다.
+     */
+    private void drainPendingPermits() {
+        while (!pendingPermits.isEmpty() && permits.tryAcquire()) {
+            CompletableFuture<Void> waiter = pendingPermits.poll();
+            if (waiter == null) {
+                permits.release();
+                return;
+            }
+            if (!waiter.complete(null)) {
+                permits.release();
+            }
+        }
+    }
+
+    /**
+     * URL의 route 이름({@code scheme://host:port})을 반환합니다.
+     */
+    public static String routeOf(URI uri) {
+        int port = uri.getPort();
+        if (port < 0) {
+            port = "https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80;
+        }
+        return uri.getScheme() + "://" + uri.getHost() + ":" + port;
+    }
+
+    /**
+     * circuit breaker를 적용하는 Keycloak 엔드포인트
+     */
+    public enum Endpoint {
+        TOKEN("token"),
+        USERINFO("userinfo"),
+        INTROSPECTION("introspection"),
+        AUTHORIZATION("authorization");
+
+        private static final String UMA_TICKET_GRANT = "grant-type%3Auma-ticket";
+
+        private final String name;
+
+        Endpoint(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * 요청 경로와 본문으로 엔드포인트를 구분합니다. UMA ticket grant의 token 요청은 authorization으로 봅니다.
+         *
+         * @return 엔드포인트, circuit breaker 대상이 아니면(JWKS, Admin API 등) null
+         */
+        static Endpoint of(URI uri, byte[] body) {
+            String path = uri.getPath();
+            if (path == null) {
+                return null;
+            }
+            if (path.endsWith("/token/introspect")) {
+                return INTROSPECTION;
+            }
+            if (path.endsWith("/userinfo")) {
+                return USERINFO;
+            }
+            if (path.endsWith("/token")) {
+                return body != null && new String(body, StandardCharsets.UTF_8).contains(UMA_TICKET_GRANT)
+                    ? AUTHORIZATION
+                    : TOKEN;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 엔드포인트별 circuit breaker를 적용하는 인터셉터. 연결 수 제한보다 먼저 실행되어 열린 circuit은 바로 거부합니다.
+     */
+    private final class CircuitBreakerInterceptor implements ClientHttpRequestInterceptor {
+
+        @Override
+        public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+                throws IOException {
+            Endpoint endpoint = Endpoint.of(request.getURI(), body);
+            KeycloakCircuitBreaker circuitBreaker = endpoint != null ? circuitBreakers.get(endpoint) : null;
+            if (circuitBreaker == null) {
+                return execution.execute(request, body);
+            }
+            circuitBreaker.acquire();
+            boolean sent = true;
+            boolean failed = true;
+            try {
+                ClientHttpResponse response = execution.execute(request, body);
+                failed = response.getStatusCode().is5xxServerError();
+                return response;
+            } catch (ConnectionLimitException e) {
+                sent = false;
+                throw e;
+            } finally {
+                if (!sent) {
+                    // 로컬 연결 한도로 보내지 못한 호출은 Keycloak 장애가 아니므로 결과를 기록하지 않음
+                    circuitBreaker.release();
+                } else if (failed) {
+                    circuitBreaker.onFailure();
+                } else {
+                    circuitBreaker.onSuccess();
+                }
+            }
+        }
+    }
+
+    /**
+     * 동시 요청 수를 제한하고 route별 통계를 기록하는 인터셉터
+     */
+    private final class RouteInterceptor implements ClientHttpRequestInterceptor {
+
+        @Override
+        public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+                throws IOException {
+            RouteStats stats = route(routeOf(request.getURI()));
+            acquire(request);
+            stats.inFlight.incrementAndGet();
+            long start = System.nanoTime();
+            try {
+                ClientHttpResponse response = execution.execute(request, body);
+                if (response.getStatusCode().is5xxServerError()) {
+                    stats.failures.increment();
+                }
+                return response;
+            } catch (IOException | RuntimeException e) {
+                stats.failures.increment();
+                throw e;
+            } finally {
+                stats.requests.increment();
+                stats.totalTimeNanos.add(System.nanoTime() - start);
+                stats.inFlight.decrementAndGet();
+                releasePermit();
+            }
+        }
+
+        private void acquire(HttpRequest request) {
+            try {
+                if (!permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                    throw new ConnectionLimitException(maxConnections, request.getURI());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ResourceAccessException("Interrupted while waiting for a Keycloak connection");
+            }
+        }
+    }
+
+    /**
+     * 연결 타임아웃 안에 연결 자리를 얻지 못해 요청을 보내지 못한 경우
+     */
+    private static final class ConnectionLimitException extends ResourceAccessException {
+
+        ConnectionLimitException(int maxConnections, URI uri) {
+            super("Keycloak connection limit (" + maxConnections + ") reached for " + uri.getHost());
+        }
+    }
+
+    /**
+     * route별 호출 통계
+     */
+    public static final class RouteStats {
+
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder totalTimeNanos = new LongAdder();
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        /**
+         * 완료된 요청 수
+         */
+        public long getRequests() {
+            return requests.sum();
+        }
+
+        /**
+         * 연결 오류, 타임아웃, 5xx 응답 수
+         */
+        public long getFailures() {
+            return failures.sum();
+        }
+
+        /**
+         * 완료된 요청의 누적 처리 시간 (나노초)
+         */
+        public long getTotalTimeNanos() {
+            return totalTimeNanos.sum();
+        }
+
+        /**
+         * 처리 중인 요청 수
+         */
+        public int getInFlight() {
+            return inFlight.get();
+        }
+    }
+}
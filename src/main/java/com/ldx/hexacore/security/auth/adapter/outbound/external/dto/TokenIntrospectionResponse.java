@@ -1,7 +1,12 @@
 package com.ldx.hexacore.security.auth.adapter.outbound.external.dto;
 
+import com.fasterxml.jackson.annotation.JsonAnySetter;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * Keycloak 토큰 검증(introspection) 응답
  */
@@ -22,6 +27,8 @@ public class TokenIntrospectionResponse {
     @JsonProperty("username")
     private String username;
     
+    private final Map<String, Object> otherClaims = new LinkedHashMap<>();
+    
     public boolean isActive() {
         return active;
     }
@@ -61,4 +68,31 @@ public class TokenIntrospectionResponse {
     public void setUsername(String username) {
         this.username = username;
     }
-}
\ No newline at end of file
+    
+    @JsonAnySetter
+    public void setOtherClaim(String name, Object value) {
+        otherClaims.put(name, value);
+    }
+    
+    /**
+     * introspection 응답의 모든 클레임 (active, exp, iat, sub, username 및 그 외 응답 필드)
+     *
+     * @return 불변 클레임 맵
+     */
+    public Map<String, Object> getClaims() {
+        Map<String, Object> claims = new LinkedHashMap<>();
+        claims.put("active", active);
+        putIfNotNull(claims, "exp", exp);
+        putIfNotNull(claims, "iat", iat);
+        putIfNotNull(claims, "sub", subject);
+        putIfNotNull(claims, "username", username);
+        otherClaims.forEach(claims::putIfAbsent);
+        return Collections.unmodifiableMap(claims);
+    }
+    
+    private static void putIfNotNull(Map<String, Object> claims, String name, Object value) {
+        if (value != null) {
+            claims.put(name, value);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.ldx.hexacore.security.auth.adapter.outbound.token.cache;
+
+import com.ldx.hexacore.security.auth.application.command.port.out.AsyncTokenProvider;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenProvider;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenValidationResult;
+import com.ldx.hexacore.security.auth.domain.vo.Credentials;
+import com.ldx.hexacore.security.auth.domain.vo.Token;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 비동기 검증 결과도 캐싱하는 {@link CachingTokenProvider}
+ *
+ * <p>위임 대상이 {@link AsyncTokenProvider}(Keycloak 원격 검증 등)일 때 사용합니다. 감싼 뒤에도
+ * {@link AsyncTokenProvider}로 남아 리액티브 필터가 이벤트 루프를 막지 않고 검증할 수 있습니다.
+ * 캐시는 동기 검증과 함께 사용하며, 캐시 미적중이면 위임 대상의 비동기 검증이 끝난 뒤 저장합니다.</p>
+ */
+public class AsyncCachingTokenProvider extends CachingTokenProvider implements AsyncTokenProvider {
+
+    private final AsyncTokenProvider asyncDelegate;
+
+    /**
+     * @param delegate {@link AsyncTokenProvider}도 구현한 토큰 제공자
+     * @param maximumSize 최대 엔트리 수
+     * @param maximumTtl 엔트리 최대 TTL (토큰 만료 시각이 더 이르면 그쪽을 따름)
+     * @param recordStats 적중/미적중 통계 수집 여부
+     */
+    public AsyncCachingTokenProvider(TokenProvider delegate, long maximumSize, Duration maximumTtl,
+                                     boolean recordStats) {
+        super(delegate, maximumSize, maximumTtl, recordStats);
+        if (!(delegate instanceof AsyncTokenProvider asyncTokenProvider)) {
+            throw new IllegalArgumentException("Delegate token provider must implement AsyncTokenProvider");
+        }
+        this.asyncDelegate = asyncTokenProvider;
+    }
+
+    @Override
+    public CompletableFuture<Token> issueTokenAsync(Credentials credentials) {
+        return asyncDelegate.issueTokenAsync(credentials);
+    }
+
+    @Override
+    public CompletableFuture<TokenValidationResult> validateTokenAsync(String accessToken) {
+        return lookupAsync(accessToken, () -> asyncDelegate.validateTokenAsync(accessToken));
+    }
+
+    @Override
+    public CompletableFuture<Token> refreshTokenAsync(String refreshToken) {
+        return asyncDelegate.refreshTokenAsync(refreshToken);
+    }
+}
@@ -0,0 +1,49 @@
+package com.ldx.hexacore.security.auth.adapter.outbound.token.cache;
+
+import com.ldx.hexacore.security.auth.application.command.port.out.AsyncTokenProvider;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenProvider;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenValidationResult;
+import com.ldx.hexacore.security.auth.domain.vo.Credentials;
+import com.ldx.hexacore.security.auth.domain.vo.Token;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 비동기 검증도 합치는 {@link CoalescingTokenProvider}
+ *
+ * <p>위임 대상이 {@link AsyncTokenProvider}(Keycloak 원격 검증 등)일 때 사용합니다. 감싼 뒤에도
+ * {@link AsyncTokenProvider}로 남아 리액티브 필터가 이벤트 루프를 막지 않고 검증할 수 있습니다.
+ * 진행 중인 검증을 기다리는 요청도 스레드를 점유하지 않으며, 대기 시간을 초과하면 직접 검증합니다.</p>
+ */
+public class AsyncCoalescingTokenProvider extends CoalescingTokenProvider implements AsyncTokenProvider {
+
+    private final AsyncTokenProvider asyncDelegate;
+
+    /**
+     * @param delegate {@link AsyncTokenProvider}도 구현한 토큰 제공자
+     * @param waitTimeout 진행 중인 검증 결과를 기다리는 최대 시간
+     */
+    public AsyncCoalescingTokenProvider(TokenProvider delegate, Duration waitTimeout) {
+        super(delegate, waitTimeout);
+        if (!(delegate instanceof AsyncTokenProvider asyncTokenProvider)) {
+            throw new IllegalArgumentException("Delegate token provider must implement AsyncTokenProvider");
+        }
+        this.asyncDelegate = asyncTokenProvider;
+    }
+
+    @Override
+    public CompletableFuture<Token> issueTokenAsync(Credentials credentials) {
+        return asyncDelegate.issueTokenAsync(credentials);
+    }
+
+    @Override
+    public CompletableFuture<TokenValidationResult> validateTokenAsync(String accessToken) {
+        return coalesceAsync(accessToken, () -> asyncDelegate.validateTokenAsync(accessToken));
+    }
+
+    @Override
+    public CompletableFuture<Token> refreshTokenAsync(String refreshToken) {
+        return asyncDelegate.refreshTokenAsync(refreshToken);
+    }
+}
@@ -0,0 +1,320 @@
+package com.ldx.hexacore.security.auth.adapter.outbound.token.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.ldx.hexacore.security.auth.application.command.port.out.AsyncTokenProvider;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenProvider;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenProviderException;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenProviderType;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenValidationContext;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenValidationResult;
+import com.ldx.hexacore.security.auth.domain.vo.Credentials;
+import com.ldx.hexacore.security.auth.domain.vo.Token;
+import com.ldx.hexacore.security.util.JwtPayloadReader;
+import com.ldx.hexacore.security.util.TokenFingerprint;
+import com.ldx.hexacore.security.util.TokenFingerprinter;
+import com.ldx.hexacore.security.util.ValidationMessages;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 검증 결과를 캐싱하는 TokenProvider 데코레이터
+ *
+ * <p>같은 액세스 토큰이 수명 동안 반복해서 제출되는 경우 서명 검증이나 원격 호출을 반복하지 않도록
+ * 유효한 {@link TokenValidationResult}를 토큰 지문({@link TokenFingerprint}) 키로 보관합니다.</p>
+ *
+ * <ul>
+ *   <li>엔트리 TTL은 설정된 최대 TTL과 토큰 만료 시각 중 더 이른 쪽을 따릅니다.</li>
+ *   <li>만료 시각을 알 수 없는 결과와 무효 결과는 캐싱하지 않습니다.</li>
+ *   <li>리소스 권한 체크가 필요한 컨텍스트 검증은 요청 URI에 따라 결과가 달라지므로 항상 위임합니다.</li>
+ *   <li>토큰 발급과 갱신은 그대로 위임합니다.</li>
+ * </ul>
+ *
+ * <p>위임 대상이 {@link AsyncTokenProvider}이면 {@link #decorate}가 비동기 검증도 캐싱하는
+ * {@link AsyncCachingTokenProvider}를 반환합니다.</p>
+ */
+public class CachingTokenProvider implements TokenProvider, AutoCloseable {
+
+    private final TokenProvider delegate;
+    private final Cache<TokenFingerprint, CachedResult> cache;
+    private final TokenFingerprinter fingerprinter;
+    private final Duration maximumTtl;
+    private final Clock clock;
+
+    /**
+     * 캐싱 데코레이터를 생성합니다.
+     *
+     * @param delegate 실제 검증을 수행할 토큰 제공자
+     * @param maximumSize 최대 엔트리 수
+     * @param maximumTtl 엔트리 최대 TTL (토큰 만료 시각이 더 이르면 그쪽을 따름)
+     * @param recordStats 적중/미적중 통계 수집 여부
+     */
+    public CachingTokenProvider(TokenProvider delegate, long maximumSize, Duration maximumTtl, boolean recordStats) {
+        this(delegate, maximumSize, maximumTtl, recordStats, Ticker.systemTicker(), Clock.systemUTC());
+    }
+
+    /**
+     * 위임 대상에 맞는 캐싱 데코레이터를 생성합니다. 위임 대상이 {@link AsyncTokenProvider}이면
+     * {@link AsyncCachingTokenProvider}를 반환합니다.
+     *
+     * @param delegate 실제 검증을 수행할 토큰 제공자
+     * @param maximumSize 최대 엔트리 수
+     * @param maximumTtl 엔트리 최대 TTL (토큰 만료 시각이 더 이르면 그쪽을 따름)
+     * @param recordStats 적중/미적중 통계 수집 여부
+     * @return 캐싱 데코레이터
+     */
+    public static CachingTokenProvider decorate(TokenProvider delegate, long maximumSize, Duration maximumTtl,
+                                                boolean recordStats) {
+        return delegate instanceof AsyncTokenProvider
+            ? new AsyncCachingTokenProvider(delegate, maximumSize, maximumTtl, recordStats)
+            : new CachingTokenProvider(delegate, maximumSize, maximumTtl, recordStats);
+    }
+
+    CachingTokenProvider(TokenProvider delegate, long maximumSize, Duration maximumTtl, boolean recordStats,
+                         Ticker ticker, Clock clock) {
+        if (delegate == null) {
+            throw new IllegalArgumentException(ValidationMessages.cannotBeNull("Delegate token provider"));
+        }
+        if (maximumTtl == null || maximumTtl.isNegative() || maximumTtl.isZero()) {
+            throw new IllegalArgumentException(ValidationMessages.mustBePositive("Maximum TTL"));
+        }
+        this.delegate = delegate;
+        this.maximumTtl = maximumTtl;
+        this.clock = clock;
+        this.fingerprinter = new TokenFingerprinter();
+
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .ticker(ticker);
+        if (recordStats) {
+            builder.recordStats();
+        }
+        this.cache = builder
+            .expireAfter(new ExpiresAtExpiry())
+            .build();
+    }
+
+    @Override
+    public Token issueToken(Credentials credentials) throws TokenProviderException {
+        return delegate.issueToken(credentials);
+    }
+
+    @Override
+    public TokenValidationResult validateToken(String accessToken) throws TokenProviderException {
+        return lookup(accessToken, false, () -> delegate.validateToken(accessToken));
+    }
+
+    @Override
+    public TokenValidationResult validateTokenWithContext(String accessToken, TokenValidationContext context)
+            throws TokenProviderException {
+        return lookup(accessToken, requiresResourceCheck(context),
+            () -> delegate.validateTokenWithContext(accessToken, context));
+    }
+
+    @Override
+    public TokenValidationResult verifyToken(String accessToken) throws TokenProviderException {
+        return lookup(accessToken, false, () -> delegate.verifyToken(accessToken));
+    }
+
+    @Override
+    public TokenValidationResult verifyTokenWithContext(String accessToken, TokenValidationContext context)
+            throws TokenProviderException {
+        return lookup(accessToken, requiresResourceCheck(context),
+            () -> delegate.verifyTokenWithContext(accessToken, context));
+    }
+
+    @Override
+    public Token refreshToken(String refreshToken) throws TokenProviderException {
+        return delegate.refreshToken(refreshToken);
+    }
+
+    @Override
+    public void revokeRefreshToken(String refreshToken) throws TokenProviderException {
+        delegate.revokeRefreshToken(refreshToken);
+    }
+
+    @Override
+    public TokenProviderType getProviderType() {
+        return delegate.getProviderType();
+    }
+
+    /**
+     * 캐시 적중/미적중 통계를 반환합니다.
+     *
+     * <p>통계 수집이 비활성화된 경우 모든 값이 0입니다.</p>
+     *
+     * @return 캐시 통계
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * 현재 캐시된 엔트리 수의 추정치를 반환합니다.
+     *
+     * @return 엔트리 수 추정치
+     */
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * 캐시된 모든 검증 결과를 제거합니다.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * 위임 대상이 자원을 가진 경우 함께 정리합니다.
+     */
+    @Override
+    public void close() {
+        cache.invalidateAll();
+        closeDelegate(delegate);
+    }
+
+    /**
+     * 위임 대상이 {@link AutoCloseable}이면 닫습니다. 인터럽트되면 인터럽트 상태를 복원하고, 그 외 checked 예외는
+     * {@link IllegalStateException}으로 감싸서 던집니다.
+     */
+    static void closeDelegate(TokenProvider delegate) {
+        if (!(delegate instanceof AutoCloseable closeable)) {
+            return;
+        }
+        try {
+            closeable.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to close delegate token provider", e);
+        }
+    }
+
+    /**
+     * 감싸고 있는 실제 토큰 제공자를 반환합니다.
+     *
+     * @return 위임 대상 토큰 제공자
+     */
+    public TokenProvider getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * 메트릭 바인딩 등 외부 연동을 위해 내부 캐시를 노출합니다.
+     *
+     * @return 내부 Caffeine 캐시
+     */
+    public Cache<TokenFingerprint, CachedResult> getCache() {
+        return cache;
+    }
+
+    /**
+     * 캐시된 결과가 있으면 반환하고, 없으면 위임 대상으로 검증한 뒤 유효한 결과를 저장합니다.
+     */
+    private TokenValidationResult lookup(String accessToken, boolean bypass, Supplier<TokenValidationResult> validation) {
+        if (bypass || accessToken == null || accessToken.isBlank()) {
+            return validation.get();
+        }
+
+        TokenFingerprint key = fingerprinter.fingerprint(accessToken);
+        CachedResult cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached.result();
+        }
+
+        TokenValidationResult result = validation.get();
+        store(key, accessToken, result);
+        return result;
+    }
+
+    /**
+     * 캐시된 결과가 있으면 완료된 future로 반환하고, 없으면 위임 대상의 비동기 검증이 끝난 뒤 유효한 결과를 저장합니다.
+     */
+    CompletableFuture<TokenValidationResult> lookupAsync(String accessToken,
+                                                         Supplier<CompletableFuture<TokenValidationResult>> validation) {
+        if (accessToken == null || accessToken.isBlank()) {
+            return validation.get();
+        }
+
+        TokenFingerprint key = fingerprinter.fingerprint(accessToken);
+        CachedResult cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached.result());
+        }
+
+        return validation.get().thenApply(result -> {
+            store(key, accessToken, result);
+            return result;
+        });
+    }
+
+    private static boolean requiresResourceCheck(TokenValidationContext context) {
+        return context != null && context.isCheckResourcePermission();
+    }
+
+    private void store(TokenFingerprint key, String accessToken, TokenValidationResult result) {
+        if (result == null || !result.valid()) {
+            return;
+        }
+
+        Instant expiresAt = result.expiresAt() != null
+            ? result.expiresAt()
+            : JwtPayloadReader.readExpiration(accessToken);
+        if (expiresAt == null) {
+            // 만료 시각을 알 수 없으면 토큰 수명을 초과해 캐싱할 위험이 있으므로 저장하지 않음
+            return;
+        }
+
+        Duration ttl = Duration.between(clock.instant(), expiresAt);
+        if (ttl.compareTo(maximumTtl) > 0) {
+            ttl = maximumTtl;
+        }
+        if (ttl.isNegative() || ttl.isZero()) {
+            return;
+        }
+
+        cache.put(key, new CachedResult(result, ttl.toNanos()));
+    }
+
+    /**
+     * 캐시 엔트리
+     *
+     * @param result 캐시된 검증 결과
+     * @param ttlNanos 저장 시점에 계산된 TTL (나노초)
+     */
+    public record CachedResult(TokenValidationResult result, long ttlNanos) {
+    }
+
+    /**
+     * 엔트리별 TTL을 적용하는 Expiry. 갱신/조회 시에는 남은 수명을 그대로 유지합니다.
+     */
+    private static final class ExpiresAtExpiry implements Expiry<TokenFingerprint, CachedResult> {
+
+        @Override
+        public long expireAfterCreate(TokenFingerprint key, CachedResult value, long currentTime) {
+            return value.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(TokenFingerprint key, CachedResult value,
+                                      long currentTime, long currentDuration) {
+            return value.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterRead(TokenFingerprint key, CachedResult value,
+                                    long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,300 @@
+package com.ldx.hexacore.security.auth.adapter.outbound.token.cache;
+
+import com.ldx.hexacore.security.auth.application.command.port.out.AsyncTokenProvider;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenProvider;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenProviderException;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenProviderType;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenValidationContext;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenValidationResult;
+import com.ldx.hexacore.security.auth.domain.vo.Credentials;
+import com.ldx.hexacore.security.auth.domain.vo.Token;
+import com.ldx.hexacore.security.util.TokenFingerprint;
+import com.ldx.hexacore.security.util.TokenFingerprinter;
+import com.ldx.hexacore.security.util.ValidationMessages;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 같은 토큰의 동시 검증을 하나로 합치는 TokenProvider 데코레이터
+ *
+ * <p>SPA가 같은 bearer 토큰으로 여러 API를 동시에 호출하면 제공자 호출(원격 userinfo 등)이 요청 수만큼 발생합니다.
+ * 이 데코레이터는 토큰 지문({@link TokenFingerprint})과 검증 방식이 같은 요청이 진행 중이면 새로 검증하지 않고
+ * 먼저 시작한 요청의 결과를 함께 사용합니다.</p>
+ *
+ * <ul>
+ *   <li>결과는 진행 중인 동안에만 공유하며 완료 후에는 보관하지 않습니다. 보관이 필요하면
+ *       {@link CachingTokenProvider}와 함께 사용합니다.</li>
+ *   <li>대기는 설정된 시간으로 제한되며, 초과하면 대기하던 요청이 직접 검증합니다.</li>
+ *   <li>먼저 시작한 요청이 예외로 끝나면 대기하던 요청도 같은 예외를 받습니다.</li>
+ *   <li>리소스 권한 체크가 필요한 컨텍스트 검증은 요청 URI에 따라 결과가 달라지므로 항상 위임합니다.</li>
+ * </ul>
+ *
+ * <p>위임 대상이 {@link AsyncTokenProvider}이면 {@link #decorate}가 비동기 검증도 합치는
+ * {@link AsyncCoalescingTokenProvider}를 반환합니다.</p>
+ */
+public class CoalescingTokenProvider implements TokenProvider, AutoCloseable {
+
+    private final TokenProvider delegate;
+    private final Duration waitTimeout;
+    private final TokenFingerprinter fingerprinter;
+    private final ConcurrentMap<Key, CompletableFuture<TokenValidationResult>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder leaders = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+
+    /**
+     * @param delegate 실제 검증을 수행할 토큰 제공자
+     * @param waitTimeout 진행 중인 검증 결과를 기다리는 최대 시간
+     */
+    public CoalescingTokenProvider(TokenProvider delegate, Duration waitTimeout) {
+        if (delegate == null) {
+            throw new IllegalArgumentException(ValidationMessages.cannotBeNull("Delegate token provider"));
+        }
+        if (waitTimeout == null || waitTimeout.isNegative() || waitTimeout.isZero()) {
+            throw new IllegalArgumentException(ValidationMessages.mustBePositive("Wait timeout"));
+        }
+        this.delegate = delegate;
+        this.waitTimeout = waitTimeout;
+        this.fingerprinter = new TokenFingerprinter();
+    }
+
+    /**
+     * 위임 대상에 맞는 합치기 데코레이터를 생성합니다. 위임 대상이 {@link AsyncTokenProvider}이면
+     * {@link AsyncCoalescingTokenProvider}를 반환합니다.
+     *
+     * @param delegate 실제 검증을 수행할 토큰 제공자
+     * @param waitTimeout 진행 중인 검증 결과를 기다리는 최대 시간
+     * @return 합치기 데코레이터
+     */
+    public static CoalescingTokenProvider decorate(TokenProvider delegate, Duration waitTimeout) {
+        return delegate instanceof AsyncTokenProvider
+            ? new AsyncCoalescingTokenProvider(delegate, waitTimeout)
+            : new CoalescingTokenProvider(delegate, waitTimeout);
+    }
+
+    @Override
+    public Token issueToken(Credentials credentials) throws TokenProviderException {
+        return delegate.issueToken(credentials);
+    }
+
+    @Override
+    public TokenValidationResult validateToken(String accessToken) throws TokenProviderException {
+        return coalesce(accessToken, Operation.VALIDATE, false, () -> delegate.validateToken(accessToken));
+    }
+
+    @Override
+    public TokenValidationResult validateTokenWithContext(String accessToken, TokenValidationContext context)
+            throws TokenProviderException {
+        return coalesce(accessToken, Operation.VALIDATE_WITH_CONTEXT, requiresResourceCheck(context),
+            () -> delegate.validateTokenWithContext(accessToken, context));
+    }
+
+    @Override
+    public TokenValidationResult verifyToken(String accessToken) throws TokenProviderException {
+        return coalesce(accessToken, Operation.VERIFY, false, () -> delegate.verifyToken(accessToken));
+    }
+
+    @Override
+    public TokenValidationResult verifyTokenWithContext(String accessToken, TokenValidationContext context)
+            throws TokenProviderException {
+        return coalesce(accessToken, Operation.VERIFY_WITH_CONTEXT, requiresResourceCheck(context),
+            () -> delegate.verifyTokenWithContext(accessToken, context));
+    }
+
+    @Override
+    public Token refreshToken(String refreshToken) throws TokenProviderException {
+        return delegate.refreshToken(refreshToken);
+    }
+
+    @Override
+    public void revokeRefreshToken(String refreshToken) throws TokenProviderException {
+        delegate.revokeRefreshToken(refreshToken);
+    }
+
+    @Override
+    public TokenProviderType getProviderType() {
+        return delegate.getProviderType();
+    }
+
+    /**
+     * 직접 검증을 수행한 요청 수
+     */
+    public long getLeaderCount() {
+        return leaders.sum();
+    }
+
+    /**
+     * 진행 중인 검증 결과를 함께 사용한 요청 수
+     */
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    /**
+     * 대기 시간을 초과해 직접 검증한 요청 수
+     */
+    public long getTimeoutCount() {
+        return timeouts.sum();
+    }
+
+    /**
+     * 현재 진행 중인 검증 수
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * 감싸고 있는 실제 토큰 제공자를 반환합니다.
+     *
+     * @return 위임 대상 토큰 제공자
+     */
+    public TokenProvider getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * 위임 대상이 자원을 가진 경우 함께 정리합니다.
+     */
+    @Override
+    public void close() {
+        CachingTokenProvider.closeDelegate(delegate);
+    }
+
+    private TokenValidationResult coalesce(String accessToken, Operation operation, boolean bypass,
+                                           Supplier<TokenValidationResult> validation) {
+        if (bypass || accessToken == null || accessToken.isBlank()) {
+            return validation.get();
+        }
+
+        Key key = new Key(fingerprinter.fingerprint(accessToken), operation);
+        CompletableFuture<TokenValidationResult> pending = new CompletableFuture<>();
+        CompletableFuture<TokenValidationResult> existing = inFlight.putIfAbsent(key, pending);
+        if (existing != null) {
+            return await(existing, validation);
+        }
+
+        leaders.increment();
+        try {
+            TokenValidationResult result = validation.get();
+            pending.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            pending.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, pending);
+        }
+    }
+
+    private TokenValidationResult await(CompletableFuture<TokenValidationResult> existing,
+                                        Supplier<TokenValidationResult> validation) {
+        try {
+            TokenValidationResult result = existing.get(waitTimeout.toNanos(), TimeUnit.NANOSECONDS);
+            coalesced.increment();
+            return result;
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            return validation.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw TokenProviderException.providerUnavailable(delegate.getProviderType().name(), e);
+        } catch (ExecutionException e) {
+            coalesced.increment();
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw TokenProviderException.tokenValidationFailed(delegate.getProviderType().name(), cause);
+        }
+    }
+
+    /**
+     * 같은 토큰의 검증이 진행 중이면 그 결과를 함께 사용하고, 없으면 위임 대상의 비동기 검증을 시작합니다.
+     * 동기 {@link #validateToken}과 같은 키를 사용하므로 동기/비동기 요청도 서로 합쳐집니다.
+     */
+    CompletableFuture<TokenValidationResult> coalesceAsync(String accessToken,
+                                                           Supplier<CompletableFuture<TokenValidationResult>> validation) {
+        if (accessToken == null || accessToken.isBlank()) {
+            return validation.get();
+        }
+
+        Key key = new Key(fingerprinter.fingerprint(accessToken), Operation.VALIDATE);
+        CompletableFuture<TokenValidationResult> pending = new CompletableFuture<>();
+        CompletableFuture<TokenValidationResult> existing = inFlight.putIfAbsent(key, pending);
+        if (existing != null) {
+            return awaitAsync(existing, validation);
+        }
+
+        leaders.increment();
+        CompletableFuture<TokenValidationResult> result;
+        try {
+            result = validation.get();
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, pending);
+            pending.completeExceptionally(e);
+            throw e;
+        }
+        return result.whenComplete((value, failure) -> {
+            inFlight.remove(key, pending);
+            if (failure != null) {
+                pending.completeExceptionally(unwrap(failure));
+            } else {
+                pending.complete(value);
+            }
+        });
+    }
+
+    /**
+     * 스레드를 점유하지 않고 진행 중인 검증을 기다리며, 대기 시간을 초과하면 직접 검증합니다.
+     */
+    private CompletableFuture<TokenValidationResult> awaitAsync(
+            CompletableFuture<TokenValidationResult> existing,
+            Supplier<CompletableFuture<TokenValidationResult>> validation) {
+        return existing.copy()
+            .orTimeout(waitTimeout.toNanos(), TimeUnit.NANOSECONDS)
+            .handle((result, failure) -> {
+                Throwable cause = failure != null ? unwrap(failure) : null;
+                if (cause instanceof TimeoutException) {
+                    timeouts.increment();
+                    return validation.get();
+                }
+                coalesced.increment();
+                return cause != null
+                    ? CompletableFuture.<TokenValidationResult>failedFuture(cause)
+                    : CompletableFuture.completedFuture(result);
+            })
+            .thenCompose(Function.identity());
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+    }
+
+    private static boolean requiresResourceCheck(TokenValidationContext context) {
+        return context != null && context.isCheckResourcePermission();
+    }
+
+    private enum Operation {
+        VALIDATE,
+        VALIDATE_WITH_CONTEXT,
+        VERIFY,
+        VERIFY_WITH_CONTEXT
+    }
+
+    private record Key(TokenFingerprint fingerprint, Operation operation) {
+    }
+}
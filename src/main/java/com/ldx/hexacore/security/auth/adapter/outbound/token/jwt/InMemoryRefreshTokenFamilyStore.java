@@ -0,0 +1,343 @@
+package com.ldx.hexacore.security.auth.adapter.outbound.token.jwt;
+
+import com.ldx.hexacore.security.util.ValidationMessages;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 메모리 기반 리프레시 토큰 family 저장소 (기본 구현)
+ *
+ * <ul>
+ *   <li>family 상태(마지막 세대 31비트, 폐기 여부 1비트, 만료 버킷 32비트)를 {@code long} 하나에 담아 family ID와 함께
+ *       stripe별 open addressing 배열에 저장합니다. 마지막 회전 시각(epoch 초)은 재사용 유예 판단을 위해 나란한 배열에
+ *       둡니다. family당 객체를 만들지 않으며, 배열 슬롯 24바이트(적재율 75% 이하)와 만료 버킷 목록의 8바이트만
+ *       사용합니다.</li>
+ *   <li>만료 시각은 버킷 단위로 올림해 보관하고, 버킷별 family ID 목록으로 만료된 버킷을 한 번에 정리합니다. 정리는
+ *       등록/회전 호출 중에 버킷이 바뀌었을 때 수행하므로 별도 스레드가 없습니다.</li>
+ *   <li>폐기된 family도 만료될 때까지 보관하여 같은 family의 토큰을 계속 거부합니다.</li>
+ *   <li>회전(또는 등록) 후 유예 시간 안에 직전 세대가 제시되면 {@link Rotation#GRACE}를 반환합니다. 유예 시간을 0으로
+ *       설정하면 직전 세대도 바로 재사용으로 처리합니다.</li>
+ * </ul>
+ *
+ * <p>프로세스 메모리에만 보관하므로 재시작하면 family 정보가 사라지고(다음 갱신에서 다시 등록), 인스턴스 간에는
+ * 공유되지 않습니다. 여러 인스턴스가 토큰을 갱신한다면 공유 저장소 구현을 사용하세요.</p>
+ */
+public class InMemoryRefreshTokenFamilyStore implements RefreshTokenFamilyStore {
+
+    static final Duration DEFAULT_BUCKET_SIZE = Duration.ofMinutes(1);
+    static final Duration DEFAULT_REUSE_GRACE = Duration.ofSeconds(5);
+
+    private static final int STRIPES = 16;
+    private static final int INITIAL_CAPACITY = 64;
+    private static final long EMPTY = 0L;
+    private static final long GENERATION_MASK = 0x7FFF_FFFFL;
+    private static final long REVOKED_BIT = 1L << 31;
+
+    private final long bucketSeconds;
+    private final long reuseGraceSeconds;
+    private final Clock clock;
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final ConcurrentSkipListMap<Long, LongBag> expiryBuckets = new ConcurrentSkipListMap<>();
+    private final AtomicLong sweptBucket = new AtomicLong(Long.MIN_VALUE);
+
+    public InMemoryRefreshTokenFamilyStore() {
+        this(DEFAULT_BUCKET_SIZE, DEFAULT_REUSE_GRACE, Clock.systemUTC());
+    }
+
+    /**
+     * @param bucketSize 만료 버킷 크기. family는 만료 후 최대 이 시간만큼 더 보관될 수 있습니다.
+     * @param reuseGrace 회전 후 직전 세대를 재사용으로 보지 않는 유예 시간 (초 단위, 0이면 유예 없음)
+     * @param clock 만료와 유예 판단에 사용할 시계
+     */
+    public InMemoryRefreshTokenFamilyStore(Duration bucketSize, Duration reuseGrace, Clock clock) {
+        if (bucketSize == null || bucketSize.getSeconds() < 1) {
+            throw new IllegalArgumentException(ValidationMessages.mustBePositive("Bucket size seconds"));
+        }
+        if (reuseGrace == null) {
+            throw new IllegalArgumentException(ValidationMessages.cannotBeNull("Reuse grace"));
+        }
+        if (reuseGrace.isNegative()) {
+            throw new IllegalArgumentException(
+                ValidationMessages.mustBeBetween("Reuse grace seconds", 0, Integer.MAX_VALUE));
+        }
+        if (clock == null) {
+            throw new IllegalArgumentException(ValidationMessages.cannotBeNull("Clock"));
+        }
+        this.bucketSeconds = bucketSize.getSeconds();
+        this.reuseGraceSeconds = reuseGrace.getSeconds();
+        this.clock = clock;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    @Override
+    public boolean register(long familyId, int generation, long expiresAtEpochSecond) {
+        requireFamilyId(familyId);
+        long now = clock.instant().getEpochSecond();
+        long nowBucket = timeBucketOf(now);
+        long bucket = expiryBucketOf(expiresAtEpochSecond);
+        Stripe stripe = stripeOf(familyId);
+        synchronized (stripe) {
+            int slot = stripe.find(familyId);
+            if (slot >= 0 && !isExpired(stripe.states[slot], nowBucket)) {
+                return false;
+            }
+            stripe.put(familyId, pack(generation, false, bucket), now);
+        }
+        trackExpiry(familyId, bucket);
+        sweepIfDue(nowBucket);
+        return true;
+    }
+
+    @Override
+    public Rotation rotate(long familyId, int presentedGeneration, long expiresAtEpochSecond) {
+        requireFamilyId(familyId);
+        long now = clock.instant().getEpochSecond();
+        long nowBucket = timeBucketOf(now);
+        long bucket = expiryBucketOf(expiresAtEpochSecond);
+        Stripe stripe = stripeOf(familyId);
+        Rotation rotation;
+        synchronized (stripe) {
+            int slot = stripe.find(familyId);
+            if (slot < 0) {
+                rotation = Rotation.UNKNOWN;
+            } else {
+                long state = stripe.states[slot];
+                if (isExpired(state, nowBucket)) {
+                    stripe.removeAt(slot);
+                    rotation = Rotation.UNKNOWN;
+                } else if ((state & REVOKED_BIT) != 0) {
+                    rotation = Rotation.REVOKED;
+                } else if (presentedGeneration == generationOf(state) - 1
+                        && now - stripe.rotatedAt[slot] < reuseGraceSeconds) {
+                    rotation = Rotation.GRACE;
+                } else if (presentedGeneration < generationOf(state)) {
+                    stripe.states[slot] = state | REVOKED_BIT;
+                    rotation = Rotation.REUSE_DETECTED;
+                } else {
+                    bucket = Math.max(bucket, bucketOf(state));
+                    stripe.states[slot] = pack(presentedGeneration + 1, false, bucket);
+                    stripe.rotatedAt[slot] = now;
+                    rotation = Rotation.ROTATED;
+                }
+            }
+        }
+        if (rotation == Rotation.ROTATED) {
+            trackExpiry(familyId, bucket);
+        }
+        sweepIfDue(nowBucket);
+        return rotation;
+    }
+
+    @Override
+    public void revoke(long familyId) {
+        requireFamilyId(familyId);
+        Stripe stripe = stripeOf(familyId);
+        synchronized (stripe) {
+            int slot = stripe.find(familyId);
+            if (slot >= 0) {
+                stripe.states[slot] |= REVOKED_BIT;
+            }
+        }
+    }
+
+    /**
+     * 보관 중인 family 수 (만료되었지만 아직 정리되지 않은 family 포함)
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * 만료 버킷이 바뀌었으면 만료된 버킷의 family를 정리합니다. 동시에 한 스레드만 수행합니다.
+     */
+    private void sweepIfDue(long nowBucket) {
+        long swept = sweptBucket.get();
+        if (nowBucket <= swept || !sweptBucket.compareAndSet(swept, nowBucket)) {
+            return;
+        }
+        ConcurrentNavigableMap<Long, LongBag> expired = expiryBuckets.headMap(nowBucket, true);
+        Map.Entry<Long, LongBag> entry;
+        while ((entry = expired.pollFirstEntry()) != null) {
+            for (long familyId : entry.getValue().toArray()) {
+                Stripe stripe = stripeOf(familyId);
+                synchronized (stripe) {
+                    int slot = stripe.find(familyId);
+                    // 회전으로 더 늦은 버킷으로 옮겨간 family는 그 버킷에서 정리
+                    if (slot >= 0 && isExpired(stripe.states[slot], nowBucket)) {
+                        stripe.removeAt(slot);
+                    }
+                }
+            }
+        }
+    }
+
+    private void trackExpiry(long familyId, long bucket) {
+        expiryBuckets.computeIfAbsent(bucket, key -> new LongBag()).add(familyId);
+    }
+
+    private long timeBucketOf(long epochSecond) {
+        return Math.floorDiv(epochSecond, bucketSeconds);
+    }
+
+    /**
+     * 만료 시각을 버킷 끝으로 올림합니다. 버킷이 현재 버킷 이하가 되면 만료된 것으로 봅니다.
+     */
+    private long expiryBucketOf(long expiresAtEpochSecond) {
+        return Math.max(0, Math.min(-Math.floorDiv(-expiresAtEpochSecond, bucketSeconds), 0xFFFF_FFFFL));
+    }
+
+    private Stripe stripeOf(long familyId) {
+        return stripes[(int) (mix(familyId) >>> 60) & (STRIPES - 1)];
+    }
+
+    private static boolean isExpired(long state, long nowBucket) {
+        return bucketOf(state) <= nowBucket;
+    }
+
+    private static long pack(int generation, boolean revoked, long bucket) {
+        return (bucket << 32) | (revoked ? REVOKED_BIT : 0L) | (generation & GENERATION_MASK);
+    }
+
+    private static int generationOf(long state) {
+        return (int) (state & GENERATION_MASK);
+    }
+
+    private static long bucketOf(long state) {
+        return state >>> 32;
+    }
+
+    private static void requireFamilyId(long familyId) {
+        if (familyId == EMPTY) {
+            throw new IllegalArgumentException(ValidationMessages.invalidFormat("Family ID", familyId));
+        }
+    }
+
+    private static long mix(long key) {
+        key = (key ^ (key >>> 33)) * 0xff51afd7ed558ccdL;
+        key = (key ^ (key >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return key ^ (key >>> 33);
+    }
+
+    /**
+     * family ID → 상태, 마지막 회전 시각을 linear probing으로 저장하는 배열 (ID 0은 빈 슬롯)
+     */
+    private static final class Stripe {
+        private long[] keys = new long[INITIAL_CAPACITY];
+        private long[] states = new long[INITIAL_CAPACITY];
+        private long[] rotatedAt = new long[INITIAL_CAPACITY];
+        private int size;
+
+        /**
+         * @return 슬롯 위치, 없으면 -1
+         */
+        int find(long key) {
+            int mask = keys.length - 1;
+            for (int slot = (int) mix(key) & mask; ; slot = (slot + 1) & mask) {
+                long current = keys[slot];
+                if (current == key) {
+                    return slot;
+                }
+                if (current == EMPTY) {
+                    return -1;
+                }
+            }
+        }
+
+        void put(long key, long state, long rotatedAtEpochSecond) {
+            int slot = find(key);
+            if (slot >= 0) {
+                states[slot] = state;
+                rotatedAt[slot] = rotatedAtEpochSecond;
+                return;
+            }
+            if ((size + 1) * 4L > keys.length * 3L) {
+                resize();
+            }
+            insert(keys, states, rotatedAt, key, state, rotatedAtEpochSecond);
+            size++;
+        }
+
+        /**
+         * 뒤따르는 엔트리를 당겨 채워 tombstone 없이 삭제합니다 (backward shift deletion).
+         */
+        void removeAt(int slot) {
+            int mask = keys.length - 1;
+            int hole = slot;
+            for (int next = (hole + 1) & mask; keys[next] != EMPTY; next = (next + 1) & mask) {
+                int home = (int) mix(keys[next]) & mask;
+                boolean homeInRange = hole <= next
+                    ? hole < home && home <= next
+                    : hole < home || home <= next;
+                if (!homeInRange) {
+                    keys[hole] = keys[next];
+                    states[hole] = states[next];
+                    rotatedAt[hole] = rotatedAt[next];
+                    hole = next;
+                }
+            }
+            keys[hole] = EMPTY;
+            states[hole] = 0L;
+            rotatedAt[hole] = 0L;
+            size--;
+        }
+
+        private void resize() {
+            long[] newKeys = new long[keys.length * 2];
+            long[] newStates = new long[keys.length * 2];
+            long[] newRotatedAt = new long[keys.length * 2];
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != EMPTY) {
+                    insert(newKeys, newStates, newRotatedAt, keys[i], states[i], rotatedAt[i]);
+                }
+            }
+            keys = newKeys;
+            states = newStates;
+            rotatedAt = newRotatedAt;
+        }
+
+        private static void insert(long[] keys, long[] states, long[] rotatedAt,
+                long key, long state, long rotatedAtEpochSecond) {
+            int mask = keys.length - 1;
+            int slot = (int) mix(key) & mask;
+            while (keys[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            states[slot] = state;
+            rotatedAt[slot] = rotatedAtEpochSecond;
+        }
+    }
+
+    /**
+     * 만료 버킷별 family ID 목록
+     */
+    private static final class LongBag {
+        private long[] values = new long[16];
+        private int size;
+
+        synchronized void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        synchronized long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.ldx.hexacore.security.auth.adapter.outbound.token.jwt;
+
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenProviderErrorCode;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenProviderException;
+import com.ldx.hexacore.security.util.PemKeys;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecureDigestAlgorithm;
+
+import java.security.Key;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * kid로 색인된 JWT 서명/검증 키 모음
+ *
+ * <p>HMAC(HS*)은 공유 secret 하나를 사용하고, 비대칭 알고리즘(RS*, PS*, ES*, EdDSA)은
+ * 서명용 개인 키 하나와 kid별 검증용 공개 키 여러 개를 가집니다.
+ * 새 키를 공개 키 목록에 먼저 배포한 뒤 서명 kid를 바꾸고, 이전 토큰이 모두 만료되면 이전 공개 키를 제거하는 방식으로
+ * 무중단 교체가 가능합니다.</p>
+ *
+ * <p>검증 시 키 조회는 kid 기준 해시 조회 한 번으로 끝납니다.
+ * 개인 키가 없으면 검증 전용으로 동작합니다.</p>
+ */
+final class JwtKeyring extends LocatorAdapter<Key> {
+
+    private static final String HMAC_PREFIX = "HS";
+
+    private final String algorithmId;
+    private final boolean hmac;
+    private final SecureDigestAlgorithm<? super PrivateKey, ?> signatureAlgorithm;
+    private final Key signingKey;
+    private final String signingKeyId;
+    private final Map<String, Key> verificationKeys;
+    private final Key defaultVerificationKey;
+
+    private JwtKeyring(String algorithmId, SecureDigestAlgorithm<? super PrivateKey, ?> signatureAlgorithm,
+                       Key signingKey, String signingKeyId, Map<String, Key> verificationKeys,
+                       Key defaultVerificationKey) {
+        this.algorithmId = algorithmId;
+        this.hmac = algorithmId.startsWith(HMAC_PREFIX);
+        this.signatureAlgorithm = signatureAlgorithm;
+        this.signingKey = signingKey;
+        this.signingKeyId = signingKeyId;
+        this.verificationKeys = verificationKeys;
+        this.defaultVerificationKey = defaultVerificationKey;
+    }
+
+    /**
+     * 설정으로부터 키 모음을 구성합니다.
+     *
+     * @param properties JWT 설정
+     * @return 키 모음
+     * @throws TokenProviderException 키 설정이 올바르지 않은 경우
+     */
+    static JwtKeyring from(JwtProperties properties) {
+        String algorithmId = properties.getAlgorithm() != null ? properties.getAlgorithm() : "HS256";
+        if (algorithmId.startsWith(HMAC_PREFIX)) {
+            return hmac(algorithmId, properties.getSecret(), properties.getKeyId());
+        }
+        return asymmetric(algorithmId, properties);
+    }
+
+    private static JwtKeyring hmac(String algorithmId, String secret, String keyId) {
+        if (secret == null) {
+            throw configurationError("Secret key is required for JWT token provider");
+        }
+        if (secret.length() < 32) {
+            throw configurationError("Secret key must be at least 32 characters long for security");
+        }
+
+        Key secretKey = Keys.hmacShaKeyFor(secret.getBytes());
+        Map<String, Key> keys = keyId != null ? Map.of(keyId, secretKey) : Collections.emptyMap();
+        return new JwtKeyring(algorithmId, null, secretKey, keyId, keys, secretKey);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static JwtKeyring asymmetric(String algorithmId, JwtProperties properties) {
+        SecureDigestAlgorithm<? super PrivateKey, ?> algorithm;
+        try {
+            algorithm = (SecureDigestAlgorithm<? super PrivateKey, ?>) Jwts.SIG.get().forKey(algorithmId);
+        } catch (IllegalArgumentException e) {
+            throw configurationError("Unsupported JWT algorithm: " + algorithmId);
+        }
+
+        String keyFamily = keyFamily(algorithmId);
+        Map<String, Key> keys = new HashMap<>();
+        properties.getPublicKeys().forEach((kid, pem) -> keys.put(kid, readPublicKey(keyFamily, pem)));
+        if (keys.isEmpty()) {
+            throw configurationError("At least one public key is required for " + algorithmId);
+        }
+
+        String keyId = properties.getKeyId();
+        PrivateKey privateKey = null;
+        if (properties.getPrivateKey() != null && !properties.getPrivateKey().isBlank()) {
+            if (keyId == null || !keys.containsKey(keyId)) {
+                throw configurationError("Key id of the private key must be listed in public keys: " + keyId);
+            }
+            privateKey = readPrivateKey(keyFamily, properties.getPrivateKey());
+        }
+
+        // 공개 키가 하나뿐이면 kid 없이 발급된 토큰도 그 키로 검증
+        Key defaultKey = keys.size() == 1 ? keys.values().iterator().next() : null;
+        return new JwtKeyring(algorithmId, algorithm, privateKey, keyId, Map.copyOf(keys), defaultKey);
+    }
+
+    /**
+     * 서명 키로 토큰에 서명합니다.
+     *
+     * @param builder 서명할 토큰 빌더
+     * @return 서명 및 kid 헤더가 설정된 빌더
+     * @throws TokenProviderException 서명 키가 없는 검증 전용 구성인 경우
+     */
+    JwtBuilder sign(JwtBuilder builder) {
+        if (signingKey == null) {
+            throw configurationError("Private key is not configured; this provider can only verify tokens");
+        }
+        if (signingKeyId != null) {
+            builder.header().keyId(signingKeyId);
+        }
+        if (hmac) {
+            // 기존 토큰과의 호환을 위해 secret 길이에 따라 HS256/384/512를 선택하던 방식을 유지
+            return builder.signWith(signingKey);
+        }
+        return builder.signWith((PrivateKey) signingKey, signatureAlgorithm);
+    }
+
+    /**
+     * 서명 키 보유 여부
+     */
+    boolean canSign() {
+        return signingKey != null;
+    }
+
+    @Override
+    protected Key locate(JwsHeader header) {
+        String tokenAlgorithm = header.getAlgorithm();
+        if (hmac) {
+            if (tokenAlgorithm == null || !tokenAlgorithm.startsWith(HMAC_PREFIX)) {
+                throw new JwtException("Unexpected signing algorithm: " + tokenAlgorithm);
+            }
+            // HMAC은 secret이 하나뿐이므로 kid와 관계없이 같은 secret으로 검증
+            return defaultVerificationKey;
+        }
+        if (!algorithmId.equals(tokenAlgorithm)) {
+            throw new JwtException("Unexpected signing algorithm: " + tokenAlgorithm);
+        }
+
+        String keyId = header.getKeyId();
+        Key key = keyId != null ? verificationKeys.get(keyId) : defaultVerificationKey;
+        if (key == null) {
+            throw new JwtException("Unknown signing key: " + keyId);
+        }
+        return key;
+    }
+
+    private static String keyFamily(String algorithmId) {
+        try {
+            return PemKeys.keyFamily(algorithmId);
+        } catch (IllegalArgumentException e) {
+            throw configurationError(e.getMessage());
+        }
+    }
+
+    private static PublicKey readPublicKey(String keyFamily, String pem) {
+        try {
+            return PemKeys.readPublicKey(keyFamily, pem);
+        } catch (IllegalArgumentException e) {
+            throw configurationError("Invalid " + keyFamily + " public key: " + e.getMessage());
+        }
+    }
+
+    private static PrivateKey readPrivateKey(String keyFamily, String pem) {
+        try {
+            return PemKeys.readPrivateKey(keyFamily, pem);
+        } catch (IllegalArgumentException e) {
+            throw configurationError("Invalid " + keyFamily + " private key (PKCS#8 PEM expected): " + e.getMessage());
+        }
+    }
+
+    private static TokenProviderException configurationError(String message) {
+        return new TokenProviderException(message, TokenProviderErrorCode.CONFIGURATION_ERROR, "SPRING_JWT");
+    }
+}
@@ -1,13 +1,25 @@
 package com.ldx.hexacore.security.auth.adapter.outbound.token.jwt;
 
+import com.ldx.hexacore.security.util.ClaimAuthoritiesMapper;
 import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 public class JwtProperties {
     
     private String secret;
     private int accessTokenExpiration = 3600; // 1시간 (초)
     private int refreshTokenExpiration = 604800; // 7일 (초)
     private String issuer = "security-starter";
+    private String algorithm = "HS256";
+    private String keyId;
+    private String privateKey;
+    private Map<String, String> publicKeys = new LinkedHashMap<>();
+    private List<ClaimAuthoritiesMapper.AuthorityClaim> authorityClaims = new ArrayList<>();
+    private boolean adoptUnknownRefreshTokenFamilies = false;
 
     public String getSecret() {
         return secret;
@@ -41,7 +53,62 @@ public class JwtProperties {
         this.issuer = issuer;
     }
     
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    public void setAlgorithm(String algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    public String getKeyId() {
+        return keyId;
+    }
+
+    public void setKeyId(String keyId) {
+        this.keyId = keyId;
+    }
+
+    public String getPrivateKey() {
+        return privateKey;
+    }
+
+    public void setPrivateKey(String privateKey) {
+        this.privateKey = privateKey;
+    }
+
+    public Map<String, String> getPublicKeys() {
+        return publicKeys;
+    }
+
+    public void setPublicKeys(Map<String, String> publicKeys) {
+        this.publicKeys = publicKeys != null ? publicKeys : new LinkedHashMap<>();
+    }
+
+    public List<ClaimAuthoritiesMapper.AuthorityClaim> getAuthorityClaims() {
+        return authorityClaims;
+    }
+
+    public void setAuthorityClaims(List<ClaimAuthoritiesMapper.AuthorityClaim> authorityClaims) {
+        this.authorityClaims = authorityClaims != null ? authorityClaims : new ArrayList<>();
+    }
+
+    public boolean isAdoptUnknownRefreshTokenFamilies() {
+        return adoptUnknownRefreshTokenFamilies;
+    }
+
+    public void setAdoptUnknownRefreshTokenFamilies(boolean adoptUnknownRefreshTokenFamilies) {
+        this.adoptUnknownRefreshTokenFamilies = adoptUnknownRefreshTokenFamilies;
+    }
+
+    public boolean isHmac() {
+        return algorithm == null || algorithm.startsWith("HS");
+    }
+    
     public boolean isValid() {
+        if (!isHmac()) {
+            return !publicKeys.isEmpty(); // 검증용 공개 키 최소 1개
+        }
         return StringUtils.hasText(secret) && secret.length() >= 32; // 256bit 이상
     }
 }
\ No newline at end of file
@@ -0,0 +1,102 @@
+package com.ldx.hexacore.security.auth.adapter.outbound.token.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.Locator;
+
+import java.security.Key;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * 생성 시점에 한 번 구성되는 JWT 검증 파이프라인
+ *
+ * <p>kid 기반 키 조회를 포함한 서명 검증용 {@link JwtParser}와 발급자, Audience, 토큰 타입 검사를 미리 구성해 두고
+ * 모든 검증/갱신 요청에서 재사용합니다.</p>
+ * <p>jjwt의 {@link JwtParser}는 불변이며 thread-safe 하므로 요청 스레드 간에 공유해도 안전합니다.</p>
+ */
+final class JwtValidationPipeline {
+
+    private final JwtParser parser;
+    private final ClaimsCheck[] accessTokenChecks;
+    private final ClaimsCheck[] refreshTokenChecks;
+
+    JwtValidationPipeline(Locator<Key> keyLocator, String issuer, String audience,
+                          String tokenTypeClaim, String refreshTokenType) {
+        this.parser = Jwts.parser()
+            .keyLocator(keyLocator)
+            .build();
+
+        this.accessTokenChecks = new ClaimsCheck[] {
+            new ClaimsCheck(claims -> issuer.equals(claims.getIssuer()),
+                "Invalid token issuer"),
+            new ClaimsCheck(claims -> containsAudience(claims, audience),
+                "Invalid token audience"),
+            new ClaimsCheck(claims -> !refreshTokenType.equals(claims.get(tokenTypeClaim, String.class)),
+                "Cannot validate refresh token as access token")
+        };
+
+        this.refreshTokenChecks = new ClaimsCheck[] {
+            new ClaimsCheck(claims -> issuer.equals(claims.getIssuer()),
+                "Invalid refresh token issuer"),
+            new ClaimsCheck(claims -> refreshTokenType.equals(claims.get(tokenTypeClaim, String.class)),
+                "Invalid refresh token type")
+        };
+    }
+
+    /**
+     * 토큰 서명과 만료 시간을 검증하고 클레임을 반환합니다.
+     *
+     * @param token 검증할 토큰
+     * @return 서명이 검증된 클레임
+     * @throws JwtException 서명, 형식, 만료 검증에 실패한 경우
+     */
+    Claims parse(String token) throws JwtException {
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    /**
+     * 액세스 토큰 클레임 검사를 순서대로 수행합니다.
+     *
+     * @param claims 서명이 검증된 클레임
+     * @return 첫 번째 위반 사유, 모든 검사를 통과하면 null
+     */
+    String verifyAccessToken(Claims claims) {
+        return firstViolation(accessTokenChecks, claims);
+    }
+
+    /**
+     * 리프레시 토큰 클레임 검사를 순서대로 수행합니다.
+     *
+     * @param claims 서명이 검증된 클레임
+     * @return 첫 번째 위반 사유, 모든 검사를 통과하면 null
+     */
+    String verifyRefreshToken(Claims claims) {
+        return firstViolation(refreshTokenChecks, claims);
+    }
+
+    private static String firstViolation(ClaimsCheck[] checks, Claims claims) {
+        for (ClaimsCheck check : checks) {
+            if (!check.passes().test(claims)) {
+                return check.violation();
+            }
+        }
+        return null;
+    }
+
+    private static boolean containsAudience(Claims claims, String audience) {
+        Set<String> audiences = claims.getAudience();
+        return audiences != null && audiences.contains(audience);
+    }
+
+    /**
+     * 단일 클레임 검사 규칙
+     *
+     * @param passes 검사 통과 조건
+     * @param violation 검사 실패 시 사유
+     */
+    private record ClaimsCheck(Predicate<Claims> passes, String violation) {
+    }
+}
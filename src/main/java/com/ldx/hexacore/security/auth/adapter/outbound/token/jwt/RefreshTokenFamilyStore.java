@@ -0,0 +1,67 @@
+package com.ldx.hexacore.security.auth.adapter.outbound.token.jwt;
+
+/**
+ * 리프레시 토큰 family 저장소 SPI
+ *
+ * <p>리프레시 토큰 회전(rotation)에서 family별로 마지막으로 발급한 세대(generation)와 폐기 여부를 보관합니다.
+ * 로그인으로 발급된 리프레시 토큰이 family를 시작하고, 갱신할 때마다 같은 family의 다음 세대 토큰이 발급됩니다.
+ * 이미 회전된(이전 세대) 토큰이 다시 제시되면 토큰이 유출된 것으로 보고 family 전체를 폐기합니다.</p>
+ *
+ * <p>단, 직전 세대가 회전 직후의 짧은 유예 시간 안에 다시 제시되면 재사용으로 보지 않고 {@link Rotation#GRACE}를
+ * 반환하여 같은 다음 세대를 다시 발급하게 합니다. 여러 탭이 거의 동시에 갱신했는데 첫 요청이 이미 완료된 경우,
+ * 또는 응답을 받지 못한 클라이언트가 재시도한 경우를 위한 것입니다. 유예 시간 동안에는 유출된 직전 세대 토큰으로도
+ * 새 토큰을 받을 수 있으므로 유예 시간은 수 초 이내로 짧게 유지해야 합니다.</p>
+ *
+ * <p>기본 구현은 {@link InMemoryRefreshTokenFamilyStore}입니다. 여러 인스턴스가 토큰을 갱신하는 환경에서는 모든
+ * 인스턴스가 공유하는 저장소(Redis, DB 등)를 Bean으로 등록해야 인스턴스 간 재사용도 감지됩니다. 구현체는 각 메서드를
+ * family 단위로 원자적으로 수행해야 합니다 (예: {@code UPDATE ... WHERE generation = ?}).</p>
+ */
+public interface RefreshTokenFamilyStore {
+
+    /**
+     * 새 family를 등록합니다. 이미 있으면 아무것도 하지 않습니다.
+     *
+     * @param familyId family ID
+     * @param generation 발급한 토큰의 세대
+     * @param expiresAtEpochSecond 발급한 토큰의 만료 시각 (epoch 초). 이후에는 family를 정리할 수 있습니다.
+     * @return 등록했으면 true, 이미 있으면 false
+     */
+    boolean register(long familyId, int generation, long expiresAtEpochSecond);
+
+    /**
+     * 제시된 세대가 family의 마지막 세대이면 다음 세대로 회전합니다.
+     *
+     * <ul>
+     *   <li>제시된 세대가 마지막 세대 이상이면 제시된 세대 + 1을 마지막 세대로 기록하고 {@link Rotation#ROTATED}</li>
+     *   <li>제시된 세대가 마지막 세대 - 1이고 마지막 회전 후 유예 시간이 지나지 않았으면 상태를 바꾸지 않고
+     *       {@link Rotation#GRACE} (호출자는 제시된 세대 + 1, 즉 현재 마지막 세대를 다시 발급)</li>
+     *   <li>제시된 세대가 마지막 세대보다 작으면 family를 폐기하고 {@link Rotation#REUSE_DETECTED}</li>
+     *   <li>이미 폐기된 family이면 {@link Rotation#REVOKED}</li>
+     *   <li>family가 없거나 만료되었으면 {@link Rotation#UNKNOWN}</li>
+     * </ul>
+     *
+     * @param familyId family ID
+     * @param presentedGeneration 제시된 리프레시 토큰의 세대
+     * @param expiresAtEpochSecond 새로 발급할 토큰의 만료 시각 (epoch 초)
+     * @return 회전 결과
+     */
+    Rotation rotate(long familyId, int presentedGeneration, long expiresAtEpochSecond);
+
+    /**
+     * family를 폐기합니다. 폐기된 family의 토큰으로는 더 이상 갱신할 수 없습니다 (로그아웃 등).
+     *
+     * @param familyId family ID
+     */
+    void revoke(long familyId);
+
+    /**
+     * 리프레시 토큰 회전 결과
+     */
+    enum Rotation {
+        ROTATED,
+        GRACE,
+        REUSE_DETECTED,
+        REVOKED,
+        UNKNOWN
+    }
+}
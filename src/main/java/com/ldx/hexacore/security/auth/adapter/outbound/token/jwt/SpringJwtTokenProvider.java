@@ -4,38 +4,75 @@ import com.ldx.hexacore.security.auth.application.command.port.out.TokenProvider
 import com.ldx.hexacore.security.auth.application.command.port.out.TokenProviderException;
 import com.ldx.hexacore.security.auth.application.command.port.out.TokenProviderErrorCode;
 import com.ldx.hexacore.security.auth.application.command.port.out.TokenProviderType;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenValidationContext;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenValidationErrorCode;
 import com.ldx.hexacore.security.auth.application.command.port.out.TokenValidationResult;
 import com.ldx.hexacore.security.auth.domain.vo.Credentials;
 import com.ldx.hexacore.security.auth.domain.vo.Token;
+import com.ldx.hexacore.security.util.ClaimAuthoritiesMapper;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
-import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-import javax.crypto.SecretKey;
+import java.security.SecureRandom;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
 import java.util.UUID;
 
 
+/**
+ * jjwt 기반 JWT 토큰 제공자
+ *
+ * <p>{@link RefreshTokenFamilyStore}를 주면 리프레시 토큰을 회전(rotation)합니다. 로그인마다 family를 시작하고,
+ * 갱신할 때마다 같은 family의 다음 세대(generation) 리프레시 토큰을 발급합니다. 이미 회전된 리프레시 토큰이 다시
+ * 제시되면 family를 폐기하여 그 family의 모든 리프레시 토큰을 거부합니다.</p>
+ *
+ * <p>저장소에 없는 family(메모리 저장소 재시작 등)의 토큰과 회전 전에 발급되어 family가 없는 토큰은 재사용 여부를
+ * 판단할 수 없으므로 거부합니다. {@link JwtProperties#isAdoptUnknownRefreshTokenFamilies()}를 켜면 제시된 세대부터
+ * 이어서 회전합니다. {@link #revokeRefreshToken(String)}은 토큰의 family를 폐기합니다 (로그아웃).</p>
+ */
 public class SpringJwtTokenProvider implements TokenProvider {
 
+    private static final Logger log = LoggerFactory.getLogger(SpringJwtTokenProvider.class);
+
     private static final String AUDIENCE = "hexacore-app";
     private static final String TOKEN_TYPE_CLAIM = "type";
     private static final String REFRESH_TOKEN_TYPE = "refresh";
     private static final String USERNAME_CLAIM = "username";
+    private static final String FAMILY_CLAIM = "fam";
+    private static final String GENERATION_CLAIM = "gen";
     
     private final JwtProperties jwtProperties;
-    private final SecretKey secretKey;
+    private final JwtKeyring keyring;
+    private final JwtValidationPipeline validationPipeline;
+    private final ClaimAuthoritiesMapper authoritiesMapper;
+    private final RefreshTokenFamilyStore familyStore;
+    private final SecureRandom familyIdGenerator = new SecureRandom();
 
     public SpringJwtTokenProvider(JwtProperties jwtProperties) {
+        this(jwtProperties, null);
+    }
+
+    /**
+     * @param jwtProperties JWT 설정
+     * @param familyStore 리프레시 토큰 family 저장소 (null이면 회전하지 않음)
+     */
+    public SpringJwtTokenProvider(JwtProperties jwtProperties, RefreshTokenFamilyStore familyStore) {
         this.jwtProperties = jwtProperties;
-        this.secretKey = validateAndCreateSecretKey(jwtProperties.getSecret());
+        this.familyStore = familyStore;
+        // HS*는 secret, RS*/PS*/ES*/EdDSA는 kid별 공개 키(+ 발급 시 개인 키)로 구성
+        this.keyring = JwtKeyring.from(jwtProperties);
+        // 파서와 클레임 검사는 생성 시 한 번만 구성하여 모든 요청에서 재사용
+        this.validationPipeline = new JwtValidationPipeline(
+            keyring, jwtProperties.getIssuer(), AUDIENCE, TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE);
+        this.authoritiesMapper = new ClaimAuthoritiesMapper(jwtProperties.getAuthorityClaims());
     }
 
     @Override
@@ -46,6 +83,7 @@ public class SpringJwtTokenProvider implements TokenProvider {
         
         // Credentials 객체 자체에서 이미 검증되므로 추가 검증 불필요
         // 이미 유효한 credentials가 들어왔다고 가정
+        requireSigningKey();
 
         try {
             String username = credentials.getUsername();
@@ -54,8 +92,10 @@ public class SpringJwtTokenProvider implements TokenProvider {
             // Access Token 생성
             String accessToken = createAccessToken(username, now);
             
-            // Refresh Token 생성
-            String refreshToken = createRefreshToken(username, now);
+            // Refresh Token 생성 (회전을 사용하면 새 family 시작)
+            String refreshToken = familyStore != null
+                ? createRefreshToken(username, now, startFamily(now), 0)
+                : createRefreshToken(username, now);
             
             return Token.of(accessToken, refreshToken, jwtProperties.getAccessTokenExpiration());
             
@@ -66,49 +106,53 @@ public class SpringJwtTokenProvider implements TokenProvider {
 
     @Override
     public TokenValidationResult validateToken(String accessToken) throws TokenProviderException {
+        TokenValidationResult result = verifyToken(accessToken);
+        if (!result.valid()) {
+            throw TokenProviderException.tokenRejected("SPRING_JWT", result);
+        }
+        return result;
+    }
+
+    /**
+     * 토큰을 검증하고 실패 사유를 예외 없이 결과로 반환합니다.
+     */
+    @Override
+    public TokenValidationResult verifyToken(String accessToken) {
         if (accessToken == null || accessToken.trim().isEmpty()) {
-            throw TokenProviderException.tokenValidationFailed("SPRING_JWT", 
-                new IllegalArgumentException("Token cannot be null or empty"));
+            return TokenValidationResult.invalid(TokenValidationErrorCode.EMPTY_TOKEN, "Token cannot be null or empty");
         }
 
+        Claims claims;
         try {
-            Claims claims = parseToken(accessToken);
-            
-            // 발급자 검증
-            if (!jwtProperties.getIssuer().equals(claims.getIssuer())) {
-                throw TokenProviderException.tokenValidationFailed("SPRING_JWT", 
-                    new IllegalArgumentException("Invalid token issuer"));
-            }
-            
-            // Audience 검증
-            if (!claims.getAudience().contains(AUDIENCE)) {
-                throw TokenProviderException.tokenValidationFailed("SPRING_JWT", 
-                    new IllegalArgumentException("Invalid token audience"));
-            }
-            
-            // Refresh 토큰인지 확인 (Access 토큰이어야 함)
-            if (REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class))) {
-                throw TokenProviderException.tokenValidationFailed("SPRING_JWT", 
-                    new IllegalArgumentException("Cannot validate refresh token as access token"));
-            }
-            
-            String username = claims.get(USERNAME_CLAIM, String.class);
-            String userId = claims.getSubject();
-            Instant expiresAt = claims.getExpiration().toInstant();
-            
-            return TokenValidationResult.valid(userId, username, null, expiresAt);
-            
+            claims = validationPipeline.parse(accessToken);
         } catch (ExpiredJwtException e) {
-            throw TokenProviderException.tokenExpired("SPRING_JWT");
+            return TokenValidationResult.invalid(TokenValidationErrorCode.EXPIRED, "Token has expired");
         } catch (SignatureException e) {
-            throw TokenProviderException.tokenValidationFailed("SPRING_JWT", e);
+            return TokenValidationResult.invalid(TokenValidationErrorCode.INVALID_SIGNATURE, "Invalid token signature");
         } catch (MalformedJwtException e) {
-            throw TokenProviderException.tokenValidationFailed("SPRING_JWT", e);
+            return TokenValidationResult.invalid(TokenValidationErrorCode.MALFORMED, "Malformed token");
         } catch (UnsupportedJwtException e) {
-            throw TokenProviderException.tokenValidationFailed("SPRING_JWT", e);
-        } catch (JwtException e) {
-            throw TokenProviderException.tokenValidationFailed("SPRING_JWT", e);
+            return TokenValidationResult.invalid(TokenValidationErrorCode.UNSUPPORTED, "Unsupported token");
+        } catch (JwtException | IllegalArgumentException e) {
+            return TokenValidationResult.invalid(TokenValidationErrorCode.INVALID_TOKEN, "Invalid token");
         }
+
+        // 발급자, Audience, 토큰 타입(Access 토큰이어야 함) 검증
+        String violation = validationPipeline.verifyAccessToken(claims);
+        if (violation != null) {
+            return TokenValidationResult.invalid(TokenValidationErrorCode.INVALID_CLAIMS, violation);
+        }
+
+        String username = claims.get(USERNAME_CLAIM, String.class);
+        String userId = claims.getSubject();
+        Instant expiresAt = claims.getExpiration().toInstant();
+
+        return TokenValidationResult.valid(userId, username, authoritiesMapper.map(claims), expiresAt);
+    }
+
+    @Override
+    public TokenValidationResult verifyTokenWithContext(String accessToken, TokenValidationContext context) {
+        return verifyToken(accessToken);
     }
 
     @Override
@@ -119,26 +163,24 @@ public class SpringJwtTokenProvider implements TokenProvider {
         }
 
         try {
-            Claims claims = parseToken(refreshToken);
+            Claims claims = validationPipeline.parse(refreshToken);
             
-            // 발급자 검증
-            if (!jwtProperties.getIssuer().equals(claims.getIssuer())) {
+            // 발급자 및 Refresh 토큰 타입 검증
+            String violation = validationPipeline.verifyRefreshToken(claims);
+            if (violation != null) {
                 throw TokenProviderException.tokenRefreshFailed("SPRING_JWT", 
-                    new IllegalArgumentException("Invalid refresh token issuer"));
-            }
-            
-            // Refresh 토큰인지 확인
-            if (!REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class))) {
-                throw TokenProviderException.tokenRefreshFailed("SPRING_JWT", 
-                    new IllegalArgumentException("Invalid refresh token type"));
+                    new IllegalArgumentException(violation));
             }
             
             String username = claims.getSubject();
             Instant now = Instant.now();
+            requireSigningKey();
             
             // 새로운 토큰 발급
+            String newRefreshToken = familyStore != null
+                ? rotateRefreshToken(claims, username, now)
+                : createRefreshToken(username, now);
             String newAccessToken = createAccessToken(username, now);
-            String newRefreshToken = createRefreshToken(username, now);
             
             return Token.of(newAccessToken, newRefreshToken, jwtProperties.getAccessTokenExpiration());
             
@@ -155,6 +197,33 @@ public class SpringJwtTokenProvider implements TokenProvider {
         }
     }
 
+    @Override
+    public void revokeRefreshToken(String refreshToken) throws TokenProviderException {
+        if (familyStore == null || refreshToken == null || refreshToken.isBlank()) {
+            return;
+        }
+
+        Claims claims;
+        try {
+            claims = validationPipeline.parse(refreshToken);
+        } catch (ExpiredJwtException e) {
+            // 서명은 검증됨 - 같은 family의 이후 세대가 아직 유효할 수 있으므로 폐기
+            claims = e.getClaims();
+        } catch (JwtException e) {
+            throw TokenProviderException.tokenValidationFailed("SPRING_JWT", e);
+        }
+        String violation = validationPipeline.verifyRefreshToken(claims);
+        if (violation != null) {
+            throw TokenProviderException.tokenValidationFailed("SPRING_JWT", new IllegalArgumentException(violation));
+        }
+
+        String family = claims.get(FAMILY_CLAIM, String.class);
+        if (family != null) {
+            familyStore.revoke(parseFamilyId(family));
+            log.debug("Refresh token family revoked for user {}", claims.getSubject());
+        }
+    }
+
     @Override
     public TokenProviderType getProviderType() {
         return TokenProviderType.SPRING_JWT;
@@ -163,51 +232,126 @@ public class SpringJwtTokenProvider implements TokenProvider {
     private String createAccessToken(String username, Instant now) {
         Instant expiration = now.plus(jwtProperties.getAccessTokenExpiration(), ChronoUnit.SECONDS);
         
-        return Jwts.builder()
+        return keyring.sign(Jwts.builder()
             .issuer(jwtProperties.getIssuer())
             .subject(username)
             .audience().add(AUDIENCE).and()
             .expiration(Date.from(expiration))
             .issuedAt(Date.from(now))
             .id(UUID.randomUUID().toString())
-            .claim(USERNAME_CLAIM, username)
-            .signWith(secretKey)
+            .claim(USERNAME_CLAIM, username))
             .compact();
     }
 
     private String createRefreshToken(String username, Instant now) {
-        Instant expiration = now.plus(jwtProperties.getRefreshTokenExpiration(), ChronoUnit.SECONDS);
-        
+        return keyring.sign(refreshTokenBuilder(username, now)).compact();
+    }
+
+    private String createRefreshToken(String username, Instant now, long familyId, int generation) {
+        return keyring.sign(refreshTokenBuilder(username, now)
+            .claim(FAMILY_CLAIM, Long.toHexString(familyId))
+            .claim(GENERATION_CLAIM, generation))
+            .compact();
+    }
+
+    private io.jsonwebtoken.JwtBuilder refreshTokenBuilder(String username, Instant now) {
         return Jwts.builder()
             .issuer(jwtProperties.getIssuer())
             .subject(username)
-            .expiration(Date.from(expiration))
+            .expiration(Date.from(refreshTokenExpiration(now)))
             .issuedAt(Date.from(now))
             .id(UUID.randomUUID().toString())
-            .claim(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE)
-            .signWith(secretKey)
-            .compact();
+            .claim(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE);
     }
 
-    private Claims parseToken(String token) throws JwtException {
-        return Jwts.parser()
-            .verifyWith(secretKey)
-            .build()
-            .parseSignedClaims(token)
-            .getPayload();
+    private Instant refreshTokenExpiration(Instant now) {
+        return now.plus(jwtProperties.getRefreshTokenExpiration(), ChronoUnit.SECONDS);
     }
 
-    private SecretKey validateAndCreateSecretKey(String secret) {
-        if (secret == null) {
-            throw new TokenProviderException("Secret key is required for JWT token provider", 
-                TokenProviderErrorCode.CONFIGURATION_ERROR, "SPRING_JWT");
+    /**
+     * 새 family를 등록하고 ID를 반환합니다.
+     */
+    private long startFamily(Instant now) {
+        long expiresAt = refreshTokenExpiration(now).getEpochSecond();
+        while (true) {
+            long familyId = familyIdGenerator.nextLong();
+            if (familyId != 0 && familyStore.register(familyId, 0, expiresAt)) {
+                return familyId;
+            }
         }
-        
-        if (secret.length() < 32) {
-            throw new TokenProviderException("Secret key must be at least 32 characters long for security", 
+    }
+
+    /**
+     * 제시된 리프레시 토큰의 family를 다음 세대로 회전하고 새 리프레시 토큰을 발급합니다.
+     * 직전 세대가 유예 시간 안에 다시 제시되면({@link RefreshTokenFamilyStore.Rotation#GRACE}) 회전하지 않고 첫 응답과
+     * 같은 세대의 리프레시 토큰을 다시 발급합니다.
+     *
+     * @throws TokenProviderException 이미 회전된 토큰이 재사용되었거나 family가 폐기된 경우
+     */
+    private String rotateRefreshToken(Claims claims, String username, Instant now) {
+        String family = claims.get(FAMILY_CLAIM, String.class);
+        Integer generation = claims.get(GENERATION_CLAIM, Integer.class);
+        if (family == null || generation == null) {
+            // 회전을 켜기 전에 발급된 리프레시 토큰 - 허용한 경우에만 새 family 시작
+            requireAdoption(username);
+            return createRefreshToken(username, now, startFamily(now), 0);
+        }
+
+        long familyId = parseFamilyId(family);
+        long expiresAt = refreshTokenExpiration(now).getEpochSecond();
+        RefreshTokenFamilyStore.Rotation rotation = familyStore.rotate(familyId, generation, expiresAt);
+        if (rotation == RefreshTokenFamilyStore.Rotation.UNKNOWN) {
+            // 저장소가 family를 잃어버린 경우(재시작 등) - 허용한 경우에만 제시된 세대를 이어서 등록
+            requireAdoption(username);
+            if (!familyStore.register(familyId, generation + 1, expiresAt)) {
+                // 동시에 등록되었으면 다시 회전
+                rotation = familyStore.rotate(familyId, generation, expiresAt);
+            }
+        }
+
+        switch (rotation) {
+            case REUSE_DETECTED -> {
+                log.warn("Refresh token reuse detected for user {}; token family revoked", username);
+                throw TokenProviderException.tokenRefreshFailed("SPRING_JWT",
+                    new IllegalStateException("Refresh token reuse detected; token family revoked"));
+            }
+            case REVOKED -> throw TokenProviderException.tokenRefreshFailed("SPRING_JWT",
+                new IllegalStateException("Refresh token family has been revoked"));
+            case GRACE -> {
+                log.debug("Refresh token generation {} presented again within reuse grace for user {}",
+                    generation, username);
+                return createRefreshToken(username, now, familyId, generation + 1);
+            }
+            default -> {
+                return createRefreshToken(username, now, familyId, generation + 1);
+            }
+        }
+    }
+
+    /**
+     * 재사용 여부를 판단할 수 없는 리프레시 토큰은 family 이어받기를 허용한 경우에만 받아들입니다.
+     */
+    private void requireAdoption(String username) {
+        if (!jwtProperties.isAdoptUnknownRefreshTokenFamilies()) {
+            log.info("Rejecting refresh token with unknown token family for user {}", username);
+            throw TokenProviderException.tokenRefreshFailed("SPRING_JWT",
+                new IllegalStateException("Unknown refresh token family; login required"));
+        }
+    }
+
+    private static long parseFamilyId(String family) {
+        try {
+            return Long.parseUnsignedLong(family, 16);
+        } catch (NumberFormatException e) {
+            throw TokenProviderException.tokenRefreshFailed("SPRING_JWT",
+                new IllegalArgumentException("Invalid refresh token family"));
+        }
+    }
+
+    private void requireSigningKey() {
+        if (!keyring.canSign()) {
+            throw new TokenProviderException("Private key is not configured; this provider can only verify tokens", 
                 TokenProviderErrorCode.CONFIGURATION_ERROR, "SPRING_JWT");
         }
-        
-        return Keys.hmacShaKeyFor(secret.getBytes());
     }
 }
\ No newline at end of file
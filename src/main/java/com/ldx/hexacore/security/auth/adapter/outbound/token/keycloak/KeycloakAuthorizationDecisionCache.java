@@ -0,0 +1,212 @@
+package com.ldx.hexacore.security.auth.adapter.outbound.token.keycloak;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.ldx.hexacore.security.util.JwtPayloadReader;
+import com.ldx.hexacore.security.util.ValidationMessages;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * UMA 리소스 권한 판정 캐시
+ *
+ * <p>판정 결과를 (subject, HTTP 메서드, 정규화된 route) 키로 보관합니다. 요청 경로가 route 템플릿
+ * ({@code /api/orders/{id}}, {@code /api/orders/*} 등)과 일치하면 템플릿을 route로 사용하므로
+ * {@code /api/orders/123}과 {@code /api/orders/124}는 같은 판정을 공유합니다. 일치하는 템플릿이 없으면
+ * 쿼리 문자열을 제외한 경로 자체를 route로 사용합니다.</p>
+ *
+ * <ul>
+ *   <li>여러 템플릿과 일치하면 가장 구체적인 템플릿을 사용합니다.</li>
+ *   <li>허용 결과와 거부 결과는 각각의 TTL을 따르며, 거부 TTL은 허용 TTL보다 짧게 설정합니다.</li>
+ *   <li>subject를 알 수 없는 불투명 토큰은 캐싱하지 않습니다.</li>
+ * </ul>
+ */
+final class KeycloakAuthorizationDecisionCache {
+
+    private final Cache<DecisionKey, Boolean> cache;
+    private final boolean storeDenials;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private volatile List<String> routeTemplates;
+
+    /**
+     * @param maximumSize 최대 엔트리 수
+     * @param grantTtl 허용 결과 보관 시간
+     * @param denyTtl 거부 결과 보관 시간 (0이면 저장 안 함)
+     * @param routeTemplates 설정된 route 템플릿
+     */
+    KeycloakAuthorizationDecisionCache(long maximumSize, Duration grantTtl, Duration denyTtl,
+                                       Collection<String> routeTemplates) {
+        this(maximumSize, grantTtl, denyTtl, routeTemplates, Ticker.systemTicker());
+    }
+
+    KeycloakAuthorizationDecisionCache(long maximumSize, Duration grantTtl, Duration denyTtl,
+                                       Collection<String> routeTemplates, Ticker ticker) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException(ValidationMessages.mustBePositive("Maximum size"));
+        }
+        if (grantTtl == null || grantTtl.isNegative() || grantTtl.isZero()) {
+            throw new IllegalArgumentException(ValidationMessages.mustBePositive("Grant TTL"));
+        }
+        if (denyTtl == null || denyTtl.isNegative() || denyTtl.compareTo(grantTtl) > 0) {
+            throw new IllegalArgumentException(ValidationMessages.invalidFormat("Deny TTL", denyTtl));
+        }
+        this.routeTemplates = List.copyOf(distinct(List.of(), routeTemplates));
+        this.storeDenials = !denyTtl.isZero();
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .ticker(ticker)
+            .expireAfter(new DecisionExpiry(grantTtl.toNanos(), denyTtl.toNanos()))
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * 요청의 판정 키를 만듭니다.
+     *
+     * @return 판정 키, 토큰에서 subject를 읽을 수 없으면 null
+     */
+    DecisionKey keyOf(String accessToken, String requestUri, String httpMethod) {
+        JsonNode payload = JwtPayloadReader.readPayload(accessToken);
+        JsonNode sub = payload != null ? payload.get("sub") : null;
+        if (sub == null || !sub.isTextual() || requestUri == null || httpMethod == null) {
+            return null;
+        }
+        return new DecisionKey(sub.asText(), httpMethod.toUpperCase(Locale.ROOT), normalize(requestUri));
+    }
+
+    /**
+     * 요청 경로를 route로 정규화합니다.
+     */
+    String normalize(String requestUri) {
+        int query = requestUri.indexOf('?');
+        String path = query >= 0 ? requestUri.substring(0, query) : requestUri;
+        List<String> templates = routeTemplates;
+        String best = null;
+        Comparator<String> specificity = null;
+        for (String template : templates) {
+            if (!pathMatcher.match(template, path)) {
+                continue;
+            }
+            if (best == null) {
+                best = template;
+                continue;
+            }
+            if (specificity == null) {
+                specificity = pathMatcher.getPatternComparator(path);
+            }
+            if (specificity.compare(template, best) < 0) {
+                best = template;
+            }
+        }
+        return best != null ? best : path;
+    }
+
+    /**
+     * 캐시된 판정을 반환합니다.
+     *
+     * @return 허용이면 true, 거부면 false, 없으면 null
+     */
+    Boolean get(DecisionKey key) {
+        return cache.getIfPresent(key);
+    }
+
+    /**
+     * Keycloak의 판정을 저장합니다.
+     */
+    void put(DecisionKey key, boolean granted) {
+        if (granted || storeDenials) {
+            cache.put(key, granted);
+        }
+    }
+
+    /**
+     * route 템플릿을 추가합니다. 이미 있는 템플릿은 무시합니다.
+     */
+    void addRouteTemplates(Collection<String> templates) {
+        routeTemplates = List.copyOf(distinct(routeTemplates, templates));
+    }
+
+    List<String> getRouteTemplates() {
+        return routeTemplates;
+    }
+
+    /**
+     * subject의 모든 판정을 제거합니다.
+     */
+    void invalidateSubject(String subject) {
+        cache.asMap().keySet().removeIf(key -> key.subject().equals(subject));
+    }
+
+    /**
+     * 모든 판정을 제거합니다.
+     */
+    void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    Cache<DecisionKey, Boolean> getCache() {
+        return cache;
+    }
+
+    private static Set<String> distinct(Collection<String> existing, Collection<String> added) {
+        Set<String> templates = new LinkedHashSet<>(existing);
+        if (added != null) {
+            for (String template : added) {
+                if (StringUtils.hasText(template)) {
+                    templates.add(template.trim());
+                }
+            }
+        }
+        return templates;
+    }
+
+    /**
+     * 판정 키
+     *
+     * @param subject 토큰의 sub 클레임
+     * @param method 대문자 HTTP 메서드
+     * @param route 정규화된 route
+     */
+    record DecisionKey(String subject, String method, String route) {
+    }
+
+    /**
+     * 허용/거부에 따라 다른 TTL을 적용하는 Expiry. 조회 시에는 남은 수명을 그대로 유지합니다.
+     */
+    private static final class DecisionExpiry implements Expiry<DecisionKey, Boolean> {
+
+        private final long grantTtlNanos;
+        private final long denyTtlNanos;
+
+        private DecisionExpiry(long grantTtlNanos, long denyTtlNanos) {
+            this.grantTtlNanos = grantTtlNanos;
+            this.denyTtlNanos = denyTtlNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(DecisionKey key, Boolean granted, long currentTime) {
+            return granted ? grantTtlNanos : denyTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(DecisionKey key, Boolean granted, long currentTime, long currentDuration) {
+            return granted ? grantTtlNanos : denyTtlNanos;
+        }
+
+        @Override
+        public long expireAfterRead(DecisionKey key, Boolean granted, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.ldx.hexacore.security.auth.adapter.outbound.token.keycloak;
+
+import com.ldx.hexacore.security.util.ValidationMessages;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 토큰 검증과 병렬로 실행할 리소스 권한 체크용 Executor 생성
+ *
+ * <p>Java 21 이상에서 가상 스레드를 사용하도록 설정하면 {@code Executors.newVirtualThreadPerTaskExecutor()}를
+ * 사용합니다. 컴파일 기준이 Java 17이므로 리플렉션으로 찾으며, 사용할 수 없으면 고정 크기의 데몬 스레드 풀을
+ * 사용합니다.</p>
+ *
+ * <p>스레드 풀의 대기열은 크기가 제한되어 있습니다. 모든 스레드가 사용 중이고 대기열도 가득 차면
+ * {@link java.util.concurrent.RejectedExecutionException}을 던지며, 호출자는 토큰 검증 후 권한을 직접 체크합니다.</p>
+ */
+@Slf4j
+final class KeycloakAuthorizationExecutors {
+
+    private KeycloakAuthorizationExecutors() {
+    }
+
+    /**
+     * @param virtualThreads 가능하면 가상 스레드를 사용할지 여부
+     * @param poolSize 플랫폼 스레드 풀 크기
+     * @param queueCapacity 스레드 풀이 모두 사용 중일 때 대기시킬 작업 수 (0이면 대기 없이 바로 거부)
+     */
+    static ExecutorService create(boolean virtualThreads, int poolSize, int queueCapacity) {
+        if (poolSize <= 0) {
+            throw new IllegalArgumentException(ValidationMessages.mustBePositive("Pool size"));
+        }
+        if (queueCapacity < 0) {
+            throw new IllegalArgumentException(ValidationMessages.mustBeBetween("Queue capacity", 0, Integer.MAX_VALUE));
+        }
+        if (virtualThreads) {
+            ExecutorService executor = newVirtualThreadPerTaskExecutor();
+            if (executor != null) {
+                return executor;
+            }
+        }
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            poolSize, poolSize, 60, TimeUnit.SECONDS,
+            queueCapacity > 0 ? new ArrayBlockingQueue<>(queueCapacity) : new SynchronousQueue<>(),
+            runnable -> {
+                Thread thread = new Thread(runnable, "keycloak-authz-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            log.debug("Virtual threads are not available, using a platform thread pool for authorization checks");
+            return null;
+        }
+    }
+}
@@ -1,11 +1,26 @@
 package com.ldx.hexacore.security.auth.adapter.outbound.token.keycloak;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.ldx.hexacore.security.auth.adapter.outbound.external.KeycloakCallNotPermittedException;
+import com.ldx.hexacore.security.auth.adapter.outbound.external.KeycloakCircuitBreaker;
 import com.sd.KeycloakClient.client.auth.sync.KeycloakAuthClient;
 import com.sd.KeycloakClient.config.ClientConfiguration;
 import com.sd.KeycloakClient.dto.KeycloakResponse;
 import com.sd.KeycloakClient.dto.auth.KeycloakAuthorizationResult;
 import com.sd.KeycloakClient.factory.KeycloakClient;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * 팀 Keycloak Client 기반 Authorization Service
@@ -14,15 +29,75 @@ import lombok.extern.slf4j.Slf4j;
  * <p>하드코딩 없이 Keycloak의 authorization 엔드포인트를 직접 호출하여 권한을 검증합니다.</p>
  */
 @Slf4j
-public class KeycloakAuthorizationService {
+public class KeycloakAuthorizationService implements AutoCloseable {
+    
+    private static final long LEARN_RETRY_NANOS = TimeUnit.SECONDS.toNanos(60);
+    private static final String UMA_TICKET_GRANT_TYPE = "urn:ietf:params:oauth:grant-type:uma-ticket";
     
     private final KeycloakAuthClient keycloakAuthClient;
     private final String realm;
     private final String clientId;
+    private final KeycloakAuthorizationDecisionCache decisionCache;
+    private final KeycloakResourceRouteLoader routeLoader;
+    private final KeycloakPolicyEngine policyEngine;
+    private final KeycloakPermissionSetCache permissionSetCache;
+    private final KeycloakResourceRouteLoader resourceLoader;
+    private final long catalogRefreshNanos;
+    private final String tokenEndpoint;
+    private final RestTemplate restTemplate;
+    private final KeycloakCircuitBreaker circuitBreaker;
+    private final AtomicBoolean learning = new AtomicBoolean();
+    private final AtomicBoolean catalogLoading = new AtomicBoolean();
+    private volatile boolean routesLearned;
+    private volatile long nextLearnAttemptNanos = System.nanoTime();
+    private volatile KeycloakResourceCatalog resourceCatalog;
+    private volatile long nextCatalogRefreshNanos = System.nanoTime();
     
     public KeycloakAuthorizationService(KeycloakProperties properties) {
+        this(properties, null);
+    }
+    
+    /**
+     * @param restTemplate Keycloak 리소스 URI 학습에 사용할 RestTemplate (null이면 학습하지 않음)
+     */
+    public KeycloakAuthorizationService(KeycloakProperties properties, RestTemplate restTemplate) {
+        this(properties, restTemplate, null);
+    }
+    
+    /**
+     * @param restTemplate Keycloak 리소스 조회에 사용할 RestTemplate (null이면 조회하지 않음)
+     * @param circuitBreaker keycloak-client 판정 호출에 적용할 circuit breaker (null이면 적용하지 않음)
+     */
+    public KeycloakAuthorizationService(KeycloakProperties properties, RestTemplate restTemplate,
+                                        KeycloakCircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
         this.realm = properties.getRealm();
         this.clientId = properties.getClientId();
+        this.tokenEndpoint = properties.getTokenEndpoint();
+        this.restTemplate = restTemplate;
+        this.decisionCache = properties.isAuthorizationCacheEnabled()
+            ? new KeycloakAuthorizationDecisionCache(
+                properties.getAuthorizationCacheMaximumSize(),
+                Duration.ofSeconds(properties.getAuthorizationCacheGrantTtlSeconds()),
+                Duration.ofSeconds(properties.getAuthorizationCacheDenyTtlSeconds()),
+                properties.getAuthorizationRouteTemplates())
+            : null;
+        this.routeLoader = decisionCache != null && restTemplate != null
+                && properties.isAuthorizationLearnRouteTemplates() && !properties.isPublicClient()
+            ? new KeycloakResourceRouteLoader(properties, restTemplate)
+            : null;
+        this.policyEngine = restTemplate != null && properties.isLocalAuthorizationEnabled() && !properties.isPublicClient()
+            ? new KeycloakPolicyEngine(
+                KeycloakPolicyEngine.adminSettingsSource(properties, restTemplate),
+                Duration.ofSeconds(properties.getLocalAuthorizationSyncSeconds()))
+            : null;
+        this.permissionSetCache = restTemplate != null && properties.isPermissionSetEnabled() && !properties.isPublicClient()
+            ? new KeycloakPermissionSetCache(
+                properties.getPermissionSetMaximumSize(),
+                Duration.ofSeconds(properties.getPermissionSetMaxTtlSeconds()))
+            : null;
+        this.resourceLoader = permissionSetCache != null ? new KeycloakResourceRouteLoader(properties, restTemplate) : null;
+        this.catalogRefreshNanos = TimeUnit.SECONDS.toNanos(properties.getPermissionSetResourceRefreshSeconds());
         
         try {
             // 팀 Keycloak Client 라이브러리 초기화
@@ -57,6 +132,142 @@ public class KeycloakAuthorizationService {
      * @return 권한이 허용되면 true, 거부되면 false
      */
     public boolean checkAuthorization(String accessToken, String requestUri, String httpMethod) {
+        AuthorizationCheck check = evaluateAuthorization(accessToken, requestUri, httpMethod);
+        rememberDecision(check);
+        return check.granted();
+    }
+    
+    /**
+     * 권한을 판정하되 판정 캐시에는 기록하지 않습니다.
+     * 
+     * <p>판정 캐시는 토큰의 sub로 키를 만들므로, 토큰 검증과 동시에 미리 판정할 때는 이 메서드를 사용하고 토큰이
+     * 유효한 것을 확인한 뒤에 {@link #rememberDecision(AuthorizationCheck)}로 기록합니다. 위조된 토큰의 판정이
+     * 다른 사용자의 캐시에 남지 않게 하기 위함입니다.</p>
+     * 
+     * @return 판정 결과와 아직 기록하지 않은 캐시 키
+     */
+    AuthorizationCheck evaluateAuthorization(String accessToken, String requestUri, String httpMethod) {
+        if (policyEngine != null) {
+            KeycloakPolicyIndex.Decision decision = policyEngine.evaluate(accessToken, requestUri, httpMethod);
+            if (decision != KeycloakPolicyIndex.Decision.UNDECIDED) {
+                log.debug("Local authorization decision: {} {} -> {}", httpMethod, requestUri, decision);
+                return AuthorizationCheck.of(decision == KeycloakPolicyIndex.Decision.GRANT);
+            }
+        }
+        
+        if (permissionSetCache != null) {
+            KeycloakPolicyIndex.Decision decision = checkPermissionSet(accessToken, requestUri, httpMethod);
+            if (decision != KeycloakPolicyIndex.Decision.UNDECIDED) {
+                log.debug("Permission set decision: {} {} -> {}", httpMethod, requestUri, decision);
+                return AuthorizationCheck.of(decision == KeycloakPolicyIndex.Decision.GRANT);
+            }
+        }
+        
+        KeycloakAuthorizationDecisionCache.DecisionKey key = null;
+        if (decisionCache != null) {
+            learnRouteTemplatesIfDue();
+            key = decisionCache.keyOf(accessToken, requestUri, httpMethod);
+            Boolean cached = key != null ? decisionCache.get(key) : null;
+            if (cached != null) {
+                log.debug("Using cached authorization decision: {} {} -> {}", httpMethod, key.route(), cached);
+                return AuthorizationCheck.of(cached);
+            }
+        }
+        
+        Boolean granted = requestAuthorization(accessToken, requestUri, httpMethod);
+        if (granted == null) {
+            return AuthorizationCheck.of(false); // 오류 시 기본적으로 거부 (캐싱하지 않음)
+        }
+        return new AuthorizationCheck(granted, key);
+    }
+    
+    /**
+     * {@link #evaluateAuthorization(String, String, String)}의 판정을 캐시에 기록합니다.
+     * 토큰이 유효한 것을 확인한 뒤에만 호출해야 합니다.
+     */
+    void rememberDecision(AuthorizationCheck check) {
+        if (decisionCache != null && check.cacheKey() != null) {
+            decisionCache.put(check.cacheKey(), check.granted());
+        }
+    }
+    
+    /**
+     * subject의 캐시된 권한 판정을 모두 제거합니다.
+     * 
+     * @param subject 토큰의 sub 클레임
+     */
+    public void invalidateDecisions(String subject) {
+        if (decisionCache != null && subject != null) {
+            decisionCache.invalidateSubject(subject);
+        }
+        if (permissionSetCache != null && subject != null) {
+            permissionSetCache.invalidateSubject(subject);
+        }
+    }
+    
+    /**
+     * 캐시된 모든 권한 판정을 제거합니다.
+     */
+    public void invalidateAllDecisions() {
+        if (decisionCache != null) {
+            decisionCache.invalidateAll();
+        }
+        if (permissionSetCache != null) {
+            permissionSetCache.invalidateAll();
+        }
+    }
+    
+    KeycloakAuthorizationDecisionCache getDecisionCache() {
+        return decisionCache;
+    }
+    
+    KeycloakPolicyEngine getPolicyEngine() {
+        return policyEngine;
+    }
+    
+    KeycloakPermissionSetCache getPermissionSetCache() {
+        return permissionSetCache;
+    }
+    
+    /**
+     * 로컬 판정 엔진의 동기화 스레드를 정리합니다.
+     */
+    @Override
+    public void close() {
+        if (policyEngine != null) {
+            policyEngine.close();
+        }
+    }
+    
+    /**
+     * Keycloak authorization 엔드포인트에 판정을 요청합니다.
+     * 
+     * @return 허용이면 true, 거부면 false, 응답이 없거나 오류면 null
+     */
+    private Boolean requestAuthorization(String accessToken, String requestUri, String httpMethod) {
+        if (circuitBreaker == null) {
+            return callAuthorization(accessToken, requestUri, httpMethod);
+        }
+        try {
+            circuitBreaker.acquire();
+        } catch (KeycloakCallNotPermittedException e) {
+            log.warn("Authorization check skipped: {}", e.getMessage());
+            return null;
+        }
+        Boolean granted = null;
+        try {
+            granted = callAuthorization(accessToken, requestUri, httpMethod);
+            return granted;
+        } finally {
+            if (granted != null) {
+                circuitBreaker.onSuccess();
+            } else {
+                circuitBreaker.onFailure();
+            }
+        }
+    }
+    
+    private Boolean callAuthorization(String accessToken, String requestUri, String httpMethod) {
         try {
             log.info("🔍 팀 Keycloak Client로 authorization 체크: {} {}", httpMethod, requestUri);
             
@@ -66,7 +277,7 @@ public class KeycloakAuthorizationService {
             
             if (response == null || response.getBody().isEmpty()) {
                 log.warn("❌ Authorization 응답이 비어있음: {} {}", httpMethod, requestUri);
-                return false;
+                return null;
             }
             
             KeycloakAuthorizationResult result = response.getBody().get();
@@ -80,7 +291,107 @@ public class KeycloakAuthorizationService {
         } catch (Exception e) {
             log.error("❌ 팀 Keycloak Client authorization 체크 중 오류: {} {}", 
                 requestUri, e.getMessage(), e);
-            return false; // 오류 시 기본적으로 거부
+            return null;
+        }
+    }
+    
+    /**
+     * 토큰의 권한 집합으로 판정합니다.
+     * 
+     * <p>요청 경로와 일치하는 리소스가 있을 때만 권한 집합을 조회하며, 토큰마다 한 번만 조회합니다.</p>
+     * 
+     * @return 판정 결과, 리소스 목록이나 권한 집합을 가져오지 못했거나 일치하는 리소스가 없으면 UNDECIDED
+     */
+    private KeycloakPolicyIndex.Decision checkPermissionSet(String accessToken, String requestUri, String httpMethod) {
+        refreshResourceCatalogIfDue();
+        KeycloakResourceCatalog catalog = resourceCatalog;
+        KeycloakResourceCatalog.Resource resource = catalog != null ? catalog.match(requestUri) : null;
+        if (resource == null) {
+            return KeycloakPolicyIndex.Decision.UNDECIDED;
+        }
+        KeycloakPermissionSet permissions = permissionSetCache.get(accessToken, this::requestPermissionSet);
+        if (permissions == null) {
+            return KeycloakPolicyIndex.Decision.UNDECIDED;
+        }
+        return permissions.decide(resource, httpMethod);
+    }
+    
+    /**
+     * UMA ticket grant({@code response_mode=permissions})로 토큰의 권한 전체를 한 번에 요청합니다.
+     * 
+     * @return 권한 집합, 부여된 권한이 없으면(403) 빈 집합, 오류면 null
+     */
+    private KeycloakPermissionSet requestPermissionSet(String accessToken) {
+        MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
+        formData.add("grant_type", UMA_TICKET_GRANT_TYPE);
+        formData.add("audience", clientId);
+        formData.add("response_mode", "permissions");
+        
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+        headers.setBearerAuth(accessToken);
+        
+        try {
+            JsonNode permissions = restTemplate.postForEntity(
+                tokenEndpoint, new HttpEntity<>(formData, headers), JsonNode.class).getBody();
+            KeycloakPermissionSet permissionSet = KeycloakPermissionSet.from(permissions);
+            log.debug("Fetched permission set with {} resources", permissionSet.size());
+            return permissionSet;
+        } catch (HttpClientErrorException e) {
+            if (e.getStatusCode().value() == 403) {
+                return KeycloakPermissionSet.EMPTY;
+            }
+            log.warn("Permission set request rejected: {}", e.getStatusCode());
+            return null;
+        } catch (Exception e) {
+            log.warn("Failed to fetch permission set: {}", e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * 주기가 지났으면 Keycloak 리소스 목록을 다시 읽어옵니다.
+     * 
+     * <p>한 요청만 조회하고 나머지 요청은 기존 목록으로 진행합니다. 실패하면 이전 목록을 유지합니다.</p>
+     */
+    private void refreshResourceCatalogIfDue() {
+        if (System.nanoTime() - nextCatalogRefreshNanos < 0 || !catalogLoading.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            KeycloakResourceCatalog catalog = KeycloakResourceCatalog.from(resourceLoader.loadResourceSet());
+            resourceCatalog = catalog;
+            nextCatalogRefreshNanos = System.nanoTime() + catalogRefreshNanos;
+            log.debug("Loaded {} resource URIs for permission set evaluation", catalog.size());
+        } catch (Exception e) {
+            nextCatalogRefreshNanos = System.nanoTime() + Math.min(LEARN_RETRY_NANOS, catalogRefreshNanos);
+            log.warn("Failed to load Keycloak resources for permission set evaluation: {}", e.getMessage());
+        } finally {
+            catalogLoading.set(false);
+        }
+    }
+    
+    /**
+     * 아직 학습하지 않았으면 Keycloak 리소스 URI를 route 템플릿으로 읽어옵니다.
+     * 
+     * <p>한 요청만 조회하고 나머지 요청은 기다리지 않고 기존 템플릿으로 진행합니다.
+     * 실패하면 일정 시간 후 다시 시도합니다.</p>
+     */
+    private void learnRouteTemplatesIfDue() {
+        if (routeLoader == null || routesLearned || System.nanoTime() - nextLearnAttemptNanos < 0
+                || !learning.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            List<String> uris = routeLoader.load();
+            decisionCache.addRouteTemplates(uris);
+            routesLearned = true;
+            log.info("Learned {} route templates from Keycloak resources", uris.size());
+        } catch (Exception e) {
+            nextLearnAttemptNanos = System.nanoTime() + LEARN_RETRY_NANOS;
+            log.warn("Failed to load Keycloak resource URIs for authorization cache: {}", e.getMessage());
+        } finally {
+            learning.set(false);
         }
     }
     
@@ -94,4 +405,17 @@ public class KeycloakAuthorizationService {
         log.info("  - 사용 라이브러리: io.github.l-dxd:keycloak-client:0.0.17");
         log.info("  - 완전 하드코딩 제거 - Keycloak이 직접 엔드포인트 권한 검증");
     }
-}
\ No newline at end of file
+    
+    /**
+     * 권한 판정 결과
+     * 
+     * @param granted 허용 여부
+     * @param cacheKey 판정 캐시에 기록할 키, 캐시하지 않는 판정(로컬 판정, 캐시 적중, 오류)이면 null
+     */
+    record AuthorizationCheck(boolean granted, KeycloakAuthorizationDecisionCache.DecisionKey cacheKey) {
+        
+        static AuthorizationCheck of(boolean granted) {
+            return new AuthorizationCheck(granted, null);
+        }
+    }
+}
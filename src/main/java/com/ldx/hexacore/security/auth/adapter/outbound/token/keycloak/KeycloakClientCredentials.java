@@ -0,0 +1,46 @@
+package com.ldx.hexacore.security.auth.adapter.outbound.token.keycloak;
+
+import com.ldx.hexacore.security.auth.adapter.outbound.external.dto.KeycloakTokenResponse;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 리소스 서버 클라이언트 자신의 client credentials 토큰 발급
+ *
+ * <p>Protection API와 Admin API 조회에 사용하며, 클라이언트 secret이 필요합니다.</p>
+ */
+final class KeycloakClientCredentials {
+
+    private KeycloakClientCredentials() {
+    }
+
+    /**
+     * client credentials grant로 액세스 토큰을 발급받습니다.
+     *
+     * @throws org.springframework.web.client.RestClientException 요청에 실패한 경우
+     * @throws IllegalStateException 응답에 액세스 토큰이 없는 경우
+     */
+    static String requestAccessToken(KeycloakProperties properties, RestTemplate restTemplate) {
+        MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
+        formData.add("grant_type", "client_credentials");
+        formData.add("client_id", properties.getClientId());
+        formData.add("client_secret", properties.getClientSecret());
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+
+        KeycloakTokenResponse response = restTemplate.postForEntity(
+            properties.getTokenEndpoint(),
+            new HttpEntity<>(formData, headers),
+            KeycloakTokenResponse.class
+        ).getBody();
+        if (response == null || response.getAccessToken() == null) {
+            throw new IllegalStateException("Keycloak did not return a client credentials token");
+        }
+        return response.getAccessToken();
+    }
+}
@@ -0,0 +1,121 @@
+package com.ldx.hexacore.security.auth.adapter.outbound.token.keycloak;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenValidationResult;
+import com.ldx.hexacore.security.util.TokenFingerprint;
+import com.ldx.hexacore.security.util.TokenFingerprinter;
+import com.ldx.hexacore.security.util.ValidationMessages;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keycloak 장애 시(degraded mode) 원격 검증 대신 사용하는 검증기
+ *
+ * <p>circuit이 열려 원격 검증을 호출할 수 없을 때 다음 순서로 토큰을 받아들입니다.</p>
+ *
+ * <ol>
+ *   <li>유예 기간 안에 Keycloak이 유효하다고 응답한 토큰 (토큰 만료 전까지)</li>
+ *   <li>realm JWKS로 서명과 클레임을 로컬에서 검증할 수 있는 토큰</li>
+ * </ol>
+ *
+ * <p>둘 다 해당하지 않으면 판단하지 않고 원래 오류를 그대로 전달합니다. degraded mode로 받아들인 결과의 claims에는
+ * {@code degraded=true}가 추가되며, 장애 동안의 토큰 폐기는 반영되지 않습니다.</p>
+ */
+@Slf4j
+final class KeycloakDegradedValidator implements AutoCloseable {
+
+    static final String DEGRADED_CLAIM = "degraded";
+
+    private final Cache<TokenFingerprint, TokenValidationResult> recentlyValidated;
+    private final TokenFingerprinter fingerprinter = new TokenFingerprinter();
+    private final KeycloakJwksTokenValidator localValidator;
+    private final Clock clock;
+    private final LongAdder accepted = new LongAdder();
+
+    /**
+     * @param maximumSize 기억할 최대 토큰 수
+     * @param gracePeriod 마지막 원격 검증 이후 받아들일 기간
+     * @param localValidator 로컬 JWKS 검증기 (null이면 사용하지 않음)
+     */
+    KeycloakDegradedValidator(long maximumSize, Duration gracePeriod, KeycloakJwksTokenValidator localValidator) {
+        this(maximumSize, gracePeriod, localValidator, Ticker.systemTicker(), Clock.systemUTC());
+    }
+
+    KeycloakDegradedValidator(long maximumSize, Duration gracePeriod, KeycloakJwksTokenValidator localValidator,
+                              Ticker ticker, Clock clock) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException(ValidationMessages.mustBePositive("Maximum size"));
+        }
+        if (gracePeriod == null || gracePeriod.isNegative() || gracePeriod.isZero()) {
+            throw new IllegalArgumentException(ValidationMessages.mustBePositive("Grace period"));
+        }
+        this.localValidator = localValidator;
+        this.clock = clock;
+        this.recentlyValidated = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .ticker(ticker)
+            .expireAfterWrite(gracePeriod)
+            .build();
+    }
+
+    /**
+     * Keycloak이 유효하다고 응답한 결과를 기억합니다.
+     */
+    void remember(String accessToken, TokenValidationResult result) {
+        if (result.valid()) {
+            recentlyValidated.put(fingerprinter.fingerprint(accessToken), result);
+        }
+    }
+
+    /**
+     * 원격 검증 없이 토큰을 검증합니다.
+     *
+     * @return degraded 표시가 추가된 유효 결과, 판단할 수 없으면 null
+     */
+    TokenValidationResult validate(String accessToken) {
+        TokenValidationResult recent = recentlyValidated.getIfPresent(fingerprinter.fingerprint(accessToken));
+        if (recent != null && (recent.expiresAt() == null || recent.expiresAt().isAfter(clock.instant()))) {
+            return degraded(recent);
+        }
+        if (localValidator != null) {
+            try {
+                TokenValidationResult local = localValidator.validate(accessToken);
+                if (local.valid()) {
+                    return degraded(local);
+                }
+            } catch (KeycloakJwksKeyStore.JwksUnavailableException e) {
+                log.debug("Keycloak JWKS is unavailable for degraded validation");
+            }
+        }
+        return null;
+    }
+
+    /**
+     * degraded mode로 받아들인 토큰 수
+     */
+    long getAcceptedCount() {
+        return accepted.sum();
+    }
+
+    @Override
+    public void close() {
+        if (localValidator != null) {
+            localValidator.close();
+        }
+    }
+
+    private TokenValidationResult degraded(TokenValidationResult result) {
+        accepted.increment();
+        Map<String, Object> claims = result.claims() != null ? new HashMap<>(result.claims()) : new HashMap<>();
+        claims.put(DEGRADED_CLAIM, true);
+        return new TokenValidationResult(
+            true, result.userId(), result.username(), result.authorities(), result.expiresAt(), claims);
+    }
+}
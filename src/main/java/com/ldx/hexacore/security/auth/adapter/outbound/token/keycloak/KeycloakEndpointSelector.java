@@ -0,0 +1,155 @@
+package com.ldx.hexacore.security.auth.adapter.outbound.token.keycloak;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.ldx.hexacore.security.util.JwtPayloadReader;
+import com.ldx.hexacore.security.util.ValidationMessages;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * remote 모드 검증 엔드포인트 선택기
+ *
+ * <p>userinfo는 {@code openid} scope가 없는 토큰에 403을 반환하므로, 이런 클라이언트는 매 요청마다
+ * userinfo와 introspection을 순서대로 두 번 호출하게 됩니다. 선택기는 토큰의 {@code azp}(발급 클라이언트)별로
+ * userinfo가 403을 반환했는지 기억하고 다음 요청부터 introspection을 바로 호출하게 합니다.</p>
+ *
+ * <p>클라이언트 scope 설정이 바뀔 수 있으므로, introspection을 사용하는 동안에도 재확인 주기마다
+ * 백그라운드 스레드에서 userinfo를 한 번 호출해 보고 성공하면 userinfo로 되돌아갑니다.</p>
+ */
+@Slf4j
+final class KeycloakEndpointSelector implements AutoCloseable {
+
+    /**
+     * 기억하는 최대 클라이언트 수. 초과하면 새 클라이언트는 기본 항목을 공유합니다.
+     */
+    static final int MAX_CLIENTS = 256;
+
+    private static final String DEFAULT_CLIENT = "";
+
+    enum Endpoint {
+        USERINFO,
+        INTROSPECTION
+    }
+
+    private final Duration reprobeInterval;
+    private final Clock clock;
+    private final Map<String, Route> routes = new ConcurrentHashMap<>();
+    private final ExecutorService prober;
+
+    /**
+     * @param reprobeInterval introspection 사용 중 userinfo를 다시 확인하는 주기
+     * @param clock 재확인 시각 계산에 사용할 시계
+     */
+    KeycloakEndpointSelector(Duration reprobeInterval, Clock clock) {
+        if (reprobeInterval == null || reprobeInterval.isNegative() || reprobeInterval.isZero()) {
+            throw new IllegalArgumentException(ValidationMessages.mustBePositive("Reprobe interval"));
+        }
+        this.reprobeInterval = reprobeInterval;
+        this.clock = clock;
+        this.prober = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "keycloak-endpoint-probe");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 토큰의 선택 키(azp 클레임)를 반환합니다. 불투명 토큰이나 azp가 없는 토큰은 기본 키를 사용합니다.
+     */
+    String keyOf(String accessToken) {
+        JsonNode payload = JwtPayloadReader.readPayload(accessToken);
+        JsonNode azp = payload != null ? payload.get("azp") : null;
+        if (azp == null || !azp.isTextual()) {
+            return DEFAULT_CLIENT;
+        }
+        String client = azp.asText();
+        if (routes.size() >= MAX_CLIENTS && !routes.containsKey(client)) {
+            return DEFAULT_CLIENT;
+        }
+        return client;
+    }
+
+    /**
+     * 먼저 호출할 엔드포인트를 반환합니다.
+     */
+    Endpoint select(String key) {
+        Route route = routes.get(key);
+        return route != null ? route.endpoint : Endpoint.USERINFO;
+    }
+
+    /**
+     * userinfo가 403을 반환했음을 기록합니다. 재확인 주기 동안 introspection을 바로 사용합니다.
+     */
+    void userInfoForbidden(String key) {
+        Route route = routes.computeIfAbsent(key, ignored -> new Route());
+        route.nextProbeAt = clock.instant().plus(reprobeInterval);
+        if (route.endpoint != Endpoint.INTROSPECTION) {
+            log.debug("Userinfo is forbidden for client '{}'. Using introspection directly.", key);
+            route.endpoint = Endpoint.INTROSPECTION;
+        }
+    }
+
+    /**
+     * introspection을 사용 중이고 재확인 시각이 지났으면 백그라운드에서 userinfo를 다시 확인합니다.
+     *
+     * @param key 선택 키
+     * @param probe userinfo를 호출해 사용할 엔드포인트를 반환하는 함수 (판단할 수 없으면 null)
+     */
+    void probeIfDue(String key, Supplier<Endpoint> probe) {
+        Route route = routes.get(key);
+        if (route == null || route.endpoint != Endpoint.INTROSPECTION
+                || clock.instant().isBefore(route.nextProbeAt)
+                || !route.probing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            prober.execute(() -> runProbe(key, route, probe));
+        } catch (RejectedExecutionException e) {
+            route.probing.set(false);
+        }
+    }
+
+    @Override
+    public void close() {
+        prober.shutdownNow();
+    }
+
+    private void runProbe(String key, Route route, Supplier<Endpoint> probe) {
+        try {
+            Endpoint result = null;
+            try {
+                result = probe.get();
+            } catch (RuntimeException e) {
+                log.debug("Userinfo probe failed for client '{}': {}", key, e.getMessage());
+            }
+            if (result == Endpoint.USERINFO) {
+                log.debug("Userinfo is available again for client '{}'.", key);
+                route.endpoint = Endpoint.USERINFO;
+            } else {
+                route.nextProbeAt = clock.instant().plus(reprobeInterval);
+            }
+        } finally {
+            route.probing.set(false);
+        }
+    }
+
+    /**
+     * 클라이언트별 선택 상태
+     */
+    private static final class Route {
+
+        private volatile Endpoint endpoint = Endpoint.USERINFO;
+        private volatile Instant nextProbeAt = Instant.MIN;
+        private final AtomicBoolean probing = new AtomicBoolean();
+    }
+}
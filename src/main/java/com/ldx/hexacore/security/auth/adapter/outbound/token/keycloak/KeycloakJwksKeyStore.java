@@ -0,0 +1,212 @@
+package com.ldx.hexacore.security.auth.adapter.outbound.token.keycloak;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.JwkSet;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.PublicJwk;
+import lombok.extern.slf4j.Slf4j;
+
+import java.security.PublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Realm JWKS 서명 키 저장소
+ *
+ * <ul>
+ *   <li>첫 조회에 성공하면 갱신 주기마다 백그라운드에서 키를 다시 가져오므로 요청 경로에서는 조회하지 않습니다.</li>
+ *   <li>알 수 없는 kid가 들어오면 즉시 다시 조회하되, 최소 간격({@value #MIN_REFETCH_INTERVAL_SECONDS}초)으로 제한합니다.</li>
+ *   <li>동시에 여러 요청이 조회를 유발해도 실제 조회는 한 번만 수행하고 나머지는 그 결과를 기다립니다.</li>
+ *   <li>조회에 실패하면 마지막으로 가져온 키를 계속 사용합니다.</li>
+ * </ul>
+ */
+@Slf4j
+final class KeycloakJwksKeyStore implements AutoCloseable {
+
+    static final long MIN_REFETCH_INTERVAL_SECONDS = 10;
+
+    private static final Duration MIN_REFETCH_INTERVAL = Duration.ofSeconds(MIN_REFETCH_INTERVAL_SECONDS);
+    private static final String SIGNATURE_USE = "sig";
+
+    private final Supplier<String> jwksSource;
+    private final Duration refreshInterval;
+    private final Clock clock;
+    private final AtomicReference<CompletableFuture<Map<String, PublicKey>>> inFlight = new AtomicReference<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final ScheduledExecutorService scheduler;
+
+    private volatile Map<String, PublicKey> signingKeys = Collections.emptyMap();
+    private volatile Instant lastAttemptAt;
+
+    /**
+     * @param jwksSource JWKS JSON 문서를 가져오는 함수
+     * @param refreshInterval 백그라운드 갱신 주기
+     * @param clock 재조회 간격 계산에 사용할 시계
+     */
+    KeycloakJwksKeyStore(Supplier<String> jwksSource, Duration refreshInterval, Clock clock) {
+        this.jwksSource = jwksSource;
+        this.refreshInterval = refreshInterval;
+        this.clock = clock;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "keycloak-jwks-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * kid에 해당하는 서명 검증 키를 반환합니다.
+     *
+     * @param keyId 토큰 헤더의 kid
+     * @return 공개 키
+     * @throws JwtException 재조회 후에도 kid에 해당하는 키가 없는 경우
+     * @throws JwksUnavailableException 키를 한 번도 가져오지 못한 경우
+     */
+    PublicKey getKey(String keyId) {
+        Map<String, PublicKey> keys = signingKeys;
+        PublicKey key = keys.get(keyId);
+        if (key != null) {
+            return key;
+        }
+
+        if (inFlight.get() != null || isDue(MIN_REFETCH_INTERVAL)) {
+            // 첫 조회 또는 키 롤오버 직후의 새 kid - 갱신 주기를 기다리지 않고 다시 조회 (진행 중이면 합류)
+            keys = refetch(MIN_REFETCH_INTERVAL);
+            key = keys.get(keyId);
+        }
+
+        if (key != null) {
+            return key;
+        }
+        if (keys.isEmpty()) {
+            throw new JwksUnavailableException("Keycloak JWKS is not available", null);
+        }
+        throw new JwtException("Unknown signing key: " + keyId);
+    }
+
+    /**
+     * 현재 보관 중인 키 개수를 반환합니다.
+     */
+    int size() {
+        return signingKeys.size();
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private boolean isDue(Duration minInterval) {
+        Instant attemptedAt = lastAttemptAt;
+        return attemptedAt == null || !clock.instant().isBefore(attemptedAt.plus(minInterval));
+    }
+
+    /**
+     * 진행 중인 조회가 있으면 그 결과를 기다리고, 없으면 직접 조회합니다.
+     */
+    private Map<String, PublicKey> refetch(Duration minInterval) {
+        CompletableFuture<Map<String, PublicKey>> flight = new CompletableFuture<>();
+        CompletableFuture<Map<String, PublicKey>> existing = inFlight.compareAndExchange(null, flight);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        try {
+            // 대기하는 사이 다른 요청이 이미 조회를 마쳤다면 다시 조회하지 않음
+            Map<String, PublicKey> keys = isDue(minInterval) ? load() : signingKeys;
+            flight.complete(keys);
+            return keys;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.set(null);
+        }
+    }
+
+    private Map<String, PublicKey> load() {
+        lastAttemptAt = clock.instant();
+        try {
+            signingKeys = fetchSigningKeys();
+            log.debug("Fetched {} signing keys from Keycloak JWKS", signingKeys.size());
+            startScheduledRefresh();
+        } catch (RuntimeException e) {
+            if (signingKeys.isEmpty()) {
+                throw new JwksUnavailableException("Failed to fetch Keycloak JWKS", e);
+            }
+            log.warn("Failed to refresh Keycloak JWKS, keeping {} cached keys: {}",
+                signingKeys.size(), e.getMessage());
+        }
+        return signingKeys;
+    }
+
+    private void startScheduledRefresh() {
+        if (scheduled.compareAndSet(false, true)) {
+            long intervalMillis = refreshInterval.toMillis();
+            scheduler.scheduleWithFixedDelay(this::refreshQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void refreshQuietly() {
+        try {
+            refetch(Duration.ZERO);
+        } catch (RuntimeException e) {
+            log.warn("Scheduled Keycloak JWKS refresh failed: {}", e.getMessage());
+        }
+    }
+
+    private Map<String, PublicKey> fetchSigningKeys() {
+        String json = jwksSource.get();
+        if (json == null) {
+            throw new IllegalStateException("Empty JWKS response");
+        }
+
+        JwkSet jwkSet = Jwks.setParser().ignoreUnsupported(true).build().parse(json);
+        Map<String, PublicKey> keys = new HashMap<>();
+        for (Jwk<?> jwk : jwkSet.getKeys()) {
+            if (!(jwk instanceof PublicJwk<?> publicJwk) || jwk.getId() == null) {
+                continue;
+            }
+            String use = publicJwk.getPublicKeyUse();
+            if (use != null && !SIGNATURE_USE.equals(use)) {
+                continue;
+            }
+            keys.put(jwk.getId(), publicJwk.toKey());
+        }
+        return Map.copyOf(keys);
+    }
+
+    private static Map<String, PublicKey> await(CompletableFuture<Map<String, PublicKey>> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * JWKS를 가져올 수 없어 검증을 진행할 수 없는 경우
+     */
+    static final class JwksUnavailableException extends RuntimeException {
+
+        JwksUnavailableException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.ldx.hexacore.security.auth.adapter.outbound.token.keycloak;
+
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenValidationErrorCode;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenValidationResult;
+import com.ldx.hexacore.security.util.ClaimAuthoritiesMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.security.Key;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Set;
+
+/**
+ * Realm JWKS 기반 Keycloak access token 로컬 검증기
+ *
+ * <p>서명 검증 키는 {@link KeycloakJwksKeyStore}가 {@code /protocol/openid-connect/certs}에서 가져와 kid별로 보관합니다.
+ * 서명 외에 {@code iss}, {@code azp}, {@code aud}(설정된 경우), {@code exp}, {@code typ}를 확인합니다.</p>
+ *
+ * <p>JwtParser는 불변이므로 생성 시 한 번만 구성하여 재사용합니다.</p>
+ */
+@Slf4j
+final class KeycloakJwksTokenValidator implements AutoCloseable {
+
+    /**
+     * 허용하는 서명 알고리즘 (비대칭 키만 허용, HS*와 none은 거부)
+     */
+    private static final Set<String> ALLOWED_ALGORITHMS = Set.of(
+        "RS256", "RS384", "RS512", "PS256", "PS384", "PS512", "ES256", "ES384", "ES512"
+    );
+
+    private static final String ACCESS_TOKEN_TYPE = "Bearer";
+
+    private final KeycloakProperties properties;
+    private final KeycloakJwksKeyStore keyStore;
+    private final JwtParser parser;
+    private final ClaimAuthoritiesMapper authoritiesMapper;
+
+    KeycloakJwksTokenValidator(KeycloakProperties properties, RestTemplate restTemplate) {
+        this(properties, restTemplate, Clock.systemUTC());
+    }
+
+    KeycloakJwksTokenValidator(KeycloakProperties properties, RestTemplate restTemplate, Clock clock) {
+        this.properties = properties;
+        this.keyStore = new KeycloakJwksKeyStore(
+            () -> restTemplate.getForObject(properties.getJwksEndpoint(), String.class),
+            Duration.ofSeconds(properties.getJwksRefreshSeconds()),
+            clock
+        );
+        this.parser = Jwts.parser()
+            .keyLocator(new SigningKeyLocator())
+            .clockSkewSeconds(properties.getClockSkewSeconds())
+            .clock(() -> Date.from(clock.instant()))
+            .build();
+        this.authoritiesMapper = new ClaimAuthoritiesMapper(properties.getAuthorityClaims());
+    }
+
+    /**
+     * access token을 로컬에서 검증합니다.
+     *
+     * @param accessToken 검증할 토큰
+     * @return 검증 결과 (서명/클레임 위반 시 invalid)
+     * @throws KeycloakJwksKeyStore.JwksUnavailableException 서명 키를 한 번도 가져오지 못한 경우
+     */
+    TokenValidationResult validate(String accessToken) {
+        Claims claims;
+        try {
+            claims = parser.parseSignedClaims(accessToken).getPayload();
+        } catch (KeycloakJwksKeyStore.JwksUnavailableException e) {
+            throw e;
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("Local token validation failed: {}", e.getMessage());
+            return TokenValidationResult.invalid(errorCodeOf(e), e.getMessage() != null ? e.getMessage() : "Invalid token");
+        }
+
+        String violation = verifyClaims(claims);
+        if (violation != null) {
+            log.debug("Local token validation failed: {}", violation);
+            return TokenValidationResult.invalid(TokenValidationErrorCode.INVALID_CLAIMS, violation);
+        }
+
+        return new TokenValidationResult(
+            true,
+            claims.getSubject(),
+            claims.get("preferred_username", String.class),
+            authoritiesMapper.map(claims),
+            claims.getExpiration().toInstant(),
+            new HashMap<>(claims)
+        );
+    }
+
+    private String verifyClaims(Claims claims) {
+        if (!properties.getIssuer().equals(claims.getIssuer())) {
+            return "Invalid token issuer";
+        }
+        if (!properties.getClientId().equals(claims.get("azp", String.class))) {
+            return "Invalid token authorized party";
+        }
+        if (StringUtils.hasText(properties.getAudience())) {
+            Set<String> audience = claims.getAudience();
+            if (audience == null || !audience.contains(properties.getAudience())) {
+                return "Invalid token audience";
+            }
+        }
+        if (claims.getExpiration() == null) {
+            return "Token has no expiration";
+        }
+        String type = claims.get("typ", String.class);
+        if (type != null && !ACCESS_TOKEN_TYPE.equalsIgnoreCase(type)) {
+            return "Invalid token type";
+        }
+        return null;
+    }
+
+    private static TokenValidationErrorCode errorCodeOf(Exception e) {
+        if (e instanceof ExpiredJwtException) {
+            return TokenValidationErrorCode.EXPIRED;
+        }
+        if (e instanceof SignatureException) {
+            return TokenValidationErrorCode.INVALID_SIGNATURE;
+        }
+        if (e instanceof MalformedJwtException) {
+            return TokenValidationErrorCode.MALFORMED;
+        }
+        if (e instanceof UnsupportedJwtException) {
+            return TokenValidationErrorCode.UNSUPPORTED;
+        }
+        return TokenValidationErrorCode.INVALID_TOKEN;
+    }
+
+    @Override
+    public void close() {
+        keyStore.close();
+    }
+
+    private final class SigningKeyLocator extends LocatorAdapter<Key> {
+
+        @Override
+        protected Key locate(JwsHeader header) {
+            String algorithm = header.getAlgorithm();
+            if (algorithm == null || !ALLOWED_ALGORITHMS.contains(algorithm)) {
+                throw new JwtException("Unsupported signing algorithm: " + algorithm);
+            }
+            if (header.getKeyId() == null) {
+                throw new JwtException("Token has no key id");
+            }
+            return keyStore.getKey(header.getKeyId());
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.ldx.hexacore.security.auth.adapter.outbound.token.keycloak;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 토큰 하나에 부여된 UMA 권한 전체
+ *
+ * <p>{@code response_mode=permissions}로 요청한 UMA ticket 응답
+ * ({@code [{"rsid": ..., "rsname": ..., "scopes": [...]}]})을 리소스 id별 scope 집합으로 보관합니다.
+ * HTTP 메서드는 같은 이름의 리소스 scope로 취급합니다.</p>
+ */
+final class KeycloakPermissionSet {
+
+    /**
+     * 부여된 권한이 없는 토큰 (Keycloak이 403 not_authorized로 응답한 경우)
+     */
+    static final KeycloakPermissionSet EMPTY = new KeycloakPermissionSet(Map.of());
+
+    private final Map<String, Set<String>> scopesByResource;
+
+    private KeycloakPermissionSet(Map<String, Set<String>> scopesByResource) {
+        this.scopesByResource = scopesByResource;
+    }
+
+    /**
+     * UMA ticket 응답으로 권한 집합을 만듭니다.
+     *
+     * @param permissions 권한 배열
+     */
+    static KeycloakPermissionSet from(JsonNode permissions) {
+        if (permissions == null || !permissions.isArray() || permissions.isEmpty()) {
+            return EMPTY;
+        }
+        Map<String, Set<String>> scopesByResource = new HashMap<>();
+        for (JsonNode permission : permissions) {
+            String resourceId = permission.path("rsid").asText(null);
+            if (resourceId == null) {
+                continue;
+            }
+            Set<String> scopes = scopesByResource.computeIfAbsent(resourceId, id -> new HashSet<>());
+            for (JsonNode scope : permission.path("scopes")) {
+                scopes.add(scope.asText().toUpperCase(Locale.ROOT));
+            }
+        }
+        Map<String, Set<String>> copy = new HashMap<>();
+        scopesByResource.forEach((resourceId, scopes) -> copy.put(resourceId, Set.copyOf(scopes)));
+        return new KeycloakPermissionSet(Map.copyOf(copy));
+    }
+
+    /**
+     * 요청한 리소스와 메서드를 판정합니다.
+     *
+     * <p>리소스에 scope가 정의되어 있는데 메서드에 해당하는 scope가 없으면 Keycloak이 다르게 해석할 수 있으므로
+     * 판정하지 않습니다.</p>
+     *
+     * @param resource 요청 경로와 일치하는 리소스
+     * @param httpMethod HTTP 메서드
+     * @return 판정 결과
+     */
+    KeycloakPolicyIndex.Decision decide(KeycloakResourceCatalog.Resource resource, String httpMethod) {
+        String scope = httpMethod.toUpperCase(Locale.ROOT);
+        if (!resource.scopes().isEmpty() && !resource.scopes().contains(scope)) {
+            return KeycloakPolicyIndex.Decision.UNDECIDED;
+        }
+        Set<String> granted = scopesByResource.get(resource.id());
+        if (granted == null) {
+            return KeycloakPolicyIndex.Decision.DENY;
+        }
+        if (resource.scopes().isEmpty() || granted.contains(scope)) {
+            return KeycloakPolicyIndex.Decision.GRANT;
+        }
+        return KeycloakPolicyIndex.Decision.DENY;
+    }
+
+    int size() {
+        return scopesByResource.size();
+    }
+}
@@ -0,0 +1,139 @@
+package com.ldx.hexacore.security.auth.adapter.outbound.token.keycloak;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.ldx.hexacore.security.util.JwtPayloadReader;
+import com.ldx.hexacore.security.util.TokenFingerprint;
+import com.ldx.hexacore.security.util.TokenFingerprinter;
+import com.ldx.hexacore.security.util.ValidationMessages;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Function;
+
+/**
+ * 토큰별 UMA 권한 집합 캐시
+ *
+ * <p>토큰 하나의 권한 전체를 한 번 조회해 토큰 만료 시각까지 보관합니다. 권한 변경이 늦게 반영되는 시간을
+ * 제한하기 위해 최대 TTL을 함께 적용하며, 만료 시각을 알 수 없는 토큰은 최대 TTL을 따릅니다.
+ * 같은 토큰에 대한 동시 조회는 한 번만 수행됩니다.</p>
+ */
+final class KeycloakPermissionSetCache {
+
+    private final Cache<Key, CachedPermissions> cache;
+    private final TokenFingerprinter fingerprinter;
+    private final Duration maxTtl;
+    private final Clock clock;
+
+    /**
+     * @param maximumSize 최대 엔트리 수
+     * @param maxTtl 토큰 만료 시각과 관계없이 적용할 최대 보관 시간
+     */
+    KeycloakPermissionSetCache(long maximumSize, Duration maxTtl) {
+        this(maximumSize, maxTtl, Ticker.systemTicker(), Clock.systemUTC());
+    }
+
+    KeycloakPermissionSetCache(long maximumSize, Duration maxTtl, Ticker ticker, Clock clock) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException(ValidationMessages.mustBePositive("Maximum size"));
+        }
+        if (maxTtl == null || maxTtl.isNegative() || maxTtl.isZero()) {
+            throw new IllegalArgumentException(ValidationMessages.mustBePositive("Maximum TTL"));
+        }
+        this.maxTtl = maxTtl;
+        this.clock = clock;
+        this.fingerprinter = new TokenFingerprinter();
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .ticker(ticker)
+            .expireAfter(new PermissionsExpiry())
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * 토큰의 권한 집합을 반환합니다. 캐시에 없으면 조회해 저장합니다.
+     *
+     * @param accessToken 액세스 토큰
+     * @param loader 권한 집합 조회 함수 (오류면 null을 반환하며, null은 저장하지 않음)
+     * @return 권한 집합, 조회에 실패하면 null
+     */
+    KeycloakPermissionSet get(String accessToken, Function<String, KeycloakPermissionSet> loader) {
+        CachedPermissions cached = cache.get(keyOf(accessToken), key -> {
+            KeycloakPermissionSet permissions = loader.apply(accessToken);
+            return permissions != null ? new CachedPermissions(permissions, ttlOf(accessToken).toNanos()) : null;
+        });
+        return cached != null ? cached.permissions() : null;
+    }
+
+    /**
+     * subject의 모든 권한 집합을 제거합니다.
+     */
+    void invalidateSubject(String subject) {
+        cache.asMap().keySet().removeIf(key -> subject.equals(key.subject()));
+    }
+
+    /**
+     * 모든 권한 집합을 제거합니다.
+     */
+    void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    Cache<Key, CachedPermissions> getCache() {
+        return cache;
+    }
+
+    private Key keyOf(String accessToken) {
+        JsonNode payload = JwtPayloadReader.readPayload(accessToken);
+        JsonNode sub = payload != null ? payload.get("sub") : null;
+        return new Key(fingerprinter.fingerprint(accessToken), sub != null && sub.isTextual() ? sub.asText() : null);
+    }
+
+    private Duration ttlOf(String accessToken) {
+        Instant expiresAt = JwtPayloadReader.readExpiration(accessToken);
+        if (expiresAt == null) {
+            return maxTtl;
+        }
+        Duration remaining = Duration.between(clock.instant(), expiresAt);
+        if (remaining.isNegative()) {
+            return Duration.ZERO;
+        }
+        return remaining.compareTo(maxTtl) < 0 ? remaining : maxTtl;
+    }
+
+    /**
+     * @param fingerprint 토큰 지문
+     * @param subject 토큰의 sub 클레임 (불투명 토큰이면 null)
+     */
+    record Key(TokenFingerprint fingerprint, String subject) {
+    }
+
+    record CachedPermissions(KeycloakPermissionSet permissions, long ttlNanos) {
+    }
+
+    /**
+     * 엔트리별 TTL을 적용하는 Expiry. 조회 시에는 남은 수명을 그대로 유지합니다.
+     */
+    private static final class PermissionsExpiry implements Expiry<Key, CachedPermissions> {
+
+        @Override
+        public long expireAfterCreate(Key key, CachedPermissions value, long currentTime) {
+            return value.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(Key key, CachedPermissions value, long currentTime, long currentDuration) {
+            return value.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterRead(Key key, CachedPermissions value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
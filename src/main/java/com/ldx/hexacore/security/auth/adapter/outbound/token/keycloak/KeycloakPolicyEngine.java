@@ -0,0 +1,138 @@
+package com.ldx.hexacore.security.auth.adapter.outbound.token.keycloak;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.ldx.hexacore.security.util.JwtPayloadReader;
+import com.ldx.hexacore.security.util.ValidationMessages;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 로컬 UMA 권한 판정 엔진
+ *
+ * <p>백그라운드 스레드가 주기적으로 리소스 서버 권한 설정을 가져와 {@link KeycloakPolicyIndex}로 교체하고,
+ * 요청 스레드는 현재 색인으로 원격 호출 없이 판정합니다. 첫 동기화가 끝나기 전이나 색인이 판정할 수 없는
+ * 요청은 {@link KeycloakPolicyIndex.Decision#UNDECIDED}를 반환하므로 호출자가 원격 판정으로 넘깁니다.
+ * 동기화에 실패하면 이전 색인을 계속 사용합니다.</p>
+ */
+@Slf4j
+final class KeycloakPolicyEngine implements AutoCloseable {
+
+    private final Supplier<JsonNode> settingsSource;
+    private final ScheduledExecutorService scheduler;
+    private final LongAdder localDecisions = new LongAdder();
+    private final LongAdder undecided = new LongAdder();
+
+    private volatile KeycloakPolicyIndex index;
+
+    /**
+     * @param settingsSource 리소스 서버 권한 설정 JSON을 가져오는 함수
+     * @param syncInterval 동기화 주기
+     */
+    KeycloakPolicyEngine(Supplier<JsonNode> settingsSource, Duration syncInterval) {
+        if (syncInterval == null || syncInterval.isNegative() || syncInterval.isZero()) {
+            throw new IllegalArgumentException(ValidationMessages.mustBePositive("Sync interval"));
+        }
+        this.settingsSource = settingsSource;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "keycloak-authz-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = syncInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::syncQuietly, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Admin API에서 클라이언트의 리소스 서버 권한 설정을 가져오는 함수를 만듭니다.
+     *
+     * <p>클라이언트 서비스 계정에 realm-management의 view-clients(또는 view-authorization) 역할이 필요합니다.</p>
+     */
+    static Supplier<JsonNode> adminSettingsSource(KeycloakProperties properties, RestTemplate restTemplate) {
+        return () -> {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setBearerAuth(KeycloakClientCredentials.requestAccessToken(properties, restTemplate));
+            HttpEntity<Void> request = new HttpEntity<>(headers);
+
+            JsonNode clients = restTemplate.exchange(
+                properties.getAdminRealmUrl() + "/clients?clientId={clientId}",
+                HttpMethod.GET, request, JsonNode.class, properties.getClientId()).getBody();
+            if (clients == null || !clients.isArray() || clients.isEmpty()) {
+                throw new IllegalStateException("Keycloak client not found: " + properties.getClientId());
+            }
+
+            return restTemplate.exchange(
+                properties.getAdminRealmUrl() + "/clients/{id}/authz/resource-server/settings",
+                HttpMethod.GET, request, JsonNode.class, clients.get(0).path("id").asText()).getBody();
+        };
+    }
+
+    /**
+     * 요청을 로컬에서 판정합니다.
+     *
+     * @param accessToken 검증이 끝난 액세스 토큰
+     */
+    KeycloakPolicyIndex.Decision evaluate(String accessToken, String requestUri, String httpMethod) {
+        KeycloakPolicyIndex current = index;
+        KeycloakPolicyIndex.Decision decision = current != null
+            ? current.evaluate(JwtPayloadReader.readPayload(accessToken), requestUri, httpMethod)
+            : KeycloakPolicyIndex.Decision.UNDECIDED;
+        if (decision == KeycloakPolicyIndex.Decision.UNDECIDED) {
+            undecided.increment();
+        } else {
+            localDecisions.increment();
+        }
+        return decision;
+    }
+
+    /**
+     * 권한 설정을 즉시 다시 가져옵니다.
+     *
+     * @throws RuntimeException 가져오기에 실패한 경우 (이전 색인은 유지)
+     */
+    void sync() {
+        JsonNode settings = settingsSource.get();
+        if (settings == null) {
+            throw new IllegalStateException("Empty authorization settings response");
+        }
+        KeycloakPolicyIndex synced = KeycloakPolicyIndex.from(settings);
+        index = synced;
+        log.debug("Synced Keycloak authorization settings: {} resources, {} permissions",
+            synced.resourceCount(), synced.permissionCount());
+    }
+
+    boolean isReady() {
+        return index != null;
+    }
+
+    long getLocalDecisionCount() {
+        return localDecisions.sum();
+    }
+
+    long getUndecidedCount() {
+        return undecided.sum();
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private void syncQuietly() {
+        try {
+            sync();
+        } catch (RuntimeException e) {
+            log.warn("Keycloak authorization settings sync failed, {}: {}",
+                index != null ? "keeping previous index" : "using remote authorization", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,364 @@
+package com.ldx.hexacore.security.auth.adapter.outbound.token.keycloak;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keycloak 리소스 서버 권한 설정의 메모리 색인
+ *
+ * <p>Admin API의 {@code authz/resource-server/settings} 내보내기(JSON)로 만든 불변 스냅샷입니다.
+ * 요청 경로와 일치하는 리소스를 찾고, 그 리소스에 적용되는 권한(permission)과 정책(policy)을 토큰 클레임으로
+ * 평가합니다. HTTP 메서드는 같은 이름의 리소스 scope로 취급합니다.</p>
+ *
+ * <p>로컬에서 평가하는 정책 타입은 role, group, user, client, aggregate입니다. 그 외 타입(js, time, regex 등),
+ * 토큰에 groups 클레임이 없는 group 정책, 소유자 관리 리소스, 일치하는 리소스가 없는 요청은
+ * {@link Decision#UNDECIDED}를 반환해 원격 판정으로 넘깁니다.</p>
+ */
+final class KeycloakPolicyIndex {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    /**
+     * 로컬 판정 결과
+     */
+    enum Decision {
+        GRANT,
+        DENY,
+        UNDECIDED
+    }
+
+    private final String enforcementMode;
+    private final String decisionStrategy;
+    private final List<Resource> resources;
+    private final Map<String, Policy> policies;
+    private final List<Policy> permissions;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    private KeycloakPolicyIndex(String enforcementMode, String decisionStrategy, List<Resource> resources,
+                                Map<String, Policy> policies, List<Policy> permissions) {
+        this.enforcementMode = enforcementMode;
+        this.decisionStrategy = decisionStrategy;
+        this.resources = resources;
+        this.policies = policies;
+        this.permissions = permissions;
+    }
+
+    /**
+     * 리소스 서버 설정 내보내기로 색인을 만듭니다.
+     *
+     * @param settings {@code ResourceServerRepresentation} JSON
+     * @return 색인
+     */
+    static KeycloakPolicyIndex from(JsonNode settings) {
+        List<Resource> resources = new ArrayList<>();
+        for (JsonNode resource : settings.path("resources")) {
+            Set<String> scopes = new HashSet<>();
+            for (JsonNode scope : resource.path("scopes")) {
+                scopes.add(scope.path("name").asText().toUpperCase(Locale.ROOT));
+            }
+            resources.add(new Resource(
+                resource.path("name").asText(),
+                resource.path("type").asText(null),
+                textList(resource.path("uris")),
+                scopes,
+                resource.path("ownerManagedAccess").asBoolean(false)));
+        }
+
+        Map<String, Policy> policies = new HashMap<>();
+        List<Policy> permissions = new ArrayList<>();
+        for (JsonNode node : settings.path("policies")) {
+            Policy policy = Policy.from(node);
+            policies.put(policy.name(), policy);
+            if (policy.isPermission()) {
+                permissions.add(policy);
+            }
+        }
+
+        return new KeycloakPolicyIndex(
+            settings.path("policyEnforcementMode").asText("ENFORCING"),
+            settings.path("decisionStrategy").asText("UNANIMOUS"),
+            List.copyOf(resources),
+            Map.copyOf(policies),
+            List.copyOf(permissions));
+    }
+
+    /**
+     * 요청을 로컬에서 판정합니다.
+     *
+     * @param claims 검증된 액세스 토큰의 payload
+     * @param requestUri 요청 경로 (쿼리 문자열 허용)
+     * @param httpMethod HTTP 메서드
+     * @return 판정 결과
+     */
+    Decision evaluate(JsonNode claims, String requestUri, String httpMethod) {
+        if ("DISABLED".equals(enforcementMode)) {
+            return Decision.GRANT;
+        }
+        if (claims == null || requestUri == null || httpMethod == null) {
+            return Decision.UNDECIDED;
+        }
+
+        int query = requestUri.indexOf('?');
+        String path = query >= 0 ? requestUri.substring(0, query) : requestUri;
+        Resource resource = findResource(path);
+        if (resource == null || resource.ownerManagedAccess()) {
+            return Decision.UNDECIDED;
+        }
+
+        String scope = httpMethod.toUpperCase(Locale.ROOT);
+        if (!resource.scopes().isEmpty() && !resource.scopes().contains(scope)) {
+            return Decision.UNDECIDED;
+        }
+
+        List<Boolean> results = new ArrayList<>();
+        for (Policy permission : permissions) {
+            if (permission.appliesTo(resource, scope)) {
+                results.add(evaluatePolicy(permission, claims, new HashSet<>()));
+            }
+        }
+        if (results.isEmpty()) {
+            return "PERMISSIVE".equals(enforcementMode) ? Decision.GRANT : Decision.DENY;
+        }
+
+        Boolean granted = combine(decisionStrategy, results);
+        if (granted == null) {
+            return Decision.UNDECIDED;
+        }
+        return granted ? Decision.GRANT : Decision.DENY;
+    }
+
+    int resourceCount() {
+        return resources.size();
+    }
+
+    int permissionCount() {
+        return permissions.size();
+    }
+
+    private Resource findResource(String path) {
+        Resource best = null;
+        String bestUri = null;
+        Comparator<String> specificity = null;
+        for (Resource resource : resources) {
+            for (String uri : resource.uris()) {
+                if (!pathMatcher.match(uri, path)) {
+                    continue;
+                }
+                if (bestUri != null) {
+                    if (specificity == null) {
+                        specificity = pathMatcher.getPatternComparator(path);
+                    }
+                    if (specificity.compare(uri, bestUri) >= 0) {
+                        continue;
+                    }
+                }
+                best = resource;
+                bestUri = uri;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 정책을 평가합니다. NEGATIVE 로직은 결과를 반전합니다.
+     *
+     * @return 허용이면 true, 거부면 false, 로컬에서 평가할 수 없으면 null
+     */
+    private Boolean evaluatePolicy(Policy policy, JsonNode claims, Set<String> visiting) {
+        if (!visiting.add(policy.name())) {
+            return null;
+        }
+        Boolean result = switch (policy.type()) {
+            case "resource", "scope", "aggregate" -> evaluateApplied(policy, claims, visiting);
+            case "role" -> evaluateRoles(policy, claims);
+            case "group" -> evaluateGroups(policy, claims);
+            case "user" -> containsAny(policy.config("users"), claims.path("preferred_username").asText(null));
+            case "client" -> containsAny(policy.config("clients"), claims.path("azp").asText(null));
+            default -> null;
+        };
+        visiting.remove(policy.name());
+        if (result == null) {
+            return null;
+        }
+        return policy.negative() != result;
+    }
+
+    private Boolean evaluateApplied(Policy policy, JsonNode claims, Set<String> visiting) {
+        List<String> applied = textList(parse(policy.config("applyPolicies")));
+        if (applied.isEmpty()) {
+            return false;
+        }
+        List<Boolean> results = new ArrayList<>();
+        for (String name : applied) {
+            Policy child = policies.get(name);
+            results.add(child != null ? evaluatePolicy(child, claims, visiting) : null);
+        }
+        return combine(policy.decisionStrategy(), results);
+    }
+
+    /**
+     * role 정책: required 역할이 있으면 모두 보유해야 하고, 없으면 하나 이상 보유하면 허용합니다.
+     */
+    private static Boolean evaluateRoles(Policy policy, JsonNode claims) {
+        Set<String> granted = new HashSet<>(textList(claims.path("realm_access").path("roles")));
+        claims.path("resource_access").fields().forEachRemaining(client -> {
+            for (JsonNode role : client.getValue().path("roles")) {
+                granted.add(client.getKey() + "/" + role.asText());
+            }
+        });
+
+        boolean anyRequired = false;
+        boolean anyMatched = false;
+        for (JsonNode role : parse(policy.config("roles"))) {
+            String name = role.path("id").asText();
+            boolean present = granted.contains(name);
+            if (role.path("required").asBoolean(false)) {
+                anyRequired = true;
+                if (!present) {
+                    return false;
+                }
+            }
+            anyMatched |= present;
+        }
+        return anyRequired || anyMatched;
+    }
+
+    /**
+     * group 정책: 토큰의 groups 클레임(전체 경로)으로 평가합니다. 클레임이 없으면 평가할 수 없습니다.
+     */
+    private static Boolean evaluateGroups(Policy policy, JsonNode claims) {
+        String claimName = policy.config("groupsClaim");
+        JsonNode groupsClaim = claims.get(claimName != null && !claimName.isBlank() ? claimName : "groups");
+        if (groupsClaim == null || !groupsClaim.isArray()) {
+            return null;
+        }
+        List<String> memberOf = new ArrayList<>();
+        for (JsonNode group : groupsClaim) {
+            String path = group.asText();
+            memberOf.add(path.startsWith("/") ? path : "/" + path);
+        }
+        for (JsonNode group : parse(policy.config("groups"))) {
+            String path = group.path("path").asText();
+            boolean extendChildren = group.path("extendChildren").asBoolean(false);
+            for (String member : memberOf) {
+                if (member.equals(path) || (extendChildren && member.startsWith(path + "/"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static Boolean containsAny(String configured, String value) {
+        return value != null && textList(parse(configured)).contains(value);
+    }
+
+    /**
+     * 결정 전략으로 결과를 합칩니다.
+     *
+     * @return 허용이면 true, 거부면 false, 평가할 수 없는 결과 때문에 정할 수 없으면 null
+     */
+    private static Boolean combine(String strategy, List<Boolean> results) {
+        int grants = 0;
+        int denies = 0;
+        int unknown = 0;
+        for (Boolean result : results) {
+            if (result == null) {
+                unknown++;
+            } else if (result) {
+                grants++;
+            } else {
+                denies++;
+            }
+        }
+        switch (strategy) {
+            case "AFFIRMATIVE":
+                return grants > 0 ? Boolean.TRUE : unknown > 0 ? null : Boolean.FALSE;
+            case "CONSENSUS":
+                return unknown > 0 ? null : grants > denies;
+            default:
+                return denies > 0 ? Boolean.FALSE : unknown > 0 ? null : Boolean.TRUE;
+        }
+    }
+
+    /**
+     * 정책 config 값은 JSON 배열을 담은 문자열입니다.
+     */
+    private static JsonNode parse(String json) {
+        if (json == null || json.isBlank()) {
+            return OBJECT_MAPPER.createArrayNode();
+        }
+        try {
+            return OBJECT_MAPPER.readTree(json);
+        } catch (Exception e) {
+            return OBJECT_MAPPER.createArrayNode();
+        }
+    }
+
+    private static List<String> textList(JsonNode array) {
+        if (array == null || !array.isArray()) {
+            return Collections.emptyList();
+        }
+        List<String> values = new ArrayList<>(array.size());
+        array.forEach(value -> values.add(value.asText()));
+        return values;
+    }
+
+    private record Resource(String name, String type, List<String> uris, Set<String> scopes,
+                            boolean ownerManagedAccess) {
+    }
+
+    /**
+     * 정책 또는 권한(type이 resource/scope인 정책)
+     */
+    private record Policy(String name, String type, boolean negative, String decisionStrategy,
+                          Map<String, String> config, Set<String> resources, Set<String> scopes) {
+
+        static Policy from(JsonNode node) {
+            Map<String, String> config = new HashMap<>();
+            node.path("config").fields().forEachRemaining(entry -> config.put(entry.getKey(), entry.getValue().asText()));
+            Set<String> scopes = new LinkedHashSet<>();
+            for (String scope : textList(parse(config.get("scopes")))) {
+                scopes.add(scope.toUpperCase(Locale.ROOT));
+            }
+            return new Policy(
+                node.path("name").asText(),
+                node.path("type").asText(),
+                "NEGATIVE".equals(node.path("logic").asText()),
+                node.path("decisionStrategy").asText("UNANIMOUS"),
+                Map.copyOf(config),
+                Set.copyOf(textList(parse(config.get("resources")))),
+                Set.copyOf(scopes));
+        }
+
+        String config(String key) {
+            return config.get(key);
+        }
+
+        boolean isPermission() {
+            return "resource".equals(type) || "scope".equals(type);
+        }
+
+        boolean appliesTo(Resource resource, String scope) {
+            if ("resource".equals(type)) {
+                String resourceType = config.get("defaultResourceType");
+                return resources.contains(resource.name())
+                    || (resourceType != null && resourceType.equals(resource.type()));
+            }
+            return !resource.scopes().isEmpty() && scopes.contains(scope)
+                && (resources.isEmpty() || resources.contains(resource.name()));
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package com.ldx.hexacore.security.auth.adapter.outbound.token.keycloak;
 
+import com.ldx.hexacore.security.util.ClaimAuthoritiesMapper;
 import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class KeycloakProperties {
     
     private String serverUrl;
@@ -11,6 +15,36 @@ public class KeycloakProperties {
     private String grantType = "password";
     private String scopes = "openid profile email";
     private boolean publicClient = false;
+    private boolean localValidation = false;
+    private String audience;
+    private int jwksRefreshSeconds = 300;
+    private int clockSkewSeconds = 30;
+    private int endpointReprobeSeconds = 300;
+    private List<ClaimAuthoritiesMapper.AuthorityClaim> authorityClaims = new ArrayList<>();
+    private boolean remoteCacheEnabled = false;
+    private long remoteCacheMaximumSize = 10000;
+    private int remoteCacheTtlSeconds = 60;
+    private int remoteCacheInactiveTtlSeconds = 5;
+    private boolean authorizationCacheEnabled = false;
+    private long authorizationCacheMaximumSize = 10000;
+    private int authorizationCacheGrantTtlSeconds = 60;
+    private int authorizationCacheDenyTtlSeconds = 10;
+    private List<String> authorizationRouteTemplates = new ArrayList<>();
+    private boolean authorizationLearnRouteTemplates = false;
+    private boolean localAuthorizationEnabled = false;
+    private int localAuthorizationSyncSeconds = 300;
+    private boolean permissionSetEnabled = false;
+    private long permissionSetMaximumSize = 10000;
+    private int permissionSetMaxTtlSeconds = 300;
+    private int permissionSetResourceRefreshSeconds = 300;
+    private boolean parallelAuthorizationEnabled = false;
+    private boolean parallelAuthorizationVirtualThreads = true;
+    private int parallelAuthorizationPoolSize = 16;
+    private int parallelAuthorizationQueueCapacity = 0;
+    private boolean degradedModeEnabled = false;
+    private int degradedModeGracePeriodSeconds = 300;
+    private long degradedModeMaximumSize = 10000;
+    private boolean degradedModeLocalVerification = true;
     
     public String getServerUrl() {
         return serverUrl;
@@ -68,6 +102,257 @@ public class KeycloakProperties {
         this.publicClient = publicClient;
     }
     
+    public boolean isLocalValidation() {
+        return localValidation;
+    }
+    
+    public void setLocalValidation(boolean localValidation) {
+        this.localValidation = localValidation;
+    }
+    
+    public String getAudience() {
+        return audience;
+    }
+    
+    public void setAudience(String audience) {
+        this.audience = audience;
+    }
+    
+    public int getJwksRefreshSeconds() {
+        return jwksRefreshSeconds;
+    }
+    
+    public void setJwksRefreshSeconds(int jwksRefreshSeconds) {
+        this.jwksRefreshSeconds = jwksRefreshSeconds;
+    }
+    
+    public int getClockSkewSeconds() {
+        return clockSkewSeconds;
+    }
+    
+    public void setClockSkewSeconds(int clockSkewSeconds) {
+        this.clockSkewSeconds = clockSkewSeconds;
+    }
+    
+    public int getEndpointReprobeSeconds() {
+        return endpointReprobeSeconds;
+    }
+    
+    public void setEndpointReprobeSeconds(int endpointReprobeSeconds) {
+        this.endpointReprobeSeconds = endpointReprobeSeconds;
+    }
+    
+    public List<ClaimAuthoritiesMapper.AuthorityClaim> getAuthorityClaims() {
+        return authorityClaims;
+    }
+    
+    public void setAuthorityClaims(List<ClaimAuthoritiesMapper.AuthorityClaim> authorityClaims) {
+        this.authorityClaims = authorityClaims != null ? authorityClaims : new ArrayList<>();
+    }
+    
+    public boolean isRemoteCacheEnabled() {
+        return remoteCacheEnabled;
+    }
+    
+    public void setRemoteCacheEnabled(boolean remoteCacheEnabled) {
+        this.remoteCacheEnabled = remoteCacheEnabled;
+    }
+    
+    public long getRemoteCacheMaximumSize() {
+        return remoteCacheMaximumSize;
+    }
+    
+    public void setRemoteCacheMaximumSize(long remoteCacheMaximumSize) {
+        this.remoteCacheMaximumSize = remoteCacheMaximumSize;
+    }
+    
+    public int getRemoteCacheTtlSeconds() {
+        return remoteCacheTtlSeconds;
+    }
+    
+    public void setRemoteCacheTtlSeconds(int remoteCacheTtlSeconds) {
+        this.remoteCacheTtlSeconds = remoteCacheTtlSeconds;
+    }
+    
+    public int getRemoteCacheInactiveTtlSeconds() {
+        return remoteCacheInactiveTtlSeconds;
+    }
+    
+    public void setRemoteCacheInactiveTtlSeconds(int remoteCacheInactiveTtlSeconds) {
+        this.remoteCacheInactiveTtlSeconds = remoteCacheInactiveTtlSeconds;
+    }
+    
+    public boolean isAuthorizationCacheEnabled() {
+        return authorizationCacheEnabled;
+    }
+    
+    public void setAuthorizationCacheEnabled(boolean authorizationCacheEnabled) {
+        this.authorizationCacheEnabled = authorizationCacheEnabled;
+    }
+    
+    public long getAuthorizationCacheMaximumSize() {
+        return authorizationCacheMaximumSize;
+    }
+    
+    public void setAuthorizationCacheMaximumSize(long authorizationCacheMaximumSize) {
+        this.authorizationCacheMaximumSize = authorizationCacheMaximumSize;
+    }
+    
+    public int getAuthorizationCacheGrantTtlSeconds() {
+        return authorizationCacheGrantTtlSeconds;
+    }
+    
+    public void setAuthorizationCacheGrantTtlSeconds(int authorizationCacheGrantTtlSeconds) {
+        this.authorizationCacheGrantTtlSeconds = authorizationCacheGrantTtlSeconds;
+    }
+    
+    public int getAuthorizationCacheDenyTtlSeconds() {
+        return authorizationCacheDenyTtlSeconds;
+    }
+    
+    public void setAuthorizationCacheDenyTtlSeconds(int authorizationCacheDenyTtlSeconds) {
+        this.authorizationCacheDenyTtlSeconds = authorizationCacheDenyTtlSeconds;
+    }
+    
+    public List<String> getAuthorizationRouteTemplates() {
+        return authorizationRouteTemplates;
+    }
+    
+    public void setAuthorizationRouteTemplates(List<String> authorizationRouteTemplates) {
+        this.authorizationRouteTemplates = authorizationRouteTemplates;
+    }
+    
+    public boolean isAuthorizationLearnRouteTemplates() {
+        return authorizationLearnRouteTemplates;
+    }
+    
+    public void setAuthorizationLearnRouteTemplates(boolean authorizationLearnRouteTemplates) {
+        this.authorizationLearnRouteTemplates = authorizationLearnRouteTemplates;
+    }
+    
+    public boolean isLocalAuthorizationEnabled() {
+        return localAuthorizationEnabled;
+    }
+    
+    public void setLocalAuthorizationEnabled(boolean localAuthorizationEnabled) {
+        this.localAuthorizationEnabled = localAuthorizationEnabled;
+    }
+    
+    public int getLocalAuthorizationSyncSeconds() {
+        return localAuthorizationSyncSeconds;
+    }
+    
+    public void setLocalAuthorizationSyncSeconds(int localAuthorizationSyncSeconds) {
+        this.localAuthorizationSyncSeconds = localAuthorizationSyncSeconds;
+    }
+
+    public boolean isPermissionSetEnabled() {
+        return permissionSetEnabled;
+    }
+
+    public void setPermissionSetEnabled(boolean permissionSetEnabled) {
+        this.permissionSetEnabled = permissionSetEnabled;
+    }
+
+    public long getPermissionSetMaximumSize() {
+        return permissionSetMaximumSize;
+    }
+
+    public void setPermissionSetMaximumSize(long permissionSetMaximumSize) {
+        this.permissionSetMaximumSize = permissionSetMaximumSize;
+    }
+
+    public int getPermissionSetMaxTtlSeconds() {
+        return permissionSetMaxTtlSeconds;
+    }
+
+    public void setPermissionSetMaxTtlSeconds(int permissionSetMaxTtlSeconds) {
+        this.permissionSetMaxTtlSeconds = permissionSetMaxTtlSeconds;
+    }
+
+    public int getPermissionSetResourceRefreshSeconds() {
+        return permissionSetResourceRefreshSeconds;
+    }
+
+    public void setPermissionSetResourceRefreshSeconds(int permissionSetResourceRefreshSeconds) {
+        this.permissionSetResourceRefreshSeconds = permissionSetResourceRefreshSeconds;
+    }
+
+    public boolean isParallelAuthorizationEnabled() {
+        return parallelAuthorizationEnabled;
+    }
+
+    public void setParallelAuthorizationEnabled(boolean parallelAuthorizationEnabled) {
+        this.parallelAuthorizationEnabled = parallelAuthorizationEnabled;
+    }
+
+    public boolean isParallelAuthorizationVirtualThreads() {
+        return parallelAuthorizationVirtualThreads;
+    }
+
+    public void setParallelAuthorizationVirtualThreads(boolean parallelAuthorizationVirtualThreads) {
+        this.parallelAuthorizationVirtualThreads = parallelAuthorizationVirtualThreads;
+    }
+
+    public int getParallelAuthorizationPoolSize() {
+        return parallelAuthorizationPoolSize;
+    }
+
+    public void setParallelAuthorizationPoolSize(int parallelAuthorizationPoolSize) {
+        this.parallelAuthorizationPoolSize = parallelAuthorizationPoolSize;
+    }
+
+    public int getParallelAuthorizationQueueCapacity() {
+        return parallelAuthorizationQueueCapacity;
+    }
+
+    public void setParallelAuthorizationQueueCapacity(int parallelAuthorizationQueueCapacity) {
+        this.parallelAuthorizationQueueCapacity = parallelAuthorizationQueueCapacity;
+    }
+
+    public boolean isDegradedModeEnabled() {
+        return degradedModeEnabled;
+    }
+
+    public void setDegradedModeEnabled(boolean degradedModeEnabled) {
+        this.degradedModeEnabled = degradedModeEnabled;
+    }
+
+    public int getDegradedModeGracePeriodSeconds() {
+        return degradedModeGracePeriodSeconds;
+    }
+
+    public void setDegradedModeGracePeriodSeconds(int degradedModeGracePeriodSeconds) {
+        this.degradedModeGracePeriodSeconds = degradedModeGracePeriodSeconds;
+    }
+
+    public long getDegradedModeMaximumSize() {
+        return degradedModeMaximumSize;
+    }
+
+    public void setDegradedModeMaximumSize(long degradedModeMaximumSize) {
+        this.degradedModeMaximumSize = degradedModeMaximumSize;
+    }
+
+    public boolean isDegradedModeLocalVerification() {
+        return degradedModeLocalVerification;
+    }
+
+    public void setDegradedModeLocalVerification(boolean degradedModeLocalVerification) {
+        this.degradedModeLocalVerification = degradedModeLocalVerification;
+    }
+    
+    /**
+     * Realm issuer URL. Keycloak access token의 iss 클레임과 일치해야 합니다.
+     */
+    public String getIssuer() {
+        return String.format("%s/realms/%s", normalizeServerUrl(), realm);
+    }
+    
+    public String getJwksEndpoint() {
+        return String.format("%s/realms/%s/protocol/openid-connect/certs", normalizeServerUrl(), realm);
+    }
+    
     public String getTokenEndpoint() {
         return String.format("%s/realms/%s/protocol/openid-connect/token", normalizeServerUrl(), realm);
     }
@@ -80,6 +365,20 @@ public class KeycloakProperties {
         return String.format("%s/realms/%s/protocol/openid-connect/userinfo", normalizeServerUrl(), realm);
     }
     
+    /**
+     * Admin REST API의 realm URL
+     */
+    public String getAdminRealmUrl() {
+        return String.format("%s/admin/realms/%s", normalizeServerUrl(), realm);
+    }
+    
+    /**
+     * UMA Protection API 리소스 목록 엔드포인트
+     */
+    public String getResourceSetEndpoint() {
+        return String.format("%s/realms/%s/authz/protection/resource_set", normalizeServerUrl(), realm);
+    }
+    
     public boolean isValid() {
         return StringUtils.hasText(serverUrl) &&
                StringUtils.hasText(realm) &&
@@ -0,0 +1,131 @@
+package com.ldx.hexacore.security.auth.adapter.outbound.token.keycloak;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenValidationResult;
+import com.ldx.hexacore.security.util.TokenFingerprint;
+import com.ldx.hexacore.security.util.TokenFingerprinter;
+import com.ldx.hexacore.security.util.ValidationMessages;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * userinfo/introspection 원격 검증 결과 캐시
+ *
+ * <p>Keycloak이 명확하게 응답한 결과만 토큰 지문({@link TokenFingerprint}) 키로 보관합니다.</p>
+ *
+ * <ul>
+ *   <li>활성 토큰은 설정된 TTL과 토큰 만료 시각 중 더 이른 쪽까지 보관합니다.
+ *       만료 시각을 알 수 없는 불투명 토큰은 설정된 TTL을 따릅니다.</li>
+ *   <li>비활성 토큰은 별도의 짧은 TTL 동안 보관합니다.</li>
+ *   <li>5xx, 연결 오류, 클라이언트 인증 실패 같은 오류 응답은 저장하지 않습니다.</li>
+ * </ul>
+ */
+final class KeycloakRemoteValidationCache {
+
+    private final Cache<TokenFingerprint, CachedResult> cache;
+    private final TokenFingerprinter fingerprinter;
+    private final Duration activeTtl;
+    private final Duration inactiveTtl;
+    private final Clock clock;
+
+    KeycloakRemoteValidationCache(long maximumSize, Duration activeTtl, Duration inactiveTtl) {
+        this(maximumSize, activeTtl, inactiveTtl, Ticker.systemTicker(), Clock.systemUTC());
+    }
+
+    KeycloakRemoteValidationCache(long maximumSize, Duration activeTtl, Duration inactiveTtl,
+                                  Ticker ticker, Clock clock) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException(ValidationMessages.mustBePositive("Maximum size"));
+        }
+        if (activeTtl == null || activeTtl.isNegative() || activeTtl.isZero()) {
+            throw new IllegalArgumentException(ValidationMessages.mustBePositive("Active TTL"));
+        }
+        if (inactiveTtl == null || inactiveTtl.isNegative()) {
+            throw new IllegalArgumentException(ValidationMessages.invalidFormat("Inactive TTL", inactiveTtl));
+        }
+        this.activeTtl = activeTtl;
+        this.inactiveTtl = inactiveTtl;
+        this.clock = clock;
+        this.fingerprinter = new TokenFingerprinter();
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .ticker(ticker)
+            .expireAfter(new ResultExpiry())
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * 캐시된 검증 결과를 반환합니다.
+     *
+     * @return 검증 결과, 없으면 null
+     */
+    TokenValidationResult get(String accessToken) {
+        CachedResult cached = cache.getIfPresent(fingerprinter.fingerprint(accessToken));
+        return cached != null ? cached.result() : null;
+    }
+
+    /**
+     * Keycloak이 활성이라고 응답한 결과를 저장합니다.
+     */
+    void putActive(String accessToken, TokenValidationResult result) {
+        Duration ttl = activeTtl;
+        Instant expiresAt = result.expiresAt();
+        if (expiresAt != null) {
+            Duration remaining = Duration.between(clock.instant(), expiresAt);
+            if (remaining.compareTo(ttl) < 0) {
+                ttl = remaining;
+            }
+        }
+        put(accessToken, result, ttl);
+    }
+
+    /**
+     * Keycloak이 비활성이라고 응답한 결과를 저장합니다.
+     */
+    void putInactive(String accessToken, TokenValidationResult result) {
+        put(accessToken, result, inactiveTtl);
+    }
+
+    Cache<TokenFingerprint, CachedResult> getCache() {
+        return cache;
+    }
+
+    private void put(String accessToken, TokenValidationResult result, Duration ttl) {
+        if (ttl.isNegative() || ttl.isZero()) {
+            return;
+        }
+        cache.put(fingerprinter.fingerprint(accessToken), new CachedResult(result, ttl.toNanos()));
+    }
+
+    record CachedResult(TokenValidationResult result, long ttlNanos) {
+    }
+
+    /**
+     * 엔트리별 TTL을 적용하는 Expiry. 조회 시에는 남은 수명을 그대로 유지합니다.
+     */
+    private static final class ResultExpiry implements Expiry<TokenFingerprint, CachedResult> {
+
+        @Override
+        public long expireAfterCreate(TokenFingerprint key, CachedResult value, long currentTime) {
+            return value.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(TokenFingerprint key, CachedResult value,
+                                      long currentTime, long currentDuration) {
+            return value.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterRead(TokenFingerprint key, CachedResult value,
+                                    long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
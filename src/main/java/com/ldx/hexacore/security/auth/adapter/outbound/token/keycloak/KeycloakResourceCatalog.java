@@ -0,0 +1,103 @@
+package com.ldx.hexacore.security.auth.adapter.outbound.token.keycloak;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 요청 경로를 Keycloak 리소스로 찾기 위한 리소스 목록 스냅샷
+ *
+ * <p>Protection API {@code resource_set?deep=true} 응답으로 만듭니다. 요청 경로와 일치하는 URI가 여러 개면
+ * 가장 구체적인 URI의 리소스를 사용합니다.</p>
+ */
+final class KeycloakResourceCatalog {
+
+    private final List<Entry> entries;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    private KeycloakResourceCatalog(List<Entry> entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * Protection API 응답으로 목록을 만듭니다.
+     *
+     * @param resourceSet {@code ResourceRepresentation} 배열
+     */
+    static KeycloakResourceCatalog from(JsonNode resourceSet) {
+        List<Entry> entries = new ArrayList<>();
+        if (resourceSet != null && resourceSet.isArray()) {
+            for (JsonNode node : resourceSet) {
+                Set<String> scopes = new HashSet<>();
+                addScopeNames(node.path("resource_scopes"), scopes);
+                addScopeNames(node.path("scopes"), scopes);
+                Resource resource = new Resource(
+                    node.path("_id").asText(), node.path("name").asText(), Set.copyOf(scopes));
+                for (JsonNode uri : node.path("uris")) {
+                    entries.add(new Entry(uri.asText(), resource));
+                }
+            }
+        }
+        return new KeycloakResourceCatalog(List.copyOf(entries));
+    }
+
+    /**
+     * 요청 경로와 일치하는 리소스를 찾습니다.
+     *
+     * @param requestUri 요청 경로 (쿼리 문자열 허용)
+     * @return 리소스, 일치하는 리소스가 없으면 null
+     */
+    Resource match(String requestUri) {
+        int query = requestUri.indexOf('?');
+        String path = query >= 0 ? requestUri.substring(0, query) : requestUri;
+        Entry best = null;
+        Comparator<String> specificity = null;
+        for (Entry entry : entries) {
+            if (!pathMatcher.match(entry.uri(), path)) {
+                continue;
+            }
+            if (best != null) {
+                if (specificity == null) {
+                    specificity = pathMatcher.getPatternComparator(path);
+                }
+                if (specificity.compare(entry.uri(), best.uri()) >= 0) {
+                    continue;
+                }
+            }
+            best = entry;
+        }
+        return best != null ? best.resource() : null;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private static void addScopeNames(JsonNode scopes, Set<String> names) {
+        for (JsonNode scope : scopes) {
+            String name = scope.isTextual() ? scope.asText() : scope.path("name").asText(null);
+            if (name != null) {
+                names.add(name.toUpperCase(Locale.ROOT));
+            }
+        }
+    }
+
+    /**
+     * Keycloak 리소스
+     *
+     * @param id 리소스 id ({@code _id})
+     * @param name 리소스 이름
+     * @param scopes 대문자 scope 이름
+     */
+    record Resource(String id, String name, Set<String> scopes) {
+    }
+
+    private record Entry(String uri, Resource resource) {
+    }
+}
@@ -0,0 +1,65 @@
+package com.ldx.hexacore.security.auth.adapter.outbound.token.keycloak;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keycloak에 등록된 리소스의 URI 목록을 읽어 route 템플릿으로 사용합니다.
+ *
+ * <p>client credentials로 PAT(Protection API Token)를 발급받아 Protection API의
+ * {@code resource_set?deep=true}를 조회합니다. 리소스 서버 클라이언트의 secret이 필요하므로
+ * public client에서는 사용할 수 없습니다.</p>
+ */
+final class KeycloakResourceRouteLoader {
+
+    private final KeycloakProperties properties;
+    private final RestTemplate restTemplate;
+
+    KeycloakResourceRouteLoader(KeycloakProperties properties, RestTemplate restTemplate) {
+        this.properties = properties;
+        this.restTemplate = restTemplate;
+    }
+
+    /**
+     * 리소스 URI 목록을 조회합니다.
+     *
+     * @return 모든 리소스의 URI (중복 포함 가능)
+     * @throws org.springframework.web.client.RestClientException 조회에 실패한 경우
+     */
+    List<String> load() {
+        JsonNode resources = loadResourceSet();
+        List<String> uris = new ArrayList<>();
+        if (resources != null && resources.isArray()) {
+            for (JsonNode resource : resources) {
+                JsonNode resourceUris = resource.get("uris");
+                if (resourceUris != null && resourceUris.isArray()) {
+                    resourceUris.forEach(uri -> uris.add(uri.asText()));
+                }
+            }
+        }
+        return uris;
+    }
+
+    /**
+     * 리소스 목록 전체(id, 이름, URI, scope)를 조회합니다.
+     *
+     * @return Protection API 응답 배열, 응답 본문이 없으면 null
+     * @throws org.springframework.web.client.RestClientException 조회에 실패한 경우
+     */
+    JsonNode loadResourceSet() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(KeycloakClientCredentials.requestAccessToken(properties, restTemplate));
+        return restTemplate.exchange(
+            properties.getResourceSetEndpoint() + "?deep=true&max=-1",
+            HttpMethod.GET,
+            new HttpEntity<>(headers),
+            JsonNode.class
+        ).getBody();
+    }
+}
@@ -0,0 +1,406 @@
+package com.ldx.hexacore.security.auth.adapter.outbound.token.keycloak;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ldx.hexacore.security.auth.adapter.outbound.external.KeycloakHttpTransport;
+import com.ldx.hexacore.security.auth.adapter.outbound.external.dto.KeycloakTokenResponse;
+import com.ldx.hexacore.security.auth.application.command.port.out.ServiceTokenProvider;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenProviderException;
+import com.ldx.hexacore.security.config.properties.SecurityStarterProperties;
+import com.ldx.hexacore.security.util.ValidationMessages;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Keycloak 서비스 계정(client credentials) 토큰 관리자
+ *
+ * <ul>
+ *   <li>토큰은 (클라이언트, scope)별로 보관합니다. scope는 순서와 관계없이 같은 집합이면 같은 토큰을 사용합니다.</li>
+ *   <li>토큰 수명 중 설정된 비율이 지나면 백그라운드에서 갱신합니다. 갱신은 마지막 발급 이후 사용된 토큰만 수행하므로
+ *       더 이상 쓰지 않는 (클라이언트, scope)는 토큰 엔드포인트를 호출하지 않습니다.</li>
+ *   <li>같은 (클라이언트, scope)의 동시 요청은 토큰 엔드포인트 호출 하나를 함께 기다립니다.</li>
+ *   <li>만료까지 안전 여유보다 적게 남은 토큰은 반환하지 않고 새로 발급받습니다.</li>
+ *   <li>백그라운드 갱신에 실패하면 기존 토큰을 안전 여유 전까지 계속 사용하며, {@value #RETRY_BACKOFF_SECONDS}초 뒤에 다시 시도합니다.</li>
+ * </ul>
+ *
+ * <p>토큰 엔드포인트 호출은 {@link KeycloakHttpTransport}를 사용하므로 TOKEN 엔드포인트의 circuit breaker와
+ * 동시 호출 제한이 함께 적용됩니다.</p>
+ */
+@Slf4j
+public class KeycloakServiceTokenManager implements ServiceTokenProvider, AutoCloseable {
+
+    static final long RETRY_BACKOFF_SECONDS = 5;
+
+    private static final String PROVIDER_TYPE = "KEYCLOAK";
+    private static final long RETRY_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(RETRY_BACKOFF_SECONDS);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final URI tokenEndpoint;
+    private final String defaultClientId;
+    private final String defaultScope;
+    private final Map<String, String> clientSecrets;
+    private final int refreshAtPercent;
+    private final long safetyMarginNanos;
+    private final KeycloakHttpTransport transport;
+    private final LongSupplier nanoTime;
+    private final ScheduledExecutorService scheduler;
+    private final ConcurrentMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder backgroundRefreshes = new LongAdder();
+
+    /**
+     * @param configProperties Keycloak 설정 (realm, client-id, client-secret, service-token)
+     * @param transport Keycloak HTTP 전송 계층
+     */
+    public KeycloakServiceTokenManager(SecurityStarterProperties.TokenProvider.KeycloakProperties configProperties,
+                                       KeycloakHttpTransport transport) {
+        this(tokenEndpointOf(configProperties),
+            configProperties.getClientId(),
+            clientSecretsOf(configProperties),
+            configProperties.getServiceToken().getScope(),
+            configProperties.getServiceToken().getRefreshAtPercent(),
+            Duration.ofSeconds(configProperties.getServiceToken().getSafetyMarginSeconds()),
+            transport,
+            System::nanoTime);
+    }
+
+    KeycloakServiceTokenManager(URI tokenEndpoint, String defaultClientId, Map<String, String> clientSecrets,
+                                String defaultScope, int refreshAtPercent, Duration safetyMargin,
+                                KeycloakHttpTransport transport, LongSupplier nanoTime) {
+        if (tokenEndpoint == null) {
+            throw new IllegalArgumentException(ValidationMessages.cannotBeNull("Token endpoint"));
+        }
+        if (defaultClientId == null || defaultClientId.isBlank()) {
+            throw new IllegalArgumentException(ValidationMessages.cannotBeBlank("Client ID"));
+        }
+        if (clientSecrets.get(defaultClientId) == null || clientSecrets.get(defaultClientId).isBlank()) {
+            throw new IllegalArgumentException(ValidationMessages.cannotBeBlank("Client secret"));
+        }
+        if (refreshAtPercent <= 0 || refreshAtPercent >= 100) {
+            throw new IllegalArgumentException(ValidationMessages.mustBeBetween("Refresh at percent", 1, 99));
+        }
+        if (safetyMargin == null || safetyMargin.isNegative()) {
+            throw new IllegalArgumentException(ValidationMessages.cannotBeNull("Safety margin"));
+        }
+        if (transport == null) {
+            throw new IllegalArgumentException(ValidationMessages.cannotBeNull("Transport"));
+        }
+        this.tokenEndpoint = tokenEndpoint;
+        this.defaultClientId = defaultClientId;
+        this.defaultScope = normalizeScope(defaultScope);
+        this.clientSecrets = Map.copyOf(clientSecrets);
+        this.refreshAtPercent = refreshAtPercent;
+        this.safetyMarginNanos = safetyMargin.toNanos();
+        this.transport = transport;
+        this.nanoTime = nanoTime;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "keycloak-service-token-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public String getAccessToken() throws TokenProviderException {
+        return getAccessToken(null, null);
+    }
+
+    @Override
+    public String getAccessToken(String clientId, String scope) throws TokenProviderException {
+        try {
+            return getAccessTokenAsync(clientId, scope).join();
+        } catch (CompletionException e) {
+            throw toProviderException(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<String> getAccessTokenAsync(String clientId, String scope) {
+        Entry entry = entries.computeIfAbsent(keyOf(clientId, scope), Entry::new);
+        long now = nanoTime.getAsLong();
+        entry.lastAccessedAt = now;
+
+        CachedToken token = entry.token;
+        if (token != null && now < token.usableUntil()) {
+            if (now >= token.refreshAt() && now >= entry.retryAfter && entry.inFlight.get() == null) {
+                // 스케줄된 갱신이 실패했거나 밀린 경우 - 기다리지 않고 현재 토큰을 반환
+                refreshInBackground(entry);
+            }
+            return CompletableFuture.completedFuture(token.value());
+        }
+        return refresh(entry).thenApply(CachedToken::value);
+    }
+
+    @Override
+    public void invalidate(String clientId, String scope) {
+        Entry entry = entries.get(keyOf(clientId, scope));
+        if (entry != null) {
+            entry.token = null;
+        }
+    }
+
+    /**
+     * 토큰 엔드포인트 호출 수
+     */
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    /**
+     * 진행 중인 발급을 함께 기다린 요청 수
+     */
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    /**
+     * 토큰을 반환하는 요청과 별개로 수행한 갱신 수
+     */
+    public long getBackgroundRefreshCount() {
+        return backgroundRefreshes.sum();
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 진행 중인 발급이 있으면 합류하고, 없으면 토큰 엔드포인트를 호출합니다.
+     */
+    private CompletableFuture<CachedToken> refresh(Entry entry) {
+        CompletableFuture<CachedToken> pending = new CompletableFuture<>();
+        CompletableFuture<CachedToken> existing = entry.inFlight.compareAndExchange(null, pending);
+        if (existing != null) {
+            coalesced.increment();
+            return existing;
+        }
+
+        requests.increment();
+        long requestedAt = nanoTime.getAsLong();
+        CompletableFuture<HttpResponse<String>> response;
+        try {
+            response = requestToken(entry.key);
+        } catch (RuntimeException e) {
+            response = CompletableFuture.failedFuture(e);
+        }
+        response.whenComplete((result, error) -> {
+            CachedToken token = null;
+            Throwable failure = error;
+            if (failure == null) {
+                try {
+                    token = toCachedToken(result, requestedAt);
+                } catch (RuntimeException e) {
+                    failure = e;
+                }
+            }
+            if (token != null) {
+                entry.token = token;
+                entry.retryAfter = Long.MIN_VALUE;
+                scheduleRefresh(entry, token);
+            } else {
+                entry.retryAfter = nanoTime.getAsLong() + RETRY_BACKOFF_NANOS;
+            }
+            // 대기자에게 결과를 전달하기 전에 비워 두어야 완료 직후의 요청이 새 발급을 시작할 수 있음
+            entry.inFlight.set(null);
+            if (token != null) {
+                pending.complete(token);
+            } else {
+                pending.completeExceptionally(toProviderException(failure));
+            }
+        });
+        return pending;
+    }
+
+    private void refreshInBackground(Entry entry) {
+        backgroundRefreshes.increment();
+        refresh(entry).whenComplete((token, error) -> {
+            if (error != null) {
+                log.warn("Background refresh of service token failed for client {}: {}",
+                    entry.key.clientId(), error.getMessage());
+                scheduleRetry(entry);
+            }
+        });
+    }
+
+    /**
+     * 갱신 시점에 마지막 발급 이후 사용된 토큰만 다시 발급받습니다.
+     */
+    private void scheduleRefresh(Entry entry, CachedToken token) {
+        long delay = Math.max(0, token.refreshAt() - nanoTime.getAsLong());
+        schedule(() -> {
+            if (entry.token == token && entry.lastAccessedAt >= token.issuedAt()) {
+                refreshInBackground(entry);
+            }
+        }, delay);
+    }
+
+    private void scheduleRetry(Entry entry) {
+        schedule(() -> {
+            CachedToken token = entry.token;
+            if (token != null && nanoTime.getAsLong() < token.usableUntil()
+                    && entry.lastAccessedAt >= token.issuedAt()) {
+                refreshInBackground(entry);
+            }
+        }, RETRY_BACKOFF_NANOS);
+    }
+
+    private void schedule(Runnable task, long delayNanos) {
+        try {
+            scheduler.schedule(task, delayNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            // close() 이후 - 다음 요청에서 필요하면 발급
+            log.debug("Service token refresh not scheduled: manager is closed");
+        }
+    }
+
+    private CompletableFuture<HttpResponse<String>> requestToken(Key key) {
+        StringJoiner form = new StringJoiner("&");
+        appendForm(form, "grant_type", "client_credentials");
+        appendForm(form, "client_id", key.clientId());
+        appendForm(form, "client_secret", clientSecrets.get(key.clientId()));
+        if (!key.scope().isEmpty()) {
+            appendForm(form, "scope", key.scope());
+        }
+        log.debug("Requesting service token for client {} (scope: {})", key.clientId(), key.scope());
+        return transport.postFormAsync(tokenEndpoint, form.toString());
+    }
+
+    /**
+     * 응답을 보관할 토큰으로 변환합니다. 갱신 시점과 만료 시점은 요청을 보낸 시각을 기준으로 계산합니다.
+     */
+    private CachedToken toCachedToken(HttpResponse<String> response, long requestedAt) {
+        int status = response.statusCode();
+        if (status >= 400 && status < 500) {
+            throw TokenProviderException.tokenIssueFailed(PROVIDER_TYPE, HttpClientErrorException.create(
+                HttpStatusCode.valueOf(status), "", HttpHeaders.EMPTY,
+                response.body() != null ? response.body().getBytes(StandardCharsets.UTF_8) : null,
+                StandardCharsets.UTF_8));
+        }
+        if (status >= 300) {
+            throw TokenProviderException.providerUnavailable(PROVIDER_TYPE, HttpServerErrorException.create(
+                HttpStatusCode.valueOf(status), "", HttpHeaders.EMPTY, null, StandardCharsets.UTF_8));
+        }
+
+        KeycloakTokenResponse tokenResponse;
+        try {
+            tokenResponse = OBJECT_MAPPER.readValue(response.body(), KeycloakTokenResponse.class);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            throw TokenProviderException.providerUnavailable(PROVIDER_TYPE, e);
+        }
+        if (tokenResponse == null || tokenResponse.getAccessToken() == null || tokenResponse.getAccessToken().isBlank()
+                || tokenResponse.getExpiresIn() == null || tokenResponse.getExpiresIn() <= 0) {
+            throw TokenProviderException.tokenIssueFailed(PROVIDER_TYPE,
+                new IllegalStateException("Invalid client credentials token response from Keycloak"));
+        }
+
+        long lifetime = TimeUnit.SECONDS.toNanos(tokenResponse.getExpiresIn());
+        long margin = Math.min(safetyMarginNanos, lifetime / 2);
+        long usableUntil = requestedAt + lifetime - margin;
+        long refreshAt = Math.min(requestedAt + lifetime / 100 * refreshAtPercent, usableUntil);
+        return new CachedToken(tokenResponse.getAccessToken(), requestedAt, refreshAt, usableUntil);
+    }
+
+    private Key keyOf(String clientId, String scope) {
+        String client = clientId == null || clientId.isBlank() ? defaultClientId : clientId;
+        if (!clientSecrets.containsKey(client)) {
+            throw new IllegalArgumentException("Unknown service token client: " + client);
+        }
+        String normalizedScope = scope == null || scope.isBlank() ? defaultScope : normalizeScope(scope);
+        return new Key(client, normalizedScope);
+    }
+
+    /**
+     * 같은 scope 집합이 같은 키가 되도록 정렬하고 중복을 제거합니다.
+     */
+    private static String normalizeScope(String scope) {
+        if (scope == null || scope.isBlank()) {
+            return "";
+        }
+        return Arrays.stream(scope.trim().split("\\s+"))
+            .distinct()
+            .sorted()
+            .collect(Collectors.joining(" "));
+    }
+
+    private static void appendForm(StringJoiner form, String name, String value) {
+        if (value != null) {
+            form.add(URLEncoder.encode(name, StandardCharsets.UTF_8) + "=" + URLEncoder.encode(value, StandardCharsets.UTF_8));
+        }
+    }
+
+    private static TokenProviderException toProviderException(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof TokenProviderException e) {
+            return e;
+        }
+        return TokenProviderException.providerUnavailable(PROVIDER_TYPE, cause);
+    }
+
+    private static URI tokenEndpointOf(SecurityStarterProperties.TokenProvider.KeycloakProperties configProperties) {
+        KeycloakProperties properties = new KeycloakProperties();
+        properties.setServerUrl(configProperties.getServerUrl());
+        properties.setRealm(configProperties.getRealm());
+        return URI.create(properties.getTokenEndpoint());
+    }
+
+    private static Map<String, String> clientSecretsOf(
+            SecurityStarterProperties.TokenProvider.KeycloakProperties configProperties) {
+        Map<String, String> secrets = new HashMap<>(configProperties.getServiceToken().getClients());
+        if (configProperties.getClientId() != null && configProperties.getClientSecret() != null) {
+            secrets.put(configProperties.getClientId(), configProperties.getClientSecret());
+        }
+        return secrets;
+    }
+
+    private record Key(String clientId, String scope) {
+    }
+
+    /**
+     * @param issuedAt 발급 요청 시각 (nanoTime)
+     * @param refreshAt 백그라운드 갱신 시각
+     * @param usableUntil 이 시각 이후로는 반환하지 않음 (만료 - 안전 여유)
+     */
+    private record CachedToken(String value, long issuedAt, long refreshAt, long usableUntil) {
+    }
+
+    private static final class Entry {
+        private final Key key;
+        private final AtomicReference<CompletableFuture<CachedToken>> inFlight = new AtomicReference<>();
+        private volatile CachedToken token;
+        private volatile long lastAccessedAt;
+        private volatile long retryAfter = Long.MIN_VALUE;
+
+        private Entry(Key key) {
+            this.key = key;
+        }
+    }
+}
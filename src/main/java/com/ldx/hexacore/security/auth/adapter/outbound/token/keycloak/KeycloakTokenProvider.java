@@ -1,7 +1,13 @@
 package com.ldx.hexacore.security.auth.adapter.outbound.token.keycloak;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ldx.hexacore.security.auth.adapter.outbound.external.KeycloakCallNotPermittedException;
+import com.ldx.hexacore.security.auth.adapter.outbound.external.KeycloakHttpTransport;
 import com.ldx.hexacore.security.auth.adapter.outbound.external.dto.KeycloakTokenResponse;
 import com.ldx.hexacore.security.auth.adapter.outbound.external.dto.TokenIntrospectionResponse;
+import com.ldx.hexacore.security.auth.application.command.port.out.AsyncTokenProvider;
 import com.ldx.hexacore.security.auth.application.command.port.out.TokenProvider;
 import com.ldx.hexacore.security.auth.application.command.port.out.TokenProviderException;
 import com.ldx.hexacore.security.auth.application.command.port.out.TokenProviderType;
@@ -10,34 +16,106 @@ import com.ldx.hexacore.security.auth.application.command.port.out.TokenValidati
 import com.ldx.hexacore.security.config.properties.SecurityStarterProperties;
 import com.ldx.hexacore.security.auth.domain.vo.Credentials;
 import com.ldx.hexacore.security.auth.domain.vo.Token;
+import com.ldx.hexacore.security.util.ClaimAuthoritiesMapper;
+import com.ldx.hexacore.security.util.JwtPayloadReader;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.*;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 
 @Slf4j
-public class KeycloakTokenProvider implements TokenProvider {
+public class KeycloakTokenProvider implements TokenProvider, AsyncTokenProvider, AutoCloseable {
     
     private static final String REFRESH_TOKEN_GRANT_TYPE = "refresh_token";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
     
     private final KeycloakProperties properties;
+    private final KeycloakHttpTransport transport;
     private final RestTemplate restTemplate;
     private final KeycloakAuthorizationService authorizationService;
+    private final KeycloakJwksTokenValidator localValidator;
+    private final ClaimAuthoritiesMapper authoritiesMapper;
+    private final KeycloakRemoteValidationCache remoteCache;
+    private final KeycloakEndpointSelector endpointSelector;
+    private final ExecutorService authorizationExecutor;
+    private final KeycloakDegradedValidator degradedValidator;
     
     public KeycloakTokenProvider(SecurityStarterProperties.TokenProvider.KeycloakProperties configProperties) {
+        this(configProperties, KeycloakHttpTransport.fromProperties(configProperties));
+    }
+    
+    /**
+     * @param transport Keycloak 호출에 사용할 공유 HTTP 전송 계층
+     */
+    public KeycloakTokenProvider(SecurityStarterProperties.TokenProvider.KeycloakProperties configProperties,
+                                 KeycloakHttpTransport transport) {
         this.properties = convertToKeycloakProperties(configProperties);
-        this.restTemplate = createRestTemplate();
-        this.authorizationService = new KeycloakAuthorizationService(properties);
+        this.transport = transport;
+        this.restTemplate = transport.getRestTemplate();
+        this.authorizationService = new KeycloakAuthorizationService(properties, restTemplate,
+            transport.circuitBreaker(KeycloakHttpTransport.Endpoint.AUTHORIZATION));
+        this.authoritiesMapper = new ClaimAuthoritiesMapper(properties.getAuthorityClaims());
         
         if (!properties.isValid()) {
             throw new IllegalStateException("Invalid Keycloak configuration. Please check your properties.");
         }
+        
+        this.localValidator = properties.isLocalValidation()
+            ? new KeycloakJwksTokenValidator(properties, restTemplate)
+            : null;
+        this.remoteCache = !properties.isLocalValidation() && properties.isRemoteCacheEnabled()
+            ? new KeycloakRemoteValidationCache(
+                properties.getRemoteCacheMaximumSize(),
+                Duration.ofSeconds(properties.getRemoteCacheTtlSeconds()),
+                Duration.ofSeconds(properties.getRemoteCacheInactiveTtlSeconds()))
+            : null;
+        this.endpointSelector = properties.isLocalValidation()
+            ? null
+            : new KeycloakEndpointSelector(
+                Duration.ofSeconds(properties.getEndpointReprobeSeconds()), Clock.systemUTC());
+        this.authorizationExecutor = properties.isParallelAuthorizationEnabled()
+            ? KeycloakAuthorizationExecutors.create(
+                properties.isParallelAuthorizationVirtualThreads(),
+                properties.getParallelAuthorizationPoolSize(),
+                properties.getParallelAuthorizationQueueCapacity())
+            : null;
+        boolean degradedMode = !properties.isLocalValidation() && properties.isDegradedModeEnabled();
+        if (degradedMode && transport.getCircuitBreakers().isEmpty()) {
+            // degraded 모드는 circuit breaker가 호출을 차단했을 때만 동작하므로 breaker 없이는 의미가 없음
+            log.warn("Keycloak degraded mode requires circuit-breaker.enabled=true; degraded mode is disabled");
+            degradedMode = false;
+        }
+        this.degradedValidator = degradedMode
+            ? new KeycloakDegradedValidator(
+                properties.getDegradedModeMaximumSize(),
+                Duration.ofSeconds(properties.getDegradedModeGracePeriodSeconds()),
+                properties.isDegradedModeLocalVerification()
+                    ? new KeycloakJwksTokenValidator(properties, restTemplate)
+                    : null)
+            : null;
     }
     
     
@@ -102,28 +180,92 @@ public class KeycloakTokenProvider implements TokenProvider {
             return TokenValidationResult.invalid("Token is null or blank");
         }
         
+        if (localValidator != null) {
+            return validateTokenLocally(accessToken);
+        }
+        
+        if (remoteCache != null) {
+            TokenValidationResult cached = remoteCache.get(accessToken);
+            if (cached != null) {
+                log.debug("Using cached Keycloak validation result");
+                return cached;
+            }
+        }
+        
         log.debug("Validating token with Keycloak");
         
+        try {
+            return validateTokenRemotely(accessToken);
+        } catch (TokenProviderException e) {
+            TokenValidationResult degraded = validateDegraded(accessToken, e);
+            if (degraded != null) {
+                return degraded;
+            }
+            throw e;
+        }
+    }
+    
+    /**
+     * userinfo 또는 introspection 엔드포인트로 토큰을 검증합니다.
+     */
+    private TokenValidationResult validateTokenRemotely(String accessToken) throws TokenProviderException {
+        String endpointKey = endpointSelector.keyOf(accessToken);
+        if (endpointSelector.select(endpointKey) == KeycloakEndpointSelector.Endpoint.INTROSPECTION) {
+            // 이 클라이언트는 userinfo가 403을 반환했으므로 introspection을 바로 호출
+            endpointSelector.probeIfDue(endpointKey, () -> probeUserInfo(accessToken));
+            return validateTokenWithIntrospection(accessToken);
+        }
+        
         // Try userinfo endpoint first (requires openid scope)
         try {
             return validateTokenWithUserInfo(accessToken);
         } catch (HttpClientErrorException e) {
             if (e.getStatusCode() == HttpStatus.FORBIDDEN) {
                 log.debug("Userinfo endpoint returned 403 FORBIDDEN. Falling back to introspection endpoint.");
+                endpointSelector.userInfoForbidden(endpointKey);
                 // Fall back to introspection endpoint
                 return validateTokenWithIntrospection(accessToken);
             }
-            // For other HTTP errors, handle as before
             if (e.getStatusCode() == HttpStatus.UNAUTHORIZED) {
-                return new TokenValidationResult(false, null, null, null, null, Collections.emptyMap());
+                // userinfo의 401은 Keycloak이 토큰을 거부했다는 뜻이므로 비활성 결과로 캐싱
+                return cacheInactive(accessToken,
+                    new TokenValidationResult(false, null, null, null, null, Collections.emptyMap()));
             }
-            throw TokenProviderException.tokenValidationFailed("KEYCLOAK", e);
+            // 그 밖의 4xx(429 요청 제한, 400 등)는 토큰에 대한 판정이 아니므로 제공자 오류로 처리
+            throw TokenProviderException.providerUnavailable("KEYCLOAK", e);
         } catch (Exception e) {
             log.error("Unexpected error during token validation", e);
             throw TokenProviderException.providerUnavailable("KEYCLOAK", e);
         }
     }
     
+    /**
+     * circuit이 열려 원격 검증을 호출하지 못했으면 degraded mode로 검증합니다.
+     * 
+     * @return degraded mode 검증 결과, degraded mode가 아니거나 판단할 수 없으면 null
+     */
+    private TokenValidationResult validateDegraded(String accessToken, TokenProviderException failure) {
+        if (degradedValidator == null || !KeycloakCallNotPermittedException.isCauseOf(failure)) {
+            return null;
+        }
+        TokenValidationResult degraded = degradedValidator.validate(accessToken);
+        if (degraded != null) {
+            log.debug("Keycloak is unavailable, accepted token in degraded mode");
+        }
+        return degraded;
+    }
+    
+    private TokenValidationResult validateTokenLocally(String accessToken) {
+        log.debug("Validating token locally with realm JWKS");
+        
+        try {
+            return localValidator.validate(accessToken);
+        } catch (KeycloakJwksKeyStore.JwksUnavailableException e) {
+            log.error("Keycloak JWKS is unavailable", e);
+            throw TokenProviderException.providerUnavailable("KEYCLOAK", e);
+        }
+    }
+    
     private TokenValidationResult validateTokenWithUserInfo(String accessToken) throws HttpClientErrorException {
         log.debug("Validating token using userinfo endpoint");
         
@@ -143,19 +285,66 @@ public class KeycloakTokenProvider implements TokenProvider {
             
             log.debug("Token validation successful with userinfo endpoint");
             
-            return new TokenValidationResult(
+            return cacheActive(accessToken, new TokenValidationResult(
                 true,
                 (String) userInfo.get("sub"),
                 (String) userInfo.get("preferred_username"),
-                Collections.emptySet(),
-                null,
+                readAuthorities(accessToken),
+                JwtPayloadReader.readExpiration(accessToken),
                 userInfo
-            );
+            ));
         }
         
         return new TokenValidationResult(false, null, null, null, null, Collections.emptyMap());
     }
     
+    /**
+     * userinfo를 다시 호출해 사용할 엔드포인트를 판단합니다.
+     *
+     * @return userinfo가 응답하면 USERINFO, 403이면 INTROSPECTION, 판단할 수 없으면 null
+     */
+    private KeycloakEndpointSelector.Endpoint probeUserInfo(String accessToken) {
+        try {
+            validateTokenWithUserInfo(accessToken);
+            return KeycloakEndpointSelector.Endpoint.USERINFO;
+        } catch (HttpClientErrorException e) {
+            return e.getStatusCode() == HttpStatus.FORBIDDEN ? KeycloakEndpointSelector.Endpoint.INTROSPECTION : null;
+        }
+    }
+    
+    /**
+     * Keycloak이 활성이라고 응답한 결과를 원격 검증 캐시에 저장합니다.
+     */
+    private TokenValidationResult cacheActive(String accessToken, TokenValidationResult result) {
+        if (remoteCache != null) {
+            remoteCache.putActive(accessToken, result);
+        }
+        if (degradedValidator != null) {
+            degradedValidator.remember(accessToken, result);
+        }
+        return result;
+    }
+    
+    /**
+     * Keycloak이 비활성이라고 응답한 결과를 원격 검증 캐시에 저장합니다.
+     */
+    private TokenValidationResult cacheInactive(String accessToken, TokenValidationResult result) {
+        if (remoteCache != null) {
+            remoteCache.putInactive(accessToken, result);
+        }
+        return result;
+    }
+    
+    /**
+     * Keycloak이 유효하다고 응답한 토큰의 payload에서 권한을 읽습니다.
+     */
+    private Set<String> readAuthorities(String accessToken) {
+        if (authoritiesMapper.isEmpty()) {
+            return Collections.emptySet();
+        }
+        return authoritiesMapper.map(JwtPayloadReader.readPayload(accessToken));
+    }
+    
     private TokenValidationResult validateTokenWithIntrospection(String accessToken) {
         log.debug("Validating token using introspection endpoint");
         
@@ -182,25 +371,26 @@ public class KeycloakTokenProvider implements TokenProvider {
             if (introspectionResult != null && introspectionResult.isActive()) {
                 log.debug("Token validation successful with introspection endpoint");
                 
-                return new TokenValidationResult(
+                return cacheActive(accessToken, new TokenValidationResult(
                     true,
                     introspectionResult.getSubject(),
                     introspectionResult.getUsername(),
-                    Collections.emptySet(),
-                    null,
-                    Collections.singletonMap("introspection", "used")
-                );
+                    readAuthorities(accessToken),
+                    introspectionResult.getExp() != null ? Instant.ofEpochSecond(introspectionResult.getExp()) : null,
+                    introspectionResult.getClaims()
+                ));
             }
             
             log.debug("Token validation failed - token is not active");
-            return new TokenValidationResult(false, null, null, null, null, Collections.emptyMap());
+            TokenValidationResult inactive =
+                new TokenValidationResult(false, null, null, null, null, Collections.emptyMap());
+            // 응답 본문이 없으면 Keycloak의 판정으로 볼 수 없으므로 캐싱하지 않음
+            return introspectionResult != null ? cacheInactive(accessToken, inactive) : inactive;
             
         } catch (HttpClientErrorException e) {
             log.debug("Introspection endpoint validation failed: {} - {}", e.getStatusCode(), e.getMessage());
-            if (e.getStatusCode() == HttpStatus.UNAUTHORIZED) {
-                return new TokenValidationResult(false, null, null, null, null, Collections.emptyMap());
-            }
-            throw TokenProviderException.tokenValidationFailed("KEYCLOAK", e);
+            // introspection의 401은 클라이언트 인증 실패이고, 그 밖의 4xx도 토큰에 대한 판정이 아니므로 제공자 오류로 처리
+            throw TokenProviderException.providerUnavailable("KEYCLOAK", e);
         } catch (Exception e) {
             log.error("Unexpected error during introspection validation", e);
             throw TokenProviderException.providerUnavailable("KEYCLOAK", e);
@@ -265,11 +455,312 @@ public class KeycloakTokenProvider implements TokenProvider {
         }
     }
     
+    @Override
+    public CompletableFuture<Token> issueTokenAsync(Credentials credentials) {
+        if (credentials == null) {
+            return CompletableFuture.failedFuture(TokenProviderException.invalidCredentials("KEYCLOAK"));
+        }
+        
+        log.debug("Issuing token asynchronously with Keycloak for user: {}", credentials.getUsername());
+        
+        StringJoiner form = clientForm(properties.getGrantType());
+        appendForm(form, "username", credentials.getUsername());
+        appendForm(form, "password", credentials.getPassword());
+        appendForm(form, "scope", properties.getScopes());
+        
+        return transport.postFormAsync(URI.create(properties.getTokenEndpoint()), form.toString())
+            .handle((response, error) -> {
+                if (error != null) {
+                    throw providerUnavailable(error);
+                }
+                if (isClientError(response)) {
+                    throw TokenProviderException.tokenIssueFailed("KEYCLOAK", clientError(response));
+                }
+                requireSuccess(response);
+                KeycloakTokenResponse tokenResponse = readBody(response, KeycloakTokenResponse.class);
+                if (tokenResponse == null || !tokenResponse.isValid()) {
+                    throw TokenProviderException.tokenIssueFailed("KEYCLOAK",
+                        new RuntimeException("Invalid token response from Keycloak"));
+                }
+                return Token.of(tokenResponse.getAccessToken(), tokenResponse.getRefreshToken(),
+                    tokenResponse.getExpiresIn());
+            });
+    }
+    
+    /**
+     * 토큰을 비동기로 검증합니다.
+     * 
+     * <p>local 검증 모드와 원격 검증 캐시 hit는 호출 스레드에서 바로 완료됩니다. 원격 검증은 동기 검증과 같은 순서로
+     * userinfo를 호출하고 403이면 introspection으로 전환하며, degraded mode도 동일하게 적용합니다.</p>
+     */
+    @Override
+    public CompletableFuture<TokenValidationResult> validateTokenAsync(String accessToken) {
+        if (accessToken == null || accessToken.isBlank()) {
+            return CompletableFuture.completedFuture(TokenValidationResult.invalid("Token is null or blank"));
+        }
+        
+        if (localValidator != null) {
+            try {
+                return CompletableFuture.completedFuture(validateTokenLocally(accessToken));
+            } catch (TokenProviderException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        
+        if (remoteCache != null) {
+            TokenValidationResult cached = remoteCache.get(accessToken);
+            if (cached != null) {
+                log.debug("Using cached Keycloak validation result");
+                return CompletableFuture.completedFuture(cached);
+            }
+        }
+        
+        log.debug("Validating token asynchronously with Keycloak");
+        
+        String endpointKey = endpointSelector.keyOf(accessToken);
+        CompletableFuture<TokenValidationResult> remote;
+        if (endpointSelector.select(endpointKey) == KeycloakEndpointSelector.Endpoint.INTROSPECTION) {
+            endpointSelector.probeIfDue(endpointKey, () -> probeUserInfo(accessToken));
+            remote = validateTokenWithIntrospectionAsync(accessToken);
+        } else {
+            remote = validateTokenWithUserInfoAsync(accessToken, endpointKey);
+        }
+        
+        return remote.exceptionally(error -> {
+            TokenProviderException failure = providerUnavailable(error);
+            TokenValidationResult degraded = validateDegraded(accessToken, failure);
+            if (degraded != null) {
+                return degraded;
+            }
+            throw failure;
+        });
+    }
+    
+    private CompletableFuture<TokenValidationResult> validateTokenWithUserInfoAsync(String accessToken,
+                                                                                  String endpointKey) {
+        return transport.getAsync(URI.create(properties.getUserInfoEndpoint()), accessToken)
+            .thenCompose(response -> {
+                int status = response.statusCode();
+                if (status == HttpStatus.FORBIDDEN.value()) {
+                    log.debug("Userinfo endpoint returned 403 FORBIDDEN. Falling back to introspection endpoint.");
+                    endpointSelector.userInfoForbidden(endpointKey);
+                    return validateTokenWithIntrospectionAsync(accessToken);
+                }
+                if (status == HttpStatus.UNAUTHORIZED.value()) {
+                    return CompletableFuture.completedFuture(cacheInactive(accessToken,
+                        new TokenValidationResult(false, null, null, null, null, Collections.emptyMap())));
+                }
+                if (isClientError(response)) {
+                    // 그 밖의 4xx(429 요청 제한, 400 등)는 토큰에 대한 판정이 아니므로 제공자 오류로 처리
+                    throw TokenProviderException.providerUnavailable("KEYCLOAK", clientError(response));
+                }
+                requireSuccess(response);
+                
+                @SuppressWarnings("unchecked")
+                Map<String, Object> userInfo = readBody(response, Map.class);
+                if (status != HttpStatus.OK.value() || userInfo == null) {
+                    return CompletableFuture.completedFuture(
+                        new TokenValidationResult(false, null, null, null, null, Collections.emptyMap()));
+                }
+                return CompletableFuture.completedFuture(cacheActive(accessToken, new TokenValidationResult(
+                    true,
+                    (String) userInfo.get("sub"),
+                    (String) userInfo.get("preferred_username"),
+                    readAuthorities(accessToken),
+                    JwtPayloadReader.readExpiration(accessToken),
+                    userInfo
+                )));
+            });
+    }
+    
+    private CompletableFuture<TokenValidationResult> validateTokenWithIntrospectionAsync(String accessToken) {
+        StringJoiner form = new StringJoiner("&");
+        appendForm(form, "token", accessToken);
+        appendForm(form, "client_id", properties.getClientId());
+        if (!properties.isPublicClient()) {
+            appendForm(form, "client_secret", properties.getClientSecret());
+        }
+        
+        return transport.postFormAsync(URI.create(properties.getIntrospectionEndpoint()), form.toString())
+            .thenApply(response -> {
+                if (isClientError(response)) {
+                    // introspection의 401은 클라이언트 인증 실패이고, 그 밖의 4xx도 토큰에 대한 판정이 아니므로
+                    // 제공자 오류로 처리
+                    throw TokenProviderException.providerUnavailable("KEYCLOAK", clientError(response));
+                }
+                requireSuccess(response);
+                
+                TokenIntrospectionResponse introspectionResult = readBody(response, TokenIntrospectionResponse.class);
+                if (introspectionResult != null && introspectionResult.isActive()) {
+                    return cacheActive(accessToken, new TokenValidationResult(
+                        true,
+                        introspectionResult.getSubject(),
+                        introspectionResult.getUsername(),
+                        readAuthorities(accessToken),
+                        introspectionResult.getExp() != null ? Instant.ofEpochSecond(introspectionResult.getExp()) : null,
+                        introspectionResult.getClaims()
+                    ));
+                }
+                TokenValidationResult inactive =
+                    new TokenValidationResult(false, null, null, null, null, Collections.emptyMap());
+                return introspectionResult != null ? cacheInactive(accessToken, inactive) : inactive;
+            });
+    }
+    
+    @Override
+    public CompletableFuture<Token> refreshTokenAsync(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            return CompletableFuture.failedFuture(TokenProviderException.tokenExpired("KEYCLOAK"));
+        }
+        
+        log.debug("Refreshing token asynchronously with Keycloak");
+        
+        StringJoiner form = clientForm(REFRESH_TOKEN_GRANT_TYPE);
+        appendForm(form, "refresh_token", refreshToken);
+        appendForm(form, "scope", properties.getScopes());
+        
+        return transport.postFormAsync(URI.create(properties.getTokenEndpoint()), form.toString())
+            .handle((response, error) -> {
+                if (error != null) {
+                    throw providerUnavailable(error);
+                }
+                if (response.statusCode() == HttpStatus.UNAUTHORIZED.value()) {
+                    throw TokenProviderException.tokenExpired("KEYCLOAK");
+                }
+                if (isClientError(response)) {
+                    throw TokenProviderException.tokenRefreshFailed("KEYCLOAK", clientError(response));
+                }
+                requireSuccess(response);
+                KeycloakTokenResponse tokenResponse = readBody(response, KeycloakTokenResponse.class);
+                if (tokenResponse == null || !tokenResponse.isValid()) {
+                    throw TokenProviderException.tokenRefreshFailed("KEYCLOAK",
+                        new RuntimeException("Invalid token response from Keycloak"));
+                }
+                return Token.of(tokenResponse.getAccessToken(), tokenResponse.getRefreshToken(),
+                    tokenResponse.getExpiresIn());
+            });
+    }
+    
+    /**
+     * grant_type과 클라이언트 인증 정보를 담은 form 본문을 시작합니다.
+     */
+    private StringJoiner clientForm(String grantType) {
+        StringJoiner form = new StringJoiner("&");
+        appendForm(form, "grant_type", grantType);
+        appendForm(form, "client_id", properties.getClientId());
+        if (!properties.isPublicClient()) {
+            appendForm(form, "client_secret", properties.getClientSecret());
+        }
+        return form;
+    }
+    
+    private static void appendForm(StringJoiner form, String name, String value) {
+        if (value != null) {
+            form.add(URLEncoder.encode(name, StandardCharsets.UTF_8) + "=" + URLEncoder.encode(value, StandardCharsets.UTF_8));
+        }
+    }
+    
+    private static boolean isClientError(HttpResponse<String> response) {
+        return response.statusCode() >= 400 && response.statusCode() < 500;
+    }
+    
+    private static HttpClientErrorException clientError(HttpResponse<String> response) {
+        return HttpClientErrorException.create(HttpStatusCode.valueOf(response.statusCode()), "", HttpHeaders.EMPTY,
+            response.body() != null ? response.body().getBytes(StandardCharsets.UTF_8) : null, StandardCharsets.UTF_8);
+    }
+    
+    /**
+     * 4xx가 아닌 오류 응답은 동기 검증과 같이 제공자 장애로 처리합니다.
+     */
+    private static void requireSuccess(HttpResponse<String> response) {
+        if (response.statusCode() >= 300) {
+            throw TokenProviderException.providerUnavailable("KEYCLOAK", HttpServerErrorException.create(
+                HttpStatusCode.valueOf(response.statusCode()), "", HttpHeaders.EMPTY, null, StandardCharsets.UTF_8));
+        }
+    }
+    
+    private static <T> T readBody(HttpResponse<String> response, Class<T> type) {
+        String body = response.body();
+        if (body == null || body.isBlank()) {
+            return null;
+        }
+        try {
+            return OBJECT_MAPPER.readValue(body, type);
+        } catch (JsonProcessingException e) {
+            throw TokenProviderException.providerUnavailable("KEYCLOAK", e);
+        }
+    }
+    
+    /**
+     * 비동기 호출의 실패를 {@link TokenProviderException}으로 변환합니다. 이미 변환된 예외는 그대로 반환합니다.
+     */
+    private static TokenProviderException providerUnavailable(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof TokenProviderException e) {
+            return e;
+        }
+        log.error("Unexpected error during asynchronous Keycloak call", cause);
+        return TokenProviderException.providerUnavailable("KEYCLOAK", cause);
+    }
+    
     @Override
     public TokenProviderType getProviderType() {
         return TokenProviderType.KEYCLOAK;
     }
     
+    /**
+     * local 검증 모드의 JWKS 백그라운드 갱신을 중지합니다.
+     */
+    @Override
+    public void close() {
+        if (localValidator != null) {
+            localValidator.close();
+        }
+        if (endpointSelector != null) {
+            endpointSelector.close();
+        }
+        if (authorizationExecutor != null) {
+            authorizationExecutor.shutdownNow();
+        }
+        if (degradedValidator != null) {
+            degradedValidator.close();
+        }
+        authorizationService.close();
+    }
+    
+    /**
+     * subject의 캐시된 UMA 리소스 권한 판정을 모두 제거합니다.
+     * 
+     * <p>사용자의 역할이나 권한 정책을 변경한 직후 호출하면 캐시 TTL을 기다리지 않고 반영됩니다.</p>
+     * 
+     * @param subject 토큰의 sub 클레임
+     */
+    public void invalidateAuthorizationDecisions(String subject) {
+        authorizationService.invalidateDecisions(subject);
+    }
+    
+    /**
+     * 캐시된 모든 UMA 리소스 권한 판정을 제거합니다.
+     */
+    public void invalidateAllAuthorizationDecisions() {
+        authorizationService.invalidateAllDecisions();
+    }
+    
+    /**
+     * Keycloak 장애 중 degraded mode로 받아들인 토큰 수 (degraded mode가 꺼져 있으면 0)
+     */
+    public long getDegradedAcceptedCount() {
+        return degradedValidator != null ? degradedValidator.getAcceptedCount() : 0;
+    }
+    
+    boolean isDegradedModeActive() {
+        return degradedValidator != null;
+    }
+    
+    KeycloakAuthorizationService getAuthorizationService() {
+        return authorizationService;
+    }
+    
     @Override
     public TokenValidationResult validateTokenWithContext(String accessToken, TokenValidationContext context) 
             throws TokenProviderException {
@@ -285,11 +776,24 @@ public class KeycloakTokenProvider implements TokenProvider {
             log.info("================================");
         }
         
-        // 먼저 기본 토큰 검증 수행
-        TokenValidationResult basicValidation = validateToken(accessToken);
+        boolean checkPermission = context != null && context.isCheckResourcePermission();
         
-        // 토큰이 유효하지 않으면 바로 반환
+        // 병렬 모드에서는 권한 체크를 먼저 시작해 기본 검증과 동시에 진행
+        Future<KeycloakAuthorizationService.AuthorizationCheck> pendingPermission =
+            checkPermission ? startUMAPermission(accessToken, context) : null;
+        
+        // 기본 토큰 검증 수행
+        TokenValidationResult basicValidation;
+        try {
+            basicValidation = validateToken(accessToken);
+        } catch (RuntimeException e) {
+            cancel(pendingPermission);
+            throw e;
+        }
+        
+        // 토큰이 유효하지 않으면 진행 중인 권한 체크를 취소하고 바로 반환
         if (!basicValidation.valid()) {
+            cancel(pendingPermission);
             log.warn("Basic token validation failed");
             return basicValidation;
         }
@@ -297,12 +801,14 @@ public class KeycloakTokenProvider implements TokenProvider {
         log.info("Basic token validation successful for user: {}", basicValidation.username());
         
         // 리소스 권한 체크가 활성화되어 있고 컨텍스트가 있는 경우
-        if (context != null && context.isCheckResourcePermission()) {
+        if (checkPermission) {
             log.info("Starting UMA resource permission check for URI: {} with method: {}", 
                 context.getRequestUri(), context.getHttpMethod());
             
-            // UMA 권한 체크 수행
-            boolean hasPermission = checkUMAPermission(accessToken, context);
+            // UMA 권한 체크 수행 (병렬 모드면 먼저 시작한 결과를 기다림)
+            boolean hasPermission = pendingPermission != null
+                ? awaitUMAPermission(pendingPermission, context)
+                : checkUMAPermission(accessToken, context);
             
             if (!hasPermission) {
                 log.warn("❌ Resource permission DENIED for URI: {} with method: {}", 
@@ -347,6 +853,57 @@ public class KeycloakTokenProvider implements TokenProvider {
         return basicValidation;
     }
     
+    /**
+     * 병렬 모드이면 리소스 권한 체크를 Executor에서 시작합니다.
+     * 
+     * <p>기본 검증 전에 시작하므로 판정 캐시에는 기록하지 않습니다. 판정 결과와 캐시 기록은 기본 검증이 성공한
+     * 경우에만 사용합니다.</p>
+     * 
+     * @return 진행 중인 권한 체크, 병렬 모드가 아니거나 Executor가 작업을 거부하면 null
+     */
+    private Future<KeycloakAuthorizationService.AuthorizationCheck> startUMAPermission(String accessToken,
+            TokenValidationContext context) {
+        if (authorizationExecutor == null) {
+            return null;
+        }
+        try {
+            return authorizationExecutor.submit(() -> authorizationService.evaluateAuthorization(
+                accessToken, context.getRequestUri(), context.getHttpMethod()));
+        } catch (RejectedExecutionException e) {
+            // 스레드 풀과 대기열이 가득 찬 경우 - 토큰 검증 후 호출 스레드에서 직접 체크
+            log.debug("Authorization executor rejected the task, checking permission after validation");
+            return null;
+        }
+    }
+    
+    /**
+     * 병렬로 시작한 리소스 권한 체크의 결과를 기다리고, 기본 검증이 성공했으므로 판정을 캐시에 기록합니다.
+     * 
+     * @return 권한이 허용되면 true, 거부되었거나 체크에 실패하면 false
+     */
+    private boolean awaitUMAPermission(Future<KeycloakAuthorizationService.AuthorizationCheck> pendingPermission,
+            TokenValidationContext context) {
+        try {
+            KeycloakAuthorizationService.AuthorizationCheck check = pendingPermission.get();
+            authorizationService.rememberDecision(check);
+            return check.granted();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pendingPermission.cancel(true);
+            return false;
+        } catch (ExecutionException e) {
+            log.error("Unexpected error during parallel authorization check for URI: {} method: {}", 
+                context.getRequestUri(), context.getHttpMethod(), e.getCause());
+            return false;
+        }
+    }
+    
+    private static void cancel(Future<?> pendingPermission) {
+        if (pendingPermission != null) {
+            pendingPermission.cancel(true);
+        }
+    }
+    
     /**
      * Keycloak Admin Client Authorization을 사용하여 리소스 권한을 체크합니다.
      * 
@@ -386,10 +943,66 @@ public class KeycloakTokenProvider implements TokenProvider {
         properties.setGrantType(configProperties.getGrantType());
         properties.setScopes(configProperties.getScopes());
         properties.setPublicClient(configProperties.getPublicClient());
+        properties.setLocalValidation("local".equals(configProperties.getValidationMode()));
+        properties.setAudience(configProperties.getAudience());
+        if (configProperties.getJwksRefreshSeconds() != null) {
+            properties.setJwksRefreshSeconds(configProperties.getJwksRefreshSeconds());
+        }
+        if (configProperties.getClockSkewSeconds() != null) {
+            properties.setClockSkewSeconds(configProperties.getClockSkewSeconds());
+        }
+        if (configProperties.getEndpointReprobeSeconds() != null) {
+            properties.setEndpointReprobeSeconds(configProperties.getEndpointReprobeSeconds());
+        }
+        if (configProperties.getRemoteValidationCache() != null) {
+            SecurityStarterProperties.TokenProvider.RemoteValidationCacheProperties cache =
+                configProperties.getRemoteValidationCache();
+            properties.setRemoteCacheEnabled(cache.isEnabled());
+            properties.setRemoteCacheMaximumSize(cache.getMaximumSize());
+            properties.setRemoteCacheTtlSeconds(cache.getTtlSeconds());
+            properties.setRemoteCacheInactiveTtlSeconds(cache.getInactiveTtlSeconds());
+        }
+        if (configProperties.getAuthorizationCache() != null) {
+            SecurityStarterProperties.TokenProvider.AuthorizationCacheProperties authorization =
+                configProperties.getAuthorizationCache();
+            properties.setAuthorizationCacheEnabled(authorization.isEnabled());
+            properties.setAuthorizationCacheMaximumSize(authorization.getMaximumSize());
+            properties.setAuthorizationCacheGrantTtlSeconds(authorization.getGrantTtlSeconds());
+            properties.setAuthorizationCacheDenyTtlSeconds(authorization.getDenyTtlSeconds());
+            properties.setAuthorizationRouteTemplates(authorization.getRouteTemplates());
+            properties.setAuthorizationLearnRouteTemplates(authorization.isLearnRouteTemplates());
+        }
+        if (configProperties.getLocalAuthorization() != null) {
+            properties.setLocalAuthorizationEnabled(configProperties.getLocalAuthorization().isEnabled());
+            properties.setLocalAuthorizationSyncSeconds(configProperties.getLocalAuthorization().getSyncIntervalSeconds());
+        }
+        if (configProperties.getPermissionSet() != null) {
+            SecurityStarterProperties.TokenProvider.PermissionSetProperties permissionSet =
+                configProperties.getPermissionSet();
+            properties.setPermissionSetEnabled(permissionSet.isEnabled());
+            properties.setPermissionSetMaximumSize(permissionSet.getMaximumSize());
+            properties.setPermissionSetMaxTtlSeconds(permissionSet.getMaxTtlSeconds());
+            properties.setPermissionSetResourceRefreshSeconds(permissionSet.getResourceRefreshSeconds());
+        }
+        if (configProperties.getDegradedMode() != null) {
+            SecurityStarterProperties.TokenProvider.DegradedModeProperties degradedMode =
+                configProperties.getDegradedMode();
+            properties.setDegradedModeEnabled(degradedMode.isEnabled());
+            properties.setDegradedModeGracePeriodSeconds(degradedMode.getGracePeriodSeconds());
+            properties.setDegradedModeMaximumSize(degradedMode.getMaximumSize());
+            properties.setDegradedModeLocalVerification(degradedMode.isLocalVerification());
+        }
+        if (configProperties.getParallelAuthorization() != null) {
+            SecurityStarterProperties.TokenProvider.ParallelAuthorizationProperties parallel =
+                configProperties.getParallelAuthorization();
+            properties.setParallelAuthorizationEnabled(parallel.isEnabled());
+            properties.setParallelAuthorizationVirtualThreads(parallel.isVirtualThreads());
+            properties.setParallelAuthorizationPoolSize(parallel.getPoolSize());
+            properties.setParallelAuthorizationQueueCapacity(parallel.getQueueCapacity());
+        }
+        properties.setAuthorityClaims(configProperties.getAuthorityClaims().stream()
+            .map(claim -> new ClaimAuthoritiesMapper.AuthorityClaim(claim.getPath(), claim.getPrefix()))
+            .toList());
         return properties;
     }
-    
-    private RestTemplate createRestTemplate() {
-        return new RestTemplate();
-    }
-}
\ No newline at end of file
+}
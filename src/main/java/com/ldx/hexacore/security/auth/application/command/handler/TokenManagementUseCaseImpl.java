@@ -7,15 +7,26 @@ import com.ldx.hexacore.security.auth.application.command.port.in.ValidateTokenC
 import com.ldx.hexacore.security.auth.application.command.port.out.TokenProvider;
 import com.ldx.hexacore.security.auth.application.command.port.out.TokenProviderException;
 import com.ldx.hexacore.security.auth.domain.vo.Token;
+import com.ldx.hexacore.security.util.TokenFingerprint;
+import com.ldx.hexacore.security.util.TokenFingerprinter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Objects;
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * 토큰 관리 사용 사례 구현체.
  * 토큰 검증 및 갱신을 담당하는 애플리케이션 서비스입니다.
+ *
+ * <p>여러 브라우저 탭이 동시에 만료를 감지하면 같은 리프레시 토큰으로 갱신이 동시에 들어옵니다. 리프레시 토큰을
+ * 교체(rotation)하는 제공자에서는 첫 요청을 제외한 나머지가 invalid_grant로 실패하므로, 같은 리프레시 토큰의 갱신은
+ * 진행 중인 제공자 호출 하나로 합칩니다. 합치는 것은 호출이 진행 중인 동안뿐이며, 완료된 결과는 보관하지 않으므로
+ * 완료 후 같은 리프레시 토큰을 다시 보내면 제공자의 재사용 탐지(refresh token family 폐기 등)가 그대로 적용됩니다.
+ * 완료 직후 도착한 갱신을 허용하는 짧은 유예는 제공자의 family 저장소가 담당합니다.</p>
  * 
  * @since 1.0.0
  */
@@ -24,6 +35,8 @@ class TokenManagementUseCaseImpl implements TokenManagementUseCase {
     private static final Logger log = LoggerFactory.getLogger(TokenManagementUseCaseImpl.class);
 
     private final TokenProvider tokenProvider;
+    private final TokenFingerprinter fingerprinter = new TokenFingerprinter();
+    private final ConcurrentMap<TokenFingerprint, RefreshFlight> refreshFlights = new ConcurrentHashMap<>();
     
     /**
      * 토큰 관리 사용 사례를 생성합니다.
@@ -72,18 +85,81 @@ class TokenManagementUseCaseImpl implements TokenManagementUseCase {
         Objects.requireNonNull(command, "command cannot be null");
 
         String refreshToken = command.getRefreshToken();
+        TokenFingerprint key = fingerprinter.fingerprint(refreshToken);
+
+        RefreshFlight flight = new RefreshFlight();
+        RefreshFlight existing = refreshFlights.putIfAbsent(key, flight);
+        if (existing != null) {
+            log.debug("Joining in-flight refresh for the same refresh token");
+            return existing.await();
+        }
+        return refreshAsLeader(key, flight, refreshToken);
+    }
+
+    @Override
+    public void revokeRefreshToken(RefreshTokenCommand command) {
+        Objects.requireNonNull(command, "command cannot be null");
+
+        try {
+            tokenProvider.revokeRefreshToken(command.getRefreshToken());
+            log.info("Refresh token revoked");
+        } catch (TokenProviderException e) {
+            log.warn("Refresh token revocation failed: {}", e.getMessage());
+            throw new TokenRefreshException("Failed to revoke refresh token: " + e.getMessage(), e);
+        }
+    }
+
+    private Token refreshAsLeader(TokenFingerprint key, RefreshFlight flight, String refreshToken) {
         log.debug("Refreshing token");
 
         try {
             // TokenProvider를 통한 토큰 갱신 (리프레시 토큰 검증 및 새 토큰 발급)
             Token newToken = tokenProvider.refreshToken(refreshToken);
+            flight.succeed(newToken);
 
             log.info("Token refreshed successfully");
             return newToken;
 
         } catch (TokenProviderException e) {
             log.warn("Token refresh failed: {}", e.getMessage());
-            throw new TokenRefreshException("Failed to refresh token: " + e.getMessage(), e);
+            TokenRefreshException failure = new TokenRefreshException("Failed to refresh token: " + e.getMessage(), e);
+            flight.fail(failure);
+            throw failure;
+        } catch (RuntimeException | Error e) {
+            flight.fail(e);
+            throw e;
+        } finally {
+            refreshFlights.remove(key, flight);
+        }
+    }
+
+    /**
+     * 같은 리프레시 토큰의 진행 중인 갱신
+     */
+    private static final class RefreshFlight {
+        private final CompletableFuture<Token> result = new CompletableFuture<>();
+
+        void succeed(Token token) {
+            result.complete(token);
+        }
+
+        void fail(Throwable failure) {
+            result.completeExceptionally(failure);
+        }
+
+        Token await() {
+            try {
+                return result.join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (cause instanceof Error error) {
+                    throw error;
+                }
+                throw e;
+            }
         }
     }
-}
\ No newline at end of file
+}
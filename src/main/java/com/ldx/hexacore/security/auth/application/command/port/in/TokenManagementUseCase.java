@@ -30,4 +30,14 @@ public interface TokenManagementUseCase {
      * @throws TokenRefreshException 토큰 갱신이 실패한 경우
      */
     Token refreshToken(RefreshTokenCommand command);
+    
+    /**
+     * 리프레시 토큰을 폐기합니다 (로그아웃).
+     * 폐기 후에는 이 리프레시 토큰과 같은 로그인에서 이어진 리프레시 토큰으로 갱신할 수 없습니다.
+     * 
+     * @param command 폐기할 리프레시 토큰을 담은 명령
+     * @throws IllegalArgumentException command가 null인 경우
+     * @throws TokenRefreshException 리프레시 토큰이 유효하지 않아 폐기할 수 없는 경우
+     */
+    void revokeRefreshToken(RefreshTokenCommand command);
 }
\ No newline at end of file
@@ -0,0 +1,54 @@
+package com.ldx.hexacore.security.auth.application.command.port.out;
+
+import com.ldx.hexacore.security.auth.domain.vo.Credentials;
+import com.ldx.hexacore.security.auth.domain.vo.Token;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 비동기 토큰 제공자 인터페이스
+ *
+ * <p>{@link TokenProvider}와 같은 작업을 호출 스레드를 점유하지 않고 수행하는 포트 인터페이스입니다.</p>
+ * <p>게이트웨이나 비동기 서블릿 컨트롤러처럼 외부 토큰 제공자의 응답을 기다리는 동안 스레드를 반환해야 하는 곳에서
+ * 사용합니다. 구현체는 {@link TokenProvider}도 함께 구현할 수 있으므로 {@code TokenProvider} Bean이 이 인터페이스를
+ * 구현하는지 확인해 사용합니다.</p>
+ *
+ * <p>실패는 예외를 던지는 대신 {@link TokenProviderException}으로 완료된 {@link CompletableFuture}로 전달됩니다.
+ * 오류 코드는 동기 메서드와 같습니다.</p>
+ */
+public interface AsyncTokenProvider {
+
+    /**
+     * 주어진 자격증명으로 토큰을 발급합니다.
+     *
+     * @param credentials 사용자 자격증명 (사용자명, 비밀번호 등)
+     * @return 발급된 토큰, 실패하면 {@link TokenProviderException}으로 완료
+     * @see TokenProvider#issueToken(Credentials)
+     */
+    CompletableFuture<Token> issueTokenAsync(Credentials credentials);
+
+    /**
+     * 주어진 액세스 토큰을 검증합니다.
+     *
+     * @param accessToken 검증할 액세스 토큰
+     * @return 토큰 검증 결과, 토큰과 무관한 오류가 발생하면 {@link TokenProviderException}으로 완료
+     * @see TokenProvider#validateToken(String)
+     */
+    CompletableFuture<TokenValidationResult> validateTokenAsync(String accessToken);
+
+    /**
+     * 주어진 리프레시 토큰으로 새로운 토큰을 발급합니다.
+     *
+     * @param refreshToken 리프레시 토큰
+     * @return 갱신된 토큰, 실패하면 {@link TokenProviderException}으로 완료
+     * @see TokenProvider#refreshToken(String)
+     */
+    CompletableFuture<Token> refreshTokenAsync(String refreshToken);
+
+    /**
+     * 이 제공자의 타입을 반환합니다.
+     *
+     * @return 토큰 제공자 타입
+     */
+    TokenProviderType getProviderType();
+}
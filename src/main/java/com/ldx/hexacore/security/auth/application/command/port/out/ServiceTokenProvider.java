@@ -0,0 +1,50 @@
+package com.ldx.hexacore.security.auth.application.command.port.out;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 서비스 계정 토큰 제공자 인터페이스
+ *
+ * <p>백엔드 간 호출에 사용할 client credentials 토큰을 제공하는 포트 인터페이스입니다.
+ * 구현체는 (클라이언트, scope)별로 토큰을 보관하고 만료 전에 갱신하므로 호출할 때마다 토큰 엔드포인트를 호출하지 않습니다.
+ * 반환되는 토큰은 항상 만료까지 안전 여유 이상 남아 있습니다.</p>
+ */
+public interface ServiceTokenProvider {
+
+    /**
+     * 기본 클라이언트와 기본 scope의 액세스 토큰을 반환합니다.
+     *
+     * @return 액세스 토큰
+     * @throws TokenProviderException 토큰을 발급받지 못한 경우
+     */
+    String getAccessToken() throws TokenProviderException;
+
+    /**
+     * 주어진 클라이언트와 scope의 액세스 토큰을 반환합니다.
+     *
+     * @param clientId 클라이언트 ID (null이면 기본 클라이언트)
+     * @param scope 공백으로 구분된 scope (null이면 기본 scope)
+     * @return 액세스 토큰
+     * @throws TokenProviderException 토큰을 발급받지 못한 경우
+     * @throws IllegalArgumentException 등록되지 않은 클라이언트인 경우
+     */
+    String getAccessToken(String clientId, String scope) throws TokenProviderException;
+
+    /**
+     * 주어진 클라이언트와 scope의 액세스 토큰을 호출 스레드를 점유하지 않고 반환합니다.
+     *
+     * @param clientId 클라이언트 ID (null이면 기본 클라이언트)
+     * @param scope 공백으로 구분된 scope (null이면 기본 scope)
+     * @return 액세스 토큰, 실패하면 {@link TokenProviderException}으로 완료
+     * @throws IllegalArgumentException 등록되지 않은 클라이언트인 경우
+     */
+    CompletableFuture<String> getAccessTokenAsync(String clientId, String scope);
+
+    /**
+     * 보관 중인 토큰을 버립니다. 다운스트림이 토큰을 거부(401)한 경우 등에 사용하며, 다음 호출에서 새로 발급받습니다.
+     *
+     * @param clientId 클라이언트 ID (null이면 기본 클라이언트)
+     * @param scope 공백으로 구분된 scope (null이면 기본 scope)
+     */
+    void invalidate(String clientId, String scope);
+}
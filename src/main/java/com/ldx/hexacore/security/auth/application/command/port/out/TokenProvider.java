@@ -57,6 +57,45 @@ public interface TokenProvider {
         return validateToken(accessToken);
     }
     
+    /**
+     * 주어진 액세스 토큰을 검증하고, 유효하지 않은 토큰도 예외 대신 결과로 반환합니다.
+     * 
+     * <p>유효하지 않거나 만료된 토큰은 {@link TokenValidationResult#errorCode()}에 사유 코드를 담은
+     * 무효한 결과로 반환됩니다. 인증 필터처럼 실패가 빈번한 경로에서 예외 생성 비용을 피하기 위해 사용합니다.</p>
+     * <p>기본 구현은 {@link #validateToken(String)}의 검증 실패/만료 예외를 결과로 변환합니다.
+     * 구현체는 예외를 만들지 않도록 재정의하는 것이 좋습니다.</p>
+     * 
+     * @param accessToken 검증할 액세스 토큰
+     * @return 토큰 검증 결과
+     * @throws TokenProviderException 토큰과 무관한 오류가 발생한 경우
+     *         - PROVIDER_UNAVAILABLE: 토큰 제공자 서비스가 이용 불가한 경우
+     */
+    default TokenValidationResult verifyToken(String accessToken) throws TokenProviderException {
+        try {
+            return validateToken(accessToken);
+        } catch (TokenProviderException e) {
+            return e.toInvalidResult();
+        }
+    }
+    
+    /**
+     * 주어진 액세스 토큰을 컨텍스트 정보와 함께 검증하고, 유효하지 않은 토큰도 예외 대신 결과로 반환합니다.
+     * 
+     * @param accessToken 검증할 액세스 토큰
+     * @param context 검증 컨텍스트 (요청 정보 포함)
+     * @return 토큰 검증 결과
+     * @throws TokenProviderException 토큰과 무관한 오류가 발생한 경우
+     * @see #verifyToken(String)
+     */
+    default TokenValidationResult verifyTokenWithContext(String accessToken, TokenValidationContext context)
+            throws TokenProviderException {
+        try {
+            return validateTokenWithContext(accessToken, context);
+        } catch (TokenProviderException e) {
+            return e.toInvalidResult();
+        }
+    }
+    
     /**
      * 주어진 리프레시 토큰으로 새로운 토큰을 발급합니다.
      * 
@@ -70,6 +109,19 @@ public interface TokenProvider {
      */
     Token refreshToken(String refreshToken) throws TokenProviderException;
     
+    /**
+     * 리프레시 토큰을 폐기합니다 (로그아웃 등).
+     * 
+     * <p>폐기 후에는 이 리프레시 토큰과 같은 로그인에서 이어진 리프레시 토큰(리프레시 토큰 family 등)으로 갱신할 수 없습니다.</p>
+     * <p>폐기를 지원하지 않는 제공자는 아무것도 하지 않습니다.</p>
+     * 
+     * @param refreshToken 폐기할 리프레시 토큰
+     * @throws TokenProviderException 리프레시 토큰이 유효하지 않은 경우
+     *         - TOKEN_VALIDATION_FAILED: 서명이 맞지 않거나 리프레시 토큰이 아닌 경우
+     */
+    default void revokeRefreshToken(String refreshToken) throws TokenProviderException {
+    }
+    
     /**
      * 이 제공자의 타입을 반환합니다.
      * 
@@ -79,4 +131,5 @@ public interface TokenProvider {
      * @return 토큰 제공자 타입
      */
     TokenProviderType getProviderType();
+
 }
\ No newline at end of file
@@ -7,6 +7,8 @@ import com.ldx.hexacore.security.util.ValidationMessages;
  * 
  * <p>토큰 발급, 검증, 갱신 과정에서 발생하는 모든 예외 상황을 처리합니다.</p>
  * <p>에러 코드와 제공자 타입 정보를 포함하여 상세한 에러 분석이 가능합니다.</p>
+ * <p>유효하지 않은 토큰으로 인한 검증 실패와 만료 예외는 공격 트래픽에서 대량으로 생성될 수 있으므로
+ * 스택 트레이스를 기록하지 않습니다. 원인 예외가 있으면 원인의 스택 트레이스는 그대로 유지됩니다.</p>
  */
 public class TokenProviderException extends RuntimeException {
     
@@ -38,7 +40,22 @@ public class TokenProviderException extends RuntimeException {
      * @throws IllegalArgumentException 필수 매개변수가 null이거나 빈 값인 경우
      */
     public TokenProviderException(String message, Throwable cause, TokenProviderErrorCode errorCode, String providerType) {
-        super(message, cause);
+        this(message, cause, errorCode, providerType, true);
+    }
+    
+    /**
+     * 스택 트레이스 기록 여부를 지정하는 생성자
+     * 
+     * @param message 에러 메시지
+     * @param cause 원인 예외 (없으면 null)
+     * @param errorCode 에러 코드
+     * @param providerType 제공자 타입
+     * @param writableStackTrace 스택 트레이스 기록 여부
+     * @throws IllegalArgumentException 필수 매개변수가 null이거나 빈 값인 경우
+     */
+    protected TokenProviderException(String message, Throwable cause, TokenProviderErrorCode errorCode,
+                                     String providerType, boolean writableStackTrace) {
+        super(message, cause, true, writableStackTrace);
         validateParameters(message, errorCode, providerType);
         this.errorCode = errorCode;
         this.providerType = providerType;
@@ -62,6 +79,20 @@ public class TokenProviderException extends RuntimeException {
         return providerType;
     }
     
+    /**
+     * 유효하지 않거나 만료된 토큰으로 인한 예외를 무효한 검증 결과로 변환합니다.
+     * 
+     * @return 실패 사유 코드가 담긴 무효한 검증 결과
+     * @throws TokenProviderException 토큰과 무관한 오류(제공자 장애, 설정 오류 등)인 경우 이 예외를 그대로 던짐
+     */
+    public TokenValidationResult toInvalidResult() {
+        return switch (errorCode) {
+            case TOKEN_EXPIRED -> TokenValidationResult.invalid(TokenValidationErrorCode.EXPIRED, getMessage());
+            case TOKEN_VALIDATION_FAILED -> TokenValidationResult.invalid(TokenValidationErrorCode.INVALID_TOKEN, getMessage());
+            default -> throw this;
+        };
+    }
+    
     /**
      * 토큰 발급 실패 예외를 생성합니다.
      * 
@@ -94,7 +125,34 @@ public class TokenProviderException extends RuntimeException {
                 "Failed to validate token using provider: " + providerType,
                 cause,
                 TokenProviderErrorCode.TOKEN_VALIDATION_FAILED,
-                providerType
+                providerType,
+                false
+        );
+    }
+    
+    /**
+     * 무효한 검증 결과를 예외로 변환합니다.
+     * 
+     * <p>만료된 토큰은 {@link #tokenExpired(String)}, 그 밖의 사유는 실패 사유를 메시지에 포함한
+     * 토큰 검증 실패 예외가 됩니다.</p>
+     * 
+     * @param providerType 제공자 타입
+     * @param result 무효한 검증 결과
+     * @return 토큰 검증 실패 또는 만료 예외
+     * @throws IllegalArgumentException 제공자 타입이 null이거나 빈 값인 경우
+     */
+    public static TokenProviderException tokenRejected(String providerType, TokenValidationResult result) {
+        validateProviderType(providerType);
+        if (result != null && result.errorCode() == TokenValidationErrorCode.EXPIRED) {
+            return tokenExpired(providerType);
+        }
+        Object reason = result != null && result.claims() != null ? result.claims().get("error") : null;
+        return new TokenProviderException(
+                "Failed to validate token using provider: " + providerType + (reason != null ? " - " + reason : ""),
+                null,
+                TokenProviderErrorCode.TOKEN_VALIDATION_FAILED,
+                providerType,
+                false
         );
     }
     
@@ -143,8 +201,10 @@ public class TokenProviderException extends RuntimeException {
         validateProviderType(providerType);
         return new TokenProviderException(
                 "Token has expired in provider: " + providerType,
+                null,
                 TokenProviderErrorCode.TOKEN_EXPIRED,
-                providerType
+                providerType,
+                false
         );
     }
     
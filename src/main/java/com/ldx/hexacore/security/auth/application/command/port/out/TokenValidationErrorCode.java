@@ -0,0 +1,44 @@
+package com.ldx.hexacore.security.auth.application.command.port.out;
+
+/**
+ * 토큰 검증 실패 사유를 분류하는 열거형
+ *
+ * <p>{@link TokenValidationResult#errorCode()}로 전달되며, 예외 없이 실패 사유를 구분할 때 사용합니다.</p>
+ */
+public enum TokenValidationErrorCode {
+
+    /**
+     * 토큰이 비어 있음
+     */
+    EMPTY_TOKEN,
+
+    /**
+     * 토큰 형식 오류
+     */
+    MALFORMED,
+
+    /**
+     * 지원하지 않는 토큰 형식 또는 알고리즘
+     */
+    UNSUPPORTED,
+
+    /**
+     * 서명 불일치 또는 알 수 없는 서명 키
+     */
+    INVALID_SIGNATURE,
+
+    /**
+     * 토큰 만료
+     */
+    EXPIRED,
+
+    /**
+     * 발급자, Audience, 토큰 타입 등 클레임 검사 실패
+     */
+    INVALID_CLAIMS,
+
+    /**
+     * 그 밖의 사유로 유효하지 않은 토큰
+     */
+    INVALID_TOKEN
+}
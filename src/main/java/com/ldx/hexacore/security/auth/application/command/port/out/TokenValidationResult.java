@@ -20,6 +20,7 @@ import java.util.Set;
  * @param authorities 권한 목록
  * @param expiresAt 토큰 만료 시각
  * @param claims 추가 클레임 정보
+ * @param errorCode 실패 사유 코드 (유효한 경우 null)
  */
 public record TokenValidationResult(
         boolean valid,
@@ -27,7 +28,8 @@ public record TokenValidationResult(
         String username,
         Set<String> authorities,
         Instant expiresAt,
-        Map<String, Object> claims
+        Map<String, Object> claims,
+        TokenValidationErrorCode errorCode
 ) {
     
     /**
@@ -37,6 +39,19 @@ public record TokenValidationResult(
         // 방어적 복사를 통한 불변성 보장
         authorities = authorities != null ? Set.copyOf(authorities) : null;
         claims = claims != null ? Map.copyOf(claims) : null;
+        if (valid) {
+            errorCode = null;
+        } else if (errorCode == null) {
+            errorCode = TokenValidationErrorCode.INVALID_TOKEN;
+        }
+    }
+    
+    /**
+     * 실패 사유 코드 없이 결과를 생성합니다. 무효한 결과의 사유 코드는 {@link TokenValidationErrorCode#INVALID_TOKEN}입니다.
+     */
+    public TokenValidationResult(boolean valid, String userId, String username,
+                                 Set<String> authorities, Instant expiresAt, Map<String, Object> claims) {
+        this(valid, userId, username, authorities, expiresAt, claims, null);
     }
     
     /**
@@ -72,6 +87,21 @@ public record TokenValidationResult(
      * @throws IllegalArgumentException 실패 사유가 null이거나 빈 값인 경우
      */
     public static TokenValidationResult invalid(String reason) {
+        return invalid(TokenValidationErrorCode.INVALID_TOKEN, reason);
+    }
+    
+    /**
+     * 실패 사유 코드와 함께 무효한 토큰 검증 결과를 생성합니다.
+     * 
+     * @param errorCode 실패 사유 코드 (필수)
+     * @param reason 실패 사유 (필수)
+     * @return 무효한 토큰 검증 결과
+     * @throws IllegalArgumentException 실패 사유 코드가 null이거나 실패 사유가 null이거나 빈 값인 경우
+     */
+    public static TokenValidationResult invalid(TokenValidationErrorCode errorCode, String reason) {
+        if (errorCode == null) {
+            throw new IllegalArgumentException(ValidationMessages.cannotBeNull("Error code"));
+        }
         validateReason(reason);
         
         Map<String, Object> errorClaims = new HashMap<>();
@@ -83,7 +113,8 @@ public record TokenValidationResult(
                 null,
                 null,
                 null,
-                errorClaims
+                errorClaims,
+                errorCode
         );
     }
     
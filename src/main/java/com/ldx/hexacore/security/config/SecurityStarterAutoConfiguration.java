@@ -47,6 +47,7 @@ import org.springframework.context.annotation.Import;
     HexagonalModeConfiguration.class,
     // 기능별 AutoConfiguration
     TokenProviderAutoConfiguration.class,
+    CacheAutoConfiguration.class,
     SecurityFilterAutoConfiguration.class,
     ApplicationLayerAutoConfiguration.class,
     SupportBeansAutoConfiguration.class,
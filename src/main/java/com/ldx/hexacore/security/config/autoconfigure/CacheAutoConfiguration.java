@@ -1,14 +1,26 @@
 package com.ldx.hexacore.security.config.autoconfigure;
 
+import com.ldx.hexacore.security.auth.adapter.inbound.filter.RejectedTokenCache;
+import com.ldx.hexacore.security.auth.adapter.outbound.token.cache.CachingTokenProvider;
+import com.ldx.hexacore.security.auth.adapter.outbound.token.cache.CoalescingTokenProvider;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenProvider;
 import com.ldx.hexacore.security.config.properties.SecurityStarterProperties;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.FilterType;
 
+import java.time.Duration;
+
 /**
  * 캐시 어댑터 자동 설정
  * 
@@ -42,6 +54,143 @@ public class CacheAutoConfiguration {
         // Caffeine 캐시 관련 추가 설정이 필요한 경우 여기에 추가
     }
     
+    /**
+     * 토큰 검증 결과 캐시 설정
+     * 
+     * security-starter.cache.token-validation.enabled=true 일 때 TokenProvider를 캐싱 데코레이터로 감쌉니다.
+     */
+    @Configuration
+    @ConditionalOnClass(Caffeine.class)
+    @ConditionalOnProperty(
+        prefix = "security-starter.cache.token-validation",
+        name = "enabled",
+        havingValue = "true",
+        matchIfMissing = false
+    )
+    public static class TokenValidationCacheConfiguration {
+        
+        @Bean
+        public static TokenValidationCachePostProcessor tokenValidationCachePostProcessor(
+                ObjectProvider<SecurityStarterProperties> propertiesProvider) {
+            return new TokenValidationCachePostProcessor(propertiesProvider);
+        }
+        
+        /**
+         * Micrometer가 있을 때 검증 결과 캐시 지표를 cache.* 메트릭으로 노출
+         */
+        @Configuration
+        @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+        public static class TokenValidationCacheMetricsConfiguration {
+            
+            @Bean
+            public MeterBinder tokenValidationCacheMetrics(ObjectProvider<TokenProvider> tokenProviders) {
+                return registry -> tokenProviders.orderedStream()
+                    .filter(CachingTokenProvider.class::isInstance)
+                    .map(CachingTokenProvider.class::cast)
+                    .findFirst()
+                    .ifPresent(provider -> CaffeineCacheMetrics.monitor(
+                        registry, provider.getCache(), "securityStarterTokenValidation"));
+            }
+        }
+    }
+    
+    /**
+     * 거부된 토큰 네거티브 캐시 설정
+     * 
+     * security-starter.cache.token-rejection.enabled=true 일 때 JwtAuthenticationFilter가
+     * 최근 거부된 토큰을 재검증 없이 거부합니다.
+     */
+    @Configuration
+    @ConditionalOnClass(Caffeine.class)
+    @ConditionalOnProperty(
+        prefix = "security-starter.cache.token-rejection",
+        name = "enabled",
+        havingValue = "true",
+        matchIfMissing = false
+    )
+    public static class TokenRejectionCacheConfiguration {
+        
+        @Bean
+        public RejectedTokenCache rejectedTokenCache(SecurityStarterProperties properties) {
+            SecurityStarterProperties.CacheProperties.TokenRejectionCacheProperties tokenRejection =
+                properties.getCache().getTokenRejection();
+            return new RejectedTokenCache(
+                tokenRejection.getMaximumSize(),
+                Duration.ofSeconds(tokenRejection.getTtlSeconds()));
+        }
+        
+        /**
+         * Micrometer가 있을 때 네거티브 캐시 적중 수를 cache.* 메트릭으로 노출
+         */
+        @Configuration
+        @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+        public static class TokenRejectionCacheMetricsConfiguration {
+            
+            @Bean
+            public MeterBinder tokenRejectionCacheMetrics(RejectedTokenCache rejectedTokenCache) {
+                return registry -> CaffeineCacheMetrics.monitor(
+                    registry, rejectedTokenCache.getCache(), "securityStarterTokenRejection");
+            }
+        }
+    }
+    
+    /**
+     * 동시 검증 합치기 설정
+     * 
+     * security-starter.cache.token-coalescing.enabled=true 일 때 같은 토큰으로 동시에 들어온 검증이
+     * 하나의 제공자 호출 결과를 공유합니다.
+     */
+    @Configuration
+    @ConditionalOnProperty(
+        prefix = "security-starter.cache.token-coalescing",
+        name = "enabled",
+        havingValue = "true",
+        matchIfMissing = false
+    )
+    public static class TokenCoalescingConfiguration {
+        
+        @Bean
+        public static TokenCoalescingPostProcessor tokenCoalescingPostProcessor(
+                ObjectProvider<SecurityStarterProperties> propertiesProvider) {
+            return new TokenCoalescingPostProcessor(propertiesProvider);
+        }
+        
+        /**
+         * Micrometer가 있을 때 합쳐진 요청 수를 security.token.coalescing.* 메트릭으로 노출
+         */
+        @Configuration
+        @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+        public static class TokenCoalescingMetricsConfiguration {
+            
+            @Bean
+            public MeterBinder tokenCoalescingMetrics(ObjectProvider<TokenProvider> tokenProviders) {
+                return registry -> tokenProviders.orderedStream()
+                    .map(provider -> provider instanceof CachingTokenProvider caching ? caching.getDelegate() : provider)
+                    .filter(CoalescingTokenProvider.class::isInstance)
+                    .map(CoalescingTokenProvider.class::cast)
+                    .findFirst()
+                    .ifPresent(provider -> {
+                        FunctionCounter.builder("security.token.coalescing.leaders", provider,
+                                CoalescingTokenProvider::getLeaderCount)
+                            .description("Validations executed against the token provider")
+                            .register(registry);
+                        FunctionCounter.builder("security.token.coalescing.hits", provider,
+                                CoalescingTokenProvider::getCoalescedCount)
+                            .description("Validations that shared an in-flight result")
+                            .register(registry);
+                        FunctionCounter.builder("security.token.coalescing.timeouts", provider,
+                                CoalescingTokenProvider::getTimeoutCount)
+                            .description("Validations that stopped waiting and validated on their own")
+                            .register(registry);
+                        Gauge.builder("security.token.coalescing.in.flight", provider,
+                                CoalescingTokenProvider::getInFlightCount)
+                            .description("Validations currently in flight")
+                            .register(registry);
+                    });
+            }
+        }
+    }
+    
     /**
      * Redis 캐시 어댑터 설정 (향후 지원 예정)
      */
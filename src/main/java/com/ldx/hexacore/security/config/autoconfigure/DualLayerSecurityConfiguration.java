@@ -1,5 +1,6 @@
 package com.ldx.hexacore.security.config.autoconfigure;
 
+import com.ldx.hexacore.security.auth.adapter.inbound.filter.ExcludePathMatcher;
 import com.ldx.hexacore.security.auth.adapter.inbound.filter.JwtAuthenticationFilter;
 import com.ldx.hexacore.security.config.properties.SecurityStarterProperties;
 import jakarta.servlet.FilterChain;
@@ -8,6 +9,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -73,14 +75,16 @@ public class DualLayerSecurityConfiguration {
         @Bean
         public FilterRegistrationBean<JwtServletFilter> jwtServletFilterRegistration(
                 JwtAuthenticationFilter jwtFilter,
-                SecurityStarterProperties properties) {
+                SecurityStarterProperties properties,
+                ObjectProvider<ExcludePathMatcher> excludePathMatcher) {
             
             logger.info("🔧 [Layer 1] Registering JWT as ServletFilter");
             
             FilterRegistrationBean<JwtServletFilter> registration = 
                 new FilterRegistrationBean<>();
             
-            JwtServletFilter servletFilter = new JwtServletFilter(jwtFilter, properties);
+            JwtServletFilter servletFilter = new JwtServletFilter(jwtFilter, properties,
+                excludePathMatcher.getIfAvailable(() -> ExcludePathMatcher.of(properties, null)));
             registration.setFilter(servletFilter);
             registration.addUrlPatterns("/*");
             registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 50); // Spring Security보다 먼저
@@ -174,13 +178,19 @@ public class DualLayerSecurityConfiguration {
         
         private final JwtAuthenticationFilter jwtFilter;
         private final SecurityStarterProperties properties;
-        private final List<String> excludePaths;
+        private final ExcludePathMatcher excludePathMatcher;
         
         public JwtServletFilter(JwtAuthenticationFilter jwtFilter, 
                                SecurityStarterProperties properties) {
+            this(jwtFilter, properties, ExcludePathMatcher.of(properties, null));
+        }
+        
+        public JwtServletFilter(JwtAuthenticationFilter jwtFilter,
+                               SecurityStarterProperties properties,
+                               ExcludePathMatcher excludePathMatcher) {
             this.jwtFilter = jwtFilter;
             this.properties = properties;
-            this.excludePaths = List.of(properties.getFilter().getExcludePaths());
+            this.excludePathMatcher = excludePathMatcher;
         }
         
         @Override
@@ -191,7 +201,7 @@ public class DualLayerSecurityConfiguration {
             String path = request.getRequestURI();
             
             // JWT 처리 제외 경로 체크
-            if (shouldSkip(path)) {
+            if (excludePathMatcher.matches(request)) {
                 filterChain.doFilter(request, response);
                 return;
             }
@@ -220,10 +230,6 @@ public class DualLayerSecurityConfiguration {
             filterChain.doFilter(request, response);
         }
         
-        private boolean shouldSkip(String path) {
-            return excludePaths.stream().anyMatch(path::startsWith);
-        }
-        
         private String extractToken(HttpServletRequest request) {
             String header = request.getHeader("Authorization");
             if (header != null && header.startsWith("Bearer ")) {
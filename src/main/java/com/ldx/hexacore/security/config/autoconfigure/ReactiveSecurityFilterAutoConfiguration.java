@@ -0,0 +1,168 @@
+package com.ldx.hexacore.security.config.autoconfigure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ldx.hexacore.security.auth.adapter.inbound.filter.ExcludePathMatcher;
+import com.ldx.hexacore.security.auth.adapter.inbound.filter.ReactiveJwtAuthenticationFilter;
+import com.ldx.hexacore.security.auth.adapter.inbound.filter.RejectedTokenCache;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenProvider;
+import com.ldx.hexacore.security.config.properties.SecurityStarterProperties;
+import com.ldx.hexacore.security.logging.SecurityEventLogger;
+import com.ldx.hexacore.security.logging.SecurityRequestLogger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.security.reactive.ReactiveSecurityAutoConfiguration;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatcher;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 리액티브(WebFlux) 보안 필터 자동 설정
+ *
+ * <p>{@link SecurityFilterAutoConfiguration}의 REACTIVE 애플리케이션용 대응입니다. 같은 TokenProvider, 제외 경로,
+ * 로깅, 네거티브 캐시 Bean으로 {@link ReactiveJwtAuthenticationFilter}를 등록하고, 사용자가 정의하지 않았으면
+ * stateless 기본 SecurityWebFilterChain을 구성합니다.</p>
+ */
+@AutoConfiguration(after = {ReactiveSecurityAutoConfiguration.class, TokenProviderAutoConfiguration.class})
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@ConditionalOnProperty(
+    prefix = "security-starter.filter",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = true
+)
+@ConditionalOnClass(name = {
+    "org.springframework.security.web.server.SecurityWebFilterChain",
+    "reactor.core.publisher.Mono"
+})
+@EnableConfigurationProperties(SecurityStarterProperties.class)
+public class ReactiveSecurityFilterAutoConfiguration {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveSecurityFilterAutoConfiguration.class);
+
+    /**
+     * 모든 설정 소스의 제외 경로를 한 번만 컴파일한 매처
+     * 서블릿 설정과 같이 security-starter.filter.exclude.paths도 포함합니다.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ExcludePathMatcher excludePathMatcher(
+            Environment environment,
+            SecurityStarterProperties securityProperties) {
+        List<String> excludePaths = Binder.get(environment)
+            .bind("security-starter.filter.exclude.paths", Bindable.listOf(String.class))
+            .orElse(List.of());
+        ExcludePathMatcher matcher = ExcludePathMatcher.of(securityProperties, excludePaths);
+        logger.debug("Compiled exclude paths: {}", matcher.getPatterns());
+        return matcher;
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ReactiveJwtAuthenticationFilter reactiveJwtAuthenticationFilter(
+            TokenProvider tokenProvider,
+            ObjectProvider<ObjectMapper> objectMapper,
+            ExcludePathMatcher excludePathMatcher,
+            SecurityStarterProperties securityProperties,
+            SecurityRequestLogger requestLogger,
+            SecurityEventLogger eventLogger,
+            ObjectProvider<RejectedTokenCache> rejectedTokenCache) {
+        logger.info("ReactiveJwtAuthenticationFilter registered with TokenProvider: {}",
+            tokenProvider.getClass().getSimpleName());
+        return new ReactiveJwtAuthenticationFilter(
+            tokenProvider,
+            objectMapper.getIfAvailable(ObjectMapper::new),
+            excludePathMatcher,
+            securityProperties,
+            requestLogger,
+            eventLogger,
+            rejectedTokenCache.getIfAvailable()
+        );
+    }
+
+    /**
+     * 사용자가 SecurityWebFilterChain을 정의하지 않았을 때 사용하는 기본 체인
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnMissingBean(SecurityWebFilterChain.class)
+    @EnableWebFluxSecurity
+    static class DefaultSecurityWebFilterChainConfiguration {
+
+        @Bean
+        public SecurityWebFilterChain defaultSecurityWebFilterChain(
+                ServerHttpSecurity http,
+                ExcludePathMatcher excludePathMatcher,
+                ObjectProvider<ObjectMapper> objectMapper) {
+            ObjectMapper mapper = objectMapper.getIfAvailable(ObjectMapper::new);
+            ServerWebExchangeMatcher excluded = exchange ->
+                excludePathMatcher.matches(exchange.getRequest().getPath().pathWithinApplication().value())
+                    ? ServerWebExchangeMatcher.MatchResult.match()
+                    : ServerWebExchangeMatcher.MatchResult.notMatch();
+
+            http
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                // 인증 정보는 요청마다 ReactiveJwtAuthenticationFilter가 설정 (stateless)
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .authorizeExchange(exchanges -> {
+                    if (!excludePathMatcher.isEmpty()) {
+                        exchanges.matchers(excluded).permitAll();
+                    }
+                    exchanges.anyExchange().authenticated();
+                })
+                .exceptionHandling(exceptions -> exceptions
+                    .authenticationEntryPoint((exchange, e) -> writeUnauthorized(exchange, mapper)));
+
+            logger.info("Default SecurityWebFilterChain configured with exclude paths: {}",
+                excludePathMatcher.getPatterns());
+            return http.build();
+        }
+
+        private static Mono<Void> writeUnauthorized(ServerWebExchange exchange, ObjectMapper objectMapper) {
+            String path = exchange.getRequest().getPath().value();
+            logger.warn("Unauthorized access attempt: {} {}", exchange.getRequest().getMethod(), path);
+
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "Authentication required");
+            errorResponse.put("timestamp", LocalDateTime.now().toString());
+            errorResponse.put("status", HttpStatus.UNAUTHORIZED.value());
+            errorResponse.put("path", path);
+
+            byte[] bytes;
+            try {
+                bytes = objectMapper.writeValueAsBytes(errorResponse);
+            } catch (Exception e) {
+                return Mono.error(e);
+            }
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(bytes)));
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package com.ldx.hexacore.security.config.autoconfigure;
 
+import com.ldx.hexacore.security.auth.adapter.inbound.filter.ExcludePathMatcher;
 import com.ldx.hexacore.security.auth.adapter.inbound.filter.SecurityFilterConfig;
 import com.ldx.hexacore.security.config.properties.SecurityStarterProperties;
 import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -69,7 +71,9 @@ public class SecurityFilterAutoConfiguration {
     @Bean
     @Order(100) // Lower priority than custom filter chains
     @ConditionalOnMissingBean({SecurityFilterChain.class, SecurityFilterConfig.class})
-    public SecurityFilterChain defaultSecurityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain defaultSecurityFilterChain(
+            HttpSecurity http,
+            ObjectProvider<ExcludePathMatcher> excludePathMatcher) throws Exception {
         logger.debug("Configuring default security filter chain");
         
         // Basic security configuration
@@ -81,7 +85,8 @@ public class SecurityFilterAutoConfiguration {
             );
         
         // Configure authorization
-        configureAuthorization(http);
+        configureAuthorization(http,
+            excludePathMatcher.getIfAvailable(() -> ExcludePathMatcher.of(properties, null)));
         
         // Configure security headers
         if (properties.getHeaders().getEnabled()) {
@@ -97,22 +102,12 @@ public class SecurityFilterAutoConfiguration {
     /**
      * Configure authorization rules.
      */
-    private void configureAuthorization(HttpSecurity http) throws Exception {
-        var jwtProperties = properties.getTokenProvider().getJwt();
-        
+    private void configureAuthorization(HttpSecurity http, ExcludePathMatcher excludePathMatcher) throws Exception {
         http.authorizeHttpRequests(authz -> {
-            // Configure excluded paths (no authentication required)
-            var excludePaths = properties.getFilter().getExcludePaths();
-            if (excludePaths != null && excludePaths.length > 0) {
-                authz.requestMatchers(excludePaths).permitAll();
-                logger.debug("Excluded paths from authentication: {}", (Object) excludePaths);
-            }
-            
-            // JWT specific excluded paths
-            if (jwtProperties.getExcludedPaths() != null && !jwtProperties.getExcludedPaths().isEmpty()) {
-                String[] jwtExcludedPaths = jwtProperties.getExcludedPaths().toArray(new String[0]);
-                authz.requestMatchers(jwtExcludedPaths).permitAll();
-                logger.debug("JWT excluded paths from authentication: {}", (Object) jwtExcludedPaths);
+            // Configure excluded paths (filter exclude-paths and JWT excluded-paths, no authentication required)
+            if (!excludePathMatcher.isEmpty()) {
+                authz.requestMatchers(excludePathMatcher).permitAll();
+                logger.debug("Excluded paths from authentication: {}", excludePathMatcher.getPatterns());
             }
             
             // Default: all other requests require authentication
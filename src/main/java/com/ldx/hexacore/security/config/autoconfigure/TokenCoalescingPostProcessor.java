@@ -0,0 +1,53 @@
+package com.ldx.hexacore.security.config.autoconfigure;
+
+import com.ldx.hexacore.security.auth.adapter.outbound.token.cache.CachingTokenProvider;
+import com.ldx.hexacore.security.auth.adapter.outbound.token.cache.CoalescingTokenProvider;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenProvider;
+import com.ldx.hexacore.security.config.properties.SecurityStarterProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+/**
+ * TokenProvider BeanPostProcessor
+ *
+ * 등록된 TokenProvider Bean을 {@link CoalescingTokenProvider}로 감싸 같은 토큰의 동시 검증을 합칩니다.
+ * 검증 결과 캐시보다 먼저 적용되어 캐시 미적중 요청만 합쳐지도록 캐시의 안쪽에 위치합니다.
+ */
+public class TokenCoalescingPostProcessor implements BeanPostProcessor, Ordered {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenCoalescingPostProcessor.class);
+
+    private final ObjectProvider<SecurityStarterProperties> propertiesProvider;
+
+    public TokenCoalescingPostProcessor(ObjectProvider<SecurityStarterProperties> propertiesProvider) {
+        this.propertiesProvider = propertiesProvider;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+        if (!(bean instanceof TokenProvider tokenProvider)
+                || bean instanceof CoalescingTokenProvider
+                || bean instanceof CachingTokenProvider) {
+            return bean;
+        }
+
+        SecurityStarterProperties.CacheProperties.TokenCoalescingProperties coalescing =
+            propertiesProvider.getObject().getCache().getTokenCoalescing();
+
+        logger.info("Token validation coalescing enabled for TokenProvider bean: {} (waitTimeout={}ms)",
+            beanName, coalescing.getWaitTimeoutMillis());
+
+        return CoalescingTokenProvider.decorate(tokenProvider, Duration.ofMillis(coalescing.getWaitTimeoutMillis()));
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
@@ -1,10 +1,24 @@
 package com.ldx.hexacore.security.config.autoconfigure;
 
+import com.ldx.hexacore.security.auth.adapter.outbound.external.KeycloakCircuitBreaker;
+import com.ldx.hexacore.security.auth.adapter.outbound.external.KeycloakHttpTransport;
+import com.ldx.hexacore.security.auth.adapter.outbound.token.jwt.InMemoryRefreshTokenFamilyStore;
 import com.ldx.hexacore.security.auth.adapter.outbound.token.jwt.JwtProperties;
+import com.ldx.hexacore.security.auth.adapter.outbound.token.jwt.RefreshTokenFamilyStore;
 import com.ldx.hexacore.security.auth.adapter.outbound.token.jwt.SpringJwtTokenProvider;
+import com.ldx.hexacore.security.auth.adapter.outbound.token.keycloak.KeycloakServiceTokenManager;
 import com.ldx.hexacore.security.auth.adapter.outbound.token.noop.NoOpTokenProvider;
+import com.ldx.hexacore.security.auth.application.command.port.out.ServiceTokenProvider;
 import com.ldx.hexacore.security.auth.application.command.port.out.TokenProvider;
 import com.ldx.hexacore.security.config.properties.SecurityStarterProperties;
+import com.ldx.hexacore.security.config.support.KeycloakCircuitBreakerHealthIndicator;
+import com.ldx.hexacore.security.util.ClaimAuthoritiesMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.health.ConditionalOnEnabledHealthIndicator;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingClass;
@@ -13,6 +27,10 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
 @Configuration
 @EnableConfigurationProperties(SecurityStarterProperties.class)
 @ConditionalOnClass(TokenProvider.class)
@@ -33,6 +51,9 @@ public class TokenProviderAutoConfiguration {
     @ConditionalOnClass(name = "com.ldx.hexacore.security.auth.adapter.outbound.token.keycloak.KeycloakTokenProvider")
     public static class KeycloakTokenProviderConfiguration {
         
+        /**
+         * 토큰 제공자와 Keycloak 인증 어댑터가 공유하는 HTTP 전송 계층
+         */
         @Bean
         @ConditionalOnProperty(
             prefix = "security-starter.token-provider.keycloak", 
@@ -40,18 +61,133 @@ public class TokenProviderAutoConfiguration {
             havingValue = "true", 
             matchIfMissing = false
         )
-        public TokenProvider keycloakTokenProvider(SecurityStarterProperties properties) {
+        @ConditionalOnMissingBean
+        public KeycloakHttpTransport keycloakHttpTransport(SecurityStarterProperties properties) {
+            return KeycloakHttpTransport.fromProperties(properties.getTokenProvider().getKeycloak());
+        }
+        
+        @Bean
+        @ConditionalOnProperty(
+            prefix = "security-starter.token-provider.keycloak", 
+            name = "enabled", 
+            havingValue = "true", 
+            matchIfMissing = false
+        )
+        public TokenProvider keycloakTokenProvider(SecurityStarterProperties properties,
+                                                   KeycloakHttpTransport keycloakHttpTransport) {
             SecurityStarterProperties.TokenProvider.KeycloakProperties keycloakConfig = 
                 properties.getTokenProvider().getKeycloak();
             
             try {
                 Class<?> keycloakProviderClass = Class.forName("com.ldx.hexacore.security.auth.adapter.outbound.token.keycloak.KeycloakTokenProvider");
-                return (TokenProvider) keycloakProviderClass.getConstructor(SecurityStarterProperties.TokenProvider.KeycloakProperties.class)
-                    .newInstance(keycloakConfig);
+                return (TokenProvider) keycloakProviderClass
+                    .getConstructor(SecurityStarterProperties.TokenProvider.KeycloakProperties.class, KeycloakHttpTransport.class)
+                    .newInstance(keycloakConfig, keycloakHttpTransport);
             } catch (Exception e) {
                 throw new IllegalStateException("Failed to create KeycloakTokenProvider", e);
             }
         }
+        
+        /**
+         * 백엔드 간 호출용 client credentials 토큰 관리자
+         */
+        @Bean
+        @ConditionalOnProperty(
+            prefix = "security-starter.token-provider.keycloak", 
+            name = {"enabled", "service-token.enabled"}, 
+            havingValue = "true", 
+            matchIfMissing = false
+        )
+        @ConditionalOnMissingBean(ServiceTokenProvider.class)
+        public ServiceTokenProvider keycloakServiceTokenProvider(SecurityStarterProperties properties,
+                                                                 KeycloakHttpTransport keycloakHttpTransport) {
+            return new KeycloakServiceTokenManager(properties.getTokenProvider().getKeycloak(), keycloakHttpTransport);
+        }
+        
+        /**
+         * Actuator가 있을 때 Keycloak 엔드포인트별 circuit 상태를 health에 노출
+         */
+        @Configuration
+        @ConditionalOnClass(name = "org.springframework.boot.actuate.health.HealthIndicator")
+        @ConditionalOnProperty(
+            prefix = "security-starter.token-provider.keycloak", 
+            name = "enabled", 
+            havingValue = "true", 
+            matchIfMissing = false
+        )
+        public static class KeycloakCircuitBreakerHealthConfiguration {
+            
+            @Bean
+            @ConditionalOnEnabledHealthIndicator("keycloakCircuitBreakers")
+            public KeycloakCircuitBreakerHealthIndicator keycloakCircuitBreakersHealthIndicator(
+                    KeycloakHttpTransport transport) {
+                return new KeycloakCircuitBreakerHealthIndicator(transport);
+            }
+        }
+        
+        /**
+         * Micrometer가 있을 때 Keycloak route별 호출 메트릭을 노출
+         */
+        @Configuration
+        @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+        @ConditionalOnProperty(
+            prefix = "security-starter.token-provider.keycloak", 
+            name = "enabled", 
+            havingValue = "true", 
+            matchIfMissing = false
+        )
+        public static class KeycloakHttpTransportMetricsConfiguration {
+            
+            @Bean
+            public MeterBinder keycloakHttpTransportMetrics(KeycloakHttpTransport transport) {
+                return registry -> {
+                    Gauge.builder("security.keycloak.http.connections.available", transport,
+                            KeycloakHttpTransport::getAvailableConnections)
+                        .description("Keycloak 요청을 바로 시작할 수 있는 연결 수")
+                        .register(registry);
+                    Gauge.builder("security.keycloak.http.connections.max", transport,
+                            KeycloakHttpTransport::getMaxConnections)
+                        .register(registry);
+                    // 이후 새로 호출되는 route(다른 호스트, 엔드포인트 전환 등)도 등록 시점에 메트릭 추가
+                    transport.addRouteListener((route, stats) -> {
+                        Gauge.builder("security.keycloak.http.connections.active", stats,
+                                KeycloakHttpTransport.RouteStats::getInFlight)
+                            .tag("route", route)
+                            .register(registry);
+                        FunctionCounter.builder("security.keycloak.http.failures", stats,
+                                KeycloakHttpTransport.RouteStats::getFailures)
+                            .tag("route", route)
+                            .register(registry);
+                        FunctionTimer.builder("security.keycloak.http.requests", stats,
+                                KeycloakHttpTransport.RouteStats::getRequests,
+                                KeycloakHttpTransport.RouteStats::getTotalTimeNanos,
+                                TimeUnit.NANOSECONDS)
+                            .tag("route", route)
+                            .register(registry);
+                    });
+                    transport.getCircuitBreakers().forEach((endpoint, circuitBreaker) -> {
+                        Gauge.builder("security.keycloak.circuit.state", circuitBreaker,
+                                cb -> cb.getState().ordinal())
+                            .description("Keycloak 엔드포인트 circuit 상태 (0=closed, 1=open, 2=half-open)")
+                            .tag("endpoint", endpoint.getName())
+                            .register(registry);
+                        Gauge.builder("security.keycloak.circuit.failure.rate", circuitBreaker,
+                                KeycloakCircuitBreaker::getFailureRate)
+                            .tag("endpoint", endpoint.getName())
+                            .register(registry);
+                        FunctionCounter.builder("security.keycloak.circuit.not.permitted", circuitBreaker,
+                                KeycloakCircuitBreaker::getNotPermittedCount)
+                            .description("circuit이 열려 있거나 동시 호출 한도에 도달해 거부한 호출 수")
+                            .tag("endpoint", endpoint.getName())
+                            .register(registry);
+                        Gauge.builder("security.keycloak.bulkhead.available", circuitBreaker,
+                                KeycloakCircuitBreaker::getAvailableConcurrentCalls)
+                            .tag("endpoint", endpoint.getName())
+                            .register(registry);
+                    });
+                };
+            }
+        }
     }
     
     /**
@@ -66,7 +202,8 @@ public class TokenProviderAutoConfiguration {
         matchIfMissing = false  // 명시적으로 활성화해야 생성
     )
     @ConditionalOnMissingBean(TokenProvider.class)  // 다른 TokenProvider가 없을 때만
-    public TokenProvider springJwtTokenProvider(SecurityStarterProperties properties) {
+    public TokenProvider springJwtTokenProvider(SecurityStarterProperties properties,
+                                                ObjectProvider<RefreshTokenFamilyStore> refreshTokenFamilyStore) {
         
         // Keycloak 설정 충돌 체크
         String providerType = properties.getTokenProvider().getProvider();
@@ -77,16 +214,41 @@ public class TokenProviderAutoConfiguration {
         JwtProperties jwtProperties =
             convertToJwtProperties(properties.getTokenProvider().getJwt());
         
-        SpringJwtTokenProvider jwtProvider = new SpringJwtTokenProvider(jwtProperties);
+        // 리프레시 토큰 회전을 켠 경우에만 family 저장소 사용
+        RefreshTokenFamilyStore familyStore =
+            properties.getTokenProvider().getJwt().getRefreshTokenRotation().isEnabled()
+                ? refreshTokenFamilyStore.getIfAvailable()
+                : null;
+        SpringJwtTokenProvider jwtProvider = new SpringJwtTokenProvider(jwtProperties, familyStore);
         
         // 디버깅을 위한 로그 추가
         logger.info("✅ SpringJwtTokenProvider Bean registered successfully");
-        logger.info("JWT Settings - Secret: [PROTECTED], Issuer: {}, Access Token Expiration: {}s", 
-            jwtProperties.getIssuer(), jwtProperties.getAccessTokenExpiration());
+        logger.info("JWT Settings - Algorithm: {}, Key: [PROTECTED], Issuer: {}, Access Token Expiration: {}s", 
+            jwtProperties.getAlgorithm(), jwtProperties.getIssuer(), jwtProperties.getAccessTokenExpiration());
         
         return jwtProvider;
     }
 
+    /**
+     * 리프레시 토큰 family 저장소 (회전을 켰을 때). 여러 인스턴스가 토큰을 갱신한다면 공유 저장소 구현을 Bean으로 등록합니다.
+     */
+    @Bean
+    @ConditionalOnClass(name = "io.jsonwebtoken.JwtBuilder")
+    @ConditionalOnProperty(
+        prefix = "security-starter.token-provider.jwt",
+        name = {"enabled", "refresh-token-rotation.enabled"},
+        havingValue = "true"
+    )
+    @ConditionalOnMissingBean(RefreshTokenFamilyStore.class)
+    public RefreshTokenFamilyStore refreshTokenFamilyStore(SecurityStarterProperties properties) {
+        SecurityStarterProperties.TokenProvider.RefreshTokenRotationProperties rotation =
+            properties.getTokenProvider().getJwt().getRefreshTokenRotation();
+        return new InMemoryRefreshTokenFamilyStore(
+            Duration.ofSeconds(rotation.getExpiryBucketSeconds()),
+            Duration.ofSeconds(rotation.getReuseGraceSeconds()),
+            Clock.systemUTC());
+    }
+
     /**
      * No-Op TokenProvider Configuration (JWT 라이브러리가 없을 때)
      */
@@ -106,6 +268,15 @@ public class TokenProviderAutoConfiguration {
         jwtProperties.setAccessTokenExpiration(configProperties.getAccessTokenExpiration());
         jwtProperties.setRefreshTokenExpiration(configProperties.getRefreshTokenExpiration());
         jwtProperties.setIssuer(configProperties.getIssuer());
+        jwtProperties.setAlgorithm(configProperties.getAlgorithm());
+        jwtProperties.setKeyId(configProperties.getKeyId());
+        jwtProperties.setPrivateKey(configProperties.getPrivateKey());
+        jwtProperties.setPublicKeys(configProperties.getPublicKeys());
+        jwtProperties.setAdoptUnknownRefreshTokenFamilies(
+            configProperties.getRefreshTokenRotation().isAdoptUnknownFamilies());
+        jwtProperties.setAuthorityClaims(configProperties.getAuthorityClaims().stream()
+            .map(claim -> new ClaimAuthoritiesMapper.AuthorityClaim(claim.getPath(), claim.getPrefix()))
+            .toList());
         return jwtProperties;
     }
     
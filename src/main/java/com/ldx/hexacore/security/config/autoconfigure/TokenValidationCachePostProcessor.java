@@ -0,0 +1,49 @@
+package com.ldx.hexacore.security.config.autoconfigure;
+
+import com.ldx.hexacore.security.auth.adapter.outbound.token.cache.CachingTokenProvider;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenProvider;
+import com.ldx.hexacore.security.config.properties.SecurityStarterProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import java.time.Duration;
+
+/**
+ * TokenProvider BeanPostProcessor
+ *
+ * 등록된 TokenProvider Bean을 {@link CachingTokenProvider}로 감싸 검증 결과를 캐싱합니다.
+ * 사용자가 직접 정의한 TokenProvider에도 동일하게 적용됩니다.
+ */
+public class TokenValidationCachePostProcessor implements BeanPostProcessor {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenValidationCachePostProcessor.class);
+
+    private final ObjectProvider<SecurityStarterProperties> propertiesProvider;
+
+    public TokenValidationCachePostProcessor(ObjectProvider<SecurityStarterProperties> propertiesProvider) {
+        this.propertiesProvider = propertiesProvider;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+        if (!(bean instanceof TokenProvider tokenProvider) || bean instanceof CachingTokenProvider) {
+            return bean;
+        }
+
+        SecurityStarterProperties.CacheProperties.CaffeineProperties caffeine =
+            propertiesProvider.getObject().getCache().getCaffeine();
+
+        logger.info("Token validation cache enabled for TokenProvider bean: {} (maximumSize={}, maxTtl={}s)",
+            beanName, caffeine.getMaximumSize(), caffeine.getExpireAfterWriteSeconds());
+
+        return CachingTokenProvider.decorate(
+            tokenProvider,
+            caffeine.getMaximumSize(),
+            Duration.ofSeconds(caffeine.getExpireAfterWriteSeconds()),
+            Boolean.TRUE.equals(caffeine.getRecordStats())
+        );
+    }
+}
@@ -1,5 +1,6 @@
 package com.ldx.hexacore.security.config.properties;
 
+import com.ldx.hexacore.security.util.PemKeys;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.Max;
@@ -9,14 +10,18 @@ import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.NestedConfigurationProperty;
 import org.springframework.validation.annotation.Validated;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Security Starter의 메인 설정 프로퍼티입니다.
@@ -161,6 +166,17 @@ public class SecurityStarterProperties {
          * 인증 제외 경로 목록 (설정 파일에서 지정해야 함)
          */
         private String[] excludePaths = {};
+
+        /**
+         * Authorization 헤더 최대 길이 (초과 시 검증 없이 거부)
+         */
+        @Min(256)
+        private int maxHeaderLength = 8192;
+
+        /**
+         * 인증된 요청에 항상 부여하는 기본 권한 (비우면 토큰 클레임에서 매핑한 권한만 부여)
+         */
+        private String defaultAuthority = "ROLE_USER";
     }
     
     @Data
@@ -224,6 +240,21 @@ public class SecurityStarterProperties {
          */
         private CaffeineProperties caffeine = new CaffeineProperties();
         
+        /**
+         * 토큰 검증 결과 캐시 설정
+         */
+        private TokenValidationCacheProperties tokenValidation = new TokenValidationCacheProperties();
+        
+        /**
+         * 거부된 토큰 네거티브 캐시 설정
+         */
+        private TokenRejectionCacheProperties tokenRejection = new TokenRejectionCacheProperties();
+        
+        /**
+         * 같은 토큰의 동시 검증 합치기 설정
+         */
+        private TokenCoalescingProperties tokenCoalescing = new TokenCoalescingProperties();
+        
         @Data
         public static class CaffeineProperties {
             /**
@@ -242,6 +273,52 @@ public class SecurityStarterProperties {
             @NotNull
             private Boolean recordStats = true;
         }
+        
+        @Data
+        public static class TokenValidationCacheProperties {
+            /**
+             * 유효한 토큰의 검증 결과 캐싱 여부
+             * 엔트리 크기/TTL/통계는 caffeine 설정을 따르며, TTL은 토큰 만료 시각을 넘지 않음
+             */
+            @NotNull
+            private Boolean enabled = false;
+        }
+        
+        @Data
+        public static class TokenRejectionCacheProperties {
+            /**
+             * 최근 거부된 토큰을 재검증 없이 거부할지 여부
+             */
+            @NotNull
+            private Boolean enabled = false;
+            
+            /**
+             * 최대 엔트리 수 (엔트리당 지문과 잘린 거부 사유만 저장)
+             */
+            @Min(1)
+            private long maximumSize = 10000;
+            
+            /**
+             * 거부 결과 보관 시간 (초)
+             */
+            @Min(1)
+            private long ttlSeconds = 30;
+        }
+        
+        @Data
+        public static class TokenCoalescingProperties {
+            /**
+             * 같은 토큰으로 동시에 들어온 검증을 하나의 제공자 호출로 합칠지 여부
+             */
+            @NotNull
+            private Boolean enabled = false;
+            
+            /**
+             * 진행 중인 검증 결과를 기다리는 최대 시간 (밀리초). 초과하면 직접 검증
+             */
+            @Min(1)
+            private long waitTimeoutMillis = 5000;
+        }
     }
     
     @Data
@@ -286,6 +363,329 @@ public class SecurityStarterProperties {
             this.jwt = jwt;
         }
         
+        /**
+         * 권한 클레임 매핑 규칙
+         */
+        @Data
+        @NoArgsConstructor
+        @AllArgsConstructor
+        public static class AuthorityClaimProperties {
+            /**
+             * 점(.)으로 구분된 클레임 경로 (예: realm_access.roles, resource_access.my-client.roles, scope).
+             * 점이 포함된 키는 대괄호와 따옴표로 감쌉니다 (예: resource_access["my.app.api"].roles)
+             */
+            @NotBlank(message = "권한 클레임 경로는 필수입니다")
+            private String path;
+            
+            /**
+             * 권한 이름 앞에 붙일 접두사
+             */
+            private String prefix = "ROLE_";
+        }
+        
+        /**
+         * userinfo/introspection 원격 검증 결과 캐시 설정
+         */
+        @Data
+        public static class RemoteValidationCacheProperties {
+            /**
+             * 원격 검증 결과 캐시 활성화 여부 (토큰 폐기가 캐시 TTL만큼 늦게 반영됨)
+             */
+            private boolean enabled = false;
+            
+            /**
+             * 최대 엔트리 수
+             */
+            @Min(value = 1, message = "최대 엔트리 수는 1 이상이어야 합니다")
+            private long maximumSize = 10000;
+            
+            /**
+             * 활성 토큰 결과 보관 시간 (초, 토큰 exp가 더 이르면 그쪽을 따름)
+             */
+            @Min(value = 1, message = "TTL은 1초 이상이어야 합니다")
+            private int ttlSeconds = 60;
+            
+            /**
+             * 비활성 토큰 결과 보관 시간 (초, 0이면 저장하지 않음)
+             */
+            @Min(value = 0, message = "비활성 결과 TTL은 0 이상이어야 합니다")
+            private int inactiveTtlSeconds = 5;
+        }
+        
+        /**
+         * 로컬 UMA 권한 판정 설정
+         */
+        @Data
+        public static class LocalAuthorizationProperties {
+            /**
+             * 리소스 서버 권한 설정을 동기화해 role/group/user/client/aggregate 정책을 로컬에서 판정할지 여부.
+             * 서비스 계정에 realm-management view-clients 역할이 필요하며, 그 외 정책은 원격으로 판정합니다.
+             */
+            private boolean enabled = false;
+            
+            /**
+             * 권한 설정 동기화 주기 (초)
+             */
+            @Min(value = 10, message = "권한 설정 동기화 주기는 최소 10초 이상이어야 합니다")
+            private int syncIntervalSeconds = 300;
+        }
+        
+        /**
+         * Keycloak 엔드포인트별 circuit breaker와 동시 호출 제한 설정
+         */
+        @Data
+        public static class CircuitBreakerProperties {
+            /**
+             * token, userinfo, introspection, authorization 호출에 circuit breaker와 bulkhead를 적용할지 여부
+             */
+            private boolean enabled = false;
+            
+            /**
+             * circuit을 여는 실패율 (%). 연결 오류, 타임아웃, 5xx 응답을 실패로 봅니다.
+             */
+            @Min(value = 1, message = "실패율 임계값은 1 이상이어야 합니다")
+            @Max(value = 100, message = "실패율 임계값은 100 이하여야 합니다")
+            private int failureRateThreshold = 50;
+            
+            /**
+             * 실패율을 계산하기 위한 최소 호출 수
+             */
+            @Min(value = 1, message = "최소 호출 수는 1 이상이어야 합니다")
+            private int minimumCalls = 10;
+            
+            /**
+             * 실패율을 계산할 최근 호출 수. 최소 호출 수 이상이어야 합니다.
+             */
+            @Min(value = 1, message = "슬라이딩 윈도우 크기는 1 이상이어야 합니다")
+            private int slidingWindowSize = 20;
+            
+            /**
+             * circuit을 연 뒤 호출을 거부하는 시간 (초)
+             */
+            @Min(value = 1, message = "circuit 유지 시간은 1초 이상이어야 합니다")
+            private int openDurationSeconds = 30;
+            
+            /**
+             * 다시 닫기 전에 허용하는 시험 호출 수
+             */
+            @Min(value = 1, message = "시험 호출 수는 1 이상이어야 합니다")
+            private int halfOpenCalls = 3;
+            
+            /**
+             * 엔드포인트별 최대 동시 호출 수. 초과한 호출은 기다리지 않고 거부합니다.
+             */
+            @Min(value = 1, message = "최대 동시 호출 수는 1 이상이어야 합니다")
+            private int maxConcurrentCalls = 20;
+            
+            @AssertTrue(message = "슬라이딩 윈도우 크기는 최소 호출 수 이상이어야 합니다")
+            public boolean isValidSlidingWindow() {
+                return slidingWindowSize >= minimumCalls;
+            }
+        }
+        
+        /**
+         * Keycloak 장애 시 degraded mode 검증 설정
+         */
+        @Data
+        public static class DegradedModeProperties {
+            /**
+             * circuit이 열려 원격 검증을 호출할 수 없을 때 최근 검증된 토큰과 로컬에서 검증 가능한 토큰을 받아들일지 여부
+             * (remote validation mode에서만 적용, 장애 동안의 토큰 폐기는 반영되지 않음)
+             */
+            private boolean enabled = false;
+            
+            /**
+             * 마지막 원격 검증 이후 토큰을 받아들이는 기간 (초)
+             */
+            @Min(value = 1, message = "유예 기간은 1초 이상이어야 합니다")
+            private int gracePeriodSeconds = 300;
+            
+            /**
+             * 기억할 최대 토큰 수
+             */
+            @Min(value = 1, message = "최대 엔트리 수는 1 이상이어야 합니다")
+            private long maximumSize = 10000;
+            
+            /**
+             * 최근 검증 기록이 없는 토큰을 realm JWKS로 검증할지 여부
+             */
+            private boolean localVerification = true;
+        }
+        
+        /**
+         * 리프레시 토큰 회전(rotation) 설정
+         */
+        @Data
+        public static class RefreshTokenRotationProperties {
+            /**
+             * 리프레시 토큰 회전 사용 여부. 갱신할 때마다 같은 family의 다음 세대 리프레시 토큰을 발급하고,
+             * 이미 회전된 리프레시 토큰이 다시 제시되면 family 전체를 폐기합니다.
+             */
+            private boolean enabled = false;
+            
+            /**
+             * 기본 메모리 저장소의 만료 버킷 크기(초). family는 만료 후 최대 이 시간만큼 더 보관됩니다.
+             */
+            @Min(value = 1, message = "만료 버킷 크기는 1초 이상이어야 합니다")
+            private int expiryBucketSeconds = 60;
+            
+            /**
+             * 기본 메모리 저장소에서 회전 직후 직전 세대 리프레시 토큰을 재사용으로 보지 않는 유예 시간(초).
+             * 완료 직후 도착한 다른 탭의 갱신이나 응답을 못 받은 재시도는 같은 다음 세대 토큰을 받습니다.
+             * 이 시간 동안에는 유출된 직전 세대 토큰으로도 갱신할 수 있으므로 짧게 유지합니다. 0이면 유예하지 않습니다.
+             */
+            @Min(value = 0, message = "재사용 유예 시간은 0초 이상이어야 합니다")
+            private int reuseGraceSeconds = 5;
+            
+            /**
+             * 저장소에 없는 family(메모리 저장소 재시작 등)의 토큰과 회전 전에 발급된 토큰을 받아들여 이어서 회전할지 여부.
+             * 꺼져 있으면 재사용 여부를 판단할 수 없으므로 거부하여 다시 로그인하게 합니다.
+             */
+            private boolean adoptUnknownFamilies = false;
+        }
+        
+        /**
+         * 서비스 계정(client credentials) 토큰 관리 설정
+         */
+        @Data
+        public static class ServiceTokenProperties {
+            /**
+             * 백엔드 간 호출용 client credentials 토큰 관리자(ServiceTokenProvider)를 등록할지 여부
+             */
+            private boolean enabled = false;
+            
+            /**
+             * 토큰 수명(expires_in) 중 이 비율(%)이 지나면 백그라운드에서 갱신합니다.
+             */
+            @Min(value = 10, message = "갱신 시점은 10% 이상이어야 합니다")
+            @Max(value = 95, message = "갱신 시점은 95% 이하여야 합니다")
+            private int refreshAtPercent = 75;
+            
+            /**
+             * 만료까지 이 시간(초)보다 적게 남은 토큰은 반환하지 않습니다.
+             * 토큰 수명이 이 값의 두 배보다 짧으면 수명의 절반을 사용합니다.
+             */
+            @Min(value = 0, message = "안전 여유는 0초 이상이어야 합니다")
+            private int safetyMarginSeconds = 30;
+            
+            /**
+             * 기본 scope (비어 있으면 클라이언트의 기본 scope)
+             */
+            private String scope;
+            
+            /**
+             * 설정된 client-id 외에 사용할 클라이언트의 client-id별 secret
+             */
+            private Map<String, String> clients = new LinkedHashMap<>();
+        }
+        
+        /**
+         * 토큰 검증과 리소스 권한 체크 병렬 실행 설정
+         */
+        @Data
+        public static class ParallelAuthorizationProperties {
+            /**
+             * 리소스 권한 체크가 필요한 요청에서 토큰 검증과 권한 체크를 동시에 시작할지 여부.
+             * 토큰 검증이 실패하면 진행 중인 권한 체크를 취소합니다.
+             */
+            private boolean enabled = false;
+            
+            /**
+             * Java 21 이상에서 가상 스레드를 사용할지 여부 (사용할 수 없으면 스레드 풀 사용)
+             */
+            private boolean virtualThreads = true;
+            
+            /**
+             * 가상 스레드를 사용하지 않을 때의 스레드 풀 크기
+             */
+            @Min(value = 1, message = "스레드 풀 크기는 1 이상이어야 합니다")
+            private int poolSize = 16;
+            
+            /**
+             * 스레드 풀이 모두 사용 중일 때 대기시킬 권한 체크 수. 대기열도 가득 차면 토큰 검증 후 호출 스레드에서
+             * 직접 체크합니다. 0이면 대기하지 않습니다.
+             */
+            @Min(value = 0, message = "대기열 크기는 0 이상이어야 합니다")
+            private int queueCapacity = 0;
+        }
+        
+        /**
+         * 토큰별 UMA 권한 집합 설정
+         */
+        @Data
+        public static class PermissionSetProperties {
+            /**
+             * 토큰의 권한 전체를 한 번의 UMA ticket 요청으로 가져와 이후 리소스 권한 체크를 로컬에서 판정할지 여부.
+             * 리소스 목록 조회에 client secret이 필요합니다.
+             */
+            private boolean enabled = false;
+            
+            /**
+             * 최대 엔트리 수 (토큰 단위)
+             */
+            @Min(value = 1, message = "최대 엔트리 수는 1 이상이어야 합니다")
+            private long maximumSize = 10000;
+            
+            /**
+             * 토큰 만료 전이라도 권한 집합을 다시 가져올 최대 보관 시간 (초)
+             */
+            @Min(value = 1, message = "권한 집합 최대 TTL은 1초 이상이어야 합니다")
+            private int maxTtlSeconds = 300;
+            
+            /**
+             * 요청 경로를 리소스로 찾기 위한 리소스 목록 갱신 주기 (초)
+             */
+            @Min(value = 10, message = "리소스 목록 갱신 주기는 최소 10초 이상이어야 합니다")
+            private int resourceRefreshSeconds = 300;
+        }
+        
+        /**
+         * UMA 리소스 권한 판정 캐시 설정
+         */
+        @Data
+        public static class AuthorizationCacheProperties {
+            /**
+             * UMA 리소스 권한 판정 캐시 활성화 여부 (권한 변경이 캐시 TTL만큼 늦게 반영됨)
+             */
+            private boolean enabled = false;
+            
+            /**
+             * 최대 엔트리 수
+             */
+            @Min(value = 1, message = "최대 엔트리 수는 1 이상이어야 합니다")
+            private long maximumSize = 10000;
+            
+            /**
+             * 허용 판정 보관 시간 (초)
+             */
+            @Min(value = 1, message = "허용 판정 TTL은 1초 이상이어야 합니다")
+            private int grantTtlSeconds = 60;
+            
+            /**
+             * 거부 판정 보관 시간 (초, 0이면 저장하지 않음). 허용 판정 TTL 이하여야 합니다.
+             */
+            @Min(value = 0, message = "거부 판정 TTL은 0 이상이어야 합니다")
+            private int denyTtlSeconds = 10;
+            
+            /**
+             * 요청 경로를 묶을 route 템플릿 (Ant 스타일, 예: /api/orders/{id})
+             */
+            private List<String> routeTemplates = new ArrayList<>();
+            
+            /**
+             * Keycloak에 등록된 리소스 URI를 route 템플릿으로 학습할지 여부 (confidential client 필요)
+             */
+            private boolean learnRouteTemplates = false;
+            
+            /**
+             * 거부 판정 TTL이 허용 판정 TTL 이하인지 검증
+             */
+            @AssertTrue(message = "거부 판정 TTL은 허용 판정 TTL 이하여야 합니다")
+            public boolean isValidDenyTtl() {
+                return denyTtlSeconds <= grantTtlSeconds;
+            }
+        }
+        
         @Data
         @Validated
         public static class KeycloakProperties {
@@ -329,6 +729,124 @@ public class SecurityStarterProperties {
                     message = "지원되는 grant type: password, authorization_code, client_credentials")
             private String grantType = "password";
             
+            /**
+             * Access token validation mode.
+             * remote: userinfo/introspection 엔드포인트 호출 (기본값)
+             * local: realm JWKS로 서명과 iss/aud/azp/exp를 로컬에서 검증
+             */
+            @NotBlank(message = "Validation mode는 필수입니다")
+            @Pattern(regexp = "remote|local", message = "지원되는 validation mode: remote, local")
+            private String validationMode = "remote";
+            
+            /**
+             * local 모드에서 access token의 aud 클레임에 포함되어야 하는 값.
+             * 비어 있으면 aud 검사를 생략합니다 (azp는 항상 client-id와 비교).
+             */
+            private String audience;
+            
+            /**
+             * local 모드에서 JWKS를 다시 가져오는 주기 (초).
+             * 알 수 없는 kid가 들어오면 주기와 관계없이 갱신합니다.
+             */
+            @NotNull
+            @Min(value = 10, message = "JWKS 갱신 주기는 최소 10초 이상이어야 합니다")
+            private Integer jwksRefreshSeconds = 300;
+            
+            /**
+             * local 모드에서 exp/nbf 검증 시 허용하는 시계 오차 (초).
+             */
+            @NotNull
+            @Min(value = 0, message = "시계 오차는 0 이상이어야 합니다")
+            @Max(value = 300, message = "시계 오차는 최대 5분(300초) 이하여야 합니다")
+            private Integer clockSkewSeconds = 30;
+            
+            /**
+             * Keycloak 연결 타임아웃 (밀리초)
+             */
+            @NotNull
+            @Min(value = 100, message = "연결 타임아웃은 100ms 이상이어야 합니다")
+            private Integer connectTimeout = 10000;
+            
+            /**
+             * Keycloak 응답 읽기 타임아웃 (밀리초)
+             */
+            @NotNull
+            @Min(value = 100, message = "읽기 타임아웃은 100ms 이상이어야 합니다")
+            private Integer readTimeout = 10000;
+            
+            /**
+             * Keycloak 최대 동시 요청 수 (토큰 제공자와 인증 어댑터가 공유)
+             */
+            @NotNull
+            @Min(value = 1, message = "최대 동시 요청 수는 1 이상이어야 합니다")
+            private Integer maxConnections = 50;
+            
+            /**
+             * remote 모드에서 userinfo가 403을 반환해 introspection을 바로 사용하는 동안
+             * userinfo 사용 가능 여부를 백그라운드에서 다시 확인하는 주기 (초)
+             */
+            @NotNull
+            @Min(value = 10, message = "엔드포인트 재확인 주기는 최소 10초 이상이어야 합니다")
+            private Integer endpointReprobeSeconds = 300;
+            
+            /**
+             * remote 모드 검증 결과 캐시
+             */
+            @Valid
+            private RemoteValidationCacheProperties remoteValidationCache = new RemoteValidationCacheProperties();
+            
+            /**
+             * UMA 리소스 권한 판정 캐시
+             */
+            @Valid
+            private AuthorizationCacheProperties authorizationCache = new AuthorizationCacheProperties();
+            
+            /**
+             * 로컬 UMA 권한 판정
+             */
+            @Valid
+            private LocalAuthorizationProperties localAuthorization = new LocalAuthorizationProperties();
+            
+            /**
+             * 토큰별 UMA 권한 집합
+             */
+            @Valid
+            private PermissionSetProperties permissionSet = new PermissionSetProperties();
+            
+            /**
+             * 토큰 검증과 리소스 권한 체크 병렬 실행
+             */
+            @Valid
+            private ParallelAuthorizationProperties parallelAuthorization = new ParallelAuthorizationProperties();
+            
+            /**
+             * 엔드포인트별 circuit breaker와 동시 호출 제한
+             */
+            @Valid
+            private CircuitBreakerProperties circuitBreaker = new CircuitBreakerProperties();
+            
+            /**
+             * Keycloak 장애 시 degraded mode 검증
+             */
+            @Valid
+            private DegradedModeProperties degradedMode = new DegradedModeProperties();
+            
+            /**
+             * 서비스 계정(client credentials) 토큰 관리
+             */
+            @Valid
+            private ServiceTokenProperties serviceToken = new ServiceTokenProperties();
+            
+            /**
+             * 권한으로 매핑할 토큰 클레임.
+             * 클라이언트 역할을 사용하려면 resource_access.{client-id}.roles 경로를 추가합니다.
+             */
+            @Valid
+            private List<AuthorityClaimProperties> authorityClaims = new ArrayList<>(List.of(
+                new AuthorityClaimProperties("realm_access.roles", "ROLE_"),
+                new AuthorityClaimProperties("scope", "SCOPE_")
+            ));
+            
             /**
              * 프로덕션 환경에서 HTTPS 사용 검증
              */
@@ -380,9 +898,8 @@ public class SecurityStarterProperties {
              * JWT secret key for signing tokens.
              * Default is a generated secret for development purposes.
              * IMPORTANT: Change this in production!
+             * HS* 알고리즘에서만 사용하며, 비대칭 알고리즘에서는 설정하지 않아도 됩니다.
              */
-            @NotEmpty(message = "JWT secret은 필수입니다")
-            @Size(min = 32, max = 512, message = "JWT secret은 32-512자 사이여야 합니다")
             private String secret = "default-jwt-secret-for-development-change-this-in-production";
             
             /**
@@ -420,12 +937,41 @@ public class SecurityStarterProperties {
             /**
              * Algorithm to use for JWT signing.
              * Default is HS256.
+             * HS*는 secret을, 그 외 알고리즘은 public-keys/private-key를 사용합니다.
              */
             @NotBlank(message = "알고리즘은 필수입니다")
-            @Pattern(regexp = "HS256|HS384|HS512|RS256|RS384|RS512", 
-                     message = "지원하는 알고리즘: HS256, HS384, HS512, RS256, RS384, RS512")
+            @Pattern(regexp = "HS256|HS384|HS512|RS256|RS384|RS512|PS256|PS384|PS512|ES256|ES384|ES512|EdDSA", 
+                     message = "지원하는 알고리즘: HS256, HS384, HS512, RS256, RS384, RS512, PS256, PS384, PS512, ES256, ES384, ES512, EdDSA")
             private String algorithm = "HS256";
             
+            /**
+             * 발급 토큰의 kid 헤더 값 (서명 키 식별자).
+             * 비대칭 알고리즘에서 private-key를 설정한 경우 public-keys에 같은 kid가 있어야 합니다.
+             */
+            @Size(max = 100, message = "Key ID는 100자를 초과할 수 없습니다")
+            private String keyId;
+            
+            /**
+             * 서명용 개인 키 (PKCS#8 PEM). 토큰을 발급하는 서비스에만 설정합니다.
+             * 비어 있으면 검증 전용으로 동작합니다.
+             */
+            private String privateKey;
+            
+            /**
+             * kid별 검증용 공개 키 (X.509 PEM).
+             * 키 교체 시 새 키를 먼저 추가하고, 이전 키는 해당 키로 서명된 토큰이 모두 만료된 뒤 제거합니다.
+             */
+            private Map<String, String> publicKeys = new LinkedHashMap<>();
+            
+            /**
+             * 권한으로 매핑할 토큰 클레임
+             */
+            @Valid
+            private List<AuthorityClaimProperties> authorityClaims = new ArrayList<>(List.of(
+                new AuthorityClaimProperties("roles", "ROLE_"),
+                new AuthorityClaimProperties("scope", "SCOPE_")
+            ));
+            
             /**
              * Token prefix in Authorization header.
              * Default is "Bearer ".
@@ -440,6 +986,12 @@ public class SecurityStarterProperties {
             @NotBlank(message = "헤더 이름은 필수입니다")
             private String headerName = "Authorization";
             
+            /**
+             * 리프레시 토큰 회전과 재사용 감지
+             */
+            @Valid
+            private RefreshTokenRotationProperties refreshTokenRotation = new RefreshTokenRotationProperties();
+            
             /**
              * Get access token expiration as Duration.
              * 
@@ -459,11 +1011,70 @@ public class SecurityStarterProperties {
             }
             
             /**
-             * 프로덕션 환경에서 기본 secret 사용 여부 검증
+             * HS* 알고리즘(공유 secret 서명) 사용 여부
+             */
+            public boolean isHmacAlgorithm() {
+                return algorithm == null || algorithm.startsWith("HS");
+            }
+            
+            /**
+             * HS* 알고리즘의 secret 검증
+             */
+            @AssertTrue(message = "HS* 알고리즘은 32-512자의 JWT secret이 필요합니다")
+            public boolean isValidSecretForAlgorithm() {
+                if (!isHmacAlgorithm()) {
+                    return true;
+                }
+                return secret != null && !secret.isBlank() && secret.length() >= 32 && secret.length() <= 512;
+            }
+            
+            /**
+             * 비대칭 알고리즘의 검증용 공개 키 검증
+             */
+            @AssertTrue(message = "비대칭 알고리즘은 알고리즘에 맞는 X.509 PEM 공개 키(public-keys)가 하나 이상 필요합니다")
+            public boolean isValidPublicKeysForAlgorithm() {
+                if (isHmacAlgorithm()) {
+                    return true;
+                }
+                if (publicKeys == null || publicKeys.isEmpty()) {
+                    return false;
+                }
+                try {
+                    String keyFamily = PemKeys.keyFamily(algorithm);
+                    publicKeys.values().forEach(pem -> PemKeys.readPublicKey(keyFamily, pem));
+                    return true;
+                } catch (IllegalArgumentException e) {
+                    return false;
+                }
+            }
+            
+            /**
+             * 비대칭 알고리즘의 서명용 개인 키 검증 (key-id의 공개 키와 한 쌍이어야 함)
+             */
+            @AssertTrue(message = "private-key는 PKCS#8 PEM이어야 하며 public-keys에 있는 key-id의 공개 키와 한 쌍이어야 합니다")
+            public boolean isValidPrivateKeyForAlgorithm() {
+                if (isHmacAlgorithm() || privateKey == null || privateKey.isBlank()) {
+                    return true;
+                }
+                if (keyId == null || publicKeys == null || !publicKeys.containsKey(keyId)) {
+                    return false;
+                }
+                try {
+                    String keyFamily = PemKeys.keyFamily(algorithm);
+                    return PemKeys.isKeyPair(keyFamily,
+                        PemKeys.readPrivateKey(keyFamily, privateKey),
+                        PemKeys.readPublicKey(keyFamily, publicKeys.get(keyId)));
+                } catch (IllegalArgumentException e) {
+                    return false;
+                }
+            }
+            
+            /**
+             * 프로덕션 환경에서 기본 secret 사용 여부 검증 (HS* 알고리즘만)
              */
             @AssertTrue(message = "프로덕션 환경에서는 기본 secret을 사용할 수 없습니다")
             public boolean isValidSecretForProduction() {
-                if (isProductionEnvironment()) {
+                if (isHmacAlgorithm() && secret != null && isProductionEnvironment()) {
                     return !secret.contains("default") && 
                            !secret.contains("example") && 
                            !secret.contains("test") &&
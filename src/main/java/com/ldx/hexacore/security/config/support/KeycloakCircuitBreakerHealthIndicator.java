@@ -0,0 +1,51 @@
+package com.ldx.hexacore.security.config.support;
+
+import com.ldx.hexacore.security.auth.adapter.outbound.external.KeycloakCircuitBreaker;
+import com.ldx.hexacore.security.auth.adapter.outbound.external.KeycloakHttpTransport;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keycloak 엔드포인트별 circuit 상태를 보여주는 Health Indicator입니다.
+ *
+ * /actuator/health의 keycloakCircuitBreakers 항목으로 확인할 수 있습니다. 열린 circuit이 있어도 degraded mode로
+ * 요청을 처리할 수 있으므로 상태는 UP으로 두고 {@code degraded} 상세 값으로 구분합니다.
+ */
+public class KeycloakCircuitBreakerHealthIndicator implements HealthIndicator {
+
+    private final KeycloakHttpTransport transport;
+
+    public KeycloakCircuitBreakerHealthIndicator(KeycloakHttpTransport transport) {
+        this.transport = transport;
+    }
+
+    @Override
+    public Health health() {
+        Map<KeycloakHttpTransport.Endpoint, KeycloakCircuitBreaker> circuitBreakers = transport.getCircuitBreakers();
+        if (circuitBreakers.isEmpty()) {
+            return Health.unknown().withDetail("circuitBreaker", "disabled").build();
+        }
+
+        boolean degraded = false;
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        for (KeycloakCircuitBreaker circuitBreaker : circuitBreakers.values()) {
+            KeycloakCircuitBreaker.State state = circuitBreaker.getState();
+            degraded |= state != KeycloakCircuitBreaker.State.CLOSED;
+
+            Map<String, Object> details = new LinkedHashMap<>();
+            details.put("state", state);
+            details.put("failureRate", circuitBreaker.getFailureRate());
+            details.put("notPermittedCalls", circuitBreaker.getNotPermittedCount());
+            details.put("availableConcurrentCalls", circuitBreaker.getAvailableConcurrentCalls());
+            endpoints.put(circuitBreaker.getName(), details);
+        }
+
+        return Health.up()
+            .withDetail("degraded", degraded)
+            .withDetail("endpoints", endpoints)
+            .build();
+    }
+}
@@ -107,8 +107,8 @@ public class SecurityConfigurationValidator implements ApplicationListener<Appli
     private void validateJwtConfiguration(List<String> warnings, List<String> errors, List<String> info) {
         var jwt = properties.getTokenProvider().getJwt();
         
-        // Secret 보안 검증
-        if (isProductionEnvironment()) {
+        // Secret 보안 검증 (HS* 알고리즘만 secret 사용)
+        if (isProductionEnvironment() && jwt.isHmacAlgorithm() && jwt.getSecret() != null) {
             if (jwt.getSecret().length() < 64) {
                 warnings.add("프로덕션 환경에서는 64자 이상의 JWT secret 사용을 권장합니다");
             }
@@ -263,9 +263,9 @@ public class SecurityConfigurationValidator implements ApplicationListener<Appli
         
         info.add("프로덕션 환경 보안 검증을 수행합니다");
         
-        // JWT Secret 강도 검증
+        // JWT Secret 강도 검증 (HS* 알고리즘만 secret 사용)
         var jwt = properties.getTokenProvider().getJwt();
-        if (jwt.getEnabled()) {
+        if (jwt.getEnabled() && jwt.isHmacAlgorithm() && jwt.getSecret() != null) {
             String secret = jwt.getSecret();
             
             // 최소 256비트 (32바이트) 검증
@@ -27,6 +27,15 @@ public class SecurityRequestLogger {
      * 요청 시작 로깅
      */
     public String logRequestStart(HttpServletRequest request) {
+        return logRequestStart(request.getMethod(), request.getRequestURI(), getClientIp(request),
+            request.getHeader("User-Agent"), request.getHeader("Authorization") != null);
+    }
+    
+    /**
+     * 요청 시작 로깅 (서블릿 요청이 없는 리액티브 필터용)
+     */
+    public String logRequestStart(String method, String uri, String clientIp, String userAgent,
+                                  boolean authorizationPresent) {
         String requestId = UUID.randomUUID().toString().substring(0, 8);
         MDC.put("requestId", requestId);
         
@@ -34,11 +43,10 @@ public class SecurityRequestLogger {
             logger.debug("╔════════════════════════════════════════════════════════════════");
             logger.debug("║ 🔍 REQUEST START [{}]", requestId);
             logger.debug("╟────────────────────────────────────────────────────────────────");
-            logger.debug("║ Method: {} {}", request.getMethod(), request.getRequestURI());
-            logger.debug("║ Remote IP: {}", getClientIp(request));
-            logger.debug("║ User-Agent: {}", request.getHeader("User-Agent"));
-            logger.debug("║ Auth Header: {}", 
-                request.getHeader("Authorization") != null ? "Present" : "Missing");
+            logger.debug("║ Method: {} {}", method, uri);
+            logger.debug("║ Remote IP: {}", clientIp);
+            logger.debug("║ User-Agent: {}", userAgent);
+            logger.debug("║ Auth Header: {}", authorizationPresent ? "Present" : "Missing");
             logger.debug("╚════════════════════════════════════════════════════════════════");
         }
         
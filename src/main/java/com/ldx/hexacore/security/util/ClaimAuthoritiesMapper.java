@@ -0,0 +1,185 @@
+package com.ldx.hexacore.security.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 토큰 클레임에서 권한 이름을 추출하는 매퍼
+ *
+ * <p>점(.)으로 구분된 경로로 중첩 클레임을 따라가며, 값이 배열이면 각 원소를, 문자열이면 공백으로 구분된 각 항목을
+ * 권한으로 사용합니다. 예를 들어 {@code realm_access.roles}, {@code resource_access.my-client.roles},
+ * {@code scope}를 지정할 수 있습니다. 점이 포함된 키(예: Keycloak client ID {@code my.app.api})는
+ * {@code resource_access["my.app.api"].roles}처럼 대괄호와 따옴표로 감쌉니다.</p>
+ *
+ * <p>경로는 생성 시 한 번만 분해하여 재사용합니다.</p>
+ */
+public final class ClaimAuthoritiesMapper {
+
+    /**
+     * 매핑 규칙이 없어 항상 빈 권한을 반환하는 매퍼
+     */
+    public static final ClaimAuthoritiesMapper NONE = new ClaimAuthoritiesMapper(List.of());
+
+    private final String[][] paths;
+    private final String[] prefixes;
+
+    /**
+     * @param claims 권한으로 사용할 클레임 경로와 접두사 목록
+     */
+    public ClaimAuthoritiesMapper(List<AuthorityClaim> claims) {
+        this.paths = new String[claims.size()][];
+        this.prefixes = new String[claims.size()];
+        for (int i = 0; i < claims.size(); i++) {
+            AuthorityClaim claim = claims.get(i);
+            if (claim.path() == null || claim.path().isBlank()) {
+                throw new IllegalArgumentException(ValidationMessages.cannotBeNullOrEmpty("Authority claim path"));
+            }
+            this.paths[i] = parsePath(claim.path());
+            this.prefixes[i] = claim.prefix() != null ? claim.prefix() : "";
+        }
+    }
+
+    /**
+     * 매핑 규칙이 없는지 확인합니다.
+     */
+    public boolean isEmpty() {
+        return paths.length == 0;
+    }
+
+    /**
+     * 검증된 클레임에서 권한 이름을 추출합니다.
+     *
+     * @param claims 토큰 클레임
+     * @return 접두사가 붙은 권한 이름 집합, 해당 클레임이 없으면 빈 집합
+     */
+    public Set<String> map(Map<String, ?> claims) {
+        if (claims == null || isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<String> authorities = null;
+        for (int i = 0; i < paths.length; i++) {
+            Object value = claims;
+            for (String segment : paths[i]) {
+                value = value instanceof Map<?, ?> map ? map.get(segment) : null;
+            }
+            if (value instanceof Collection<?> values) {
+                for (Object element : values) {
+                    if (element != null) {
+                        authorities = add(authorities, prefixes[i], element.toString());
+                    }
+                }
+            } else if (value instanceof String text) {
+                authorities = addAll(authorities, prefixes[i], text);
+            }
+        }
+        return authorities != null ? authorities : Collections.emptySet();
+    }
+
+    /**
+     * JSON payload에서 권한 이름을 추출합니다.
+     *
+     * @param payload 토큰 payload
+     * @return 접두사가 붙은 권한 이름 집합, 해당 클레임이 없으면 빈 집합
+     */
+    public Set<String> map(JsonNode payload) {
+        if (payload == null || isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<String> authorities = null;
+        for (int i = 0; i < paths.length; i++) {
+            JsonNode value = payload;
+            for (String segment : paths[i]) {
+                value = value != null ? value.get(segment) : null;
+            }
+            if (value == null) {
+                continue;
+            }
+            if (value.isArray()) {
+                for (JsonNode element : value) {
+                    if (element.isValueNode()) {
+                        authorities = add(authorities, prefixes[i], element.asText());
+                    }
+                }
+            } else if (value.isTextual()) {
+                authorities = addAll(authorities, prefixes[i], value.asText());
+            }
+        }
+        return authorities != null ? authorities : Collections.emptySet();
+    }
+
+    /**
+     * 경로를 키 목록으로 분해합니다. 점(.)으로 구분하며, {@code ["..."]} 또는 {@code ['...']} 안의 키는 그대로 사용합니다.
+     */
+    static String[] parsePath(String path) {
+        List<String> segments = new ArrayList<>();
+        int length = path.length();
+        int i = 0;
+        while (i < length) {
+            int next;
+            if (path.charAt(i) == '[') {
+                char quote = i + 1 < length ? path.charAt(i + 1) : 0;
+                int close = quote == '"' || quote == '\'' ? path.indexOf(quote, i + 2) : -1;
+                if (close < 0 || close + 1 >= length || path.charAt(close + 1) != ']') {
+                    throw invalidPath(path);
+                }
+                segments.add(path.substring(i + 2, close));
+                next = close + 2;
+            } else {
+                next = i;
+                while (next < length && path.charAt(next) != '.' && path.charAt(next) != '[') {
+                    next++;
+                }
+                if (next == i) {
+                    throw invalidPath(path);
+                }
+                segments.add(path.substring(i, next));
+            }
+            if (next < length && path.charAt(next) == '.') {
+                next++;
+                if (next == length) {
+                    throw invalidPath(path);
+                }
+            } else if (next < length && path.charAt(next) != '[') {
+                throw invalidPath(path);
+            }
+            i = next;
+        }
+        return segments.toArray(String[]::new);
+    }
+
+    private static IllegalArgumentException invalidPath(String path) {
+        return new IllegalArgumentException(ValidationMessages.invalidFormat("Authority claim path", path));
+    }
+
+    private static Set<String> addAll(Set<String> authorities, String prefix, String text) {
+        for (String item : text.split("\\s+")) {
+            authorities = add(authorities, prefix, item);
+        }
+        return authorities;
+    }
+
+    private static Set<String> add(Set<String> authorities, String prefix, String name) {
+        if (name.isEmpty()) {
+            return authorities;
+        }
+        Set<String> result = authorities != null ? authorities : new HashSet<>();
+        result.add(prefix.isEmpty() ? name : prefix + name);
+        return result;
+    }
+
+    /**
+     * 권한 클레임 매핑 규칙
+     *
+     * @param path 점(.)으로 구분된 클레임 경로 (점이 포함된 키는 {@code ["..."]}로 감쌈)
+     * @param prefix 권한 이름 앞에 붙일 접두사 (예: ROLE_, SCOPE_)
+     */
+    public record AuthorityClaim(String path, String prefix) {
+    }
+}
@@ -0,0 +1,82 @@
+package com.ldx.hexacore.security.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * 서명 검증 없이 JWT payload를 읽는 유틸리티
+ *
+ * <p>이미 토큰 제공자가 검증을 마친 토큰에서 부가 정보(만료 시각 등)를 꺼낼 때만 사용합니다.
+ * 여기서 읽은 값을 인증 판단에 사용해서는 안 됩니다.</p>
+ */
+public final class JwtPayloadReader {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final Base64.Decoder URL_DECODER = Base64.getUrlDecoder();
+    private static final TypeReference<Map<String, Object>> CLAIMS_TYPE = new TypeReference<>() {
+    };
+
+    private JwtPayloadReader() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * 토큰의 {@code exp} 클레임을 읽습니다.
+     *
+     * @param token JWT 문자열
+     * @return 만료 시각, JWT 형식이 아니거나 {@code exp}가 없으면 null
+     */
+    public static Instant readExpiration(String token) {
+        JsonNode payload = readPayload(token);
+        if (payload == null) {
+            return null;
+        }
+        JsonNode exp = payload.get("exp");
+        return exp != null && exp.canConvertToLong() ? Instant.ofEpochSecond(exp.asLong()) : null;
+    }
+
+    /**
+     * 토큰의 payload를 클레임 맵으로 읽습니다.
+     *
+     * @param token JWT 문자열
+     * @return 불변 클레임 맵, JWT 형식이 아니면 빈 맵
+     */
+    public static Map<String, Object> readClaims(String token) {
+        JsonNode payload = readPayload(token);
+        if (payload == null) {
+            return Collections.emptyMap();
+        }
+        Map<String, Object> claims = OBJECT_MAPPER.convertValue(payload, CLAIMS_TYPE);
+        return Collections.unmodifiableMap(claims);
+    }
+
+    /**
+     * 토큰의 payload를 JSON 트리로 읽습니다.
+     *
+     * @param token JWT 문자열
+     * @return payload JSON 객체, JWT 형식이 아니면 null
+     */
+    public static JsonNode readPayload(String token) {
+        if (token == null) {
+            return null;
+        }
+        int firstDot = token.indexOf('.');
+        int secondDot = firstDot < 0 ? -1 : token.indexOf('.', firstDot + 1);
+        if (secondDot < 0) {
+            return null;
+        }
+        try {
+            byte[] json = URL_DECODER.decode(token.substring(firstDot + 1, secondDot));
+            JsonNode payload = OBJECT_MAPPER.readTree(json);
+            return payload != null && payload.isObject() ? payload : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
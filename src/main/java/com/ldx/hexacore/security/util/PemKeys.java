@@ -0,0 +1,106 @@
+package com.ldx.hexacore.security.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+
+/**
+ * JWT 비대칭 알고리즘용 PEM 키 유틸리티
+ *
+ * <p>JWT 알고리즘 이름(RS*, PS*, ES*, EdDSA)에 맞는 키 종류로 X.509 공개 키와 PKCS#8 개인 키를 읽습니다.
+ * 설정 검증과 토큰 제공자가 같은 방식으로 키를 해석하도록 공유합니다.</p>
+ */
+public final class PemKeys {
+
+    private static final byte[] PROBE = "security-starter-key-pair-probe".getBytes(StandardCharsets.UTF_8);
+
+    private PemKeys() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * JWT 알고리즘에 맞는 키 종류({@link KeyFactory} 알고리즘)를 반환합니다.
+     *
+     * @param algorithm JWT 알고리즘 (예: RS256, ES384, EdDSA)
+     * @return RSA, EC 또는 EdDSA
+     * @throws IllegalArgumentException 지원하지 않는 비대칭 알고리즘인 경우
+     */
+    public static String keyFamily(String algorithm) {
+        if (algorithm != null && (algorithm.startsWith("RS") || algorithm.startsWith("PS"))) {
+            return "RSA";
+        }
+        if (algorithm != null && algorithm.startsWith("ES")) {
+            return "EC";
+        }
+        if ("EdDSA".equals(algorithm)) {
+            return "EdDSA";
+        }
+        throw new IllegalArgumentException("Unsupported JWT algorithm: " + algorithm);
+    }
+
+    /**
+     * X.509 PEM 공개 키를 읽습니다.
+     *
+     * @throws IllegalArgumentException PEM 형식이 아니거나 키 종류가 맞지 않는 경우
+     */
+    public static PublicKey readPublicKey(String keyFamily, String pem) {
+        try {
+            return KeyFactory.getInstance(keyFamily).generatePublic(new X509EncodedKeySpec(decode(pem)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * PKCS#8 PEM 개인 키를 읽습니다.
+     *
+     * @throws IllegalArgumentException PEM 형식이 아니거나 키 종류가 맞지 않는 경우
+     */
+    public static PrivateKey readPrivateKey(String keyFamily, String pem) {
+        try {
+            return KeyFactory.getInstance(keyFamily).generatePrivate(new PKCS8EncodedKeySpec(decode(pem)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 개인 키로 서명한 값을 공개 키로 검증하여 두 키가 한 쌍인지 확인합니다.
+     *
+     * @return 한 쌍이면 true
+     */
+    public static boolean isKeyPair(String keyFamily, PrivateKey privateKey, PublicKey publicKey) {
+        try {
+            String algorithm = switch (keyFamily) {
+                case "RSA" -> "SHA256withRSA";
+                case "EC" -> "SHA256withECDSA";
+                default -> keyFamily;
+            };
+            Signature signer = Signature.getInstance(algorithm);
+            signer.initSign(privateKey);
+            signer.update(PROBE);
+            byte[] signature = signer.sign();
+
+            Signature verifier = Signature.getInstance(algorithm);
+            verifier.initVerify(publicKey);
+            verifier.update(PROBE);
+            return verifier.verify(signature);
+        } catch (GeneralSecurityException e) {
+            return false;
+        }
+    }
+
+    private static byte[] decode(String pem) {
+        if (pem == null) {
+            throw new IllegalArgumentException(ValidationMessages.cannotBeNull("PEM"));
+        }
+        String base64 = pem.replaceAll("-----(BEGIN|END) [A-Z ]+-----", "").replaceAll("\\s", "");
+        return Base64.getDecoder().decode(base64);
+    }
+}
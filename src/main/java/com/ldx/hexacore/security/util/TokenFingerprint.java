@@ -0,0 +1,13 @@
+package com.ldx.hexacore.security.util;
+
+/**
+ * 토큰 원문 대신 캐시 키로 사용하는 128비트 지문
+ *
+ * <p>{@link TokenFingerprinter}가 비밀 키 기반 해시(HMAC-SHA256)의 앞 16바이트로 생성합니다.
+ * 토큰 원문을 메모리에 보관하지 않으며, 두 개의 long 값만 가지므로 엔트리 크기가 고정됩니다.</p>
+ *
+ * @param high 상위 64비트
+ * @param low 하위 64비트
+ */
+public record TokenFingerprint(long high, long low) {
+}
@@ -0,0 +1,59 @@
+package com.ldx.hexacore.security.util;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+
+/**
+ * 토큰 지문 생성기
+ *
+ * <p>인스턴스마다 무작위로 생성한 키로 HMAC-SHA256을 계산하여 {@link TokenFingerprint}를 만듭니다.
+ * 키가 프로세스 외부로 노출되지 않으므로 캐시 키로부터 토큰을 추측하거나 충돌을 유도할 수 없습니다.</p>
+ * <p>{@link Mac}은 thread-safe 하지 않으므로 스레드별 인스턴스를 사용합니다.</p>
+ */
+public final class TokenFingerprinter {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int KEY_LENGTH = 32;
+
+    private final ThreadLocal<Mac> macs;
+
+    /**
+     * 무작위 키로 지문 생성기를 생성합니다.
+     */
+    public TokenFingerprinter() {
+        byte[] key = new byte[KEY_LENGTH];
+        new SecureRandom().nextBytes(key);
+        SecretKeySpec keySpec = new SecretKeySpec(key, ALGORITHM);
+        this.macs = ThreadLocal.withInitial(() -> createMac(keySpec));
+    }
+
+    /**
+     * 토큰의 지문을 계산합니다.
+     *
+     * @param token 토큰 원문 (null일 수 없음)
+     * @return 토큰 지문
+     * @throws IllegalArgumentException 토큰이 null인 경우
+     */
+    public TokenFingerprint fingerprint(String token) {
+        if (token == null) {
+            throw new IllegalArgumentException(ValidationMessages.cannotBeNull("Token"));
+        }
+        byte[] digest = macs.get().doFinal(token.getBytes(StandardCharsets.US_ASCII));
+        ByteBuffer buffer = ByteBuffer.wrap(digest);
+        return new TokenFingerprint(buffer.getLong(), buffer.getLong());
+    }
+
+    private static Mac createMac(SecretKeySpec keySpec) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(keySpec);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.ldx.hexacore.security.auth.adapter.inbound.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BearerTokenExtractor 테스트")
+class BearerTokenExtractorTest {
+
+    private static final String PAYLOAD = encode("{\"sub\":\"user-1\"}");
+    private static final String SIGNATURE = "c2lnbmF0dXJl";
+
+    private final BearerTokenExtractor extractor = new BearerTokenExtractor();
+
+    @Test
+    @DisplayName("Bearer 스킴의 토큰을 추출한다")
+    void shouldExtractBearerToken() {
+        // Given
+        String token = token("{\"alg\":\"RS256\",\"typ\":\"JWT\",\"kid\":\"k1\"}");
+
+        // When
+        String extracted = extractor.extract("Bearer " + token);
+
+        // Then
+        assertThat(extracted).isEqualTo(token);
+    }
+
+    @Test
+    @DisplayName("스킴은 대소문자를 구분하지 않는다")
+    void shouldMatchSchemeCaseInsensitively() {
+        // Given
+        String token = token("{\"alg\":\"HS256\"}");
+
+        // When & Then
+        assertThat(extractor.extract("bearer " + token)).isEqualTo(token);
+        assertThat(extractor.extract("BEARER " + token)).isEqualTo(token);
+    }
+
+    @Test
+    @DisplayName("헤더가 없거나 다른 스킴이면 null을 반환한다")
+    void shouldReturnNullForMissingOrOtherScheme() {
+        assertThat(extractor.extract(null)).isNull();
+        assertThat(extractor.extract("Basic dXNlcjpwYXNz")).isNull();
+        assertThat(extractor.extract("Bearer ")).isNull();
+        assertThat(extractor.extract("Bearer")).isNull();
+    }
+
+    @Test
+    @DisplayName("최대 길이를 넘는 헤더는 거부한다")
+    void shouldRejectTooLongHeader() {
+        // Given
+        BearerTokenExtractor shortExtractor = new BearerTokenExtractor(256);
+        String token = token("{\"alg\":\"HS256\"}") + "A".repeat(256);
+
+        // When & Then
+        assertThatThrownBy(() -> shortExtractor.extract("Bearer " + token))
+            .isSameAs(BearerTokenExtractor.TOO_LONG);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"abc", "abc.def", "a.b.c.d", ".b.c", "a..c", "a.b."})
+    @DisplayName("비어 있지 않은 세그먼트가 정확히 세 개가 아니면 거부한다")
+    void shouldRejectWrongSegmentCount(String token) {
+        assertThatThrownBy(() -> extractor.extract("Bearer " + token))
+            .isSameAs(BearerTokenExtractor.BAD_SEGMENTS);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"ab+c.def.ghi", "abc.de/f.ghi", "abc.def.gh=", "abc.def.g hi", "abc.déf.ghi"})
+    @DisplayName("base64url 이외의 문자가 있으면 거부한다")
+    void shouldRejectNonBase64UrlCharacters(String token) {
+        assertThatThrownBy(() -> extractor.extract("Bearer " + token))
+            .isSameAs(BearerTokenExtractor.BAD_ENCODING);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"{\"alg\":\"none\"}", "{\"typ\":\"JWT\"}", "{\"alg\":\"HS256x\"}", "{\"alg\":\"hs256\"}"})
+    @DisplayName("허용되지 않은 alg는 거부한다")
+    void shouldRejectDisallowedAlgorithm(String header) {
+        assertThatThrownBy(() -> extractor.extract("Bearer " + token(header)))
+            .isSameAs(BearerTokenExtractor.UNSUPPORTED_ALGORITHM);
+    }
+
+    @Test
+    @DisplayName("typ이 JWT 계열이 아니면 거부한다")
+    void shouldRejectDisallowedType() {
+        // Given
+        String token = token("{\"alg\":\"ES256\",\"typ\":\"JWE\"}");
+
+        // When & Then
+        assertThatThrownBy(() -> extractor.extract("Bearer " + token))
+            .isSameAs(BearerTokenExtractor.UNSUPPORTED_TYPE);
+    }
+
+    @Test
+    @DisplayName("typ은 대소문자를 구분하지 않고 at+jwt도 허용한다")
+    void shouldAcceptAccessTokenTypes() {
+        assertThat(extractor.extract("Bearer " + token("{\"typ\":\"at+JWT\", \"alg\" : \"PS256\"}"))).isNotNull();
+        assertThat(extractor.extract("Bearer " + token("{\"alg\":\"EdDSA\",\"typ\":\"jwt\"}"))).isNotNull();
+    }
+
+    @Test
+    @DisplayName("헤더가 JSON 문자열 값을 갖지 않으면 거부한다")
+    void shouldRejectNonStringAlgorithm() {
+        assertThatThrownBy(() -> extractor.extract("Bearer " + token("{\"alg\":256}")))
+            .isSameAs(BearerTokenExtractor.BAD_HEADER);
+    }
+
+    @Test
+    @DisplayName("거부 예외는 스택 트레이스가 없는 JwtAuthenticationException이다")
+    void shouldThrowStacklessAuthenticationException() {
+        assertThatThrownBy(() -> extractor.extract("Bearer not-a-jwt"))
+            .isInstanceOf(JwtAuthenticationFilter.JwtAuthenticationException.class)
+            .satisfies(e -> assertThat(e.getStackTrace()).isEmpty());
+    }
+
+    private static String token(String headerJson) {
+        return encode(headerJson) + "." + PAYLOAD + "." + SIGNATURE;
+    }
+
+    private static String encode(String json) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
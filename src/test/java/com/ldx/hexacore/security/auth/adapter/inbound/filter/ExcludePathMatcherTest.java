@@ -0,0 +1,113 @@
+package com.ldx.hexacore.security.auth.adapter.inbound.filter;
+
+import com.ldx.hexacore.security.config.properties.SecurityStarterProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ExcludePathMatcher 테스트")
+class ExcludePathMatcherTest {
+
+    private static final List<String> PATTERNS = List.of(
+        "/public/**",
+        "/actuator/health",
+        "/api/*/docs",
+        "/**/*.css",
+        "/users/{id}/avatar",
+        "/v?/status",
+        "/static/**/index.html",
+        "/trailing/"
+    );
+
+    private final ExcludePathMatcher matcher = new ExcludePathMatcher(PATTERNS);
+
+    @ParameterizedTest
+    @CsvSource({
+        "/public, true",
+        "/public/, true",
+        "/public/a/b/c, true",
+        "/publicity, false",
+        "/actuator/health, true",
+        "/actuator/health/db, false",
+        "/actuator/healthz, false",
+        "/api/v1/docs, true",
+        "/api/v1/v2/docs, false",
+        "/assets/site.css, true",
+        "/site.css, true",
+        "/assets/site.js, false",
+        "/users/42/avatar, true",
+        "/users/42/profile, false",
+        "/v1/status, true",
+        "/v10/status, false",
+        "/static/index.html, true",
+        "/static/a/b/index.html, true",
+        "/static/a/b/main.html, false",
+        "/trailing/, true",
+        "/trailing, false",
+        "/orders, false"
+    })
+    @DisplayName("AntPathMatcher와 같은 규칙으로 경로를 판정한다")
+    void shouldMatchLikeAntPathMatcher(String path, boolean expected) {
+        // Given
+        AntPathMatcher antPathMatcher = new AntPathMatcher();
+        boolean antResult = PATTERNS.stream().anyMatch(pattern -> antPathMatcher.match(pattern, path));
+
+        // When
+        boolean result = matcher.matches(path);
+
+        // Then
+        assertThat(result).isEqualTo(expected).isEqualTo(antResult);
+    }
+
+    @Test
+    @DisplayName("요청 경로는 context path를 제외하고 비교한다")
+    void shouldIgnoreContextPath() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/app/public/info");
+        request.setContextPath("/app");
+
+        // When & Then
+        assertThat(matcher.matches(request)).isTrue();
+    }
+
+    @Test
+    @DisplayName("패턴이 많아도 모든 패턴을 올바르게 판정한다")
+    void shouldHandleManyPatterns() {
+        // Given
+        List<String> patterns = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            patterns.add("/service" + i + "/public/**");
+        }
+        ExcludePathMatcher manyMatcher = new ExcludePathMatcher(patterns);
+
+        // When & Then
+        assertThat(manyMatcher.matches("/service0/public/x")).isTrue();
+        assertThat(manyMatcher.matches("/service499/public")).isTrue();
+        assertThat(manyMatcher.matches("/service500/public/x")).isFalse();
+        assertThat(manyMatcher.matches("/service1/private")).isFalse();
+    }
+
+    @Test
+    @DisplayName("설정의 모든 제외 경로 소스를 합치고 중복과 빈 패턴은 제거한다")
+    void shouldCollectAllConfiguredSources() {
+        // Given
+        SecurityStarterProperties properties = new SecurityStarterProperties();
+        properties.getFilter().setExcludePaths(new String[]{"/public/**", " "});
+        properties.getTokenProvider().getJwt().setExcludedPaths(List.of("/auth/login"));
+
+        // When
+        ExcludePathMatcher collected = ExcludePathMatcher.of(properties, List.of("/docs/**", "/public/**"));
+
+        // Then
+        assertThat(collected.getPatterns()).containsExactly("/docs/**", "/public/**", "/auth/login");
+        assertThat(ExcludePathMatcher.EMPTY.matches("/public")).isFalse();
+    }
+}
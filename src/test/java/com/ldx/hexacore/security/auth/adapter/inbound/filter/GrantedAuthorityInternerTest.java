@@ -0,0 +1,71 @@
+package com.ldx.hexacore.security.auth.adapter.inbound.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("GrantedAuthorityInterner 테스트")
+class GrantedAuthorityInternerTest {
+
+    private final GrantedAuthorityInterner interner = new GrantedAuthorityInterner("ROLE_USER");
+
+    @Test
+    @DisplayName("같은 권한 조합은 같은 목록 인스턴스를 반환한다")
+    void shouldReuseListForSameAuthoritySet() {
+        // When
+        List<SimpleGrantedAuthority> first = interner.intern(new HashSet<>(Set.of("ROLE_admin", "SCOPE_email")));
+        List<SimpleGrantedAuthority> second = interner.intern(Set.of("SCOPE_email", "ROLE_admin"));
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(first).extracting(GrantedAuthority::getAuthority)
+            .containsExactlyInAnyOrder("ROLE_USER", "ROLE_admin", "SCOPE_email");
+    }
+
+    @Test
+    @DisplayName("다른 조합에서도 같은 이름의 권한 인스턴스를 공유한다")
+    void shouldShareAuthorityInstancesAcrossSets() {
+        // When
+        SimpleGrantedAuthority fromFirst = find(interner.intern(Set.of("ROLE_admin")), "ROLE_admin");
+        SimpleGrantedAuthority fromSecond = find(interner.intern(Set.of("ROLE_admin", "ROLE_ops")), "ROLE_admin");
+
+        // Then
+        assertThat(fromSecond).isSameAs(fromFirst);
+    }
+
+    @Test
+    @DisplayName("권한이 없으면 기본 권한만 반환하고, 기본 권한이 비어 있으면 빈 목록을 반환한다")
+    void shouldFallBackToDefaultAuthority() {
+        assertThat(interner.intern(null)).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_USER");
+        assertThat(interner.intern(Set.of("ROLE_USER"))).hasSize(1);
+        assertThat(new GrantedAuthorityInterner("").intern(Set.of())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("캐시 상한을 넘어도 올바른 권한 목록을 반환한다")
+    void shouldStayBoundedBeyondCapacity() {
+        // Given
+        for (int i = 0; i < GrantedAuthorityInterner.MAX_AUTHORITY_SETS; i++) {
+            interner.intern(Set.of("ROLE_r" + i));
+        }
+
+        // When
+        List<SimpleGrantedAuthority> overflow = interner.intern(Set.of("ROLE_overflow"));
+
+        // Then
+        assertThat(overflow).extracting(GrantedAuthority::getAuthority)
+            .containsExactlyInAnyOrder("ROLE_USER", "ROLE_overflow");
+        assertThat(interner.intern(Set.of("ROLE_overflow"))).isNotSameAs(overflow);
+    }
+
+    private static SimpleGrantedAuthority find(List<SimpleGrantedAuthority> authorities, String name) {
+        return authorities.stream().filter(a -> a.getAuthority().equals(name)).findFirst().orElseThrow();
+    }
+}
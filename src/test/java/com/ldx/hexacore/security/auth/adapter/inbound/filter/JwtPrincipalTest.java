@@ -0,0 +1,187 @@
+package com.ldx.hexacore.security.auth.adapter.inbound.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ldx.hexacore.security.auth.adapter.outbound.external.dto.TokenIntrospectionResponse;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenProvider;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenValidationResult;
+import com.ldx.hexacore.security.config.properties.SecurityStarterProperties;
+import com.ldx.hexacore.security.logging.SecurityEventLogger;
+import com.ldx.hexacore.security.logging.SecurityRequestLogger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("JwtPrincipal 테스트")
+class JwtPrincipalTest {
+
+    private static final Instant EXPIRES_AT = Instant.parse("2030-01-01T00:00:00Z");
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("인증 성공 시 검증 결과로 만든 principal을 SecurityContext에 설정한다")
+    void shouldExposePrincipalBuiltFromValidationResult() throws Exception {
+        // Given
+        TokenProvider tokenProvider = mock(TokenProvider.class);
+        when(tokenProvider.verifyTokenWithContext(anyString(), any()))
+            .thenReturn(TokenValidationResult.valid("user-1", "alice", Set.of("ROLE_admin"), EXPIRES_AT));
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(
+            tokenProvider,
+            new ObjectMapper(),
+            List.of(),
+            new SecurityStarterProperties(),
+            mock(SecurityRequestLogger.class),
+            mock(SecurityEventLogger.class));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/orders");
+        request.addHeader("Authorization", "Bearer " + token("{\"sub\":\"user-1\",\"tenant\":\"acme\"}"));
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication.getPrincipal()).isInstanceOf(JwtPrincipal.class);
+        JwtPrincipal principal = (JwtPrincipal) authentication.getPrincipal();
+        assertThat(principal.getUserId()).isEqualTo("user-1");
+        assertThat(principal.getUsername()).isEqualTo("alice");
+        assertThat(principal.getExpiresAt()).isEqualTo(EXPIRES_AT);
+        assertThat(principal.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+            .containsExactlyInAnyOrder("ROLE_USER", "ROLE_admin");
+        assertThat(authentication.getName()).isEqualTo("alice");
+        assertThat(principal.getClaim("tenant")).isEqualTo("acme");
+    }
+
+    @Test
+    @DisplayName("검증 결과에 클레임이 있으면 토큰을 읽지 않고 그대로 사용한다")
+    void shouldPreferClaimsProvidedByTokenProvider() {
+        // Given
+        TokenValidationResult result = new TokenValidationResult(
+            true, "user-1", "alice", Set.of(), EXPIRES_AT, Map.of("tenant", "provided"));
+
+        // When
+        JwtPrincipal principal = new JwtPrincipal(result, List.of(), "not-a-jwt");
+
+        // Then
+        assertThat(principal.getClaims()).containsExactly(Map.entry("tenant", "provided"));
+        assertThat(principal.getClaims()).isSameAs(principal.getClaims());
+    }
+
+    @Test
+    @DisplayName("클레임을 읽을 수 없으면 빈 맵을 반환하고 문자열 표현에 토큰을 포함하지 않는다")
+    void shouldReturnEmptyClaimsForUnreadableToken() {
+        // Given
+        TokenValidationResult result = TokenValidationResult.valid("user-1", "alice", Set.of(), EXPIRES_AT);
+
+        // When
+        JwtPrincipal principal = new JwtPrincipal(result, List.of(), "not-a-jwt");
+
+        // Then
+        assertThat(principal.getClaims()).isEmpty();
+        assertThat(principal.toString()).doesNotContain("not-a-jwt").contains("alice");
+    }
+
+    @Test
+    @DisplayName("introspection으로 검증된 토큰은 introspection 응답의 클레임을 제공한다")
+    void shouldExposeIntrospectionResponseClaims() throws Exception {
+        // Given
+        TokenIntrospectionResponse response = new ObjectMapper().readValue(
+            "{\"active\":true,\"sub\":\"user-1\",\"username\":\"alice\",\"exp\":1893456000,"
+                + "\"scope\":\"openid email\",\"client_id\":\"web\"}",
+            TokenIntrospectionResponse.class);
+        TokenValidationResult result = new TokenValidationResult(
+            true, response.getSubject(), response.getUsername(), Set.of(), EXPIRES_AT, response.getClaims());
+
+        // When
+        JwtPrincipal principal = new JwtPrincipal(result, List.of(), "opaque-token");
+
+        // Then
+        assertThat(principal.getClaims())
+            .containsEntry("sub", "user-1")
+            .containsEntry("scope", "openid email")
+            .containsEntry("client_id", "web")
+            .containsEntry("exp", 1893456000L)
+            .doesNotContainKey("introspection");
+    }
+
+    @Test
+    @DisplayName("직렬화에는 토큰 원문을 포함하지 않고 클레임은 유지한다")
+    void shouldNotSerializeRawToken() throws Exception {
+        // Given
+        String rawToken = token("{\"sub\":\"user-1\",\"tenant\":\"acme\"}");
+        TokenValidationResult result = TokenValidationResult.valid("user-1", "alice", Set.of(), EXPIRES_AT);
+        JwtPrincipal principal = new JwtPrincipal(result, List.of(), rawToken);
+
+        // When
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(principal);
+        }
+        JwtPrincipal restored;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            restored = (JwtPrincipal) in.readObject();
+        }
+
+        // Then
+        assertThat(new String(bytes.toByteArray(), StandardCharsets.ISO_8859_1)).doesNotContain(rawToken);
+        assertThat(restored.getUsername()).isEqualTo("alice");
+        assertThat(restored.getClaim("tenant")).isEqualTo("acme");
+    }
+
+    @Test
+    @DisplayName("인증 토큰을 직렬화해도 토큰 원문은 포함하지 않는다")
+    void shouldNotSerializeRawTokenOfAuthentication() throws Exception {
+        // Given
+        String rawToken = token("{\"sub\":\"user-1\"}");
+        TokenValidationResult result = TokenValidationResult.valid("user-1", "alice", Set.of(), EXPIRES_AT);
+        JwtAuthenticationToken authentication = new JwtAuthenticationToken(
+            rawToken, new JwtPrincipal(result, List.of(), rawToken), List.of());
+
+        // When
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(authentication);
+        }
+        JwtAuthenticationToken restored;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            restored = (JwtAuthenticationToken) in.readObject();
+        }
+
+        // Then
+        assertThat(new String(bytes.toByteArray(), StandardCharsets.ISO_8859_1)).doesNotContain(rawToken);
+        assertThat(restored.getToken()).isNull();
+        assertThat(restored.getPrincipal().getUsername()).isEqualTo("alice");
+    }
+
+    private static String token(String payloadJson) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8))
+            + "." + encoder.encodeToString(payloadJson.getBytes(StandardCharsets.UTF_8))
+            + ".c2lnbmF0dXJl";
+    }
+}
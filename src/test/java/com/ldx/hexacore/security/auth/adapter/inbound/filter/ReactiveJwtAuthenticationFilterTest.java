@@ -0,0 +1,293 @@
+package com.ldx.hexacore.security.auth.adapter.inbound.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ldx.hexacore.security.auth.adapter.outbound.token.cache.CachingTokenProvider;
+import com.ldx.hexacore.security.auth.adapter.outbound.token.cache.CoalescingTokenProvider;
+import com.ldx.hexacore.security.auth.adapter.outbound.token.keycloak.KeycloakTokenProvider;
+import com.ldx.hexacore.security.auth.application.command.port.out.AsyncTokenProvider;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenProvider;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenProviderException;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenValidationErrorCode;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenValidationResult;
+import com.ldx.hexacore.security.config.properties.SecurityStarterProperties;
+import com.ldx.hexacore.security.logging.SecurityEventLogger;
+import com.ldx.hexacore.security.logging.SecurityRequestLogger;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ReactiveJwtAuthenticationFilter 테스트")
+class ReactiveJwtAuthenticationFilterTest {
+
+    private static final String TOKEN = token("user-1");
+
+    private SecurityEventLogger eventLogger;
+    private RejectedTokenCache rejectedTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        eventLogger = mock(SecurityEventLogger.class);
+        rejectedTokenCache = new RejectedTokenCache(100, Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("유효한 토큰이면 인증 정보를 Reactor Context로 전달한다")
+    void shouldPropagateAuthentication() {
+        // Given
+        TokenProvider tokenProvider = mock(TokenProvider.class);
+        when(tokenProvider.verifyTokenWithContext(anyString(), any())).thenReturn(valid());
+        MockServerWebExchange exchange = exchange("/api/orders");
+        CapturingChain chain = new CapturingChain();
+
+        // When
+        filter(tokenProvider).filter(exchange, chain).block();
+
+        // Then
+        Authentication authentication = chain.authentication.get();
+        assertThat(authentication).isInstanceOf(JwtAuthenticationToken.class);
+        assertThat(authentication.getName()).isEqualTo("alice");
+        assertThat(authentication.getAuthorities()).extracting("authority").contains("ROLE_ADMIN");
+        verify(eventLogger).logAuthenticationSuccess("alice", "10.0.0.1", null);
+    }
+
+    @Test
+    @DisplayName("AsyncTokenProvider는 비동기 검증을 사용한다")
+    void shouldUseAsyncTokenProvider() {
+        // Given
+        AsyncCapableTokenProvider tokenProvider = mock(AsyncCapableTokenProvider.class);
+        when(tokenProvider.validateTokenAsync(TOKEN)).thenReturn(CompletableFuture.completedFuture(valid()));
+        CapturingChain chain = new CapturingChain();
+
+        // When
+        filter(tokenProvider).filter(exchange("/api/orders"), chain).block();
+
+        // Then
+        assertThat(chain.authentication.get()).isNotNull();
+        verify(tokenProvider, never()).verifyTokenWithContext(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("캐싱/합치기 데코레이터로 감싼 Keycloak 제공자도 구독 스레드를 막지 않고 검증한다")
+    void shouldValidateWrappedKeycloakProviderWithoutBlocking() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        try (MockWebServer server = new MockWebServer()) {
+            server.setDispatcher(new Dispatcher() {
+                @Override
+                public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                    release.await(5, TimeUnit.SECONDS);
+                    return new MockResponse()
+                        .setHeader("Content-Type", "application/json")
+                        .setBody("{\"sub\":\"user-1\",\"preferred_username\":\"alice\"}");
+                }
+            });
+            server.start();
+            SecurityStarterProperties.TokenProvider.KeycloakProperties properties =
+                new SecurityStarterProperties.TokenProvider.KeycloakProperties();
+            properties.setServerUrl(server.url("/").toString());
+            properties.setRealm("test-realm");
+            properties.setClientId("test-client");
+            properties.setClientSecret("test-secret");
+            String token = tokenExpiringAt(Instant.now().plusSeconds(300));
+
+            try (KeycloakTokenProvider keycloak = new KeycloakTokenProvider(properties)) {
+                TokenProvider wrapped = CachingTokenProvider.decorate(
+                    CoalescingTokenProvider.decorate(keycloak, Duration.ofSeconds(5)),
+                    100, Duration.ofMinutes(5), false);
+                ReactiveJwtAuthenticationFilter filter = filter(wrapped);
+                CapturingChain firstChain = new CapturingChain();
+                CapturingChain secondChain = new CapturingChain();
+
+                // When - Keycloak 응답을 기다리는 동안 구독 스레드가 바로 반환되어야 함
+                CompletableFuture<Void> first = filter.filter(exchange("/api/orders", token), firstChain).toFuture();
+                assertThat(first).isNotDone();
+                release.countDown();
+                first.get(5, TimeUnit.SECONDS);
+                filter.filter(exchange("/api/orders", token), secondChain).block(Duration.ofSeconds(5));
+
+                // Then - 두 번째 요청은 캐시된 결과를 사용
+                assertThat(firstChain.authentication.get().getName()).isEqualTo("alice");
+                assertThat(secondChain.authentication.get().getName()).isEqualTo("alice");
+                assertThat(server.getRequestCount()).isEqualTo(1);
+            }
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 토큰은 401로 응답하고 네거티브 캐시로 다시 검증하지 않는다")
+    void shouldRejectInvalidToken() {
+        // Given
+        AsyncCapableTokenProvider tokenProvider = mock(AsyncCapableTokenProvider.class);
+        when(tokenProvider.validateTokenAsync(TOKEN)).thenReturn(CompletableFuture.failedFuture(
+            TokenProviderException.tokenValidationFailed("JWT", new IllegalStateException("bad signature"))));
+        ReactiveJwtAuthenticationFilter filter = filter(tokenProvider);
+        MockServerWebExchange first = exchange("/api/orders");
+        MockServerWebExchange second = exchange("/api/orders");
+        CapturingChain chain = new CapturingChain();
+
+        // When
+        filter.filter(first, chain).block();
+        filter.filter(second, chain).block();
+
+        // Then
+        assertThat(first.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(first.getResponse().getBodyAsString().block())
+            .contains("\"success\":false", "\"status\":401", "Token validation failed");
+        assertThat(second.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(chain.invoked).isFalse();
+        verify(tokenProvider, times(1)).validateTokenAsync(TOKEN);
+        verify(eventLogger, times(2)).logAuthenticationFailure(anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("제공자 장애는 401로 응답하지만 네거티브 캐시에 기록하지 않는다")
+    void shouldNotCacheProviderFailure() {
+        // Given
+        AsyncCapableTokenProvider tokenProvider = mock(AsyncCapableTokenProvider.class);
+        when(tokenProvider.validateTokenAsync(TOKEN)).thenReturn(CompletableFuture.failedFuture(
+            TokenProviderException.providerUnavailable("KEYCLOAK", new IllegalStateException("down"))));
+        MockServerWebExchange exchange = exchange("/api/orders");
+
+        // When
+        filter(tokenProvider).filter(exchange, new CapturingChain()).block();
+
+        // Then
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(rejectedTokenCache.getRejectionReason(TOKEN)).isNull();
+    }
+
+    @Test
+    @DisplayName("제외 경로와 토큰이 없는 요청은 검증하지 않고 통과시킨다")
+    void shouldSkipExcludedPathAndMissingToken() {
+        // Given
+        TokenProvider tokenProvider = mock(TokenProvider.class);
+        ReactiveJwtAuthenticationFilter filter = filter(tokenProvider);
+        CapturingChain excluded = new CapturingChain();
+        CapturingChain anonymous = new CapturingChain();
+
+        // When
+        filter.filter(exchange("/public/health"), excluded).block();
+        filter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/api/orders")), anonymous).block();
+
+        // Then
+        assertThat(excluded.invoked).isTrue();
+        assertThat(anonymous.invoked).isTrue();
+        assertThat(anonymous.authentication.get()).isNull();
+        verify(tokenProvider, never()).verifyTokenWithContext(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 EXPIRED 결과로 변환되어 401로 응답한다")
+    void shouldRejectExpiredTokenFromSyncProvider() {
+        // Given
+        TokenProvider tokenProvider = mock(TokenProvider.class);
+        when(tokenProvider.verifyTokenWithContext(anyString(), any())).thenReturn(
+            TokenValidationResult.invalid(TokenValidationErrorCode.EXPIRED, "Token expired"));
+        MockServerWebExchange exchange = exchange("/api/orders");
+
+        // When
+        filter(tokenProvider).filter(exchange, new CapturingChain()).block();
+
+        // Then
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(rejectedTokenCache.getRejectionReason(TOKEN)).startsWith("Token validation failed");
+    }
+
+    private ReactiveJwtAuthenticationFilter filter(TokenProvider tokenProvider) {
+        return new ReactiveJwtAuthenticationFilter(
+            tokenProvider,
+            new ObjectMapper(),
+            new ExcludePathMatcher(List.of("/public/**")),
+            new SecurityStarterProperties(),
+            mock(SecurityRequestLogger.class),
+            eventLogger,
+            rejectedTokenCache);
+    }
+
+    private static MockServerWebExchange exchange(String path) {
+        return exchange(path, TOKEN);
+    }
+
+    private static MockServerWebExchange exchange(String path, String token) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(path)
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+            .header("X-Forwarded-For", "10.0.0.1"));
+    }
+
+    private static TokenValidationResult valid() {
+        return new TokenValidationResult(true, "user-1", "alice", Set.of("ROLE_ADMIN"),
+            Instant.now().plusSeconds(300), Map.of("sub", "user-1"));
+    }
+
+    private static String token(String subject) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8))
+            + "." + encoder.encodeToString(("{\"sub\":\"" + subject + "\"}").getBytes(StandardCharsets.UTF_8))
+            + ".c2lnbmF0dXJl";
+    }
+
+    private static String tokenExpiringAt(Instant expiresAt) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString("{\"alg\":\"RS256\"}".getBytes(StandardCharsets.UTF_8))
+            + "." + encoder.encodeToString(("{\"sub\":\"user-1\",\"exp\":" + expiresAt.getEpochSecond() + "}")
+                .getBytes(StandardCharsets.UTF_8))
+            + ".c2lnbmF0dXJl";
+    }
+
+    interface AsyncCapableTokenProvider extends TokenProvider, AsyncTokenProvider {
+    }
+
+    /**
+     * 호출 여부와 Reactor Context의 인증 정보를 기록하는 체인
+     */
+    private static final class CapturingChain implements WebFilterChain {
+
+        private final AtomicReference<Authentication> authentication = new AtomicReference<>();
+        private boolean invoked;
+
+        @Override
+        public Mono<Void> filter(org.springframework.web.server.ServerWebExchange exchange) {
+            invoked = true;
+            return ReactiveSecurityContextHolder.getContext()
+                .map(SecurityContext::getAuthentication)
+                .doOnNext(authentication::set)
+                .then();
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.ldx.hexacore.security.auth.adapter.inbound.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenProvider;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenProviderException;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenValidationErrorCode;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenValidationResult;
+import com.ldx.hexacore.security.config.properties.SecurityStarterProperties;
+import com.ldx.hexacore.security.logging.SecurityEventLogger;
+import com.ldx.hexacore.security.logging.SecurityRequestLogger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("RejectedTokenCache 테스트")
+class RejectedTokenCacheTest {
+
+    private static final String TOKEN = token("forged");
+
+    private final AtomicLong nanos = new AtomicLong();
+    private RejectedTokenCache cache;
+    private TokenProvider tokenProvider;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        cache = new RejectedTokenCache(100, Duration.ofSeconds(30), nanos::get);
+        tokenProvider = mock(TokenProvider.class);
+        filter = new JwtAuthenticationFilter(
+            tokenProvider,
+            new ObjectMapper(),
+            ExcludePathMatcher.EMPTY,
+            new SecurityStarterProperties(),
+            mock(SecurityRequestLogger.class),
+            mock(SecurityEventLogger.class),
+            cache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("거부 사유는 TTL 동안만 보관된다")
+    void shouldExpireRejectionAfterTtl() {
+        // Given
+        cache.recordRejection(TOKEN, "Token validation failed: bad signature");
+
+        // When & Then
+        assertThat(cache.getRejectionReason(TOKEN)).isEqualTo("Token validation failed: bad signature");
+        nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+        assertThat(cache.getRejectionReason(TOKEN)).isNull();
+    }
+
+    @Test
+    @DisplayName("긴 거부 사유는 잘라서 저장한다")
+    void shouldTruncateLongReason() {
+        // When
+        cache.recordRejection(TOKEN, "x".repeat(10_000));
+
+        // Then
+        assertThat(cache.getRejectionReason(TOKEN)).hasSize(RejectedTokenCache.MAX_REASON_LENGTH);
+    }
+
+    @Test
+    @DisplayName("거부된 토큰을 다시 제출하면 검증하지 않고 같은 사유로 거부한다")
+    void shouldRejectReplayedTokenWithoutValidation() throws Exception {
+        // Given
+        when(tokenProvider.verifyTokenWithContext(anyString(), any()))
+            .thenReturn(TokenValidationResult.invalid(TokenValidationErrorCode.EXPIRED, "Token has expired"));
+        MockHttpServletResponse first = filter(TOKEN);
+
+        // When
+        MockHttpServletResponse replay = filter(TOKEN);
+
+        // Then
+        assertThat(first.getStatus()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+        assertThat(replay.getStatus()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+        assertThat(message(replay)).isEqualTo(message(first));
+        verify(tokenProvider, times(1)).verifyTokenWithContext(anyString(), any());
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무효 결과도 네거티브 캐시에 기록한다")
+    void shouldRecordInvalidResult() throws Exception {
+        // Given
+        when(tokenProvider.verifyTokenWithContext(anyString(), any()))
+            .thenReturn(TokenValidationResult.invalid("Invalid token issuer"));
+
+        // When
+        filter(TOKEN);
+
+        // Then
+        assertThat(cache.getRejectionReason(TOKEN)).isEqualTo("Token validation failed: Invalid token issuer");
+    }
+
+    @Test
+    @DisplayName("제공자 장애로 인한 실패는 기록하지 않는다")
+    void shouldNotRecordProviderUnavailable() throws Exception {
+        // Given
+        when(tokenProvider.verifyTokenWithContext(anyString(), any()))
+            .thenThrow(TokenProviderException.providerUnavailable("KEYCLOAK", new IllegalStateException("down")));
+
+        // When
+        filter(TOKEN);
+        filter(TOKEN);
+
+        // Then
+        verify(tokenProvider, times(2)).verifyTokenWithContext(anyString(), any());
+        assertThat(cache.estimatedSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("토큰 자체에 대한 확정 판정만 기록 대상으로 본다")
+    void shouldOnlyTreatDefinitiveVerdictsAsRejections() {
+        // Given
+        TokenValidationResult expired = TokenValidationResult.invalid(TokenValidationErrorCode.EXPIRED, "expired");
+        TokenValidationResult badSignature =
+            TokenValidationResult.invalid(TokenValidationErrorCode.INVALID_SIGNATURE, "bad signature");
+        TokenValidationResult empty = TokenValidationResult.invalid(TokenValidationErrorCode.EMPTY_TOKEN, "empty");
+        TokenValidationResult permissionDenied = new TokenValidationResult(false, "user-1", "alice", null, null,
+            Map.of("resource_permission_denied", true));
+
+        // When & Then
+        assertThat(RejectedTokenCache.isDefinitiveRejection(expired)).isTrue();
+        assertThat(RejectedTokenCache.isDefinitiveRejection(badSignature)).isTrue();
+        assertThat(RejectedTokenCache.isDefinitiveRejection(empty)).isFalse();
+        assertThat(RejectedTokenCache.isDefinitiveRejection(permissionDenied)).isFalse();
+        assertThat(RejectedTokenCache.isDefinitiveRejection(TokenProviderException.tokenExpired("JWT"))).isTrue();
+        assertThat(RejectedTokenCache.isDefinitiveRejection(
+            TokenProviderException.providerUnavailable("KEYCLOAK", new IllegalStateException("429")))).isFalse();
+        assertThat(RejectedTokenCache.isDefinitiveRejection(new IllegalStateException("boom"))).isFalse();
+    }
+
+    private MockHttpServletResponse filter(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/orders");
+        request.addHeader("Authorization", "Bearer " + token);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private static String message(MockHttpServletResponse response) throws Exception {
+        return new ObjectMapper().readTree(response.getContentAsString()).get("message").asText();
+    }
+
+    private static String token(String subject) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8))
+            + "." + encoder.encodeToString(("{\"sub\":\"" + subject + "\"}").getBytes(StandardCharsets.UTF_8))
+            + ".c2lnbmF0dXJl";
+    }
+}
@@ -0,0 +1,137 @@
+package com.ldx.hexacore.security.auth.adapter.outbound.external;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("KeycloakCircuitBreaker 테스트")
+class KeycloakCircuitBreakerTest {
+
+    private static final KeycloakCircuitBreaker.Settings SETTINGS =
+        new KeycloakCircuitBreaker.Settings(50, 4, 4, Duration.ofSeconds(30), 2, 2);
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final KeycloakCircuitBreaker circuitBreaker = new KeycloakCircuitBreaker("userinfo", SETTINGS, nanos::get);
+
+    @Test
+    @DisplayName("실패율이 임계값에 도달하면 circuit을 열고 호출을 바로 거부한다")
+    void shouldOpenWhenFailureRateReachesThreshold() {
+        // Given
+        call(true);
+        call(false);
+        call(true);
+
+        // When
+        call(false);
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(KeycloakCircuitBreaker.State.OPEN);
+        assertThatThrownBy(circuitBreaker::acquire).isInstanceOf(KeycloakCallNotPermittedException.class);
+        assertThat(circuitBreaker.getNotPermittedCount()).isEqualTo(1);
+        assertThat(circuitBreaker.getAvailableConcurrentCalls()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("유지 시간이 지나면 시험 호출이 모두 성공할 때 circuit을 닫는다")
+    void shouldCloseAfterSuccessfulTrialCalls() {
+        // Given
+        openCircuit();
+        nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        // When
+        circuitBreaker.acquire();
+        circuitBreaker.acquire();
+
+        // Then - 시험 호출 수를 넘는 호출은 거부
+        assertThatThrownBy(circuitBreaker::acquire).isInstanceOf(KeycloakCallNotPermittedException.class);
+        circuitBreaker.onSuccess();
+        circuitBreaker.onSuccess();
+        assertThat(circuitBreaker.getState()).isEqualTo(KeycloakCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 circuit을 다시 연다")
+    void shouldReopenWhenTrialCallFails() {
+        // Given
+        openCircuit();
+        nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        // When
+        call(false);
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(KeycloakCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("동시 호출 한도를 넘는 호출은 기다리지 않고 거부한다")
+    void shouldRejectCallsBeyondBulkheadLimit() {
+        // Given
+        circuitBreaker.acquire();
+        circuitBreaker.acquire();
+
+        // When & Then
+        assertThatThrownBy(circuitBreaker::acquire)
+            .isInstanceOf(KeycloakCallNotPermittedException.class)
+            .hasMessageContaining("concurrent call limit");
+        circuitBreaker.onSuccess();
+        circuitBreaker.acquire();
+    }
+
+    @Test
+    @DisplayName("전송 계층은 5xx 응답이 이어진 엔드포인트만 거부하고 다른 엔드포인트는 호출한다")
+    void shouldGuardEachEndpointSeparately() throws Exception {
+        // Given
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+            KeycloakHttpTransport transport = new KeycloakHttpTransport(
+                Duration.ofSeconds(1), Duration.ofSeconds(1), 4,
+                new KeycloakCircuitBreaker.Settings(50, 2, 2, Duration.ofSeconds(30), 1, 4));
+            String userInfo = server.url("/realms/test/protocol/openid-connect/userinfo").toString();
+            String introspect = server.url("/realms/test/protocol/openid-connect/token/introspect").toString();
+            server.enqueue(new MockResponse().setResponseCode(503));
+            server.enqueue(new MockResponse().setResponseCode(503));
+            server.enqueue(new MockResponse().setBody("{}"));
+
+            // When
+            for (int i = 0; i < 2; i++) {
+                assertThatThrownBy(() -> transport.getRestTemplate().getForObject(userInfo, String.class))
+                    .isInstanceOf(HttpServerErrorException.class);
+            }
+
+            // Then
+            assertThatThrownBy(() -> transport.getRestTemplate().getForObject(userInfo, String.class))
+                .isInstanceOf(KeycloakCallNotPermittedException.class);
+            assertThat(transport.getRestTemplate().postForObject(introspect, "token=x", String.class)).isEqualTo("{}");
+            assertThat(transport.circuitBreaker(KeycloakHttpTransport.Endpoint.USERINFO).getState())
+                .isEqualTo(KeycloakCircuitBreaker.State.OPEN);
+            assertThat(transport.circuitBreaker(KeycloakHttpTransport.Endpoint.INTROSPECTION).getState())
+                .isEqualTo(KeycloakCircuitBreaker.State.CLOSED);
+            assertThat(server.getRequestCount()).isEqualTo(3);
+        }
+    }
+
+    private void openCircuit() {
+        for (int i = 0; i < 4; i++) {
+            call(false);
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(KeycloakCircuitBreaker.State.OPEN);
+    }
+
+    private void call(boolean success) {
+        circuitBreaker.acquire();
+        if (success) {
+            circuitBreaker.onSuccess();
+        } else {
+            circuitBreaker.onFailure();
+        }
+    }
+}
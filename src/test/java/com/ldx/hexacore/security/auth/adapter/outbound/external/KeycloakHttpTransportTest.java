@@ -0,0 +1,185 @@
+package com.ldx.hexacore.security.auth.adapter.outbound.external;
+
+import com.ldx.hexacore.security.config.autoconfigure.TokenProviderAutoConfiguration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.net.URI;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+@DisplayName("KeycloakHttpTransport 테스트")
+class KeycloakHttpTransportTest {
+
+    private MockWebServer server;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new MockWebServer();
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        server.shutdown();
+    }
+
+    @Test
+    @DisplayName("route별 요청 수와 실패 수를 기록한다")
+    void shouldRecordPerRouteStats() {
+        // Given
+        KeycloakHttpTransport transport = new KeycloakHttpTransport(Duration.ofSeconds(1), Duration.ofSeconds(1), 4);
+        String url = server.url("/realms/test/protocol/openid-connect/certs").toString();
+        server.enqueue(new MockResponse().setBody("{}"));
+        server.enqueue(new MockResponse().setResponseCode(503));
+
+        // When
+        String body = transport.getRestTemplate().getForObject(url, String.class);
+        assertThatThrownBy(() -> transport.getRestTemplate().getForObject(url, String.class))
+            .isInstanceOf(HttpServerErrorException.class);
+
+        // Then
+        KeycloakHttpTransport.RouteStats stats = transport.getRoutes().get(KeycloakHttpTransport.routeOf(URI.create(url)));
+        assertThat(body).isEqualTo("{}");
+        assertThat(stats.getRequests()).isEqualTo(2);
+        assertThat(stats.getFailures()).isEqualTo(1);
+        assertThat(stats.getInFlight()).isZero();
+        assertThat(transport.getAvailableConnections()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("응답이 읽기 타임아웃보다 늦으면 실패한다")
+    void shouldApplyReadTimeout() {
+        // Given
+        KeycloakHttpTransport transport = new KeycloakHttpTransport(Duration.ofSeconds(1), Duration.ofMillis(200), 4);
+        server.enqueue(new MockResponse().setBody("{}").setHeadersDelay(2, TimeUnit.SECONDS));
+
+        // When & Then
+        assertThatThrownBy(() -> transport.getRestTemplate().getForObject(server.url("/slow").toString(), String.class))
+            .isInstanceOf(ResourceAccessException.class);
+    }
+
+    @Test
+    @DisplayName("동시 요청 수가 한도에 도달하면 연결 타임아웃 후 실패한다")
+    void shouldLimitConcurrentRequests() throws Exception {
+        // Given
+        KeycloakHttpTransport transport = new KeycloakHttpTransport(Duration.ofMillis(200), Duration.ofSeconds(5), 1);
+        server.enqueue(new MockResponse().setBody("{}").setHeadersDelay(1, TimeUnit.SECONDS));
+        String url = server.url("/busy").toString();
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(
+            () -> transport.getRestTemplate().getForObject(url, String.class));
+        server.takeRequest(2, TimeUnit.SECONDS);
+
+        // When & Then
+        assertThatThrownBy(() -> transport.getRestTemplate().getForObject(url, String.class))
+            .isInstanceOf(ResourceAccessException.class)
+            .hasMessageContaining("connection limit");
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("{}");
+    }
+
+    @Test
+    @DisplayName("비동기 요청이 연결 한도를 넘으면 자리가 날 때까지 기다리고 circuit breaker는 열지 않는다")
+    void shouldQueueAsyncRequestsBeyondConnectionLimitWithoutOpeningCircuit() throws Exception {
+        // Given
+        int maxConnections = 2;
+        KeycloakHttpTransport transport = new KeycloakHttpTransport(Duration.ofSeconds(5), Duration.ofSeconds(5),
+            maxConnections, new KeycloakCircuitBreaker.Settings(50, 1, 4, Duration.ofSeconds(30), 1, 10));
+        for (int i = 0; i <= maxConnections; i++) {
+            server.enqueue(new MockResponse().setBody("{}").setHeadersDelay(300, TimeUnit.MILLISECONDS));
+        }
+        URI userinfo = server.url("/realms/test/protocol/openid-connect/userinfo").uri();
+
+        // When
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+        for (int i = 0; i <= maxConnections; i++) {
+            responses.add(transport.getAsync(userinfo, "token"));
+        }
+
+        // Then
+        for (CompletableFuture<HttpResponse<String>> response : responses) {
+            assertThat(response.get(5, TimeUnit.SECONDS).statusCode()).isEqualTo(200);
+        }
+        KeycloakCircuitBreaker circuitBreaker = transport.circuitBreaker(KeycloakHttpTransport.Endpoint.USERINFO);
+        assertThat(circuitBreaker.getState()).isEqualTo(KeycloakCircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.getFailureRate()).isZero();
+        assertThat(transport.getAvailableConnections()).isEqualTo(maxConnections);
+    }
+
+    @Test
+    @DisplayName("연결 자리를 얻지 못한 호출은 circuit breaker에 실패로 기록하지 않는다")
+    void shouldNotRecordConnectionLimitAsCircuitFailure() throws Exception {
+        // Given
+        KeycloakHttpTransport transport = new KeycloakHttpTransport(Duration.ofMillis(200), Duration.ofSeconds(5),
+            1, new KeycloakCircuitBreaker.Settings(50, 1, 4, Duration.ofSeconds(30), 1, 10));
+        server.enqueue(new MockResponse().setBody("{}").setHeadersDelay(1, TimeUnit.SECONDS));
+        URI userinfo = server.url("/realms/test/protocol/openid-connect/userinfo").uri();
+        CompletableFuture<HttpResponse<String>> first = transport.getAsync(userinfo, "token");
+        server.takeRequest(2, TimeUnit.SECONDS);
+
+        // When
+        CompletableFuture<HttpResponse<String>> rejectedAsync = transport.getAsync(userinfo, "token");
+        Throwable rejectedSync = catchThrowable(
+            () -> transport.getRestTemplate().getForObject(userinfo.toString(), String.class));
+
+        // Then
+        assertThatThrownBy(() -> rejectedAsync.get(2, TimeUnit.SECONDS))
+            .hasCauseInstanceOf(ResourceAccessException.class)
+            .hasMessageContaining("connection limit");
+        assertThat(rejectedSync).isInstanceOf(ResourceAccessException.class).hasMessageContaining("connection limit");
+        assertThat(first.get(5, TimeUnit.SECONDS).statusCode()).isEqualTo(200);
+        KeycloakCircuitBreaker circuitBreaker = transport.circuitBreaker(KeycloakHttpTransport.Endpoint.USERINFO);
+        assertThat(circuitBreaker.getState()).isEqualTo(KeycloakCircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.getFailureRate()).isZero();
+        assertThat(circuitBreaker.getAvailableConcurrentCalls()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("route 이름에는 기본 포트를 포함한다")
+    void shouldNormalizeRouteName() {
+        assertThat(KeycloakHttpTransport.routeOf(URI.create("https://keycloak.example.com/realms/a")))
+            .isEqualTo("https://keycloak.example.com:443");
+        assertThat(KeycloakHttpTransport.routeOf(URI.create("http://localhost:8080/realms/a")))
+            .isEqualTo("http://localhost:8080");
+    }
+
+    @Test
+    @DisplayName("메트릭 바인딩 이후 새로 호출한 route에도 메트릭을 등록한다")
+    void shouldRegisterMetricsForRoutesCreatedAfterBinding() {
+        // Given
+        KeycloakHttpTransport transport = new KeycloakHttpTransport(Duration.ofSeconds(1), Duration.ofSeconds(1), 4);
+        transport.route("https://keycloak.example.com:443");
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new TokenProviderAutoConfiguration.KeycloakTokenProviderConfiguration.KeycloakHttpTransportMetricsConfiguration()
+            .keycloakHttpTransportMetrics(transport)
+            .bindTo(registry);
+        String url = server.url("/realms/test/protocol/openid-connect/certs").toString();
+        server.enqueue(new MockResponse().setBody("{}"));
+
+        // When
+        transport.getRestTemplate().getForObject(url, String.class);
+
+        // Then
+        String lateRoute = KeycloakHttpTransport.routeOf(URI.create(url));
+        assertThat(registry.find("security.keycloak.http.requests").tag("route", "https://keycloak.example.com:443")
+            .functionTimer()).isNotNull();
+        assertThat(registry.find("security.keycloak.http.requests").tag("route", lateRoute)
+            .functionTimer().count()).isEqualTo(1);
+        assertThat(registry.find("security.keycloak.http.failures").tag("route", lateRoute)
+            .functionCounter()).isNotNull();
+    }
+}
@@ -0,0 +1,247 @@
+package com.ldx.hexacore.security.auth.adapter.outbound.token.cache;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.ldx.hexacore.security.auth.application.command.port.out.AsyncTokenProvider;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenProvider;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenValidationContext;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenValidationResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+@DisplayName("CachingTokenProvider 테스트")
+class CachingTokenProviderTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+    private static final String TOKEN = "header.payload.signature";
+
+    private TokenProvider delegate;
+    private AtomicLong nanos;
+    private CachingTokenProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(TokenProvider.class);
+        nanos = new AtomicLong();
+        Ticker ticker = nanos::get;
+        provider = new CachingTokenProvider(delegate, 100, Duration.ofMinutes(15), true,
+            ticker, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("유효한 검증 결과는 캐싱되어 재검증 없이 반환된다")
+    void shouldReturnCachedResultForSameToken() {
+        // Given
+        TokenValidationResult valid = validUntil(NOW.plusSeconds(300));
+        when(delegate.validateToken(TOKEN)).thenReturn(valid);
+
+        // When
+        TokenValidationResult first = provider.validateToken(TOKEN);
+        TokenValidationResult second = provider.validateToken(TOKEN);
+
+        // Then
+        assertThat(first).isSameAs(valid);
+        assertThat(second).isSameAs(valid);
+        verify(delegate, times(1)).validateToken(TOKEN);
+        assertThat(provider.stats().hitCount()).isEqualTo(1);
+        assertThat(provider.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("토큰 만료 시각이 최대 TTL보다 이르면 만료 시각에 엔트리가 제거된다")
+    void shouldExpireEntryAtTokenExpiration() {
+        // Given
+        when(delegate.validateToken(TOKEN)).thenReturn(validUntil(NOW.plusSeconds(60)));
+        provider.validateToken(TOKEN);
+
+        // When
+        nanos.addAndGet(Duration.ofSeconds(61).toNanos());
+        provider.validateToken(TOKEN);
+
+        // Then
+        verify(delegate, times(2)).validateToken(TOKEN);
+    }
+
+    @Test
+    @DisplayName("토큰 만료 시각이 멀어도 최대 TTL이 지나면 재검증한다")
+    void shouldExpireEntryAtMaximumTtl() {
+        // Given
+        when(delegate.validateToken(TOKEN)).thenReturn(validUntil(NOW.plusSeconds(3600)));
+        provider.validateToken(TOKEN);
+
+        // When
+        nanos.addAndGet(Duration.ofMinutes(14).toNanos());
+        provider.validateToken(TOKEN);
+        nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+        provider.validateToken(TOKEN);
+
+        // Then
+        verify(delegate, times(2)).validateToken(TOKEN);
+    }
+
+    @Test
+    @DisplayName("무효한 검증 결과는 캐싱하지 않는다")
+    void shouldNotCacheInvalidResult() {
+        // Given
+        when(delegate.validateToken(TOKEN)).thenReturn(TokenValidationResult.invalid("Token expired"));
+
+        // When
+        provider.validateToken(TOKEN);
+        provider.validateToken(TOKEN);
+
+        // Then
+        verify(delegate, times(2)).validateToken(TOKEN);
+        assertThat(provider.estimatedSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("결과에 만료 시각이 없으면 토큰의 exp 클레임으로 TTL을 정한다")
+    void shouldFallBackToExpClaimWhenResultHasNoExpiration() {
+        // Given
+        String jwt = unsignedJwt(NOW.plusSeconds(30).getEpochSecond());
+        when(delegate.validateToken(jwt)).thenReturn(validUntil(null));
+        provider.validateToken(jwt);
+        provider.validateToken(jwt);
+
+        // When
+        nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+        provider.validateToken(jwt);
+
+        // Then
+        verify(delegate, times(2)).validateToken(jwt);
+    }
+
+    @Test
+    @DisplayName("만료 시각을 알 수 없는 결과는 캐싱하지 않는다")
+    void shouldNotCacheWhenExpirationUnknown() {
+        // Given
+        when(delegate.validateToken(TOKEN)).thenReturn(validUntil(null));
+
+        // When
+        provider.validateToken(TOKEN);
+        provider.validateToken(TOKEN);
+
+        // Then
+        verify(delegate, times(2)).validateToken(TOKEN);
+    }
+
+    @Test
+    @DisplayName("리소스 권한 체크가 필요한 컨텍스트 검증은 항상 위임한다")
+    void shouldBypassCacheForResourcePermissionCheck() {
+        // Given
+        TokenValidationContext context = TokenValidationContext.builder()
+            .requestUri("/api/orders")
+            .httpMethod("GET")
+            .checkResourcePermission(true)
+            .build();
+        when(delegate.validateTokenWithContext(anyString(), any())).thenReturn(validUntil(NOW.plusSeconds(300)));
+
+        // When
+        provider.validateTokenWithContext(TOKEN, context);
+        provider.validateTokenWithContext(TOKEN, context);
+
+        // Then
+        verify(delegate, times(2)).validateTokenWithContext(TOKEN, context);
+        assertThat(provider.estimatedSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("비동기 제공자를 감싸면 비동기 검증 결과도 캐싱한다")
+    void shouldCacheAsyncValidation() {
+        // Given
+        TokenProvider asyncDelegate = mock(TokenProvider.class, withSettings().extraInterfaces(AsyncTokenProvider.class));
+        TokenValidationResult valid = validUntil(Instant.now().plusSeconds(300));
+        when(((AsyncTokenProvider) asyncDelegate).validateTokenAsync(TOKEN))
+            .thenReturn(CompletableFuture.completedFuture(valid));
+
+        // When
+        CachingTokenProvider decorated = CachingTokenProvider.decorate(asyncDelegate, 100, Duration.ofMinutes(15), false);
+        AsyncTokenProvider async = (AsyncTokenProvider) decorated;
+        CompletableFuture<TokenValidationResult> first = async.validateTokenAsync(TOKEN);
+        CompletableFuture<TokenValidationResult> second = async.validateTokenAsync(TOKEN);
+
+        // Then
+        assertThat(decorated).isInstanceOf(AsyncCachingTokenProvider.class);
+        assertThat(first).isCompletedWithValue(valid);
+        assertThat(second).isCompletedWithValue(valid);
+        assertThat(decorated.validateToken(TOKEN)).isSameAs(valid);
+        verify((AsyncTokenProvider) asyncDelegate, times(1)).validateTokenAsync(TOKEN);
+        verify(asyncDelegate, times(0)).validateToken(anyString());
+    }
+
+    @Test
+    @DisplayName("동기 제공자를 감싸면 비동기 인터페이스를 노출하지 않는다")
+    void shouldNotExposeAsyncForSyncDelegate() {
+        assertThat(CachingTokenProvider.decorate(delegate, 100, Duration.ofMinutes(1), false))
+            .isNotInstanceOf(AsyncTokenProvider.class);
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 폐기는 그대로 위임한다")
+    void shouldDelegateRefreshTokenRevocation() {
+        // When
+        provider.revokeRefreshToken("refresh.token");
+
+        // Then
+        verify(delegate).revokeRefreshToken("refresh.token");
+    }
+
+    @Test
+    @DisplayName("delegate가 null이면 예외가 발생한다")
+    void shouldRejectNullDelegate() {
+        assertThatThrownBy(() -> new CachingTokenProvider(null, 100, Duration.ofMinutes(1), false))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("cannot be null");
+    }
+
+    @Test
+    @DisplayName("close 중 인터럽트되면 예외 없이 인터럽트 상태를 복원한다")
+    void shouldRestoreInterruptFlagWhenDelegateCloseIsInterrupted() throws Exception {
+        // Given
+        TokenProvider closeableDelegate = mock(TokenProvider.class, withSettings().extraInterfaces(AutoCloseable.class));
+        doThrow(new InterruptedException()).when((AutoCloseable) closeableDelegate).close();
+        CachingTokenProvider closing = new CachingTokenProvider(closeableDelegate, 100, Duration.ofMinutes(1), false);
+
+        try {
+            // When
+            closing.close();
+
+            // Then
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    private TokenValidationResult validUntil(Instant expiresAt) {
+        return TokenValidationResult.valid("user-1", "testuser", Set.of("ROLE_USER"), expiresAt);
+    }
+
+    private String unsignedJwt(long exp) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String header = encoder.encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8));
+        String payload = encoder.encodeToString(("{\"exp\":" + exp + "}").getBytes(StandardCharsets.UTF_8));
+        return header + "." + payload + ".";
+    }
+}
@@ -0,0 +1,265 @@
+package com.ldx.hexacore.security.auth.adapter.outbound.token.cache;
+
+import com.ldx.hexacore.security.auth.application.command.port.out.AsyncTokenProvider;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenProvider;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenProviderException;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenProviderType;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenValidationContext;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenValidationResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+@DisplayName("CoalescingTokenProvider 테스트")
+class CoalescingTokenProviderTest {
+
+    private static final String TOKEN = "header.payload.signature";
+    private static final int CALLERS = 8;
+
+    private TokenProvider delegate;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(TokenProvider.class);
+        when(delegate.getProviderType()).thenReturn(TokenProviderType.KEYCLOAK);
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("같은 토큰의 동시 검증은 제공자를 한 번만 호출하고 결과를 공유한다")
+    void shouldShareInFlightResult() throws Exception {
+        // Given
+        TokenValidationResult valid = valid();
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        when(delegate.validateToken(TOKEN)).thenAnswer(invocation -> {
+            calls.incrementAndGet();
+            release.await(5, TimeUnit.SECONDS);
+            return valid;
+        });
+        CoalescingTokenProvider provider = new CoalescingTokenProvider(delegate, Duration.ofSeconds(5));
+
+        // When
+        List<Future<TokenValidationResult>> results = submitAll(() -> provider.validateToken(TOKEN));
+        awaitInFlight(provider, calls);
+        release.countDown();
+
+        // Then
+        for (Future<TokenValidationResult> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(valid);
+        }
+        assertThat(calls).hasValue(1);
+        assertThat(provider.getLeaderCount()).isEqualTo(1);
+        assertThat(provider.getCoalescedCount()).isEqualTo(CALLERS - 1);
+        assertThat(provider.getInFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("먼저 시작한 검증이 실패하면 대기하던 요청도 같은 예외를 받는다")
+    void shouldShareFailure() throws Exception {
+        // Given
+        TokenProviderException failure = TokenProviderException.providerUnavailable("KEYCLOAK", null);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        when(delegate.validateToken(TOKEN)).thenAnswer(invocation -> {
+            calls.incrementAndGet();
+            release.await(5, TimeUnit.SECONDS);
+            throw failure;
+        });
+        CoalescingTokenProvider provider = new CoalescingTokenProvider(delegate, Duration.ofSeconds(5));
+
+        // When
+        List<Future<TokenValidationResult>> results = submitAll(() -> provider.validateToken(TOKEN));
+        awaitInFlight(provider, calls);
+        release.countDown();
+
+        // Then
+        for (Future<TokenValidationResult> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS)).hasCause(failure);
+        }
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("대기 시간을 초과하면 대기하던 요청이 직접 검증한다")
+    void shouldValidateDirectlyAfterWaitTimeout() throws Exception {
+        // Given
+        TokenValidationResult valid = valid();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        when(delegate.validateToken(TOKEN)).thenAnswer(invocation -> {
+            if (calls.incrementAndGet() == 1) {
+                started.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return valid;
+        });
+        CoalescingTokenProvider provider = new CoalescingTokenProvider(delegate, Duration.ofMillis(50));
+        Future<TokenValidationResult> slow = executor.submit(() -> provider.validateToken(TOKEN));
+        started.await(5, TimeUnit.SECONDS);
+
+        // When
+        TokenValidationResult result = provider.validateToken(TOKEN);
+        release.countDown();
+
+        // Then
+        assertThat(result).isSameAs(valid);
+        assertThat(slow.get(5, TimeUnit.SECONDS)).isSameAs(valid);
+        assertThat(calls).hasValue(2);
+        assertThat(provider.getTimeoutCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("리소스 권한 체크가 필요한 컨텍스트 검증은 합치지 않는다")
+    void shouldBypassResourcePermissionCheck() {
+        // Given
+        TokenValidationContext context = TokenValidationContext.builder()
+            .requestUri("/api/orders")
+            .httpMethod("GET")
+            .checkResourcePermission(true)
+            .build();
+        when(delegate.validateTokenWithContext(TOKEN, context)).thenReturn(valid());
+        CoalescingTokenProvider provider = new CoalescingTokenProvider(delegate, Duration.ofSeconds(5));
+
+        // When
+        provider.validateTokenWithContext(TOKEN, context);
+        provider.validateTokenWithContext(TOKEN, context);
+
+        // Then
+        verify(delegate, times(2)).validateTokenWithContext(TOKEN, context);
+        assertThat(provider.getLeaderCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("완료된 결과는 보관하지 않는다")
+    void shouldNotKeepCompletedResult() {
+        // Given
+        when(delegate.validateToken(anyString())).thenReturn(valid());
+        CoalescingTokenProvider provider = new CoalescingTokenProvider(delegate, Duration.ofSeconds(5));
+
+        // When
+        provider.validateToken(TOKEN);
+        provider.validateToken(TOKEN);
+
+        // Then
+        verify(delegate, times(2)).validateToken(TOKEN);
+        assertThat(provider.getCoalescedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 폐기는 그대로 위임한다")
+    void shouldDelegateRefreshTokenRevocation() {
+        // Given
+        CoalescingTokenProvider provider = new CoalescingTokenProvider(delegate, Duration.ofSeconds(5));
+
+        // When
+        provider.revokeRefreshToken("refresh.token");
+
+        // Then
+        verify(delegate).revokeRefreshToken("refresh.token");
+    }
+
+    @Test
+    @DisplayName("비동기 제공자를 감싸면 진행 중인 비동기 검증을 스레드 대기 없이 공유한다")
+    void shouldShareInFlightAsyncResult() throws Exception {
+        // Given
+        TokenProvider asyncDelegate = mock(TokenProvider.class, withSettings().extraInterfaces(AsyncTokenProvider.class));
+        CompletableFuture<TokenValidationResult> remote = new CompletableFuture<>();
+        when(((AsyncTokenProvider) asyncDelegate).validateTokenAsync(TOKEN)).thenReturn(remote);
+        CoalescingTokenProvider decorated = CoalescingTokenProvider.decorate(asyncDelegate, Duration.ofSeconds(5));
+        AsyncTokenProvider async = (AsyncTokenProvider) decorated;
+
+        // When
+        CompletableFuture<TokenValidationResult> first = async.validateTokenAsync(TOKEN);
+        CompletableFuture<TokenValidationResult> second = async.validateTokenAsync(TOKEN);
+        assertThat(second).isNotDone();
+        TokenValidationResult valid = valid();
+        remote.complete(valid);
+
+        // Then
+        assertThat(decorated).isInstanceOf(AsyncCoalescingTokenProvider.class);
+        assertThat(first.get(5, TimeUnit.SECONDS)).isSameAs(valid);
+        assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(valid);
+        verify((AsyncTokenProvider) asyncDelegate, times(1)).validateTokenAsync(TOKEN);
+        assertThat(decorated.getCoalescedCount()).isEqualTo(1);
+        assertThat(decorated.getInFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("비동기 대기 시간을 초과하면 대기하던 요청이 직접 검증한다")
+    void shouldValidateAsyncDirectlyAfterWaitTimeout() throws Exception {
+        // Given
+        TokenProvider asyncDelegate = mock(TokenProvider.class, withSettings().extraInterfaces(AsyncTokenProvider.class));
+        TokenValidationResult valid = valid();
+        CompletableFuture<TokenValidationResult> slow = new CompletableFuture<>();
+        when(((AsyncTokenProvider) asyncDelegate).validateTokenAsync(TOKEN))
+            .thenReturn(slow, CompletableFuture.completedFuture(valid));
+        CoalescingTokenProvider decorated = CoalescingTokenProvider.decorate(asyncDelegate, Duration.ofMillis(50));
+        AsyncTokenProvider async = (AsyncTokenProvider) decorated;
+        CompletableFuture<TokenValidationResult> leader = async.validateTokenAsync(TOKEN);
+
+        // When
+        TokenValidationResult result = async.validateTokenAsync(TOKEN).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(result).isSameAs(valid);
+        assertThat(leader).isNotDone();
+        assertThat(decorated.getTimeoutCount()).isEqualTo(1);
+        slow.complete(valid);
+        assertThat(decorated.getInFlightCount()).isZero();
+    }
+
+    private List<Future<TokenValidationResult>> submitAll(Callable<TokenValidationResult> task) {
+        List<Future<TokenValidationResult>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(task));
+        }
+        return results;
+    }
+
+    /**
+     * 첫 호출이 제공자에 진입할 때까지 기다린 뒤 나머지 요청이 대기에 들어갈 시간을 줍니다.
+     */
+    private static void awaitInFlight(CoalescingTokenProvider provider, AtomicInteger calls) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while ((calls.get() == 0 || provider.getInFlightCount() == 0) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(200);
+    }
+
+    private static TokenValidationResult valid() {
+        return new TokenValidationResult(true, "user-1", "alice", Set.of("ROLE_USER"), null, Collections.emptyMap());
+    }
+}
@@ -0,0 +1,211 @@
+package com.ldx.hexacore.security.auth.adapter.outbound.token.jwt;
+
+import com.ldx.hexacore.security.auth.adapter.outbound.token.MutableClock;
+import com.ldx.hexacore.security.auth.adapter.outbound.token.jwt.RefreshTokenFamilyStore.Rotation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("InMemoryRefreshTokenFamilyStore 테스트")
+class InMemoryRefreshTokenFamilyStoreTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+    private final InMemoryRefreshTokenFamilyStore store =
+        new InMemoryRefreshTokenFamilyStore(Duration.ofMinutes(1), Duration.ofSeconds(5), clock);
+
+    @Test
+    @DisplayName("마지막 세대를 제시하면 다음 세대로 회전한다")
+    void shouldRotateLatestGeneration() {
+        // Given
+        long expiresAt = epochSecondAfter(Duration.ofHours(1));
+        store.register(42L, 0, expiresAt);
+
+        // When & Then
+        assertThat(store.rotate(42L, 0, expiresAt)).isEqualTo(Rotation.ROTATED);
+        assertThat(store.rotate(42L, 1, expiresAt)).isEqualTo(Rotation.ROTATED);
+        assertThat(store.rotate(42L, 2, expiresAt)).isEqualTo(Rotation.ROTATED);
+    }
+
+    @Test
+    @DisplayName("이전 세대를 제시하면 family를 폐기하고 이후 모든 세대를 거부한다")
+    void shouldRevokeFamilyOnReuse() {
+        // Given
+        long expiresAt = epochSecondAfter(Duration.ofHours(1));
+        store.register(42L, 0, expiresAt);
+        store.register(43L, 0, expiresAt);
+        store.rotate(42L, 0, expiresAt);
+        clock.advance(Duration.ofSeconds(5));
+
+        // When
+        Rotation reuse = store.rotate(42L, 0, expiresAt);
+
+        // Then
+        assertThat(reuse).isEqualTo(Rotation.REUSE_DETECTED);
+        assertThat(store.rotate(42L, 1, expiresAt)).isEqualTo(Rotation.REVOKED);
+        assertThat(store.register(42L, 0, expiresAt)).isFalse();
+        assertThat(store.rotate(43L, 0, expiresAt)).isEqualTo(Rotation.ROTATED);
+    }
+
+    @Test
+    @DisplayName("revoke한 family는 회전할 수 없다")
+    void shouldRejectRevokedFamily() {
+        // Given
+        long expiresAt = epochSecondAfter(Duration.ofHours(1));
+        store.register(42L, 3, expiresAt);
+
+        // When
+        store.revoke(42L);
+
+        // Then
+        assertThat(store.rotate(42L, 3, expiresAt)).isEqualTo(Rotation.REVOKED);
+    }
+
+    @Test
+    @DisplayName("이미 있는 family는 다시 등록하지 않고, 없는 family는 UNKNOWN이다")
+    void shouldNotOverwriteExistingFamily() {
+        // Given
+        long expiresAt = epochSecondAfter(Duration.ofHours(1));
+
+        // When & Then
+        assertThat(store.rotate(42L, 0, expiresAt)).isEqualTo(Rotation.UNKNOWN);
+        assertThat(store.register(42L, 5, expiresAt)).isTrue();
+        assertThat(store.register(42L, 0, expiresAt)).isFalse();
+        assertThat(store.rotate(42L, 3, expiresAt)).isEqualTo(Rotation.REUSE_DETECTED);
+    }
+
+    @Test
+    @DisplayName("회전 직후 유예 시간 안에 제시된 직전 세대는 재사용으로 보지 않는다")
+    void shouldAllowPreviousGenerationWithinReuseGrace() {
+        // Given
+        long expiresAt = epochSecondAfter(Duration.ofHours(1));
+        store.register(42L, 0, expiresAt);
+        store.rotate(42L, 0, expiresAt);
+
+        // When
+        clock.advance(Duration.ofSeconds(4));
+        Rotation retry = store.rotate(42L, 0, expiresAt);
+
+        // Then
+        assertThat(retry).isEqualTo(Rotation.GRACE);
+        assertThat(store.rotate(42L, 0, expiresAt)).isEqualTo(Rotation.GRACE);
+        // 두 세대 이전 토큰은 유예하지 않음
+        store.rotate(42L, 1, expiresAt);
+        assertThat(store.rotate(42L, 0, expiresAt)).isEqualTo(Rotation.REUSE_DETECTED);
+    }
+
+    @Test
+    @DisplayName("유예 시간이 지나면 직전 세대도 재사용으로 감지한다")
+    void shouldDetectReuseOfPreviousGenerationAfterReuseGrace() {
+        // Given
+        long expiresAt = epochSecondAfter(Duration.ofHours(1));
+        store.register(42L, 0, expiresAt);
+        store.rotate(42L, 0, expiresAt);
+        assertThat(store.rotate(42L, 0, expiresAt)).isEqualTo(Rotation.GRACE);
+
+        // When
+        clock.advance(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(store.rotate(42L, 0, expiresAt)).isEqualTo(Rotation.REUSE_DETECTED);
+        assertThat(store.rotate(42L, 1, expiresAt)).isEqualTo(Rotation.REVOKED);
+    }
+
+    @Test
+    @DisplayName("유예 시간이 0이면 직전 세대도 바로 재사용으로 감지한다")
+    void shouldDetectReuseImmediatelyWithoutReuseGrace() {
+        // Given
+        InMemoryRefreshTokenFamilyStore strictStore =
+            new InMemoryRefreshTokenFamilyStore(Duration.ofMinutes(1), Duration.ZERO, clock);
+        long expiresAt = epochSecondAfter(Duration.ofHours(1));
+        strictStore.register(42L, 0, expiresAt);
+        strictStore.rotate(42L, 0, expiresAt);
+
+        // When & Then
+        assertThat(strictStore.rotate(42L, 0, expiresAt)).isEqualTo(Rotation.REUSE_DETECTED);
+    }
+
+    @Test
+    @DisplayName("만료된 family는 버킷이 지나면 정리된다")
+    void shouldSweepExpiredFamilies() {
+        // Given
+        long shortLived = epochSecondAfter(Duration.ofMinutes(10));
+        long longLived = epochSecondAfter(Duration.ofHours(2));
+        for (long id = 1; id <= 100; id++) {
+            store.register(id, 0, shortLived);
+        }
+        store.register(1_000L, 0, longLived);
+        // 회전하면서 만료 시각이 연장된 family는 유지
+        store.rotate(1L, 0, longLived);
+
+        // When
+        clock.advance(Duration.ofMinutes(12));
+        store.register(2_000L, 0, epochSecondAfter(Duration.ofHours(1)));
+
+        // Then
+        assertThat(store.size()).isEqualTo(3);
+        assertThat(store.rotate(2L, 0, longLived)).isEqualTo(Rotation.UNKNOWN);
+        assertThat(store.rotate(1L, 1, longLived)).isEqualTo(Rotation.ROTATED);
+        assertThat(store.rotate(1_000L, 0, longLived)).isEqualTo(Rotation.ROTATED);
+    }
+
+    @Test
+    @DisplayName("만료된 family는 정리 전이라도 다시 등록할 수 있다")
+    void shouldTreatExpiredFamilyAsUnknown() {
+        // Given
+        store.register(42L, 0, epochSecondAfter(Duration.ofSeconds(30)));
+        store.revoke(42L);
+
+        // When
+        clock.advance(Duration.ofMinutes(2));
+
+        // Then
+        assertThat(store.register(42L, 0, epochSecondAfter(Duration.ofHours(1)))).isTrue();
+        assertThat(store.rotate(42L, 0, epochSecondAfter(Duration.ofHours(1)))).isEqualTo(Rotation.ROTATED);
+    }
+
+    @Test
+    @DisplayName("많은 family를 등록하고 일부가 정리되어도 나머지를 정확히 찾는다")
+    void shouldKeepLookupsCorrectAcrossResizeAndRemoval() {
+        // Given
+        long shortLived = epochSecondAfter(Duration.ofMinutes(5));
+        long longLived = epochSecondAfter(Duration.ofHours(1));
+        for (long id = 1; id <= 20_000; id++) {
+            store.register(id * 0x9E37_79B9L, (int) (id % 7), id % 3 == 0 ? shortLived : longLived);
+        }
+
+        // When
+        clock.advance(Duration.ofMinutes(6));
+        store.register(-1L, 0, longLived);
+
+        // Then
+        assertThat(store.size()).isEqualTo(20_000 - 20_000 / 3 + 1);
+        for (long id = 1; id <= 20_000; id++) {
+            Rotation rotation = store.rotate(id * 0x9E37_79B9L, (int) (id % 7), longLived);
+            assertThat(rotation).isEqualTo(id % 3 == 0 ? Rotation.UNKNOWN : Rotation.ROTATED);
+        }
+    }
+
+    @Test
+    @DisplayName("유예 시간은 음수일 수 없다")
+    void shouldRejectNegativeReuseGrace() {
+        assertThatThrownBy(() -> new InMemoryRefreshTokenFamilyStore(Duration.ofMinutes(1), Duration.ofSeconds(-1), clock))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("family ID 0은 허용하지 않는다")
+    void shouldRejectZeroFamilyId() {
+        assertThatThrownBy(() -> store.register(0L, 0, epochSecondAfter(Duration.ofHours(1))))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private long epochSecondAfter(Duration duration) {
+        return clock.instant().plus(duration).getEpochSecond();
+    }
+
+}
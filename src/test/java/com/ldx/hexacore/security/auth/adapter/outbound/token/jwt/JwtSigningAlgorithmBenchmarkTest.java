@@ -0,0 +1,81 @@
+package com.ldx.hexacore.security.auth.adapter.outbound.token.jwt;
+
+import com.ldx.hexacore.security.auth.domain.vo.Credentials;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwks;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 서명 알고리즘별 액세스 토큰 검증 처리량 비교
+ *
+ * <p>{@code ./gradlew benchmark} 로 실행합니다.</p>
+ */
+@Tag("benchmark")
+@DisplayName("JWT 서명 알고리즘별 검증 벤치마크")
+class JwtSigningAlgorithmBenchmarkTest {
+
+    private static final String SECRET = "this-is-a-test-secret-key-for-jwt-signing-minimum-256-bits-long";
+    private static final int WARMUP_ITERATIONS = 5_000;
+    private static final int MEASURED_ITERATIONS = 20_000;
+
+    @Test
+    @DisplayName("HS256, RS256, ES256, EdDSA 검증 처리량을 측정한다")
+    void compareVerifyThroughput() {
+        // Given
+        Map<String, SpringJwtTokenProvider> providers = new LinkedHashMap<>();
+        providers.put("HS256", hmacProvider());
+        providers.put("RS256", asymmetricProvider("RS256", Jwts.SIG.RS256.keyPair().build()));
+        providers.put("ES256", asymmetricProvider("ES256", Jwts.SIG.ES256.keyPair().build()));
+        providers.put("EdDSA", asymmetricProvider("EdDSA", Jwks.CRV.Ed25519.keyPair().build()));
+
+        providers.forEach((algorithm, provider) -> {
+            String token = provider.issueToken(Credentials.of("benchmarkuser", "password123")).getAccessToken();
+
+            // When
+            for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+                provider.validateToken(token);
+            }
+            long startNanos = System.nanoTime();
+            for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+                provider.validateToken(token);
+            }
+            long nanosPerOp = (System.nanoTime() - startNanos) / MEASURED_ITERATIONS;
+
+            System.out.printf("[benchmark] %-5s verify : %,8d ns/op, %,10d ops/s%n",
+                algorithm, nanosPerOp, 1_000_000_000L / Math.max(nanosPerOp, 1));
+
+            // Then
+            assertThat(provider.validateToken(token).valid()).isTrue();
+        });
+    }
+
+    private SpringJwtTokenProvider hmacProvider() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        return new SpringJwtTokenProvider(properties);
+    }
+
+    private SpringJwtTokenProvider asymmetricProvider(String algorithm, KeyPair keyPair) {
+        JwtProperties properties = new JwtProperties();
+        properties.setAlgorithm(algorithm);
+        properties.setKeyId("bench-1");
+        properties.setPrivateKey(pem("PRIVATE KEY", keyPair.getPrivate().getEncoded()));
+        properties.getPublicKeys().put("bench-1", pem("PUBLIC KEY", keyPair.getPublic().getEncoded()));
+        return new SpringJwtTokenProvider(properties);
+    }
+
+    private String pem(String type, byte[] der) {
+        return "-----BEGIN " + type + "-----\n"
+            + Base64.getMimeEncoder(64, "\n".getBytes()).encodeToString(der)
+            + "\n-----END " + type + "-----";
+    }
+}
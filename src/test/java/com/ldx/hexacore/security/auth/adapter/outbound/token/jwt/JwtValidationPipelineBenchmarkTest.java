@@ -0,0 +1,86 @@
+package com.ldx.hexacore.security.auth.adapter.outbound.token.jwt;
+
+import com.ldx.hexacore.security.auth.domain.vo.Credentials;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.SecretKey;
+import java.lang.management.ManagementFactory;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청마다 파서를 생성하던 기존 방식과 사전 구성된 검증 파이프라인의 호출당 할당량 비교
+ *
+ * <p>{@code ./gradlew benchmark} 로 실행합니다.</p>
+ */
+@Tag("benchmark")
+@DisplayName("JWT 검증 파이프라인 벤치마크")
+class JwtValidationPipelineBenchmarkTest {
+
+    private static final String SECRET = "this-is-a-test-secret-key-for-jwt-signing-minimum-256-bits-long";
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int MEASURED_ITERATIONS = 50_000;
+
+    @Test
+    @DisplayName("사전 구성된 파서는 요청별 파서 생성보다 호출당 할당량이 적다")
+    void prebuiltParserAllocatesLessPerCall() {
+        // Given
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        String token = new SpringJwtTokenProvider(properties)
+            .issueToken(Credentials.of("benchmarkuser", "password123"))
+            .getAccessToken();
+
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        JwtValidationPipeline pipeline = new JwtValidationPipeline(
+            JwtKeyring.from(properties), properties.getIssuer(), "hexacore-app", "type", "refresh");
+
+        Function<String, Claims> perCallParser = t -> Jwts.parser()
+            .verifyWith(key)
+            .build()
+            .parseSignedClaims(t)
+            .getPayload();
+        Function<String, Claims> prebuiltParser = pipeline::parse;
+
+        // When
+        Measurement legacy = measure(perCallParser, token);
+        Measurement prebuilt = measure(prebuiltParser, token);
+
+        System.out.printf("[benchmark] per-call parser : %,8d bytes/op, %,8d ns/op%n",
+            legacy.bytesPerOp(), legacy.nanosPerOp());
+        System.out.printf("[benchmark] prebuilt parser : %,8d bytes/op, %,8d ns/op%n",
+            prebuilt.bytesPerOp(), prebuilt.nanosPerOp());
+
+        // Then
+        assertThat(prebuilt.bytesPerOp()).isLessThan(legacy.bytesPerOp());
+    }
+
+    private Measurement measure(Function<String, Claims> parser, String token) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            parser.apply(token);
+        }
+
+        com.sun.management.ThreadMXBean threadBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            parser.apply(token);
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        return new Measurement(allocated / MEASURED_ITERATIONS, elapsedNanos / MEASURED_ITERATIONS);
+    }
+
+    private record Measurement(long bytesPerOp, long nanosPerOp) {
+    }
+}
@@ -1,12 +1,15 @@
 package com.ldx.hexacore.security.auth.adapter.outbound.token.jwt;
 
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenProviderErrorCode;
 import com.ldx.hexacore.security.auth.application.command.port.out.TokenProviderException;
 import com.ldx.hexacore.security.auth.application.command.port.out.TokenProviderType;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenValidationErrorCode;
 import com.ldx.hexacore.security.auth.application.command.port.out.TokenValidationResult;
 import com.ldx.hexacore.security.auth.domain.vo.Credentials;
 import com.ldx.hexacore.security.auth.domain.vo.Token;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwks;
 import io.jsonwebtoken.security.Keys;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,9 +17,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import javax.crypto.SecretKey;
+import java.security.KeyPair;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -128,6 +136,32 @@ class SpringJwtTokenProviderTest {
             .isInstanceOf(TokenProviderException.class);
     }
 
+    @Test
+    void shouldReportFailureReasonsWithoutThrowing() {
+        Token token = tokenProvider.issueToken(Credentials.of("testuser", "password123"));
+        
+        assertThat(tokenProvider.verifyToken("").errorCode()).isEqualTo(TokenValidationErrorCode.EMPTY_TOKEN);
+        assertThat(tokenProvider.verifyToken("invalid-token-format").errorCode())
+            .isEqualTo(TokenValidationErrorCode.MALFORMED);
+        assertThat(tokenProvider.verifyToken(createExpiredToken()).errorCode())
+            .isEqualTo(TokenValidationErrorCode.EXPIRED);
+        assertThat(tokenProvider.verifyToken(token.getAccessToken() + "tampered").errorCode())
+            .isEqualTo(TokenValidationErrorCode.INVALID_SIGNATURE);
+        assertThat(tokenProvider.verifyToken(createTokenWithWrongIssuer()).errorCode())
+            .isEqualTo(TokenValidationErrorCode.INVALID_CLAIMS);
+        assertThat(tokenProvider.verifyToken(token.getAccessToken()).valid()).isTrue();
+    }
+
+    @Test
+    void shouldThrowStacklessExceptionForInvalidToken() {
+        assertThatThrownBy(() -> tokenProvider.validateToken(createExpiredToken()))
+            .isInstanceOf(TokenProviderException.class)
+            .satisfies(e -> {
+                assertThat(((TokenProviderException) e).getErrorCode()).isEqualTo(TokenProviderErrorCode.TOKEN_EXPIRED);
+                assertThat(e.getStackTrace()).isEmpty();
+            });
+    }
+
     @Test
     void shouldFailValidationForWrongIssuerToken() {
         String wrongIssuerToken = createTokenWithWrongIssuer();
@@ -136,6 +170,32 @@ class SpringJwtTokenProviderTest {
             .isInstanceOf(TokenProviderException.class);
     }
 
+    @Test
+    void shouldFailValidationForRefreshTokenUsedAsAccessToken() {
+        Credentials credentials = Credentials.of("testuser", "password123");
+        Token token = tokenProvider.issueToken(credentials);
+        
+        assertThatThrownBy(() -> tokenProvider.validateToken(token.getRefreshToken()))
+            .isInstanceOf(TokenProviderException.class)
+            .hasMessageContaining("Invalid token audience");
+    }
+
+    @Test
+    void shouldFailValidationForTokenWithoutAudience() {
+        SecretKey key = Keys.hmacShaKeyFor(testSecret.getBytes());
+        String noAudienceToken = Jwts.builder()
+            .issuer("security-starter")
+            .subject("testuser")
+            .expiration(Date.from(Instant.now().plus(1, ChronoUnit.HOURS)))
+            .claim("username", "testuser")
+            .signWith(key)
+            .compact();
+        
+        assertThatThrownBy(() -> tokenProvider.validateToken(noAudienceToken))
+            .isInstanceOf(TokenProviderException.class)
+            .hasMessageContaining("Invalid token audience");
+    }
+
     @Test
     void shouldRefreshTokenSuccessfully() {
         Credentials credentials = Credentials.of("testuser", "password123");
@@ -150,6 +210,143 @@ class SpringJwtTokenProviderTest {
         assertThat(refreshedToken.getRefreshToken()).isNotEqualTo(originalToken.getRefreshToken());
     }
 
+    @Test
+    void shouldRotateRefreshTokenWithinFamily() {
+        SpringJwtTokenProvider rotatingProvider =
+            new SpringJwtTokenProvider(jwtProperties, new InMemoryRefreshTokenFamilyStore());
+        Token issued = rotatingProvider.issueToken(Credentials.of("testuser", "password123"));
+
+        Token first = rotatingProvider.refreshToken(issued.getRefreshToken());
+        Token second = rotatingProvider.refreshToken(first.getRefreshToken());
+
+        Claims issuedClaims = parseClaims(issued.getRefreshToken());
+        Claims secondClaims = parseClaims(second.getRefreshToken());
+        assertThat(secondClaims.get("fam", String.class)).isEqualTo(issuedClaims.get("fam", String.class));
+        assertThat(issuedClaims.get("gen", Integer.class)).isZero();
+        assertThat(secondClaims.get("gen", Integer.class)).isEqualTo(2);
+        assertThat(rotatingProvider.validateToken(second.getAccessToken()).valid()).isTrue();
+    }
+
+    @Test
+    void shouldRevokeFamilyWhenRotatedRefreshTokenIsReused() {
+        SpringJwtTokenProvider rotatingProvider =
+            new SpringJwtTokenProvider(jwtProperties, familyStoreWithoutReuseGrace());
+        Token issued = rotatingProvider.issueToken(Credentials.of("testuser", "password123"));
+        Token rotated = rotatingProvider.refreshToken(issued.getRefreshToken());
+
+        // 이미 회전된 토큰 재사용 → family 폐기
+        assertThatThrownBy(() -> rotatingProvider.refreshToken(issued.getRefreshToken()))
+            .isInstanceOf(TokenProviderException.class)
+            .hasRootCauseMessage("Refresh token reuse detected; token family revoked");
+        // 최신 토큰도 더 이상 사용할 수 없음
+        assertThatThrownBy(() -> rotatingProvider.refreshToken(rotated.getRefreshToken()))
+            .isInstanceOf(TokenProviderException.class)
+            .extracting(e -> ((TokenProviderException) e).getErrorCode())
+            .isEqualTo(TokenProviderErrorCode.TOKEN_REFRESH_FAILED);
+        // 다른 로그인의 family는 영향 없음
+        Token other = rotatingProvider.issueToken(Credentials.of("testuser", "password123"));
+        assertThat(rotatingProvider.refreshToken(other.getRefreshToken())).isNotNull();
+    }
+
+    @Test
+    void shouldReissueSameGenerationWhenRotatedRefreshTokenArrivesWithinReuseGrace() {
+        SpringJwtTokenProvider rotatingProvider =
+            new SpringJwtTokenProvider(jwtProperties, new InMemoryRefreshTokenFamilyStore());
+        Token issued = rotatingProvider.issueToken(Credentials.of("testuser", "password123"));
+        // 첫 갱신이 완료된 뒤 다른 탭이 같은 (이미 회전된) 리프레시 토큰으로 갱신
+        Token first = rotatingProvider.refreshToken(issued.getRefreshToken());
+
+        Token late = rotatingProvider.refreshToken(issued.getRefreshToken());
+
+        Claims firstClaims = parseClaims(first.getRefreshToken());
+        Claims lateClaims = parseClaims(late.getRefreshToken());
+        assertThat(lateClaims.get("fam", String.class)).isEqualTo(firstClaims.get("fam", String.class));
+        assertThat(lateClaims.get("gen", Integer.class)).isEqualTo(firstClaims.get("gen", Integer.class));
+        assertThat(rotatingProvider.validateToken(late.getAccessToken()).valid()).isTrue();
+        // family는 폐기되지 않았으므로 어느 쪽 토큰으로도 이어서 회전 가능
+        Token next = rotatingProvider.refreshToken(first.getRefreshToken());
+        assertThat(parseClaims(next.getRefreshToken()).get("gen", Integer.class)).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRejectRefreshTokenUnknownToFamilyStore() {
+        // 회전 없이 발급된 토큰과 저장소가 잃어버린 family의 토큰은 재사용 여부를 알 수 없으므로 거부
+        Token legacy = tokenProvider.issueToken(Credentials.of("testuser", "password123"));
+        SpringJwtTokenProvider rotatingProvider =
+            new SpringJwtTokenProvider(jwtProperties, new InMemoryRefreshTokenFamilyStore());
+        assertThatThrownBy(() -> rotatingProvider.refreshToken(legacy.getRefreshToken()))
+            .isInstanceOf(TokenProviderException.class)
+            .hasRootCauseMessage("Unknown refresh token family; login required");
+
+        Token issued = rotatingProvider.issueToken(Credentials.of("testuser", "password123"));
+        SpringJwtTokenProvider restartedProvider =
+            new SpringJwtTokenProvider(jwtProperties, new InMemoryRefreshTokenFamilyStore());
+        assertThatThrownBy(() -> restartedProvider.refreshToken(issued.getRefreshToken()))
+            .isInstanceOf(TokenProviderException.class)
+            .hasRootCauseMessage("Unknown refresh token family; login required");
+    }
+
+    @Test
+    void shouldAdoptRefreshTokenUnknownToFamilyStoreWhenEnabled() {
+        jwtProperties.setAdoptUnknownRefreshTokenFamilies(true);
+        Token legacy = tokenProvider.issueToken(Credentials.of("testuser", "password123"));
+        SpringJwtTokenProvider rotatingProvider =
+            new SpringJwtTokenProvider(jwtProperties, new InMemoryRefreshTokenFamilyStore());
+        Token adopted = rotatingProvider.refreshToken(legacy.getRefreshToken());
+        assertThat(parseClaims(adopted.getRefreshToken()).get("gen", Integer.class)).isZero();
+
+        SpringJwtTokenProvider restartedProvider =
+            new SpringJwtTokenProvider(jwtProperties, familyStoreWithoutReuseGrace());
+        Token afterRestart = restartedProvider.refreshToken(adopted.getRefreshToken());
+        assertThat(parseClaims(afterRestart.getRefreshToken()).get("gen", Integer.class)).isEqualTo(1);
+        assertThatThrownBy(() -> restartedProvider.refreshToken(adopted.getRefreshToken()))
+            .isInstanceOf(TokenProviderException.class);
+    }
+
+    @Test
+    void shouldRevokeFamilyOnLogout() {
+        SpringJwtTokenProvider rotatingProvider =
+            new SpringJwtTokenProvider(jwtProperties, new InMemoryRefreshTokenFamilyStore());
+        Token issued = rotatingProvider.issueToken(Credentials.of("testuser", "password123"));
+        Token rotated = rotatingProvider.refreshToken(issued.getRefreshToken());
+        Token other = rotatingProvider.issueToken(Credentials.of("testuser", "password123"));
+
+        rotatingProvider.revokeRefreshToken(rotated.getRefreshToken());
+
+        assertThatThrownBy(() -> rotatingProvider.refreshToken(rotated.getRefreshToken()))
+            .isInstanceOf(TokenProviderException.class)
+            .hasRootCauseMessage("Refresh token family has been revoked");
+        // 다른 로그인의 family는 영향 없음
+        assertThat(rotatingProvider.refreshToken(other.getRefreshToken())).isNotNull();
+    }
+
+    @Test
+    void shouldRejectRevocationOfInvalidRefreshToken() {
+        SpringJwtTokenProvider rotatingProvider =
+            new SpringJwtTokenProvider(jwtProperties, new InMemoryRefreshTokenFamilyStore());
+        Token issued = rotatingProvider.issueToken(Credentials.of("testuser", "password123"));
+
+        assertThatThrownBy(() -> rotatingProvider.revokeRefreshToken(issued.getRefreshToken() + "tampered"))
+            .isInstanceOf(TokenProviderException.class)
+            .extracting(e -> ((TokenProviderException) e).getErrorCode())
+            .isEqualTo(TokenProviderErrorCode.TOKEN_VALIDATION_FAILED);
+        assertThatThrownBy(() -> rotatingProvider.revokeRefreshToken(issued.getAccessToken()))
+            .isInstanceOf(TokenProviderException.class);
+        assertThat(rotatingProvider.refreshToken(issued.getRefreshToken())).isNotNull();
+    }
+
+    @Test
+    void shouldNotTrackRefreshTokenFamilyWithoutStore() {
+        Token token = tokenProvider.issueToken(Credentials.of("testuser", "password123"));
+
+        Token first = tokenProvider.refreshToken(token.getRefreshToken());
+        Token second = tokenProvider.refreshToken(token.getRefreshToken());
+
+        assertThat(parseClaims(token.getRefreshToken()).get("fam")).isNull();
+        assertThat(first).isNotNull();
+        assertThat(second).isNotNull();
+    }
+
     @Test
     void shouldFailRefreshForNullToken() {
         assertThatThrownBy(() -> tokenProvider.refreshToken(null))
@@ -268,6 +465,104 @@ class SpringJwtTokenProviderTest {
             .isInstanceOf(TokenProviderException.class);
     }
 
+    @Test
+    void shouldIssueAndValidateTokenWithRs256() {
+        KeyPair keyPair = Jwts.SIG.RS256.keyPair().build();
+        SpringJwtTokenProvider provider = asymmetricProvider("RS256", "rsa-1", keyPair, Map.of("rsa-1", keyPair));
+
+        Token token = provider.issueToken(Credentials.of("testuser", "password123"));
+        TokenValidationResult result = provider.validateToken(token.getAccessToken());
+
+        assertThat(result.valid()).isTrue();
+        assertThat(result.username()).isEqualTo("testuser");
+        assertThat(Jwts.parser().verifyWith(keyPair.getPublic()).build()
+            .parseSignedClaims(token.getAccessToken()).getHeader().getKeyId()).isEqualTo("rsa-1");
+    }
+
+    @Test
+    void shouldIssueAndValidateTokenWithEs256AndEdDsa() {
+        KeyPair ecKeyPair = Jwts.SIG.ES256.keyPair().build();
+        SpringJwtTokenProvider ecProvider = asymmetricProvider("ES256", "ec-1", ecKeyPair, Map.of("ec-1", ecKeyPair));
+        KeyPair edKeyPair = Jwks.CRV.Ed25519.keyPair().build();
+        SpringJwtTokenProvider edProvider = asymmetricProvider("EdDSA", "ed-1", edKeyPair, Map.of("ed-1", edKeyPair));
+
+        Token ecToken = ecProvider.issueToken(Credentials.of("testuser", "password123"));
+        Token edToken = edProvider.issueToken(Credentials.of("testuser", "password123"));
+
+        assertThat(ecProvider.validateToken(ecToken.getAccessToken()).valid()).isTrue();
+        assertThat(edProvider.validateToken(edToken.getAccessToken()).valid()).isTrue();
+        assertThat(edProvider.refreshToken(edToken.getRefreshToken())).isNotNull();
+    }
+
+    @Test
+    void shouldValidateWithPublicKeyOnlyButRefuseToIssue() {
+        KeyPair keyPair = Jwts.SIG.RS256.keyPair().build();
+        SpringJwtTokenProvider issuer = asymmetricProvider("RS256", "rsa-1", keyPair, Map.of("rsa-1", keyPair));
+        SpringJwtTokenProvider verifier = asymmetricProvider("RS256", null, null, Map.of("rsa-1", keyPair));
+        Token token = issuer.issueToken(Credentials.of("testuser", "password123"));
+
+        assertThat(verifier.validateToken(token.getAccessToken()).valid()).isTrue();
+        assertThatThrownBy(() -> verifier.issueToken(Credentials.of("testuser", "password123")))
+            .isInstanceOf(TokenProviderException.class)
+            .hasMessageContaining("Private key is not configured");
+    }
+
+    @Test
+    void shouldKeepValidatingTokensSignedWithPreviousKeyAfterRotation() {
+        KeyPair oldKey = Jwts.SIG.RS256.keyPair().build();
+        KeyPair newKey = Jwts.SIG.RS256.keyPair().build();
+        SpringJwtTokenProvider before = asymmetricProvider("RS256", "2024-01", oldKey, Map.of("2024-01", oldKey));
+        SpringJwtTokenProvider after = asymmetricProvider("RS256", "2024-06", newKey,
+            Map.of("2024-01", oldKey, "2024-06", newKey));
+
+        Token oldToken = before.issueToken(Credentials.of("testuser", "password123"));
+        Token newToken = after.issueToken(Credentials.of("testuser", "password123"));
+
+        assertThat(after.validateToken(oldToken.getAccessToken()).valid()).isTrue();
+        assertThat(after.validateToken(newToken.getAccessToken()).valid()).isTrue();
+        assertThatThrownBy(() -> before.validateToken(newToken.getAccessToken()))
+            .isInstanceOf(TokenProviderException.class);
+    }
+
+    @Test
+    void shouldRejectHmacTokenWhenAsymmetricAlgorithmConfigured() {
+        KeyPair keyPair = Jwts.SIG.RS256.keyPair().build();
+        SpringJwtTokenProvider provider = asymmetricProvider("RS256", "rsa-1", keyPair, Map.of("rsa-1", keyPair));
+        String hmacToken = tokenProvider.issueToken(Credentials.of("testuser", "password123")).getAccessToken();
+
+        assertThatThrownBy(() -> provider.validateToken(hmacToken))
+            .isInstanceOf(TokenProviderException.class);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenPrivateKeyIdIsNotInPublicKeys() {
+        KeyPair keyPair = Jwts.SIG.RS256.keyPair().build();
+
+        assertThatThrownBy(() -> asymmetricProvider("RS256", "missing", keyPair, Map.of("rsa-1", keyPair)))
+            .isInstanceOf(TokenProviderException.class)
+            .hasMessageContaining("must be listed in public keys");
+    }
+
+    private SpringJwtTokenProvider asymmetricProvider(String algorithm, String keyId, KeyPair signingKey,
+                                                      Map<String, KeyPair> publicKeys) {
+        JwtProperties properties = new JwtProperties();
+        properties.setAlgorithm(algorithm);
+        properties.setKeyId(keyId);
+        properties.setIssuer("security-starter");
+        if (signingKey != null) {
+            properties.setPrivateKey(pem("PRIVATE KEY", signingKey.getPrivate().getEncoded()));
+        }
+        publicKeys.forEach((kid, keyPair) ->
+            properties.getPublicKeys().put(kid, pem("PUBLIC KEY", keyPair.getPublic().getEncoded())));
+        return new SpringJwtTokenProvider(properties);
+    }
+
+    private String pem(String type, byte[] der) {
+        return "-----BEGIN " + type + "-----\n"
+            + Base64.getMimeEncoder(64, "\n".getBytes()).encodeToString(der)
+            + "\n-----END " + type + "-----";
+    }
+
     private String createExpiredToken() {
         SecretKey key = Keys.hmacShaKeyFor(testSecret.getBytes());
         Instant pastTime = Instant.now().minus(1, ChronoUnit.HOURS);
@@ -284,6 +579,19 @@ class SpringJwtTokenProviderTest {
             .compact();
     }
 
+    private static InMemoryRefreshTokenFamilyStore familyStoreWithoutReuseGrace() {
+        return new InMemoryRefreshTokenFamilyStore(
+            InMemoryRefreshTokenFamilyStore.DEFAULT_BUCKET_SIZE, Duration.ZERO, Clock.systemUTC());
+    }
+
+    private Claims parseClaims(String token) {
+        return Jwts.parser()
+            .verifyWith(Keys.hmacShaKeyFor(testSecret.getBytes()))
+            .build()
+            .parseSignedClaims(token)
+            .getPayload();
+    }
+
     private String createExpiredRefreshToken() {
         SecretKey key = Keys.hmacShaKeyFor(testSecret.getBytes());
         Instant pastTime = Instant.now().minus(1, ChronoUnit.HOURS);
@@ -0,0 +1,170 @@
+package com.ldx.hexacore.security.auth.adapter.outbound.token.keycloak;
+
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenProviderErrorCode;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenProviderException;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenValidationResult;
+import com.ldx.hexacore.security.auth.domain.vo.Credentials;
+import com.ldx.hexacore.security.auth.domain.vo.Token;
+import com.ldx.hexacore.security.config.properties.SecurityStarterProperties;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import static com.ldx.hexacore.security.auth.adapter.outbound.token.keycloak.KeycloakTestFixtures.json;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("KeycloakTokenProvider 비동기 API 테스트")
+class KeycloakAsyncTokenProviderTest {
+
+    private static final String TOKEN = "opaque-access-token";
+
+    private MockWebServer server;
+    private KeycloakTokenProvider provider;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new MockWebServer();
+        server.start();
+
+        SecurityStarterProperties.TokenProvider.KeycloakProperties properties =
+            new SecurityStarterProperties.TokenProvider.KeycloakProperties();
+        properties.setServerUrl(server.url("/").toString());
+        properties.setRealm("test-realm");
+        properties.setClientId("test-client");
+        properties.setClientSecret("test-secret");
+        properties.getRemoteValidationCache().setEnabled(true);
+        provider = new KeycloakTokenProvider(properties);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        provider.close();
+        server.shutdown();
+    }
+
+    @Test
+    @DisplayName("userinfo 응답으로 비동기 검증하고 결과를 캐싱한다")
+    void shouldValidateWithUserInfo() throws Exception {
+        // Given
+        server.enqueue(json(200, "{\"sub\":\"user-1\",\"preferred_username\":\"alice\",\"email\":\"a@b.c\"}"));
+
+        // When
+        TokenValidationResult first = provider.validateTokenAsync(TOKEN).get(5, TimeUnit.SECONDS);
+        CompletableFuture<TokenValidationResult> second = provider.validateTokenAsync(TOKEN);
+
+        // Then
+        assertThat(first.valid()).isTrue();
+        assertThat(first.userId()).isEqualTo("user-1");
+        assertThat(first.username()).isEqualTo("alice");
+        assertThat(second).isCompletedWithValue(first);
+        RecordedRequest request = server.takeRequest();
+        assertThat(request.getPath()).isEqualTo("/realms/test-realm/protocol/openid-connect/userinfo");
+        assertThat(request.getHeader("Authorization")).isEqualTo("Bearer " + TOKEN);
+        assertThat(server.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("userinfo가 403이면 introspection으로 검증한다")
+    void shouldFallBackToIntrospection() throws Exception {
+        // Given
+        server.enqueue(new MockResponse().setResponseCode(403));
+        server.enqueue(json(200,
+            "{\"active\":true,\"sub\":\"user-1\",\"username\":\"alice\",\"exp\":4102444800,\"scope\":\"openid email\"}"));
+
+        // When
+        TokenValidationResult result = provider.validateTokenAsync(TOKEN).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(result.valid()).isTrue();
+        assertThat(result.claims())
+            .containsEntry("sub", "user-1")
+            .containsEntry("username", "alice")
+            .containsEntry("scope", "openid email")
+            .doesNotContainKey("introspection");
+        server.takeRequest();
+        RecordedRequest introspection = server.takeRequest();
+        assertThat(introspection.getPath()).endsWith("/token/introspect");
+        assertThat(introspection.getBody().readUtf8())
+            .contains("token=" + TOKEN, "client_id=test-client", "client_secret=test-secret");
+    }
+
+    @Test
+    @DisplayName("userinfo의 401은 무효 결과, 5xx는 PROVIDER_UNAVAILABLE로 완료된다")
+    void shouldMapErrorResponses() throws Exception {
+        // Given
+        server.enqueue(new MockResponse().setResponseCode(401));
+        server.enqueue(new MockResponse().setResponseCode(503));
+
+        // When
+        TokenValidationResult rejected = provider.validateTokenAsync(TOKEN).get(5, TimeUnit.SECONDS);
+        CompletableFuture<TokenValidationResult> unavailable = provider.validateTokenAsync("another-token");
+
+        // Then
+        assertThat(rejected.valid()).isFalse();
+        assertThatThrownBy(unavailable::join)
+            .isInstanceOf(CompletionException.class)
+            .cause()
+            .isInstanceOf(TokenProviderException.class)
+            .extracting(e -> ((TokenProviderException) e).getErrorCode())
+            .isEqualTo(TokenProviderErrorCode.PROVIDER_UNAVAILABLE);
+    }
+
+    @Test
+    @DisplayName("토큰 판정이 아닌 4xx 응답과 introspection의 401은 PROVIDER_UNAVAILABLE로 완료된다")
+    void shouldMapNonVerdictClientErrorsToProviderUnavailable() {
+        // Given
+        server.enqueue(new MockResponse().setResponseCode(429));
+        server.enqueue(new MockResponse().setResponseCode(403));
+        server.enqueue(new MockResponse().setResponseCode(401));
+
+        // When
+        CompletableFuture<TokenValidationResult> rateLimited = provider.validateTokenAsync(TOKEN);
+        rateLimited.exceptionally(e -> null).join();
+        CompletableFuture<TokenValidationResult> clientRejected = provider.validateTokenAsync(TOKEN);
+
+        // Then
+        for (CompletableFuture<TokenValidationResult> result : List.of(rateLimited, clientRejected)) {
+            assertThatThrownBy(result::join)
+                .isInstanceOf(CompletionException.class)
+                .cause()
+                .isInstanceOf(TokenProviderException.class)
+                .extracting(e -> ((TokenProviderException) e).getErrorCode())
+                .isEqualTo(TokenProviderErrorCode.PROVIDER_UNAVAILABLE);
+        }
+    }
+
+    @Test
+    @DisplayName("토큰 발급과 갱신을 비동기로 수행한다")
+    void shouldIssueAndRefreshToken() throws Exception {
+        // Given
+        server.enqueue(json(200, "{\"access_token\":\"access-1\",\"refresh_token\":\"refresh-1\",\"expires_in\":300,"
+            + "\"token_type\":\"Bearer\",\"not-before-policy\":0}"));
+        server.enqueue(new MockResponse().setResponseCode(401));
+
+        // When
+        Token token = provider.issueTokenAsync(Credentials.of("alice", "p@ss word", 3, 50, 8)).get(5, TimeUnit.SECONDS);
+        CompletableFuture<Token> refreshed = provider.refreshTokenAsync("expired-refresh-token");
+
+        // Then
+        assertThat(token.getAccessToken()).isEqualTo("access-1");
+        assertThat(token.getRefreshToken()).isEqualTo("refresh-1");
+        assertThat(server.takeRequest().getBody().readUtf8())
+            .contains("grant_type=password", "username=alice", "password=p%40ss+word");
+        assertThatThrownBy(refreshed::join)
+            .cause()
+            .isInstanceOf(TokenProviderException.class)
+            .extracting(e -> ((TokenProviderException) e).getErrorCode())
+            .isEqualTo(TokenProviderErrorCode.TOKEN_EXPIRED);
+    }
+
+}
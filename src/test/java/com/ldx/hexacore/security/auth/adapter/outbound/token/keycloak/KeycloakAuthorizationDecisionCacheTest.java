@@ -0,0 +1,118 @@
+package com.ldx.hexacore.security.auth.adapter.outbound.token.keycloak;
+
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.ldx.hexacore.security.auth.adapter.outbound.token.keycloak.KeycloakTestFixtures.json;
+import static com.ldx.hexacore.security.auth.adapter.outbound.token.keycloak.KeycloakTestFixtures.tokenFor;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("KeycloakAuthorizationDecisionCache 테스트")
+class KeycloakAuthorizationDecisionCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final KeycloakAuthorizationDecisionCache cache = new KeycloakAuthorizationDecisionCache(
+        100, Duration.ofSeconds(60), Duration.ofSeconds(10),
+        List.of("/api/orders/{id}", "/api/orders/*/items", "/api/**"), nanos::get);
+
+    @Test
+    @DisplayName("같은 템플릿에 속한 경로는 같은 판정 키를 사용한다")
+    void shouldShareKeyAcrossTemplatePaths() {
+        // Given
+        String token = tokenFor("user-1");
+
+        // When
+        KeycloakAuthorizationDecisionCache.DecisionKey first = cache.keyOf(token, "/api/orders/123", "get");
+        KeycloakAuthorizationDecisionCache.DecisionKey second = cache.keyOf(token, "/api/orders/124?expand=true", "GET");
+
+        // Then
+        assertThat(first).isEqualTo(second);
+        assertThat(first.route()).isEqualTo("/api/orders/{id}");
+        assertThat(first.method()).isEqualTo("GET");
+        assertThat(cache.keyOf(tokenFor("user-2"), "/api/orders/123", "GET")).isNotEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("여러 템플릿과 일치하면 가장 구체적인 템플릿을 사용하고, 일치하지 않으면 경로를 그대로 사용한다")
+    void shouldPreferMostSpecificTemplate() {
+        assertThat(cache.normalize("/api/orders/1/items")).isEqualTo("/api/orders/*/items");
+        assertThat(cache.normalize("/api/customers/1")).isEqualTo("/api/**");
+        assertThat(cache.normalize("/internal/status?x=1")).isEqualTo("/internal/status");
+    }
+
+    @Test
+    @DisplayName("subject를 읽을 수 없는 불투명 토큰은 캐싱하지 않는다")
+    void shouldSkipOpaqueToken() {
+        assertThat(cache.keyOf("opaque-token", "/api/orders/1", "GET")).isNull();
+    }
+
+    @Test
+    @DisplayName("거부 판정은 허용 판정보다 먼저 만료된다")
+    void shouldExpireDenialBeforeGrant() {
+        // Given
+        KeycloakAuthorizationDecisionCache.DecisionKey read = cache.keyOf(tokenFor("user-1"), "/api/orders/1", "GET");
+        KeycloakAuthorizationDecisionCache.DecisionKey delete = cache.keyOf(tokenFor("user-1"), "/api/orders/1", "DELETE");
+        cache.put(read, true);
+        cache.put(delete, false);
+
+        // When
+        nanos.addAndGet(Duration.ofSeconds(11).toNanos());
+
+        // Then
+        assertThat(cache.get(read)).isTrue();
+        assertThat(cache.get(delete)).isNull();
+    }
+
+    @Test
+    @DisplayName("subject 단위로 판정을 제거할 수 있다")
+    void shouldInvalidateBySubject() {
+        // Given
+        KeycloakAuthorizationDecisionCache.DecisionKey first = cache.keyOf(tokenFor("user-1"), "/api/orders/1", "GET");
+        KeycloakAuthorizationDecisionCache.DecisionKey second = cache.keyOf(tokenFor("user-2"), "/api/orders/1", "GET");
+        cache.put(first, true);
+        cache.put(second, true);
+
+        // When
+        cache.invalidateSubject("user-1");
+
+        // Then
+        assertThat(cache.get(first)).isNull();
+        assertThat(cache.get(second)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Keycloak 리소스 URI를 route 템플릿으로 학습한다")
+    void shouldLearnTemplatesFromResourceUris() throws Exception {
+        // Given
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+            KeycloakProperties properties = new KeycloakProperties();
+            properties.setServerUrl(server.url("/").toString());
+            properties.setRealm("test-realm");
+            properties.setClientId("resource-server");
+            properties.setClientSecret("secret");
+            server.enqueue(json("{\"access_token\":\"pat\",\"expires_in\":300}"));
+            server.enqueue(json("[{\"name\":\"orders\",\"uris\":[\"/api/invoices/{id}\"]},{\"name\":\"none\"}]"));
+            KeycloakAuthorizationDecisionCache learning = new KeycloakAuthorizationDecisionCache(
+                100, Duration.ofSeconds(60), Duration.ofSeconds(10), List.of());
+
+            // When
+            learning.addRouteTemplates(new KeycloakResourceRouteLoader(properties, new RestTemplate()).load());
+
+            // Then
+            assertThat(learning.normalize("/api/invoices/7")).isEqualTo("/api/invoices/{id}");
+            assertThat(server.takeRequest(1, TimeUnit.SECONDS).getBody().readUtf8())
+                .contains("grant_type=client_credentials");
+            assertThat(server.takeRequest(1, TimeUnit.SECONDS).getHeader("Authorization")).isEqualTo("Bearer pat");
+        }
+    }
+
+
+}
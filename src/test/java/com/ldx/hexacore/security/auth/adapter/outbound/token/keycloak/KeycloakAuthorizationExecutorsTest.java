@@ -0,0 +1,222 @@
+package com.ldx.hexacore.security.auth.adapter.outbound.token.keycloak;
+
+import com.ldx.hexacore.security.auth.adapter.outbound.external.KeycloakHttpTransport;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenValidationContext;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenValidationResult;
+import com.ldx.hexacore.security.config.properties.SecurityStarterProperties;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.ldx.hexacore.security.auth.adapter.outbound.token.keycloak.KeycloakTestFixtures.json;
+import static com.ldx.hexacore.security.auth.adapter.outbound.token.keycloak.KeycloakTestFixtures.tokenFor;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("KeycloakAuthorizationExecutors 테스트")
+class KeycloakAuthorizationExecutorsTest {
+
+    @Test
+    @DisplayName("스레드가 모두 사용 중이면 대기열 없이 바로 거부하여 호출자가 직접 체크하게 한다")
+    void shouldRejectWhenPoolIsSaturated() throws Exception {
+        // Given
+        ExecutorService executor = KeycloakAuthorizationExecutors.create(false, 2, 0);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            Future<Boolean> first = executor.submit(() -> release.await(5, TimeUnit.SECONDS));
+            Future<Boolean> second = executor.submit(() -> release.await(5, TimeUnit.SECONDS));
+
+            // When & Then
+            assertThatThrownBy(() -> executor.submit(() -> true))
+                .isInstanceOf(RejectedExecutionException.class);
+            release.countDown();
+            assertThat(first.get(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(second.get(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("대기열 크기를 설정하면 그만큼만 대기시키고 넘치면 거부한다")
+    void shouldBoundQueue() throws Exception {
+        // Given
+        ExecutorService executor = KeycloakAuthorizationExecutors.create(false, 1, 2);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            executor.submit(() -> release.await(5, TimeUnit.SECONDS));
+
+            // When
+            Future<Boolean> queued1 = executor.submit(() -> true);
+            Future<Boolean> queued2 = executor.submit(() -> true);
+
+            // Then
+            assertThatThrownBy(() -> executor.submit(() -> true))
+                .isInstanceOf(RejectedExecutionException.class);
+            release.countDown();
+            assertThat(queued1.get(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(queued2.get(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("잘못된 풀 크기나 대기열 크기는 허용하지 않는다")
+    void shouldRejectInvalidSizes() {
+        assertThatThrownBy(() -> KeycloakAuthorizationExecutors.create(false, 0, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeycloakAuthorizationExecutors.create(false, 1, -1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("권한 체크 스레드가 모두 사용 중이면 토큰 검증 후 호출 스레드에서 직접 체크한다")
+    void shouldCheckPermissionInlineWhenPoolIsSaturated() throws Exception {
+        CountDownLatch firstCheckStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstCheck = new CountDownLatch(1);
+        AtomicInteger umaRequests = new AtomicInteger();
+        ExecutorService caller = Executors.newSingleThreadExecutor();
+        try (MockWebServer server = new MockWebServer()) {
+            server.setDispatcher(new Dispatcher() {
+                @Override
+                public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                    String path = request.getPath();
+                    if (path.endsWith("/userinfo")) {
+                        return json("{\"sub\":\"user-1\",\"preferred_username\":\"alice\"}");
+                    }
+                    if (path.contains("/resource_set")) {
+                        return json("[{\"_id\":\"r-orders\",\"name\":\"orders\",\"uris\":[\"/api/orders/*\"]}]");
+                    }
+                    if (path.endsWith("/token")) {
+                        if (request.getBody().readUtf8().contains("client_credentials")) {
+                            return json("{\"access_token\":\"pat\",\"expires_in\":300}");
+                        }
+                        if (umaRequests.incrementAndGet() == 1) {
+                            // 첫 번째 권한 체크가 유일한 풀 스레드를 점유
+                            firstCheckStarted.countDown();
+                            releaseFirstCheck.await(10, TimeUnit.SECONDS);
+                        }
+                        return json("[{\"rsid\":\"r-orders\",\"rsname\":\"orders\"}]");
+                    }
+                    return new MockResponse().setResponseCode(404);
+                }
+            });
+            server.start();
+
+            SecurityStarterProperties.TokenProvider.KeycloakProperties properties =
+                new SecurityStarterProperties.TokenProvider.KeycloakProperties();
+            properties.setServerUrl(server.url("/").toString());
+            properties.setRealm("test-realm");
+            properties.setClientId("resource-server");
+            properties.setClientSecret("secret");
+            properties.getPermissionSet().setEnabled(true);
+            properties.getParallelAuthorization().setEnabled(true);
+            properties.getParallelAuthorization().setVirtualThreads(false);
+            properties.getParallelAuthorization().setPoolSize(1);
+            TokenValidationContext context = TokenValidationContext.builder()
+                .requestUri("/api/orders/1")
+                .httpMethod("GET")
+                .checkResourcePermission(true)
+                .build();
+            KeycloakHttpTransport transport = new KeycloakHttpTransport(
+                Duration.ofSeconds(10), Duration.ofSeconds(10), KeycloakHttpTransport.DEFAULT_MAX_CONNECTIONS);
+
+            try (KeycloakTokenProvider provider = new KeycloakTokenProvider(properties, transport)) {
+                Future<TokenValidationResult> blocked =
+                    caller.submit(() -> provider.validateTokenWithContext(tokenFor("user-a"), context));
+                assertThat(firstCheckStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+                // When - 풀이 가득 찬 상태에서 다른 요청
+                TokenValidationResult inline = CompletableFuture
+                    .supplyAsync(() -> provider.validateTokenWithContext(tokenFor("user-b"), context))
+                    .get(5, TimeUnit.SECONDS);
+
+                // Then - 대기열에서 기다리지 않고 완료
+                assertThat(inline.valid()).isTrue();
+                assertThat(blocked.isDone()).isFalse();
+                releaseFirstCheck.countDown();
+                assertThat(blocked.get(5, TimeUnit.SECONDS).valid()).isTrue();
+            }
+        } finally {
+            releaseFirstCheck.countDown();
+            caller.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("병렬 권한 체크는 기본 검증이 성공한 뒤에만 판정을 캐시에 기록한다")
+    void shouldCacheParallelDecisionOnlyAfterBasicValidation() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.setDispatcher(new Dispatcher() {
+                @Override
+                public MockResponse dispatch(RecordedRequest request) {
+                    if (request.getPath().endsWith("/userinfo")) {
+                        String authorization = request.getHeader("Authorization");
+                        return authorization != null && authorization.endsWith(".forged")
+                            ? new MockResponse().setResponseCode(401)
+                            : json("{\"sub\":\"victim\",\"preferred_username\":\"victim\"}");
+                    }
+                    return new MockResponse().setResponseCode(404);
+                }
+            });
+            server.start();
+
+            // Given
+            SecurityStarterProperties.TokenProvider.KeycloakProperties properties =
+                new SecurityStarterProperties.TokenProvider.KeycloakProperties();
+            properties.setServerUrl(server.url("/").toString());
+            properties.setRealm("test-realm");
+            properties.setClientId("resource-server");
+            properties.setClientSecret("secret");
+            properties.getAuthorizationCache().setEnabled(true);
+            properties.getParallelAuthorization().setEnabled(true);
+            TokenValidationContext context = TokenValidationContext.builder()
+                .requestUri("/api/orders/1")
+                .httpMethod("GET")
+                .checkResourcePermission(true)
+                .build();
+            KeycloakHttpTransport transport = new KeycloakHttpTransport(
+                Duration.ofSeconds(5), Duration.ofSeconds(5), KeycloakHttpTransport.DEFAULT_MAX_CONNECTIONS);
+            String genuine = tokenFor("victim");
+            String forged = genuine.substring(0, genuine.lastIndexOf('.')) + ".forged";
+
+            try (KeycloakTokenProvider provider = new KeycloakTokenProvider(properties, transport)) {
+                KeycloakAuthorizationDecisionCache decisionCache =
+                    provider.getAuthorizationService().getDecisionCache();
+                KeycloakAuthorizationDecisionCache.DecisionKey key =
+                    decisionCache.keyOf(genuine, context.getRequestUri(), context.getHttpMethod());
+
+                // When - 같은 sub를 가진 위조 토큰
+                TokenValidationResult forgedResult = provider.validateTokenWithContext(forged, context);
+
+                // Then - 위조 토큰의 판정은 sub의 캐시에 남지 않음
+                assertThat(forgedResult.valid()).isFalse();
+                assertThat(decisionCache.get(key)).isNull();
+
+                // When - 유효한 토큰
+                provider.validateTokenWithContext(genuine, context);
+
+                // Then - 기본 검증이 성공한 판정은 기록
+                assertThat(decisionCache.get(key)).isNotNull();
+            }
+        }
+    }
+
+
+}
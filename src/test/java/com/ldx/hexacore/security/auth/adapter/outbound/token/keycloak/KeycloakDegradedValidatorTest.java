@@ -0,0 +1,77 @@
+package com.ldx.hexacore.security.auth.adapter.outbound.token.keycloak;
+
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenValidationResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("KeycloakDegradedValidator 테스트")
+class KeycloakDegradedValidatorTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+    private static final Duration GRACE_PERIOD = Duration.ofMinutes(5);
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final KeycloakDegradedValidator validator = new KeycloakDegradedValidator(
+        100, GRACE_PERIOD, null, nanos::get, Clock.fixed(NOW, ZoneOffset.UTC));
+
+    @Test
+    @DisplayName("최근 원격 검증에 성공한 토큰은 degraded 표시와 함께 받아들인다")
+    void shouldAcceptRecentlyValidatedToken() {
+        // Given
+        validator.remember("token-a", valid(NOW.plusSeconds(600)));
+
+        // When
+        TokenValidationResult result = validator.validate("token-a");
+
+        // Then
+        assertThat(result).isNotNull();
+        assertThat(result.valid()).isTrue();
+        assertThat(result.userId()).isEqualTo("user-1");
+        assertThat(result.claims())
+            .containsEntry("realm", "test")
+            .containsEntry(KeycloakDegradedValidator.DEGRADED_CLAIM, true);
+        assertThat(validator.getAcceptedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("유예 기간이 지난 결과는 받아들이지 않는다")
+    void shouldRejectAfterGracePeriod() {
+        // Given
+        validator.remember("token-a", valid(NOW.plusSeconds(3600)));
+
+        // When
+        nanos.addAndGet(GRACE_PERIOD.plusSeconds(1).toNanos());
+
+        // Then
+        assertThat(validator.validate("token-a")).isNull();
+    }
+
+    @Test
+    @DisplayName("만료된 토큰과 모르는 토큰은 판단하지 않는다")
+    void shouldNotDecideExpiredOrUnknownToken() {
+        // Given
+        validator.remember("token-expired", valid(NOW.minusSeconds(1)));
+        validator.remember("token-invalid", new TokenValidationResult(false, null, null, null, null, null));
+
+        // When & Then
+        assertThat(validator.validate("token-expired")).isNull();
+        assertThat(validator.validate("token-invalid")).isNull();
+        assertThat(validator.validate("token-unknown")).isNull();
+        assertThat(validator.getAcceptedCount()).isZero();
+    }
+
+    private static TokenValidationResult valid(Instant expiresAt) {
+        return new TokenValidationResult(
+            true, "user-1", "alice", Set.of("ROLE_USER"), expiresAt, Map.of("realm", "test"));
+    }
+}
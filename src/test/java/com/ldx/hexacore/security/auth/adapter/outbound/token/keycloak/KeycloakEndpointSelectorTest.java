@@ -0,0 +1,124 @@
+package com.ldx.hexacore.security.auth.adapter.outbound.token.keycloak;
+
+import com.ldx.hexacore.security.auth.adapter.outbound.token.MutableClock;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenValidationResult;
+import com.ldx.hexacore.security.config.properties.SecurityStarterProperties;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.ldx.hexacore.security.auth.adapter.outbound.token.keycloak.KeycloakTestFixtures.json;
+import static com.ldx.hexacore.security.auth.adapter.outbound.token.keycloak.KeycloakTestFixtures.unsignedToken;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("KeycloakEndpointSelector 테스트")
+class KeycloakEndpointSelectorTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+    private final KeycloakEndpointSelector selector = new KeycloakEndpointSelector(Duration.ofMinutes(5), clock);
+
+    @AfterEach
+    void tearDown() {
+        selector.close();
+    }
+
+    @Test
+    @DisplayName("userinfo가 403을 반환한 클라이언트는 다음 요청부터 introspection만 호출한다")
+    void shouldGoStraightToIntrospectionAfterForbidden() throws Exception {
+        // Given
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+            KeycloakTokenProvider provider = new KeycloakTokenProvider(properties(server));
+            String token = unsignedToken("{\"azp\":\"service-client\"}");
+            server.enqueue(new MockResponse().setResponseCode(403));
+            server.enqueue(json("{\"active\":true,\"sub\":\"user-1\",\"username\":\"alice\"}"));
+            server.enqueue(json("{\"active\":true,\"sub\":\"user-1\",\"username\":\"alice\"}"));
+
+            // When
+            TokenValidationResult first = provider.validateToken(token);
+            TokenValidationResult second = provider.validateToken(token);
+
+            // Then
+            assertThat(first.valid()).isTrue();
+            assertThat(second.valid()).isTrue();
+            assertThat(server.getRequestCount()).isEqualTo(3);
+            assertThat(server.takeRequest(1, TimeUnit.SECONDS).getPath()).endsWith("/userinfo");
+            assertThat(server.takeRequest(1, TimeUnit.SECONDS).getPath()).endsWith("/token/introspect");
+            assertThat(server.takeRequest(1, TimeUnit.SECONDS).getPath()).endsWith("/token/introspect");
+            provider.close();
+        }
+    }
+
+    @Test
+    @DisplayName("선택은 토큰의 azp별로 기억한다")
+    void shouldRememberDecisionPerClient() {
+        // Given
+        String serviceKey = selector.keyOf(unsignedToken("{\"azp\":\"service-client\"}"));
+        String webKey = selector.keyOf(unsignedToken("{\"azp\":\"web-client\"}"));
+
+        // When
+        selector.userInfoForbidden(serviceKey);
+
+        // Then
+        assertThat(selector.select(serviceKey)).isEqualTo(KeycloakEndpointSelector.Endpoint.INTROSPECTION);
+        assertThat(selector.select(webKey)).isEqualTo(KeycloakEndpointSelector.Endpoint.USERINFO);
+        assertThat(selector.keyOf("opaque-token")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재확인 주기 전에는 userinfo를 다시 확인하지 않는다")
+    void shouldNotProbeBeforeInterval() {
+        // Given
+        AtomicInteger probes = new AtomicInteger();
+        selector.userInfoForbidden("client");
+
+        // When
+        clock.advance(Duration.ofMinutes(4));
+        selector.probeIfDue("client", () -> {
+            probes.incrementAndGet();
+            return KeycloakEndpointSelector.Endpoint.USERINFO;
+        });
+
+        // Then
+        assertThat(probes).hasValue(0);
+        assertThat(selector.select("client")).isEqualTo(KeycloakEndpointSelector.Endpoint.INTROSPECTION);
+    }
+
+    @Test
+    @DisplayName("재확인 주기가 지나면 백그라운드에서 userinfo를 확인하고 성공하면 되돌아간다")
+    void shouldSwitchBackWhenProbeSucceeds() throws Exception {
+        // Given
+        selector.userInfoForbidden("client");
+        clock.advance(Duration.ofMinutes(6));
+
+        // When
+        selector.probeIfDue("client", () -> KeycloakEndpointSelector.Endpoint.USERINFO);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (selector.select("client") != KeycloakEndpointSelector.Endpoint.USERINFO && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        // Then
+        assertThat(selector.select("client")).isEqualTo(KeycloakEndpointSelector.Endpoint.USERINFO);
+    }
+
+    private static SecurityStarterProperties.TokenProvider.KeycloakProperties properties(MockWebServer server) {
+        SecurityStarterProperties.TokenProvider.KeycloakProperties properties =
+            new SecurityStarterProperties.TokenProvider.KeycloakProperties();
+        properties.setServerUrl(server.url("/").toString());
+        properties.setRealm("test-realm");
+        properties.setClientId("test-client");
+        properties.setClientSecret("test-secret");
+        return properties;
+    }
+
+
+
+}
@@ -0,0 +1,203 @@
+package com.ldx.hexacore.security.auth.adapter.outbound.token.keycloak;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ldx.hexacore.security.auth.adapter.outbound.token.MutableClock;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwks;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("KeycloakJwksKeyStore 테스트")
+class KeycloakJwksKeyStoreTest {
+
+    private final KeyPair first = Jwts.SIG.RS256.keyPair().build();
+    private final KeyPair second = Jwts.SIG.RS256.keyPair().build();
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+    private final AtomicInteger fetchCount = new AtomicInteger();
+    private final AtomicReference<Supplier<String>> response = new AtomicReference<>();
+
+    private KeycloakJwksKeyStore keyStore;
+
+    @AfterEach
+    void tearDown() {
+        if (keyStore != null) {
+            keyStore.close();
+        }
+    }
+
+    @Test
+    @DisplayName("새 kid로 동시에 들어온 요청은 JWKS를 한 번만 조회한다")
+    void shouldCoalesceConcurrentFetches() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        String body = jwks(Map.of("k1", first));
+        response.set(() -> {
+            await(release);
+            return body;
+        });
+        keyStore = newKeyStore(Duration.ofMinutes(5));
+
+        int threads = 32;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch started = new CountDownLatch(threads);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                started.countDown();
+                return keyStore.getKey("k1");
+            }));
+        }
+        started.await(5, TimeUnit.SECONDS);
+        Thread.sleep(100);
+        release.countDown();
+        for (Future<?> future : futures) {
+            assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo(first.getPublic());
+        }
+        executor.shutdownNow();
+
+        // Then
+        assertThat(fetchCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 kid 재조회는 최소 간격으로 제한된다")
+    void shouldRateLimitRefetchForUnknownKeyId() {
+        // Given
+        response.set(() -> jwks(Map.of("k1", first)));
+        keyStore = newKeyStore(Duration.ofMinutes(5));
+        keyStore.getKey("k1");
+
+        // When & Then
+        assertThatThrownBy(() -> keyStore.getKey("forged")).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> keyStore.getKey("forged")).isInstanceOf(JwtException.class);
+        assertThat(fetchCount.get()).isEqualTo(1);
+
+        clock.advance(Duration.ofSeconds(KeycloakJwksKeyStore.MIN_REFETCH_INTERVAL_SECONDS));
+        assertThatThrownBy(() -> keyStore.getKey("forged")).isInstanceOf(JwtException.class);
+        assertThat(fetchCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("키 롤오버 후 새 kid는 재조회로 찾는다")
+    void shouldPickUpRotatedKey() {
+        // Given
+        response.set(() -> jwks(Map.of("k1", first)));
+        keyStore = newKeyStore(Duration.ofMinutes(5));
+        keyStore.getKey("k1");
+        response.set(() -> jwks(Map.of("k1", first, "k2", second)));
+
+        // When
+        clock.advance(Duration.ofSeconds(KeycloakJwksKeyStore.MIN_REFETCH_INTERVAL_SECONDS));
+
+        // Then
+        assertThat(keyStore.getKey("k2")).isEqualTo(second.getPublic());
+        assertThat(keyStore.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("엔드포인트가 실패하면 마지막으로 가져온 키를 계속 사용한다")
+    void shouldServeLastKnownKeysWhenEndpointIsDown() {
+        // Given
+        response.set(() -> jwks(Map.of("k1", first)));
+        keyStore = newKeyStore(Duration.ofMinutes(5));
+        keyStore.getKey("k1");
+        response.set(() -> {
+            throw new IllegalStateException("connection refused");
+        });
+
+        // When
+        clock.advance(Duration.ofSeconds(KeycloakJwksKeyStore.MIN_REFETCH_INTERVAL_SECONDS));
+        assertThatThrownBy(() -> keyStore.getKey("k2")).isInstanceOf(JwtException.class);
+
+        // Then
+        assertThat(keyStore.getKey("k1")).isEqualTo(first.getPublic());
+        assertThat(fetchCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("키를 한 번도 가져오지 못하면 JwksUnavailableException이 발생한다")
+    void shouldFailWhenNoKeysWereEverFetched() {
+        // Given
+        response.set(() -> {
+            throw new IllegalStateException("connection refused");
+        });
+        keyStore = newKeyStore(Duration.ofMinutes(5));
+
+        // When & Then
+        assertThatThrownBy(() -> keyStore.getKey("k1"))
+            .isInstanceOf(KeycloakJwksKeyStore.JwksUnavailableException.class);
+        assertThatThrownBy(() -> keyStore.getKey("k1"))
+            .isInstanceOf(KeycloakJwksKeyStore.JwksUnavailableException.class);
+        assertThat(fetchCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("첫 조회 이후 갱신 주기마다 백그라운드에서 키를 다시 가져온다")
+    void shouldRefreshKeysInBackground() throws Exception {
+        // Given
+        response.set(() -> jwks(Map.of("k1", first)));
+        keyStore = newKeyStore(Duration.ofMillis(50));
+        keyStore.getKey("k1");
+        response.set(() -> jwks(Map.of("k1", first, "k2", second)));
+
+        // When
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (keyStore.size() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        // Then - 요청 경로의 재조회 없이 새 키를 사용할 수 있음
+        assertThat(keyStore.size()).isEqualTo(2);
+        assertThat(keyStore.getKey("k2")).isEqualTo(second.getPublic());
+    }
+
+    private KeycloakJwksKeyStore newKeyStore(Duration refreshInterval) {
+        return new KeycloakJwksKeyStore(() -> {
+            fetchCount.incrementAndGet();
+            return response.get().get();
+        }, refreshInterval, clock);
+    }
+
+    private static String jwks(Map<String, KeyPair> keys) {
+        List<Map<String, Object>> jwks = new ArrayList<>();
+        keys.forEach((kid, keyPair) ->
+            jwks.add(new HashMap<>(Jwks.builder().key(keyPair.getPublic()).id(kid).build())));
+        try {
+            return new ObjectMapper().writeValueAsString(Map.of("keys", jwks));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,270 @@
+package com.ldx.hexacore.security.auth.adapter.outbound.token.keycloak;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ldx.hexacore.security.auth.adapter.outbound.token.MutableClock;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenProviderException;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenValidationResult;
+import com.ldx.hexacore.security.config.properties.SecurityStarterProperties;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.PublicJwk;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.security.KeyPair;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("KeycloakJwksTokenValidator 테스트")
+class KeycloakJwksTokenValidatorTest {
+
+    private static final String REALM = "test-realm";
+    private static final String CLIENT_ID = "test-client";
+
+    private MockWebServer server;
+    private KeycloakProperties properties;
+    private MutableClock clock;
+    private KeyPair rsaKeyPair;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+
+        properties = new KeycloakProperties();
+        properties.setServerUrl(server.url("/").toString());
+        properties.setRealm(REALM);
+        properties.setClientId(CLIENT_ID);
+        properties.setClientSecret("test-secret");
+        properties.setLocalValidation(true);
+
+        clock = new MutableClock(Instant.now());
+        rsaKeyPair = Jwts.SIG.RS256.keyPair().build();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    @DisplayName("RS256 서명 토큰을 로컬에서 검증한다")
+    void shouldValidateRs256Token() throws Exception {
+        // Given
+        enqueueJwks(jwk(rsaKeyPair, "rsa-1"));
+        KeycloakJwksTokenValidator validator = newValidator();
+        String token = accessToken(rsaKeyPair, "rsa-1").compact();
+
+        // When
+        TokenValidationResult result = validator.validate(token);
+
+        // Then
+        assertThat(result.valid()).isTrue();
+        assertThat(result.userId()).isEqualTo("user-1");
+        assertThat(result.username()).isEqualTo("testuser");
+        assertThat(result.expiresAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("ES256 서명 토큰을 로컬에서 검증한다")
+    void shouldValidateEs256Token() throws Exception {
+        // Given
+        KeyPair ecKeyPair = Jwts.SIG.ES256.keyPair().build();
+        enqueueJwks(jwk(ecKeyPair, "ec-1"));
+        KeycloakJwksTokenValidator validator = newValidator();
+
+        // When
+        TokenValidationResult result = validator.validate(accessToken(ecKeyPair, "ec-1").compact());
+
+        // Then
+        assertThat(result.valid()).isTrue();
+    }
+
+    @Test
+    @DisplayName("JWKS는 갱신 주기 동안 재조회하지 않는다")
+    void shouldReuseFetchedKeysWithinRefreshInterval() throws Exception {
+        // Given
+        enqueueJwks(jwk(rsaKeyPair, "rsa-1"));
+        KeycloakJwksTokenValidator validator = newValidator();
+        String token = accessToken(rsaKeyPair, "rsa-1").compact();
+
+        // When
+        validator.validate(token);
+        clock.advance(Duration.ofSeconds(60));
+        validator.validate(token);
+
+        // Then
+        assertThat(server.getRequestCount()).isEqualTo(1);
+        assertThat(server.takeRequest().getPath())
+            .isEqualTo("/realms/" + REALM + "/protocol/openid-connect/certs");
+    }
+
+    @Test
+    @DisplayName("알 수 없는 kid가 들어오면 JWKS를 다시 조회한다")
+    void shouldRefetchKeysForUnknownKeyId() throws Exception {
+        // Given
+        KeyPair rotated = Jwts.SIG.RS256.keyPair().build();
+        enqueueJwks(jwk(rsaKeyPair, "rsa-1"));
+        enqueueJwks(jwk(rsaKeyPair, "rsa-1"), jwk(rotated, "rsa-2"));
+        KeycloakJwksTokenValidator validator = newValidator();
+        validator.validate(accessToken(rsaKeyPair, "rsa-1").compact());
+
+        // When
+        clock.advance(Duration.ofSeconds(11));
+        TokenValidationResult result = validator.validate(accessToken(rotated, "rsa-2").compact());
+
+        // Then
+        assertThat(result.valid()).isTrue();
+        assertThat(server.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("issuer가 다르면 invalid 결과를 반환한다")
+    void shouldRejectWrongIssuer() throws Exception {
+        // Given
+        enqueueJwks(jwk(rsaKeyPair, "rsa-1"));
+        String token = accessToken(rsaKeyPair, "rsa-1").issuer("https://other/realms/" + REALM).compact();
+
+        // When
+        TokenValidationResult result = newValidator().validate(token);
+
+        // Then
+        assertThat(result.valid()).isFalse();
+        assertThat(result.claims()).containsEntry("error", "Invalid token issuer");
+    }
+
+    @Test
+    @DisplayName("azp가 client-id와 다르면 invalid 결과를 반환한다")
+    void shouldRejectWrongAuthorizedParty() throws Exception {
+        // Given
+        enqueueJwks(jwk(rsaKeyPair, "rsa-1"));
+        String token = accessToken(rsaKeyPair, "rsa-1").claim("azp", "other-client").compact();
+
+        // When
+        TokenValidationResult result = newValidator().validate(token);
+
+        // Then
+        assertThat(result.valid()).isFalse();
+        assertThat(result.claims()).containsEntry("error", "Invalid token authorized party");
+    }
+
+    @Test
+    @DisplayName("audience가 설정되어 있고 aud에 없으면 invalid 결과를 반환한다")
+    void shouldRejectMissingAudience() throws Exception {
+        // Given
+        properties.setAudience("orders-api");
+        enqueueJwks(jwk(rsaKeyPair, "rsa-1"));
+        String token = accessToken(rsaKeyPair, "rsa-1").audience().add("account").and().compact();
+
+        // When
+        TokenValidationResult result = newValidator().validate(token);
+
+        // Then
+        assertThat(result.valid()).isFalse();
+        assertThat(result.claims()).containsEntry("error", "Invalid token audience");
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 invalid 결과를 반환한다")
+    void shouldRejectExpiredToken() throws Exception {
+        // Given
+        enqueueJwks(jwk(rsaKeyPair, "rsa-1"));
+        String token = accessToken(rsaKeyPair, "rsa-1")
+            .expiration(Date.from(clock.instant().minusSeconds(120)))
+            .compact();
+
+        // When
+        TokenValidationResult result = newValidator().validate(token);
+
+        // Then
+        assertThat(result.valid()).isFalse();
+    }
+
+    @Test
+    @DisplayName("HS256 서명 토큰은 거부한다")
+    void shouldRejectSymmetricAlgorithm() throws Exception {
+        // Given
+        enqueueJwks(jwk(rsaKeyPair, "rsa-1"));
+        SecretKey secret = Jwts.SIG.HS256.key().build();
+        String token = Jwts.builder()
+            .header().keyId("rsa-1").and()
+            .issuer(properties.getIssuer())
+            .subject("user-1")
+            .claim("azp", CLIENT_ID)
+            .expiration(Date.from(clock.instant().plusSeconds(300)))
+            .signWith(secret)
+            .compact();
+
+        // When
+        TokenValidationResult result = newValidator().validate(token);
+
+        // Then
+        assertThat(result.valid()).isFalse();
+        assertThat(server.getRequestCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("JWKS를 가져올 수 없으면 provider unavailable 예외가 발생한다")
+    void shouldThrowProviderUnavailableWhenJwksCannotBeFetched() {
+        // Given
+        server.enqueue(new MockResponse().setResponseCode(503));
+        SecurityStarterProperties.TokenProvider.KeycloakProperties config =
+            new SecurityStarterProperties.TokenProvider.KeycloakProperties();
+        config.setServerUrl(properties.getServerUrl());
+        config.setRealm(REALM);
+        config.setClientId(CLIENT_ID);
+        config.setClientSecret("test-secret");
+        config.setValidationMode("local");
+        KeycloakTokenProvider provider = new KeycloakTokenProvider(config);
+
+        // When & Then
+        assertThatThrownBy(() -> provider.validateToken(accessToken(rsaKeyPair, "rsa-1").compact()))
+            .isInstanceOf(TokenProviderException.class);
+    }
+
+    private KeycloakJwksTokenValidator newValidator() {
+        return new KeycloakJwksTokenValidator(properties, new RestTemplate(), clock);
+    }
+
+    private JwtBuilder accessToken(KeyPair keyPair, String keyId) {
+        return Jwts.builder()
+            .header().keyId(keyId).and()
+            .issuer(properties.getIssuer())
+            .subject("user-1")
+            .claim("azp", CLIENT_ID)
+            .claim("typ", "Bearer")
+            .claim("preferred_username", "testuser")
+            .issuedAt(Date.from(clock.instant()))
+            .expiration(Date.from(clock.instant().plusSeconds(300)))
+            .signWith(keyPair.getPrivate());
+    }
+
+    private Map<String, Object> jwk(KeyPair keyPair, String keyId) {
+        PublicJwk<?> jwk = Jwks.builder().key(keyPair.getPublic()).id(keyId).publicKeyUse("sig").build();
+        return new HashMap<>(jwk);
+    }
+
+    @SafeVarargs
+    private void enqueueJwks(Map<String, Object>... keys) throws Exception {
+        String body = new ObjectMapper().writeValueAsString(Map.of("keys", List.of(keys)));
+        server.enqueue(new MockResponse()
+            .setHeader("Content-Type", "application/json")
+            .setBody(body));
+    }
+
+}
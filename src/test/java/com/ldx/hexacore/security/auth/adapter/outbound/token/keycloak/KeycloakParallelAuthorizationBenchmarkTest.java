@@ -0,0 +1,129 @@
+package com.ldx.hexacore.security.auth.adapter.outbound.token.keycloak;
+
+import com.ldx.hexacore.security.auth.adapter.outbound.external.KeycloakHttpTransport;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenValidationContext;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenValidationResult;
+import com.ldx.hexacore.security.config.properties.SecurityStarterProperties;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static com.ldx.hexacore.security.auth.adapter.outbound.token.keycloak.KeycloakTestFixtures.json;
+import static com.ldx.hexacore.security.auth.adapter.outbound.token.keycloak.KeycloakTestFixtures.tokenFor;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 토큰 검증 후 리소스 권한을 체크하던 순차 방식과 두 원격 호출을 동시에 시작하는 병렬 방식의 요청 지연 비교
+ *
+ * <p>userinfo와 UMA ticket 응답에 같은 지연을 주는 Keycloak 대역으로 측정합니다.
+ * {@code ./gradlew benchmark} 로 실행합니다.</p>
+ */
+@Tag("benchmark")
+@DisplayName("Keycloak 병렬 권한 체크 벤치마크")
+class KeycloakParallelAuthorizationBenchmarkTest {
+
+    private static final long LATENCY_MILLIS = 30;
+    private static final int WARMUP_REQUESTS = 20;
+    private static final int MEASURED_REQUESTS = 200;
+
+    @Test
+    @DisplayName("병렬 방식은 순차 방식보다 요청 지연이 짧다")
+    void parallelCheckReducesLatency() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.setDispatcher(new SimulatedKeycloak());
+            server.start();
+
+            // When
+            long[] sequential = measure(server, false);
+            long[] parallel = measure(server, true);
+
+            System.out.printf("[benchmark] sequential : p50 %,6d us, p99 %,6d us%n",
+                percentile(sequential, 50), percentile(sequential, 99));
+            System.out.printf("[benchmark] parallel   : p50 %,6d us, p99 %,6d us%n",
+                percentile(parallel, 50), percentile(parallel, 99));
+
+            // Then
+            assertThat(percentile(parallel, 50)).isLessThan(percentile(sequential, 50));
+        }
+    }
+
+    private long[] measure(MockWebServer server, boolean parallel) {
+        SecurityStarterProperties.TokenProvider.KeycloakProperties properties =
+            new SecurityStarterProperties.TokenProvider.KeycloakProperties();
+        properties.setServerUrl(server.url("/").toString());
+        properties.setRealm("test-realm");
+        properties.setClientId("resource-server");
+        properties.setClientSecret("secret");
+        properties.getPermissionSet().setEnabled(true);
+        properties.getParallelAuthorization().setEnabled(parallel);
+
+        TokenValidationContext context = TokenValidationContext.builder()
+            .requestUri("/api/orders/1")
+            .httpMethod("GET")
+            .checkResourcePermission(true)
+            .build();
+
+        KeycloakHttpTransport transport = new KeycloakHttpTransport(
+            Duration.ofSeconds(5), Duration.ofSeconds(5), KeycloakHttpTransport.DEFAULT_MAX_CONNECTIONS);
+        try (KeycloakTokenProvider provider = new KeycloakTokenProvider(properties, transport)) {
+            for (int i = 0; i < WARMUP_REQUESTS; i++) {
+                assertThat(provider.validateTokenWithContext(tokenFor("warmup-" + i), context).valid()).isTrue();
+            }
+
+            long[] latencies = new long[MEASURED_REQUESTS];
+            for (int i = 0; i < MEASURED_REQUESTS; i++) {
+                // 토큰마다 권한 집합을 새로 조회하도록 요청마다 다른 토큰을 사용
+                String token = tokenFor((parallel ? "parallel-" : "sequential-") + i);
+                long start = System.nanoTime();
+                TokenValidationResult result = provider.validateTokenWithContext(token, context);
+                latencies[i] = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+                assertThat(result.valid()).isTrue();
+            }
+            return latencies;
+        }
+    }
+
+    private static long percentile(long[] values, int percentile) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(index, 0)];
+    }
+
+
+    /**
+     * userinfo와 UMA ticket 요청에 지연을 주는 Keycloak 대역
+     */
+    private static final class SimulatedKeycloak extends Dispatcher {
+
+        @Override
+        public MockResponse dispatch(RecordedRequest request) {
+            String path = request.getPath();
+            if (path.endsWith("/userinfo")) {
+                return json("{\"sub\":\"user-1\",\"preferred_username\":\"alice\"}").setHeadersDelay(
+                    LATENCY_MILLIS, TimeUnit.MILLISECONDS);
+            }
+            if (path.contains("/resource_set")) {
+                return json("[{\"_id\":\"r-orders\",\"name\":\"orders\",\"uris\":[\"/api/orders/*\"]}]");
+            }
+            if (path.endsWith("/token")) {
+                String body = request.getBody().readUtf8();
+                if (body.contains("client_credentials")) {
+                    return json("{\"access_token\":\"pat\",\"expires_in\":300}");
+                }
+                return json("[{\"rsid\":\"r-orders\",\"rsname\":\"orders\"}]").setHeadersDelay(
+                    LATENCY_MILLIS, TimeUnit.MILLISECONDS);
+            }
+            return new MockResponse().setResponseCode(404);
+        }
+
+    }
+}
@@ -0,0 +1,157 @@
+package com.ldx.hexacore.security.auth.adapter.outbound.token.keycloak;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.ldx.hexacore.security.auth.adapter.outbound.token.keycloak.KeycloakTestFixtures.json;
+import static com.ldx.hexacore.security.auth.adapter.outbound.token.keycloak.KeycloakTestFixtures.tokenFor;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("KeycloakPermissionSetCache 테스트")
+class KeycloakPermissionSetCacheTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    private static final String RESOURCE_SET = """
+        [
+          {"_id": "r-orders", "name": "orders", "uris": ["/api/orders/*"],
+           "resource_scopes": [{"name": "GET"}, {"name": "DELETE"}]},
+          {"_id": "r-reports", "name": "reports", "uris": ["/api/reports/**"]},
+          {"_id": "r-admin", "name": "admin", "uris": ["/api/admin/**"]}
+        ]
+        """;
+
+    private static final String PERMISSIONS = """
+        [
+          {"rsid": "r-orders", "rsname": "orders", "scopes": ["GET"]},
+          {"rsid": "r-reports", "rsname": "reports"}
+        ]
+        """;
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    @Test
+    @DisplayName("권한 집합은 리소스와 메서드 scope로 판정한다")
+    void shouldDecideFromPermissionSet() throws Exception {
+        // Given
+        KeycloakResourceCatalog catalog = KeycloakResourceCatalog.from(OBJECT_MAPPER.readTree(RESOURCE_SET));
+        KeycloakPermissionSet permissions = KeycloakPermissionSet.from(OBJECT_MAPPER.readTree(PERMISSIONS));
+
+        // When & Then
+        assertThat(permissions.decide(catalog.match("/api/orders/1?x=1"), "get"))
+            .isEqualTo(KeycloakPolicyIndex.Decision.GRANT);
+        assertThat(permissions.decide(catalog.match("/api/orders/1"), "DELETE"))
+            .isEqualTo(KeycloakPolicyIndex.Decision.DENY);
+        assertThat(permissions.decide(catalog.match("/api/orders/1"), "PATCH"))
+            .isEqualTo(KeycloakPolicyIndex.Decision.UNDECIDED);
+        assertThat(permissions.decide(catalog.match("/api/reports/2024/q1"), "POST"))
+            .isEqualTo(KeycloakPolicyIndex.Decision.GRANT);
+        assertThat(permissions.decide(catalog.match("/api/admin/users"), "GET"))
+            .isEqualTo(KeycloakPolicyIndex.Decision.DENY);
+        assertThat(catalog.match("/other")).isNull();
+    }
+
+    @Test
+    @DisplayName("토큰 만료 시각과 최대 TTL 중 이른 시각까지 보관하고, 조회 실패는 저장하지 않는다")
+    void shouldCacheUntilTokenExpiry() {
+        // Given
+        KeycloakPermissionSetCache cache = new KeycloakPermissionSetCache(
+            100, Duration.ofMinutes(5), nanos::get, Clock.fixed(NOW, ZoneOffset.UTC));
+        String token = tokenFor("user-1", NOW.plusSeconds(30));
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        assertThat(cache.get(token, t -> null)).isNull();
+        cache.get(token, t -> {
+            loads.incrementAndGet();
+            return KeycloakPermissionSet.EMPTY;
+        });
+        cache.get(token, t -> {
+            loads.incrementAndGet();
+            return KeycloakPermissionSet.EMPTY;
+        });
+        nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        // Then
+        assertThat(loads).hasValue(1);
+        assertThat(cache.get(token, t -> null)).isNull();
+    }
+
+    @Test
+    @DisplayName("subject 단위로 권한 집합을 제거할 수 있다")
+    void shouldInvalidateBySubject() {
+        // Given
+        KeycloakPermissionSetCache cache = new KeycloakPermissionSetCache(
+            100, Duration.ofMinutes(5), nanos::get, Clock.fixed(NOW, ZoneOffset.UTC));
+        String first = tokenFor("user-1", NOW.plusSeconds(300));
+        String second = tokenFor("user-2", NOW.plusSeconds(300));
+        cache.get(first, t -> KeycloakPermissionSet.EMPTY);
+        cache.get(second, t -> KeycloakPermissionSet.EMPTY);
+
+        // When
+        cache.invalidateSubject("user-1");
+
+        // Then
+        assertThat(cache.get(first, t -> null)).isNull();
+        assertThat(cache.get(second, t -> null)).isSameAs(KeycloakPermissionSet.EMPTY);
+    }
+
+    @Test
+    @DisplayName("같은 토큰의 여러 리소스 권한 체크는 UMA ticket 요청 한 번으로 판정한다")
+    void shouldRequestPermissionsOncePerToken() throws Exception {
+        // Given
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+            KeycloakProperties properties = new KeycloakProperties();
+            properties.setServerUrl(server.url("/").toString());
+            properties.setRealm("test-realm");
+            properties.setClientId("resource-server");
+            properties.setClientSecret("secret");
+            properties.setPermissionSetEnabled(true);
+            server.enqueue(json("{\"access_token\":\"pat\",\"expires_in\":300}"));
+            server.enqueue(json(RESOURCE_SET));
+            server.enqueue(json(PERMISSIONS));
+            String token = tokenFor("user-1", Instant.now().plusSeconds(300));
+
+            try (KeycloakAuthorizationService service = new KeycloakAuthorizationService(properties, new RestTemplate())) {
+                // When
+                boolean readOrders = service.checkAuthorization(token, "/api/orders/1", "GET");
+                boolean readOtherOrder = service.checkAuthorization(token, "/api/orders/2", "GET");
+                boolean deleteOrder = service.checkAuthorization(token, "/api/orders/1", "DELETE");
+                boolean readReport = service.checkAuthorization(token, "/api/reports/2024", "GET");
+                boolean admin = service.checkAuthorization(token, "/api/admin/users", "GET");
+
+                // Then
+                assertThat(readOrders).isTrue();
+                assertThat(readOtherOrder).isTrue();
+                assertThat(deleteOrder).isFalse();
+                assertThat(readReport).isTrue();
+                assertThat(admin).isFalse();
+                assertThat(server.getRequestCount()).isEqualTo(3);
+                server.takeRequest(1, TimeUnit.SECONDS);
+                server.takeRequest(1, TimeUnit.SECONDS);
+                RecordedRequest rpt = server.takeRequest(1, TimeUnit.SECONDS);
+                assertThat(rpt.getHeader("Authorization")).isEqualTo("Bearer " + token);
+                assertThat(rpt.getBody().readUtf8())
+                    .contains("grant_type=urn%3Aietf%3Aparams%3Aoauth%3Agrant-type%3Auma-ticket")
+                    .contains("response_mode=permissions")
+                    .contains("audience=resource-server");
+            }
+        }
+    }
+
+
+}
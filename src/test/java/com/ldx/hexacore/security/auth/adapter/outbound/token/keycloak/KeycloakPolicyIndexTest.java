@@ -0,0 +1,144 @@
+package com.ldx.hexacore.security.auth.adapter.outbound.token.keycloak;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("KeycloakPolicyIndex 테스트")
+class KeycloakPolicyIndexTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final String SETTINGS = """
+        {
+          "policyEnforcementMode": "ENFORCING",
+          "decisionStrategy": "UNANIMOUS",
+          "resources": [
+            {"name": "orders", "uris": ["/api/orders/*"], "scopes": [{"name": "GET"}, {"name": "DELETE"}]},
+            {"name": "order-items", "uris": ["/api/orders/*/items"]},
+            {"name": "reports", "uris": ["/api/reports/**"]},
+            {"name": "private", "uris": ["/api/private/*"], "ownerManagedAccess": true},
+            {"name": "unprotected", "uris": ["/api/unprotected"]}
+          ],
+          "policies": [
+            {"name": "Users", "type": "role", "logic": "POSITIVE",
+             "config": {"roles": "[{\\"id\\":\\"user\\",\\"required\\":false}]"}},
+            {"name": "Admins", "type": "role", "logic": "POSITIVE",
+             "config": {"roles": "[{\\"id\\":\\"orders-api/admin\\",\\"required\\":true}]"}},
+            {"name": "Not Suspended", "type": "group", "logic": "NEGATIVE",
+             "config": {"groups": "[{\\"path\\":\\"/suspended\\",\\"extendChildren\\":true}]"}},
+            {"name": "Business Hours", "type": "time", "logic": "POSITIVE", "config": {"hour": "9", "hourEnd": "18"}},
+            {"name": "Read Orders", "type": "scope", "decisionStrategy": "UNANIMOUS",
+             "config": {"resources": "[\\"orders\\"]", "scopes": "[\\"GET\\"]",
+                        "applyPolicies": "[\\"Users\\",\\"Not Suspended\\"]"}},
+            {"name": "Delete Orders", "type": "scope",
+             "config": {"scopes": "[\\"DELETE\\"]", "applyPolicies": "[\\"Admins\\"]"}},
+            {"name": "Order Items", "type": "resource", "decisionStrategy": "AFFIRMATIVE",
+             "config": {"resources": "[\\"order-items\\"]", "applyPolicies": "[\\"Admins\\",\\"Business Hours\\"]"}},
+            {"name": "Reports", "type": "resource",
+             "config": {"resources": "[\\"reports\\"]", "applyPolicies": "[\\"Business Hours\\"]"}}
+          ]
+        }
+        """;
+
+    private KeycloakPolicyIndex index;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        index = KeycloakPolicyIndex.from(OBJECT_MAPPER.readTree(SETTINGS));
+    }
+
+    @Test
+    @DisplayName("role 정책과 NEGATIVE group 정책을 로컬에서 판정한다")
+    void shouldEvaluateRoleAndGroupPolicies() throws Exception {
+        // Given
+        JsonNode user = claims("{\"realm_access\":{\"roles\":[\"user\"]},\"groups\":[\"/staff\"]}");
+        JsonNode suspended = claims("{\"realm_access\":{\"roles\":[\"user\"]},\"groups\":[\"/suspended/temp\"]}");
+
+        // When & Then
+        assertThat(index.evaluate(user, "/api/orders/1?x=1", "get")).isEqualTo(KeycloakPolicyIndex.Decision.GRANT);
+        assertThat(index.evaluate(suspended, "/api/orders/1", "GET")).isEqualTo(KeycloakPolicyIndex.Decision.DENY);
+    }
+
+    @Test
+    @DisplayName("HTTP 메서드에 해당하는 scope 권한만 적용하고 필수 클라이언트 역할을 확인한다")
+    void shouldApplyScopePermissionPerMethod() throws Exception {
+        // Given
+        JsonNode user = claims("{\"realm_access\":{\"roles\":[\"user\"]},\"groups\":[]}");
+        JsonNode admin = claims("{\"resource_access\":{\"orders-api\":{\"roles\":[\"admin\"]}}}");
+
+        // When & Then
+        assertThat(index.evaluate(user, "/api/orders/1", "DELETE")).isEqualTo(KeycloakPolicyIndex.Decision.DENY);
+        assertThat(index.evaluate(admin, "/api/orders/1", "DELETE")).isEqualTo(KeycloakPolicyIndex.Decision.GRANT);
+        assertThat(index.evaluate(admin, "/api/orders/1", "PATCH")).isEqualTo(KeycloakPolicyIndex.Decision.UNDECIDED);
+    }
+
+    @Test
+    @DisplayName("로컬에서 평가할 수 없는 정책은 결정 전략상 결과가 정해질 때만 판정한다")
+    void shouldFallBackForUnsupportedPolicies() throws Exception {
+        // Given
+        JsonNode admin = claims("{\"resource_access\":{\"orders-api\":{\"roles\":[\"admin\"]}}}");
+        JsonNode user = claims("{\"realm_access\":{\"roles\":[\"user\"]}}");
+
+        // When & Then - AFFIRMATIVE: 평가 가능한 정책이 허용하면 확정
+        assertThat(index.evaluate(admin, "/api/orders/1/items", "GET")).isEqualTo(KeycloakPolicyIndex.Decision.GRANT);
+        assertThat(index.evaluate(user, "/api/orders/1/items", "GET")).isEqualTo(KeycloakPolicyIndex.Decision.UNDECIDED);
+        assertThat(index.evaluate(admin, "/api/reports/2024/q1", "GET")).isEqualTo(KeycloakPolicyIndex.Decision.UNDECIDED);
+    }
+
+    @Test
+    @DisplayName("groups 클레임이 없으면 group 정책을 원격 판정으로 넘긴다")
+    void shouldFallBackWithoutGroupsClaim() throws Exception {
+        // Given
+        JsonNode user = claims("{\"realm_access\":{\"roles\":[\"user\"]}}");
+
+        // When & Then
+        assertThat(index.evaluate(user, "/api/orders/1", "GET")).isEqualTo(KeycloakPolicyIndex.Decision.UNDECIDED);
+    }
+
+    @Test
+    @DisplayName("리소스가 없거나 소유자 관리 리소스면 원격 판정, 권한이 없는 리소스는 ENFORCING에서 거부한다")
+    void shouldHandleUnmatchedResources() throws Exception {
+        // Given
+        JsonNode user = claims("{\"realm_access\":{\"roles\":[\"user\"]}}");
+
+        // When & Then
+        assertThat(index.evaluate(user, "/other", "GET")).isEqualTo(KeycloakPolicyIndex.Decision.UNDECIDED);
+        assertThat(index.evaluate(user, "/api/private/1", "GET")).isEqualTo(KeycloakPolicyIndex.Decision.UNDECIDED);
+        assertThat(index.evaluate(user, "/api/unprotected", "GET")).isEqualTo(KeycloakPolicyIndex.Decision.DENY);
+    }
+
+    @Test
+    @DisplayName("엔진은 첫 동기화 전에는 판정하지 않고, 동기화 후 색인으로 판정한다")
+    void shouldEvaluateAfterSync() throws Exception {
+        // Given
+        JsonNode settings = OBJECT_MAPPER.readTree(SETTINGS);
+        String token = "e30." + Base64.getUrlEncoder().withoutPadding().encodeToString(
+            "{\"resource_access\":{\"orders-api\":{\"roles\":[\"admin\"]}}}".getBytes(StandardCharsets.UTF_8)) + ".sig";
+
+        // When
+        try (KeycloakPolicyEngine engine = new KeycloakPolicyEngine(() -> settings, Duration.ofMinutes(5))) {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (!engine.isReady() && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+
+            // Then
+            assertThat(engine.evaluate(token, "/api/orders/1", "DELETE")).isEqualTo(KeycloakPolicyIndex.Decision.GRANT);
+            assertThat(engine.getLocalDecisionCount()).isEqualTo(1);
+        }
+    }
+
+    private static JsonNode claims(String json) throws Exception {
+        return OBJECT_MAPPER.readTree(json);
+    }
+}
@@ -0,0 +1,160 @@
+package com.ldx.hexacore.security.auth.adapter.outbound.token.keycloak;
+
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenProviderErrorCode;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenProviderException;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenValidationResult;
+import com.ldx.hexacore.security.config.properties.SecurityStarterProperties;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.ldx.hexacore.security.auth.adapter.outbound.token.keycloak.KeycloakTestFixtures.json;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("KeycloakRemoteValidationCache 테스트")
+class KeycloakRemoteValidationCacheTest {
+
+    private static final String TOKEN = "opaque-access-token";
+
+    private MockWebServer server;
+    private KeycloakTokenProvider provider;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new MockWebServer();
+        server.start();
+
+        SecurityStarterProperties.TokenProvider.KeycloakProperties properties =
+            new SecurityStarterProperties.TokenProvider.KeycloakProperties();
+        properties.setServerUrl(server.url("/").toString());
+        properties.setRealm("test-realm");
+        properties.setClientId("test-client");
+        properties.setClientSecret("test-secret");
+        properties.getRemoteValidationCache().setEnabled(true);
+        provider = new KeycloakTokenProvider(properties);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        server.shutdown();
+    }
+
+    @Test
+    @DisplayName("userinfo 성공 결과는 캐싱되어 다시 호출하지 않는다")
+    void shouldCacheActiveUserInfoResult() {
+        // Given
+        server.enqueue(json(200, "{\"sub\":\"user-1\",\"preferred_username\":\"alice\"}"));
+
+        // When
+        TokenValidationResult first = provider.validateToken(TOKEN);
+        TokenValidationResult second = provider.validateToken(TOKEN);
+
+        // Then
+        assertThat(first.valid()).isTrue();
+        assertThat(second).isSameAs(first);
+        assertThat(server.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("introspection의 비활성 응답은 캐싱된다")
+    void shouldCacheInactiveIntrospectionResult() {
+        // Given
+        server.enqueue(new MockResponse().setResponseCode(403));
+        server.enqueue(json(200, "{\"active\":false}"));
+
+        // When
+        TokenValidationResult first = provider.validateToken(TOKEN);
+        TokenValidationResult second = provider.validateToken(TOKEN);
+
+        // Then
+        assertThat(first.valid()).isFalse();
+        assertThat(second.valid()).isFalse();
+        assertThat(server.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("5xx 응답은 캐싱하지 않는다")
+    void shouldNotCacheServerError() {
+        // Given
+        server.enqueue(new MockResponse().setResponseCode(503));
+        server.enqueue(json(200, "{\"sub\":\"user-1\",\"preferred_username\":\"alice\"}"));
+
+        // When
+        assertThatThrownBy(() -> provider.validateToken(TOKEN))
+            .isInstanceOf(TokenProviderException.class);
+        TokenValidationResult result = provider.validateToken(TOKEN);
+
+        // Then
+        assertThat(result.valid()).isTrue();
+        assertThat(server.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("토큰 판정이 아닌 4xx 응답과 introspection의 401은 제공자 오류로 처리하고 캐싱하지 않는다")
+    void shouldTreatNonVerdictClientErrorsAsProviderUnavailable() {
+        // Given
+        server.enqueue(new MockResponse().setResponseCode(429));
+        server.enqueue(new MockResponse().setResponseCode(403));
+        server.enqueue(new MockResponse().setResponseCode(401));
+        server.enqueue(json(200, "{\"active\":false}"));
+
+        // When & Then
+        assertThatThrownBy(() -> provider.validateToken(TOKEN))
+            .isInstanceOf(TokenProviderException.class)
+            .extracting(e -> ((TokenProviderException) e).getErrorCode())
+            .isEqualTo(TokenProviderErrorCode.PROVIDER_UNAVAILABLE);
+        assertThatThrownBy(() -> provider.validateToken(TOKEN))
+            .isInstanceOf(TokenProviderException.class)
+            .extracting(e -> ((TokenProviderException) e).getErrorCode())
+            .isEqualTo(TokenProviderErrorCode.PROVIDER_UNAVAILABLE);
+        assertThat(provider.validateToken(TOKEN).valid()).isFalse();
+        assertThat(server.getRequestCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("활성 결과는 설정된 TTL과 토큰 만료 시각 중 이른 쪽까지만 보관한다")
+    void shouldExpireActiveResultAtTokenExpiration() {
+        // Given
+        AtomicLong nanos = new AtomicLong();
+        Instant now = Instant.parse("2024-01-01T00:00:00Z");
+        KeycloakRemoteValidationCache cache = new KeycloakRemoteValidationCache(
+            100, Duration.ofSeconds(60), Duration.ofSeconds(5), nanos::get, Clock.fixed(now, ZoneOffset.UTC));
+        TokenValidationResult result = new TokenValidationResult(
+            true, "user-1", "alice", Collections.emptySet(), now.plusSeconds(10), Collections.emptyMap());
+
+        // When
+        cache.putActive(TOKEN, result);
+        TokenValidationResult beforeExpiry = cache.get(TOKEN);
+        nanos.addAndGet(Duration.ofSeconds(11).toNanos());
+
+        // Then
+        assertThat(beforeExpiry).isSameAs(result);
+        assertThat(cache.get(TOKEN)).isNull();
+    }
+
+    @Test
+    @DisplayName("비활성 TTL이 0이면 비활성 결과를 저장하지 않는다")
+    void shouldSkipInactiveResultWhenTtlIsZero() {
+        // Given
+        KeycloakRemoteValidationCache cache =
+            new KeycloakRemoteValidationCache(100, Duration.ofSeconds(60), Duration.ZERO);
+
+        // When
+        cache.putInactive(TOKEN, new TokenValidationResult(false, null, null, null, null, Collections.emptyMap()));
+
+        // Then
+        assertThat(cache.get(TOKEN)).isNull();
+    }
+
+}
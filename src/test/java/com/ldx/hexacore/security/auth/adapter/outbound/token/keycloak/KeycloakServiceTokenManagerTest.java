@@ -0,0 +1,215 @@
+package com.ldx.hexacore.security.auth.adapter.outbound.token.keycloak;
+
+import com.ldx.hexacore.security.auth.adapter.outbound.external.KeycloakHttpTransport;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenProviderErrorCode;
+import com.ldx.hexacore.security.auth.application.command.port.out.TokenProviderException;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("KeycloakServiceTokenManager 테스트")
+class KeycloakServiceTokenManagerTest {
+
+    private MockWebServer server;
+    private KeycloakHttpTransport transport;
+    private KeycloakServiceTokenManager manager;
+    private final AtomicLong nanos = new AtomicLong();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        transport = new KeycloakHttpTransport(Duration.ofSeconds(5), Duration.ofSeconds(5), 10);
+        // expires_in 100초, 75%에 갱신, 안전 여유 10초 → 75초부터 갱신, 90초부터 반환하지 않음
+        manager = new KeycloakServiceTokenManager(
+            server.url("/realms/test-realm/protocol/openid-connect/token").uri(),
+            "service-client",
+            Map.of("service-client", "service-secret", "other-client", "other-secret"),
+            "read",
+            75,
+            Duration.ofSeconds(10),
+            transport,
+            nanos::get);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        manager.close();
+        server.shutdown();
+    }
+
+    @Test
+    @DisplayName("client credentials로 발급받은 토큰을 (클라이언트, scope)별로 재사용한다")
+    void shouldCacheTokenPerClientAndScope() throws Exception {
+        // Given
+        server.enqueue(tokenResponse("token-read", 100));
+        server.enqueue(tokenResponse("token-read-write", 100));
+        server.enqueue(tokenResponse("token-other", 100));
+
+        // When
+        String first = manager.getAccessToken();
+        String second = manager.getAccessToken("service-client", "read");
+        String readWrite = manager.getAccessToken(null, "write read");
+        String writeRead = manager.getAccessToken(null, "read  write");
+        String other = manager.getAccessToken("other-client", null);
+
+        // Then
+        assertThat(first).isEqualTo("token-read");
+        assertThat(second).isEqualTo("token-read");
+        assertThat(readWrite).isEqualTo("token-read-write");
+        assertThat(writeRead).isEqualTo("token-read-write");
+        assertThat(other).isEqualTo("token-other");
+        assertThat(manager.getRequestCount()).isEqualTo(3);
+
+        RecordedRequest request = server.takeRequest();
+        assertThat(request.getPath()).isEqualTo("/realms/test-realm/protocol/openid-connect/token");
+        assertThat(request.getBody().readUtf8())
+            .isEqualTo("grant_type=client_credentials&client_id=service-client&client_secret=service-secret&scope=read");
+        assertThat(server.takeRequest().getBody().readUtf8()).endsWith("&scope=read+write");
+        assertThat(server.takeRequest().getBody().readUtf8()).contains("client_id=other-client&client_secret=other-secret");
+    }
+
+    @Test
+    @DisplayName("동시 요청은 토큰 엔드포인트 호출 하나를 함께 기다린다")
+    void shouldCoalesceConcurrentRequests() throws Exception {
+        // Given
+        server.enqueue(tokenResponse("token-read", 100).setBodyDelay(200, TimeUnit.MILLISECONDS));
+
+        // When
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(manager.getAccessTokenAsync(null, null));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(futures).allSatisfy(future -> assertThat(future).isCompletedWithValue("token-read"));
+        assertThat(server.getRequestCount()).isEqualTo(1);
+        assertThat(manager.getCoalescedCount()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("갱신 시점이 지나면 현재 토큰을 반환하고 백그라운드에서 갱신한다")
+    void shouldRefreshInBackgroundAfterRefreshPoint() throws Exception {
+        // Given
+        server.enqueue(tokenResponse("token-1", 100));
+        server.enqueue(tokenResponse("token-2", 100));
+        manager.getAccessToken();
+
+        // When
+        nanos.set(TimeUnit.SECONDS.toNanos(80));
+        String duringRefresh = manager.getAccessToken();
+
+        // Then
+        assertThat(duringRefresh).isEqualTo("token-1");
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!"token-2".equals(manager.getAccessToken()) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(manager.getAccessToken()).isEqualTo("token-2");
+        assertThat(manager.getRequestCount()).isEqualTo(2);
+        assertThat(manager.getBackgroundRefreshCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료까지 안전 여유보다 적게 남은 토큰은 반환하지 않고 새로 발급받는다")
+    void shouldNotReturnTokenWithinSafetyMargin() {
+        // Given
+        server.enqueue(tokenResponse("token-1", 100));
+        server.enqueue(tokenResponse("token-2", 100));
+        manager.getAccessToken();
+
+        // When
+        nanos.set(TimeUnit.SECONDS.toNanos(91));
+        String token = manager.getAccessToken();
+
+        // Then
+        assertThat(token).isEqualTo("token-2");
+        assertThat(manager.getBackgroundRefreshCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("토큰 수명이 안전 여유의 두 배보다 짧으면 수명의 절반을 여유로 사용한다")
+    void shouldClampSafetyMarginToHalfLifetime() {
+        // Given
+        server.enqueue(tokenResponse("short-1", 10));
+        server.enqueue(tokenResponse("short-2", 10));
+
+        // When
+        String first = manager.getAccessToken();
+        nanos.set(TimeUnit.SECONDS.toNanos(4));
+        String beforeHalf = manager.getAccessToken();
+        nanos.set(TimeUnit.SECONDS.toNanos(5));
+        String afterHalf = manager.getAccessToken();
+
+        // Then
+        assertThat(first).isEqualTo("short-1");
+        assertThat(beforeHalf).isEqualTo("short-1");
+        assertThat(afterHalf).isEqualTo("short-2");
+    }
+
+    @Test
+    @DisplayName("invalidate 후에는 새 토큰을 발급받는다")
+    void shouldIssueNewTokenAfterInvalidate() {
+        // Given
+        server.enqueue(tokenResponse("token-1", 100));
+        server.enqueue(tokenResponse("token-2", 100));
+        manager.getAccessToken();
+
+        // When
+        manager.invalidate(null, "read");
+        String token = manager.getAccessToken();
+
+        // Then
+        assertThat(token).isEqualTo("token-2");
+    }
+
+    @Test
+    @DisplayName("클라이언트 오류 응답은 발급 실패로, 서버 오류는 제공자 장애로 처리한다")
+    void shouldMapErrorResponses() {
+        // Given
+        server.enqueue(new MockResponse().setResponseCode(400).setBody("{\"error\":\"invalid_scope\"}"));
+        server.enqueue(new MockResponse().setResponseCode(503));
+
+        // When & Then
+        assertThatThrownBy(() -> manager.getAccessToken(null, "unknown"))
+            .isInstanceOf(TokenProviderException.class)
+            .extracting(e -> ((TokenProviderException) e).getErrorCode())
+            .isEqualTo(TokenProviderErrorCode.TOKEN_ISSUE_FAILED);
+        assertThatThrownBy(() -> manager.getAccessToken())
+            .isInstanceOf(TokenProviderException.class)
+            .extracting(e -> ((TokenProviderException) e).getErrorCode())
+            .isEqualTo(TokenProviderErrorCode.PROVIDER_UNAVAILABLE);
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 클라이언트는 거부한다")
+    void shouldRejectUnknownClient() {
+        assertThatThrownBy(() -> manager.getAccessToken("unknown-client", null))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(server.getRequestCount()).isZero();
+    }
+
+    private static MockResponse tokenResponse(String accessToken, long expiresIn) {
+        return new MockResponse()
+            .setResponseCode(200)
+            .setHeader("Content-Type", "application/json")
+            .setBody("{\"access_token\":\"" + accessToken + "\",\"expires_in\":" + expiresIn
+                + ",\"token_type\":\"Bearer\",\"scope\":\"read\"}");
+    }
+}
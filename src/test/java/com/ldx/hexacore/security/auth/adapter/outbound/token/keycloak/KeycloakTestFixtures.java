@@ -0,0 +1,48 @@
+package com.ldx.hexacore.security.auth.adapter.outbound.token.keycloak;
+
+import okhttp3.mockwebserver.MockResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Keycloak 어댑터 테스트에서 공용으로 쓰는 토큰/응답 픽스처
+ */
+final class KeycloakTestFixtures {
+
+    private KeycloakTestFixtures() {
+    }
+
+    /**
+     * 5분 뒤 만료되는 서명 없는 토큰을 만듭니다.
+     */
+    static String tokenFor(String subject) {
+        return tokenFor(subject, Instant.now().plusSeconds(300));
+    }
+
+    static String tokenFor(String subject, Instant expiresAt) {
+        return unsignedToken("{\"sub\":\"" + subject + "\",\"exp\":" + expiresAt.getEpochSecond() + "}");
+    }
+
+    /**
+     * 주어진 payload로 alg=none 토큰을 만듭니다. 서명 부분은 고정 문자열 "signature"입니다.
+     */
+    static String unsignedToken(String payloadJson) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String header = encoder.encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8));
+        String payload = encoder.encodeToString(payloadJson.getBytes(StandardCharsets.UTF_8));
+        return header + "." + payload + ".signature";
+    }
+
+    static MockResponse json(String body) {
+        return json(200, body);
+    }
+
+    static MockResponse json(int status, String body) {
+        return new MockResponse()
+            .setResponseCode(status)
+            .setHeader("Content-Type", "application/json")
+            .setBody(body);
+    }
+}
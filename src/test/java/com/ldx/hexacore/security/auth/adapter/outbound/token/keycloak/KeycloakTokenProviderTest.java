@@ -161,4 +161,32 @@ class KeycloakTokenProviderTest {
             .isInstanceOf(IllegalStateException.class)
             .hasMessageContaining("Invalid Keycloak configuration");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("circuit breaker가 꺼져 있으면 degraded mode를 구성하지 않는다")
+    void shouldSkipDegradedModeWithoutCircuitBreaker() {
+        // Given
+        properties.getDegradedMode().setEnabled(true);
+        properties.getCircuitBreaker().setEnabled(false);
+
+        // When
+        KeycloakTokenProvider provider = new KeycloakTokenProvider(properties);
+
+        // Then
+        assertThat(provider.isDegradedModeActive()).isFalse();
+    }
+
+    @Test
+    @DisplayName("circuit breaker가 켜져 있으면 degraded mode를 구성한다")
+    void shouldBuildDegradedModeWithCircuitBreaker() {
+        // Given
+        properties.getDegradedMode().setEnabled(true);
+        properties.getCircuitBreaker().setEnabled(true);
+
+        // When
+        KeycloakTokenProvider provider = new KeycloakTokenProvider(properties);
+
+        // Then
+        assertThat(provider.isDegradedModeActive()).isTrue();
+    }
+}
@@ -14,7 +14,14 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -189,4 +196,101 @@ class TokenManagementUseCaseImplTest {
 
         verify(tokenProvider).validateToken(accessToken);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("같은 리프레시 토큰의 동시 갱신은 제공자 호출 하나로 합쳐지고 모두 성공한다")
+    void shouldCoalesceConcurrentRefreshesOfSameToken() throws Exception {
+        // given
+        String refreshToken = "rotating.refresh.token";
+        Token newToken = Token.of("new.access.token", "new.refresh.token", 3600);
+        CountDownLatch providerCalled = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(tokenProvider.refreshToken(refreshToken)).thenAnswer(invocation -> {
+            providerCalled.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return newToken;
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+        try {
+            // when
+            List<Future<Token>> results = new ArrayList<>();
+            results.add(executor.submit(() -> tokenManagementUseCase.refreshToken(new RefreshTokenCommand(refreshToken))));
+            assertThat(providerCalled.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(() -> tokenManagementUseCase.refreshToken(new RefreshTokenCommand(refreshToken))));
+            }
+            Thread.sleep(50);
+            release.countDown();
+
+            // then
+            for (Future<Token> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(newToken);
+            }
+            verify(tokenProvider, times(1)).refreshToken(refreshToken);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("완료된 갱신 결과는 보관하지 않아 같은 리프레시 토큰을 다시 보내면 제공자가 판단한다")
+    void shouldNotReuseCompletedRefreshResult() {
+        // given
+        String refreshToken = "rotating.refresh.token";
+        when(tokenProvider.refreshToken(refreshToken))
+            .thenReturn(Token.of("new.access.token", "new.refresh.token", 3600))
+            .thenThrow(TokenProviderException.tokenRefreshFailed("test-provider",
+                new RuntimeException("Refresh token reuse detected")));
+
+        // when
+        Token first = tokenManagementUseCase.refreshToken(new RefreshTokenCommand(refreshToken));
+
+        // then - 이전 리프레시 토큰 재사용은 제공자의 재사용 탐지로 거부
+        assertThat(first.getAccessToken()).isEqualTo("new.access.token");
+        assertThatThrownBy(() -> tokenManagementUseCase.refreshToken(new RefreshTokenCommand(refreshToken)))
+            .isInstanceOf(TokenRefreshException.class)
+            .hasRootCauseMessage("Refresh token reuse detected");
+        verify(tokenProvider, times(2)).refreshToken(refreshToken);
+    }
+
+    @Test
+    @DisplayName("실패한 갱신 결과는 재사용하지 않는다")
+    void shouldNotReuseFailedRefreshResult() {
+        // given
+        String refreshToken = "refresh.token";
+        when(tokenProvider.refreshToken(refreshToken))
+            .thenThrow(TokenProviderException.tokenRefreshFailed("test-provider", new RuntimeException("Temporary")))
+            .thenReturn(Token.of("new.access.token", "new.refresh.token", 3600));
+
+        // when & then
+        assertThatThrownBy(() -> tokenManagementUseCase.refreshToken(new RefreshTokenCommand(refreshToken)))
+            .isInstanceOf(TokenRefreshException.class);
+        assertThat(tokenManagementUseCase.refreshToken(new RefreshTokenCommand(refreshToken)).getAccessToken())
+            .isEqualTo("new.access.token");
+        verify(tokenProvider, times(2)).refreshToken(refreshToken);
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 폐기를 제공자에 위임한다")
+    void shouldRevokeRefreshToken() {
+        // when
+        tokenManagementUseCase.revokeRefreshToken(new RefreshTokenCommand("refresh.token"));
+
+        // then
+        verify(tokenProvider).revokeRefreshToken("refresh.token");
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 리프레시 토큰은 폐기할 수 없다")
+    void shouldThrowExceptionWhenRevocationFails() {
+        // given
+        doThrow(TokenProviderException.tokenValidationFailed("test-provider", new RuntimeException("bad signature")))
+            .when(tokenProvider).revokeRefreshToken("refresh.token");
+
+        // when & then
+        assertThatThrownBy(() -> tokenManagementUseCase.revokeRefreshToken(new RefreshTokenCommand("refresh.token")))
+            .isInstanceOf(TokenRefreshException.class)
+            .hasMessageContaining("Failed to revoke refresh token");
+    }
+}
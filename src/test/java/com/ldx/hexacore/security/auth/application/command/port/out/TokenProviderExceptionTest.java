@@ -207,6 +207,32 @@ class TokenProviderExceptionTest {
         assertThat(exception.getMessage()).contains("Token has expired");
     }
 
+    @Test
+    @DisplayName("tokenRejected 팩토리 메서드는 실패 사유 코드에 따라 예외를 만든다")
+    void shouldCreateTokenRejectedException() {
+        // given
+        TokenValidationResult expired = TokenValidationResult.invalid(TokenValidationErrorCode.EXPIRED, "Token has expired");
+        TokenValidationResult wrongIssuer = TokenValidationResult.invalid(
+            TokenValidationErrorCode.INVALID_CLAIMS, "Invalid token issuer");
+        
+        // when
+        TokenProviderException expiredException = TokenProviderException.tokenRejected("jwt", expired);
+        TokenProviderException rejectedException = TokenProviderException.tokenRejected("jwt", wrongIssuer);
+        
+        // then
+        assertThat(expiredException.getErrorCode()).isEqualTo(TokenProviderErrorCode.TOKEN_EXPIRED);
+        assertThat(rejectedException.getErrorCode()).isEqualTo(TokenProviderErrorCode.TOKEN_VALIDATION_FAILED);
+        assertThat(rejectedException.getMessage()).contains("Invalid token issuer");
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 토큰 관련 예외는 스택 트레이스를 기록하지 않는다")
+    void shouldNotRecordStackTraceForInvalidTokenExceptions() {
+        assertThat(TokenProviderException.tokenExpired("jwt").getStackTrace()).isEmpty();
+        assertThat(TokenProviderException.tokenValidationFailed("jwt", null).getStackTrace()).isEmpty();
+        assertThat(TokenProviderException.providerUnavailable("jwt", null).getStackTrace()).isNotEmpty();
+    }
+
     @Test
     @DisplayName("providerUnavailable 팩토리 메서드 테스트")
     void shouldCreateProviderUnavailableException() {
@@ -53,6 +53,18 @@ class TokenProviderTest {
         assertThat(Arrays.asList(method.getExceptionTypes())).contains(TokenProviderException.class);
     }
 
+    @Test
+    @DisplayName("revokeRefreshToken 메서드 시그니처 테스트")
+    void shouldHaveRevokeRefreshTokenMethod() throws NoSuchMethodException {
+        // when
+        Method method = TokenProvider.class.getDeclaredMethod("revokeRefreshToken", String.class);
+        
+        // then
+        assertThat(method.isDefault()).isTrue();
+        assertThat(method.getReturnType()).isEqualTo(void.class);
+        assertThat(Arrays.asList(method.getExceptionTypes())).contains(TokenProviderException.class);
+    }
+
     @Test
     @DisplayName("getProviderType 메서드 시그니처 테스트")
     void shouldHaveGetProviderTypeMethod() throws NoSuchMethodException {
@@ -83,7 +95,7 @@ class TokenProviderTest {
         Method[] methods = TokenProvider.class.getDeclaredMethods();
         
         // then
-        assertThat(methods).hasSize(5);
+        assertThat(methods).hasSize(8);
     }
 
     @Test
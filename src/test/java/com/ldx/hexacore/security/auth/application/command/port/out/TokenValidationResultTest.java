@@ -255,6 +255,20 @@ class TokenValidationResultTest {
         assertThat(result.claims()).containsEntry("error", reason);
     }
 
+    @Test
+    @DisplayName("invalid 팩토리 메서드 - 실패 사유 코드 테스트")
+    void shouldKeepErrorCodeForInvalidResult() {
+        // when
+        TokenValidationResult expired = TokenValidationResult.invalid(TokenValidationErrorCode.EXPIRED, "Token has expired");
+        TokenValidationResult generic = TokenValidationResult.invalid("Token signature invalid");
+        TokenValidationResult valid = TokenValidationResult.valid("user123", "testuser", Set.of(), Instant.now());
+        
+        // then
+        assertThat(expired.errorCode()).isEqualTo(TokenValidationErrorCode.EXPIRED);
+        assertThat(generic.errorCode()).isEqualTo(TokenValidationErrorCode.INVALID_TOKEN);
+        assertThat(valid.errorCode()).isNull();
+    }
+
     @Test
     @DisplayName("invalid 팩토리 메서드 - null 사유 테스트")
     void shouldThrowExceptionForNullReasonInInvalidFactory() {
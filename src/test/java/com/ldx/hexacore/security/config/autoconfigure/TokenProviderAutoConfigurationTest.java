@@ -1,5 +1,6 @@
 package com.ldx.hexacore.security.config.autoconfigure;
 
+import com.ldx.hexacore.security.auth.adapter.outbound.token.cache.CachingTokenProvider;
 import com.ldx.hexacore.security.auth.application.command.port.out.TokenProvider;
 import com.ldx.hexacore.security.config.SecurityStarterAutoConfiguration;
 import com.ldx.hexacore.security.config.properties.SecurityStarterProperties;
@@ -124,4 +125,33 @@ class TokenProviderAutoConfigurationTest {
                     assertThat(context).hasBean("springJwtTokenProvider");
                 });
     }
+
+    @Test
+    void shouldWrapProviderWithValidationCacheWhenEnabled() {
+        contextRunner
+                .withPropertyValues(
+                        "security-starter.token-provider.jwt.enabled=true",
+                        "security-starter.token-provider.jwt.secret=my-super-secret-key-that-is-long-enough-for-256-bits",
+                        "security-starter.cache.token-validation.enabled=true"
+                )
+                .run(context -> {
+                    assertThat(context).hasSingleBean(TokenProvider.class);
+                    
+                    TokenProvider provider = context.getBean(TokenProvider.class);
+                    assertThat(provider).isInstanceOf(CachingTokenProvider.class);
+                    assertThat(provider.getProviderType().name()).isEqualTo("SPRING_JWT");
+                });
+    }
+
+    @Test
+    void shouldNotWrapProviderWithValidationCacheByDefault() {
+        contextRunner
+                .withPropertyValues(
+                        "security-starter.token-provider.jwt.enabled=true"
+                )
+                .run(context -> {
+                    assertThat(context.getBean(TokenProvider.class))
+                            .isNotInstanceOf(CachingTokenProvider.class);
+                });
+    }
 }
\ No newline at end of file
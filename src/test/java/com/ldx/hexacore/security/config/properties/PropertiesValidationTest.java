@@ -1,14 +1,28 @@
 package com.ldx.hexacore.security.config.properties;
 
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwks;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.security.Key;
+import java.security.KeyPair;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DisplayName("Properties Validation 테스트")
 class PropertiesValidationTest {
 
+    private static final Validator VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
+
     private SecurityStarterProperties properties;
 
     @BeforeEach
@@ -98,4 +112,90 @@ class PropertiesValidationTest {
         // Then
         assertThat(tokenProvider.getProvider()).isEqualTo("keycloak");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("HS* 알고리즘은 32자 이상의 secret이 필요하다")
+    void hmacAlgorithm_ShouldRequireSecret() {
+        // Given
+        var jwt = properties.getTokenProvider().getJwt();
+
+        // When
+        jwt.setSecret("short");
+        Set<String> shortSecret = violatedProperties(jwt);
+        jwt.setSecret(null);
+        Set<String> missingSecret = violatedProperties(jwt);
+
+        // Then
+        assertThat(shortSecret).contains("validSecretForAlgorithm");
+        assertThat(missingSecret).contains("validSecretForAlgorithm");
+    }
+
+    @Test
+    @DisplayName("비대칭 알고리즘은 secret 없이 공개 키와 개인 키로 검증을 통과한다")
+    void asymmetricAlgorithm_ShouldNotRequireSecret() {
+        // Given
+        var jwt = properties.getTokenProvider().getJwt();
+        KeyPair keyPair = Jwts.SIG.RS256.keyPair().build();
+        KeyPair edKeyPair = Jwks.CRV.Ed25519.keyPair().build();
+
+        // When
+        jwt.setSecret(null);
+        jwt.setAlgorithm("RS256");
+        jwt.setKeyId("key-1");
+        jwt.setPublicKeys(Map.of("key-1", pem("PUBLIC KEY", keyPair.getPublic())));
+        jwt.setPrivateKey(pem("PRIVATE KEY", keyPair.getPrivate()));
+        Set<String> rsa = violatedProperties(jwt);
+
+        jwt.setAlgorithm("EdDSA");
+        jwt.setPublicKeys(Map.of("key-1", pem("PUBLIC KEY", edKeyPair.getPublic())));
+        jwt.setPrivateKey(pem("PRIVATE KEY", edKeyPair.getPrivate()));
+        Set<String> eddsa = violatedProperties(jwt);
+
+        // Then
+        assertThat(rsa).isEmpty();
+        assertThat(eddsa).isEmpty();
+    }
+
+    @Test
+    @DisplayName("비대칭 알고리즘은 유효한 공개 키와 한 쌍인 개인 키가 필요하다")
+    void asymmetricAlgorithm_ShouldValidateKeys() {
+        // Given
+        var jwt = properties.getTokenProvider().getJwt();
+        KeyPair keyPair = Jwts.SIG.RS256.keyPair().build();
+        KeyPair otherKeyPair = Jwts.SIG.RS256.keyPair().build();
+        KeyPair ecKeyPair = Jwts.SIG.ES256.keyPair().build();
+        jwt.setSecret(null);
+        jwt.setAlgorithm("RS256");
+        jwt.setKeyId("key-1");
+
+        // When
+        Set<String> noPublicKeys = violatedProperties(jwt);
+        jwt.setPublicKeys(Map.of("key-1", pem("PUBLIC KEY", ecKeyPair.getPublic())));
+        Set<String> wrongKeyFamily = violatedProperties(jwt);
+        jwt.setPublicKeys(Map.of("key-1", pem("PUBLIC KEY", keyPair.getPublic())));
+        jwt.setPrivateKey(pem("PRIVATE KEY", otherKeyPair.getPrivate()));
+        Set<String> mismatchedPair = violatedProperties(jwt);
+        jwt.setPrivateKey(pem("PRIVATE KEY", keyPair.getPrivate()));
+        jwt.setKeyId("unknown");
+        Set<String> unknownKeyId = violatedProperties(jwt);
+
+        // Then
+        assertThat(noPublicKeys).containsExactly("validPublicKeysForAlgorithm");
+        assertThat(wrongKeyFamily).containsExactly("validPublicKeysForAlgorithm");
+        assertThat(mismatchedPair).containsExactly("validPrivateKeyForAlgorithm");
+        assertThat(unknownKeyId).containsExactly("validPrivateKeyForAlgorithm");
+    }
+
+    private Set<String> violatedProperties(Object bean) {
+        return VALIDATOR.validate(bean).stream()
+            .map(ConstraintViolation::getPropertyPath)
+            .map(Object::toString)
+            .collect(Collectors.toSet());
+    }
+
+    private String pem(String type, Key key) {
+        return "-----BEGIN " + type + "-----\n"
+            + Base64.getMimeEncoder().encodeToString(key.getEncoded())
+            + "\n-----END " + type + "-----";
+    }
+}
@@ -0,0 +1,99 @@
+package com.ldx.hexacore.security.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ClaimAuthoritiesMapper 단위 테스트
+ */
+@DisplayName("ClaimAuthoritiesMapper")
+class ClaimAuthoritiesMapperTest {
+
+    private final ClaimAuthoritiesMapper mapper = new ClaimAuthoritiesMapper(List.of(
+        new ClaimAuthoritiesMapper.AuthorityClaim("realm_access.roles", "ROLE_"),
+        new ClaimAuthoritiesMapper.AuthorityClaim("scope", "SCOPE_")
+    ));
+
+    @Test
+    @DisplayName("중첩 배열 클레임과 공백 구분 문자열 클레임을 권한으로 매핑한다")
+    void shouldMapNestedArrayAndSpaceDelimitedClaims() {
+        // Given
+        Map<String, Object> claims = Map.of(
+            "realm_access", Map.of("roles", List.of("admin", "user")),
+            "scope", "openid  profile"
+        );
+
+        // When & Then
+        assertThat(mapper.map(claims))
+            .containsExactlyInAnyOrder("ROLE_admin", "ROLE_user", "SCOPE_openid", "SCOPE_profile");
+    }
+
+    @Test
+    @DisplayName("JSON payload에서도 같은 규칙으로 매핑한다")
+    void shouldMapJsonPayload() throws Exception {
+        // Given
+        String json = "{\"realm_access\":{\"roles\":[\"admin\"]},\"scope\":\"email\"}";
+
+        // When & Then
+        assertThat(mapper.map(new ObjectMapper().readTree(json)))
+            .containsExactlyInAnyOrder("ROLE_admin", "SCOPE_email");
+    }
+
+    @Test
+    @DisplayName("클레임이 없거나 타입이 맞지 않으면 빈 집합을 반환한다")
+    void shouldReturnEmptySetForMissingOrUnexpectedClaims() {
+        // Given
+        Map<String, Object> claims = Map.of("realm_access", "admin", "scope", 42);
+
+        // When & Then
+        assertThat(mapper.map(claims)).isEmpty();
+        assertThat(mapper.map(Map.of())).isEmpty();
+        assertThat(ClaimAuthoritiesMapper.NONE.map(claims)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("빈 경로는 허용하지 않는다")
+    void shouldRejectBlankPath() {
+        assertThatThrownBy(() -> new ClaimAuthoritiesMapper(List.of(
+            new ClaimAuthoritiesMapper.AuthorityClaim(" ", "ROLE_"))))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("대괄호로 감싼 키는 점이 포함된 client ID로 그대로 사용한다")
+    void shouldResolveBracketedKeyContainingDots() throws Exception {
+        // Given
+        ClaimAuthoritiesMapper clientRoles = new ClaimAuthoritiesMapper(List.of(
+            new ClaimAuthoritiesMapper.AuthorityClaim("resource_access[\"my.app.api\"].roles", "ROLE_"),
+            new ClaimAuthoritiesMapper.AuthorityClaim("resource_access['other.client']['roles']", "OTHER_")
+        ));
+        Map<String, Object> claims = Map.of("resource_access", Map.of(
+            "my.app.api", Map.of("roles", List.of("reader")),
+            "other.client", Map.of("roles", List.of("writer"))
+        ));
+        String json = "{\"resource_access\":{\"my.app.api\":{\"roles\":[\"reader\"]}}}";
+
+        // When & Then
+        assertThat(clientRoles.map(claims)).containsExactlyInAnyOrder("ROLE_reader", "OTHER_writer");
+        assertThat(clientRoles.map(new ObjectMapper().readTree(json))).containsExactly("ROLE_reader");
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 경로는 허용하지 않는다")
+    void shouldRejectMalformedPath() {
+        for (String path : List.of("realm_access..roles", "roles.", "resource_access[my.app].roles",
+                "resource_access[\"my.app.api\".roles", "resource_access[\"my.app.api\"]roles")) {
+            assertThatThrownBy(() -> new ClaimAuthoritiesMapper(List.of(
+                new ClaimAuthoritiesMapper.AuthorityClaim(path, "ROLE_"))))
+                .as(path)
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
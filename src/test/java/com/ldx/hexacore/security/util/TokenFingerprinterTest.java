@@ -0,0 +1,52 @@
+package com.ldx.hexacore.security.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * TokenFingerprinter 단위 테스트
+ */
+@DisplayName("TokenFingerprinter")
+class TokenFingerprinterTest {
+
+    @Test
+    @DisplayName("같은 토큰은 같은 지문을 만든다")
+    void shouldProduceSameFingerprintForSameToken() {
+        // Given
+        TokenFingerprinter fingerprinter = new TokenFingerprinter();
+
+        // When & Then
+        assertThat(fingerprinter.fingerprint("header.payload.signature"))
+            .isEqualTo(fingerprinter.fingerprint("header.payload.signature"));
+    }
+
+    @Test
+    @DisplayName("다른 토큰은 다른 지문을 만든다")
+    void shouldProduceDifferentFingerprintForDifferentToken() {
+        // Given
+        TokenFingerprinter fingerprinter = new TokenFingerprinter();
+
+        // When & Then
+        assertThat(fingerprinter.fingerprint("header.payload.signature1"))
+            .isNotEqualTo(fingerprinter.fingerprint("header.payload.signature2"));
+    }
+
+    @Test
+    @DisplayName("인스턴스마다 키가 달라 같은 토큰도 다른 지문을 만든다")
+    void shouldUseIndependentKeyPerInstance() {
+        // When & Then
+        assertThat(new TokenFingerprinter().fingerprint("header.payload.signature"))
+            .isNotEqualTo(new TokenFingerprinter().fingerprint("header.payload.signature"));
+    }
+
+    @Test
+    @DisplayName("null 토큰이면 예외가 발생한다")
+    void shouldRejectNullToken() {
+        assertThatThrownBy(() -> new TokenFingerprinter().fingerprint(null))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Token cannot be null");
+    }
+}